@@ -1,16 +1,18 @@
 package projekt;
 
 import org.tudalgo.algoutils.student.io.PropertyUtils;
+import projekt.model.DevelopmentCardDeck;
 import projekt.model.DevelopmentCardType;
 import projekt.model.ResourceType;
 import projekt.model.TilePosition;
 import projekt.model.buildings.Port;
 import projekt.model.buildings.Settlement;
 import projekt.model.tiles.Tile;
+import projekt.sampling.AliasSampler;
+import projekt.sampling.QuotaBag;
 
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
@@ -49,10 +51,16 @@ public final class Config {
      */
     private static final Properties DEVELOPMENT_CARD_RATIO_PROPERTIES = PropertyUtils.getProperties("development_card_ratios.properties");
 
+    /**
+     * The seed of {@link #RANDOM}. Games started with the same seed and the same inputs play out the same.
+     * Can be set with the system property {@code projekt.seed}, otherwise a random seed is used.
+     */
+    public static final long SEED = Long.getLong("projekt.seed", new Random().nextLong());
+
     /**
      * The global source of randomness.
      */
-    public static final Random RANDOM = new Random();
+    public static final Random RANDOM = new Random(SEED);
 
     /**
      * The minimum required number of players in a game.
@@ -84,6 +92,57 @@ public final class Config {
      */
     public static final int GRID_RADIUS = 3;
 
+    /**
+     * How many generated grids the {@link projekt.model.BoardPool} keeps ready for new games, at least {@code 1}.
+     * Can be set with the system property {@code projekt.boardPool.size}.
+     */
+    public static final int BOARD_POOL_SIZE = Math.max(1, Integer.getInteger("projekt.boardPool.size", 2));
+
+    /**
+     * How many seconds players have to respond to a trade offer before it is cancelled.
+     * Can be set with the system property {@code projekt.trade.responseTimeout}.
+     */
+    public static final long TRADE_RESPONSE_TIMEOUT = Long.getLong("projekt.trade.responseTimeout", 60);
+
+    /**
+     * The interval in seconds in which the global {@link projekt.metrics.MetricsRegistry} is dumped to the log.
+     * Can be set with the system property {@code projekt.metrics.dumpInterval}, {@code 0} disables the dump.
+     */
+    public static final long METRICS_DUMP_INTERVAL = Long.getLong("projekt.metrics.dumpInterval", 0);
+
+    /**
+     * The default level of all loggers, see {@link projekt.logging.Logging}.
+     * Can be set with the system property {@code projekt.log.level}.
+     */
+    public static final String LOG_LEVEL = System.getProperty("projekt.log.level", "INFO");
+
+    /**
+     * The file all log records are written to, see {@link projekt.logging.Logging}.
+     * Can be set with the system property {@code projekt.log.file}, {@code null} writes to the console.
+     */
+    public static final String LOG_FILE = System.getProperty("projekt.log.file");
+
+    /**
+     * The directory the statistics of all finished games are written to, see
+     * {@link projekt.statistics.StatisticsExporter}.
+     * Can be set with the system property {@code projekt.statistics.dir}, {@code null} disables the export.
+     */
+    public static final String STATISTICS_DIRECTORY = System.getProperty("projekt.statistics.dir");
+
+    /**
+     * How many games are simulated to estimate the win probabilities of the players after each turn, see
+     * {@link projekt.simulation.WinProbabilityEstimator}.
+     * Can be set with the system property {@code projekt.winProbability.rollouts}, {@code 0} disables the estimate.
+     */
+    public static final int WIN_PROBABILITY_ROLLOUTS = Integer.getInteger("projekt.winProbability.rollouts", 2000);
+
+    /**
+     * How many games are simulated per candidate village to rank the suggestions for human players, see
+     * {@link projekt.simulation.MoveAdvisor}.
+     * Can be set with the system property {@code projekt.moveAdvisor.rollouts}, {@code 0} disables the suggestions.
+     */
+    public static final int MOVE_ADVISOR_ROLLOUTS = Integer.getInteger("projekt.moveAdvisor.rollouts", 200);
+
 
     // Roads and settlements
 
@@ -145,10 +204,22 @@ public final class Config {
      * The probability of a tile type to be picked is the same as defined by the rules of the base game.
      *
      * @return A supplier returning randomly picked tile types
-     * @see #makeSupplier(SortedMap, boolean)
+     * @see #generateTileTypes(Random)
      */
     public static Supplier<Tile.Type> generateTileTypes() {
-        return makeSupplier(TILE_RATIOS, true);
+        return generateTileTypes(new Random(RANDOM.nextLong()));
+    }
+
+    /**
+     * Create a new generator for tile types that uses the given source of randomness.
+     * Every {@link #TILE_RATIOS}-sized round of tile types contains each type exactly as often as its ratio.
+     *
+     * @param random the source of randomness
+     * @return A supplier returning randomly picked tile types
+     * @see QuotaBag
+     */
+    public static Supplier<Tile.Type> generateTileTypes(final Random random) {
+        return new QuotaBag<>(TILE_RATIOS, random);
     }
 
     /**
@@ -158,15 +229,27 @@ public final class Config {
      * as defined by the rules of the base game.
      *
      * @return A supplier returning randomly picked roll numbers
-     * @see #makeSupplier(SortedMap, boolean)
+     * @see #generateRollNumbers(Random)
      */
     public static Supplier<Integer> generateRollNumbers() {
-        final Map<Integer, Integer> ratios = IntStream.iterate(NUMBER_OF_DICE, i -> i >= NUMBER_OF_DICE && i <= NUMBER_OF_DICE * DICE_SIDES, i -> i + 1)
+        return generateRollNumbers(new Random(RANDOM.nextLong()));
+    }
+
+    /**
+     * Creates a new supplier returning randomly picked roll numbers that uses the given source of randomness.
+     * Every round of roll numbers contains 2 and 12 once and every other number twice.
+     *
+     * @param random the source of randomness
+     * @return A supplier returning randomly picked roll numbers
+     * @see QuotaBag
+     */
+    public static Supplier<Integer> generateRollNumbers(final Random random) {
+        final SortedMap<Integer, Integer> ratios = IntStream.iterate(NUMBER_OF_DICE, i -> i >= NUMBER_OF_DICE && i <= NUMBER_OF_DICE * DICE_SIDES, i -> i + 1)
             .filter(i -> i != 7)
             .mapToObj(i -> Map.entry(i, i == NUMBER_OF_DICE || i == NUMBER_OF_DICE * DICE_SIDES ? 1 : 2))
-            .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, Integer::sum, TreeMap::new));
 
-        return makeSupplier(new TreeMap<>(ratios), true);
+        return new QuotaBag<>(ratios, random);
     }
 
     /**
@@ -249,51 +332,20 @@ public final class Config {
      * The probability of a card to be picked is the same as defined by the rules of the base game.
      *
      * @return A supplier returning randomly picked development cards
-     * @see #makeSupplier(SortedMap, boolean)
+     * @see AliasSampler
      */
     public static Supplier<DevelopmentCardType> developmentCardGenerator() {
-        return makeSupplier(DEVELOPMENT_CARD_RATIOS, false);
+        return new AliasSampler<>(DEVELOPMENT_CARD_RATIOS, new Random(RANDOM.nextLong()));
     }
 
-
-    // Misc
-
     /**
-     * Creates a supplier for the keys of the given map depending on the key's mapping (ratio).
-     * Optionally, the supplier can log the keys it returned to ensure that their frequency of occurrence
-     * is not warped too much, even if the law of large numbers does not apply.
+     * Creates a new, shuffled deck containing as many development cards of each type as defined by
+     * {@link #DEVELOPMENT_CARD_RATIOS}. Unlike {@link #developmentCardGenerator()}, the deck runs out of cards.
+     * The deck is shuffled with a seed drawn from {@link #RANDOM}.
      *
-     * @param ratios        mappings of keys to their respective ratio
-     * @param enableCounter whether to enable the counter / log
-     * @return a supplier returning chosen keys
-     */
-    private static <T> Supplier<T> makeSupplier(final SortedMap<T, Integer> ratios, final boolean enableCounter) {
-        final Map<T, Integer> counter = new HashMap<>();
-        final int sum = ratios.values().stream().mapToInt(i -> i).sum();
-        return () -> {
-            T result = null;
-            while (result == null || (enableCounter && counter.getOrDefault(result, 0) >= ratios.get(result))) {
-                if (enableCounter && counter.equals(ratios)) {
-                    counter.clear();
-                }
-                final int d = RANDOM.nextInt(sum);
-                int start = 0;
-                int bound = 0;
-
-                for (final Map.Entry<T, Integer> entry : ratios.entrySet()) {
-                    final int ratio = entry.getValue();
-                    bound += ratio;
-                    if (d >= start && d < bound) {
-                        result = entry.getKey();
-                        break;
-                    }
-                    start += ratio;
-                }
-            }
-            if (enableCounter) {
-                counter.merge(result, 1, (oldValue, value) -> oldValue + 1);
-            }
-            return result;
-        };
+     * @return a new development card deck
+     */
+    public static DevelopmentCardDeck developmentCardDeck() {
+        return new DevelopmentCardDeck(DEVELOPMENT_CARD_RATIOS, RANDOM.nextLong());
     }
 }
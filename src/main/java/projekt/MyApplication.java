@@ -6,9 +6,10 @@ import org.tudalgo.algoutils.student.annotation.DoNotTouch;
 import projekt.controller.GameController;
 import projekt.controller.gui.SceneSwitcher;
 import projekt.controller.gui.SceneSwitcher.SceneType;
+import projekt.logging.LogLevel;
+import projekt.logging.Logging;
+import projekt.model.BoardPool;
 
-import java.io.OutputStream;
-import java.io.PrintStream;
 import java.util.function.Consumer;
 
 /**
@@ -25,12 +26,9 @@ public class MyApplication extends Application {
 
     @Override
     public void start(final Stage stage) throws Exception {
-        System.setErr(new PrintStream(new OutputStream() {
-            @Override
-            public void write(final int b) {
-                System.out.write(b);
-            }
-        }));
+        System.setErr(Logging.createPrintStream(Logging.getLogger("stderr"), LogLevel.ERROR));
+        // generate the first boards while the main menu is shown
+        BoardPool.getDefault();
 
         stage.setMinWidth(1000);
         stage.setMinHeight(520);
@@ -1,6 +1,8 @@
 package projekt.controller;
 
 import javafx.beans.property.Property;
+import projekt.metrics.MetricsRegistry;
+import projekt.metrics.Timer;
 import projekt.model.GameState;
 import projekt.model.HexGrid;
 
@@ -12,6 +14,11 @@ import projekt.model.HexGrid;
  * when the player's objective changes.
  */
 public abstract class AiController {
+    /**
+     * The time the AI needs to react to a new objective.
+     */
+    private static final Timer DECISION_TIMER = MetricsRegistry.getGlobal().timer("ai.decision");
+
     protected final PlayerController playerController;
     protected final HexGrid hexGrid;
     protected final GameState gameState;
@@ -36,7 +43,9 @@ public abstract class AiController {
         this.hexGrid = hexGrid;
         this.gameState = gameState;
         this.activePlayerController = activePlayerController;
-        playerController.getPlayerObjectiveProperty().subscribe(this::executeActionBasedOnObjective);
+        playerController.getPlayerObjectiveProperty().subscribe(
+            objective -> DECISION_TIMER.time(() -> executeActionBasedOnObjective(objective))
+        );
     }
 
     /**
@@ -5,6 +5,7 @@ import projekt.Config;
 import projekt.controller.actions.AcceptTradeAction;
 import projekt.controller.actions.BuildRoadAction;
 import projekt.controller.actions.BuildVillageAction;
+import projekt.controller.actions.CompositeAction;
 import projekt.controller.actions.EndTurnAction;
 import projekt.controller.actions.PlayerAction;
 import projekt.controller.actions.RollDiceAction;
@@ -16,7 +17,9 @@ import projekt.model.HexGrid;
 import projekt.model.Player;
 import projekt.model.ResourceType;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -49,6 +52,10 @@ public class BasicAiController extends AiController {
     protected void executeActionBasedOnObjective(final PlayerObjective objective) {
         final Set<Class<? extends PlayerAction>> actions = objective.getAllowedActions();
 
+        if (actions.contains(CompositeAction.class)) {
+            planTurn();
+            return;
+        }
         if (actions.contains(RollDiceAction.class)) {
             playerController.triggerAction(new RollDiceAction());
         }
@@ -75,6 +82,37 @@ public class BasicAiController extends AiController {
         }
     }
 
+    /**
+     * This method plans a regular turn: a village on a random buildable
+     * intersection and a road on a random buildable edge, as far as the player
+     * can afford them, submitted as a single batch. The turn is ended
+     * separately, so it also ends if the batch fails.
+     */
+    private void planTurn() {
+        final List<PlayerAction> steps = new ArrayList<>();
+        playerController.getPlayerState().buildableVillageIntersections().stream().findAny()
+            .ifPresent(intersection -> addIfAffordable(steps, new BuildVillageAction(intersection)));
+        playerController.getPlayerState().buildableRoadEdges().stream().findAny()
+            .ifPresent(edge -> addIfAffordable(steps, new BuildRoadAction(edge)));
+        if (!steps.isEmpty()) {
+            playerController.triggerAction(new CompositeAction(steps));
+        }
+        playerController.triggerAction(new EndTurnAction());
+    }
+
+    /**
+     * Adds the given step to the planned steps if the batch is still valid with it.
+     *
+     * @param steps the planned steps
+     * @param step  the step to add
+     */
+    private void addIfAffordable(final List<PlayerAction> steps, final PlayerAction step) {
+        steps.add(step);
+        if (!new CompositeAction(steps).validate(playerController).isAccepted()) {
+            steps.remove(steps.size() - 1);
+        }
+    }
+
     /**
      * This method builds a village on a random buildable intersection.
      */
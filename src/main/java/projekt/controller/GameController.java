@@ -5,14 +5,30 @@ import org.tudalgo.algoutils.student.annotation.DoNotTouch;
 import org.tudalgo.algoutils.student.annotation.StudentImplementationRequired;
 import projekt.Config;
 import projekt.controller.actions.AcceptTradeAction;
-import projekt.controller.actions.EndTurnAction;
 import projekt.controller.actions.PlayerAction;
 import projekt.controller.actions.SelectRobberTileAction;
+import projekt.logging.Logger;
+import projekt.logging.Logging;
+import projekt.metrics.MetricsRegistry;
+import projekt.metrics.Timer;
 import projekt.model.*;
+import projekt.model.events.GameEventBus;
 import projekt.model.tiles.Tile;
 import projekt.model.tiles.TileImpl;
+import projekt.statistics.GameStatistics;
+import projekt.statistics.ResourceSource;
+import projekt.statistics.StatisticsExporter;
 
+import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -25,17 +41,45 @@ import java.util.stream.IntStream;
  * It tells the players controllers what to do and when to do it.
  */
 public class GameController {
+    private static final Logger LOGGER = Logging.getLogger(GameController.class);
+    /**
+     * The time spent in {@link #distributeResources(int)}.
+     */
+    private static final Timer DISTRIBUTE_RESOURCES_TIMER = MetricsRegistry.getGlobal().timer("game.distributeResources");
 
     private final GameState state;
     private final Map<Player, PlayerController> playerControllers;
     private final Supplier<Integer> dice;
     private final IntegerProperty currentDiceRoll = new SimpleIntegerProperty(0);
     private final List<AiController> aiControllers = new ArrayList<>();
-    private final Supplier<DevelopmentCardType> availableDevelopmentCards = Config.developmentCardGenerator();
+    private final DevelopmentCardDeck developmentCardDeck = Config.developmentCardDeck();
+    private final Supplier<DevelopmentCardType> availableDevelopmentCards = developmentCardDeck;
     private final IntegerProperty roundCounter = new SimpleIntegerProperty(0);
 
     private final Property<PlayerController> activePlayerControllerProperty = new SimpleObjectProperty<>();
 
+    /**
+     * The player that accepted the trade offer currently broadcast by {@link #offerTrade}, {@code null} if no
+     * trade offer is broadcast.
+     */
+    private volatile AtomicReference<PlayerController> tradeOfferAcceptor;
+
+    /**
+     * The version of the last published {@link GameSnapshot}, only accessed by the game thread. Players responding
+     * to a trade offer do not publish snapshots, see {@link #offerTrade}.
+     */
+    private long snapshotVersion;
+
+    /**
+     * The statistics of the running game, {@code null} before the game is started.
+     */
+    private volatile GameStatistics statistics;
+
+    /**
+     * Runs the {@link PlayerController}s that respond to a trade offer concurrently.
+     */
+    private ExecutorService tradeResponseExecutor;
+
     /**
      * Initializes the {@link GameController} with the given {@link GameState},
      * {@link PlayerController}s and dice.
@@ -84,13 +128,15 @@ public class GameController {
 
     /**
      * Initializes the {@link GameController} with a new {@link GameState} that has
-     * a new {@link HexGridImpl} that uses the radius from
+     * a new, balanced {@link HexGridImpl} that uses the radius from
      * {@link Config#GRID_RADIUS} and an empty list of {@link Player}s.
+     * The grid is taken from the {@link BoardPool#getDefault() default board pool}.
      *
      * @see #GameController(GameState)
+     * @see BoardGenerator
      */
     public GameController() {
-        this(new GameState(new HexGridImpl(Config.GRID_RADIUS), new ArrayList<>()));
+        this(new GameState(BoardPool.getDefault().take(), new ArrayList<>()));
     }
 
     /**
@@ -116,6 +162,36 @@ public class GameController {
         return state;
     }
 
+    /**
+     * Returns the {@link GameEventBus} all changes of this game are published on.
+     *
+     * @return The {@link GameEventBus}.
+     */
+    public GameEventBus getEventBus() {
+        return state.getEventBus();
+    }
+
+    /**
+     * Returns the {@link GameStatistics} of this game.
+     *
+     * @return The statistics, {@code null} if the game has not been started yet.
+     */
+    public GameStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Captures the current state of the game and publishes it for the view, see {@link HexGrid#publishSnapshot}.
+     * Must be called by the game thread.
+     *
+     * @return The published {@link GameSnapshot}.
+     */
+    public GameSnapshot publishSnapshot() {
+        final GameSnapshot snapshot = GameSnapshot.capture(++snapshotVersion, state);
+        state.getGrid().publishSnapshot(snapshot);
+        return snapshot;
+    }
+
     /**
      * Returns the {@link PlayerController}s
      *
@@ -176,6 +252,9 @@ public class GameController {
      */
     public int castDice() {
         currentDiceRoll.set(dice.get());
+        if (statistics != null) {
+            statistics.recordDiceRoll(currentDiceRoll.get());
+        }
         return currentDiceRoll.get();
     }
 
@@ -183,11 +262,42 @@ public class GameController {
      * Draws a development card from the stack of available development cards.
      *
      * @return The drawn development card.
+     * @throws NoSuchElementException if all development cards have been drawn.
      */
     public DevelopmentCardType drawDevelopmentCard() {
         return availableDevelopmentCards.get();
     }
 
+    /**
+     * Puts a drawn development card back on top of the stack, e.g. when a purchase is rolled back.
+     *
+     * @param developmentCard The development card that was drawn last.
+     * @see DevelopmentCardDeck#putBack(DevelopmentCardType)
+     */
+    public void returnDevelopmentCard(final DevelopmentCardType developmentCard) {
+        developmentCardDeck.putBack(developmentCard);
+    }
+
+    /**
+     * Returns whether there are development cards left to draw.
+     *
+     * @return whether there are development cards left to draw.
+     */
+    public boolean hasDevelopmentCards() {
+        return !developmentCardDeck.isEmpty();
+    }
+
+    /**
+     * Returns how many development cards of the given type have not been drawn yet.
+     * Lets players count the cards that were already bought.
+     *
+     * @param type The type of development card.
+     * @return The amount of development cards of the given type left to draw.
+     */
+    public int getRemainingDevelopmentCards(final DevelopmentCardType type) {
+        return developmentCardDeck.getRemaining(type);
+    }
+
     /**
      * Returns the {@link Player}s that have reached the victory condition.
      *
@@ -231,13 +341,16 @@ public class GameController {
         if (playerControllers.isEmpty()) {
             initPlayerControllers();
         }
+        statistics = GameStatistics.attach(getEventBus(), state.getPlayers());
 
         firstRound();
+        statistics.roundEnded();
 
         roundCounter.set(1);
         while (getWinners().isEmpty()) {
             for (final PlayerController playerController : playerControllers.values()) {
                 withActivePlayer(playerController, () -> {
+                    statistics.turnStarted(playerController.getPlayer());
                     // Dice roll
                     playerController.waitForNextAction(PlayerObjective.DICE_ROLL);
                     final var diceRoll = currentDiceRoll.get();
@@ -245,17 +358,40 @@ public class GameController {
                     if (diceRoll == 7) {
                         diceRollSeven();
                     } else {
-                        distributeResources(diceRoll);
+                        statistics.setSource(ResourceSource.DICE);
+                        DISTRIBUTE_RESOURCES_TIMER.time(() -> distributeResources(diceRoll));
                     }
                     // Regular turn
                     regularTurn();
+                    statistics.turnEnded();
                 });
             }
+            statistics.roundEnded();
             roundCounter.set(roundCounter.get() + 1);
         }
 
         // Game End
-        getState().setWinner(getWinners().iterator().next());
+        publishSnapshot();
+        final Player winner = getWinners().iterator().next();
+        statistics.gameEnded(winner);
+        exportStatistics();
+        getState().setWinner(winner);
+    }
+
+    /**
+     * Writes the statistics of this game with the {@link StatisticsExporter#getDefault() default exporter}, if one
+     * is configured.
+     */
+    private void exportStatistics() {
+        final StatisticsExporter exporter = StatisticsExporter.getDefault();
+        if (exporter == null) {
+            return;
+        }
+        try {
+            exporter.write(statistics);
+        } catch (final IOException e) {
+            LOGGER.warn("Cannot write the statistics of the game: {}", e);
+        }
     }
 
     /**
@@ -284,7 +420,7 @@ public class GameController {
         // TODO: H2.1
         final PlayerController currentPlayer = getActivePlayerController();
         PlayerAction action = currentPlayer.waitForNextAction(PlayerObjective.REGULAR_TURN);
-        while (!(action instanceof EndTurnAction)){
+        while (!action.endsTurn()){
             action=currentPlayer.waitForNextAction();
         }
     }
@@ -312,6 +448,13 @@ public class GameController {
     /**
      * Offer the trade to all players that can accept the trade. As soon as one
      * player accepts the trade, the offering player can continue with his round.
+     * <p>
+     * The offer is broadcast to all of these players at once and their responses
+     * are awaited concurrently. The first player to accept settles the trade, the
+     * offer is withdrawn from all others. If nobody accepts within
+     * {@link Config#TRADE_RESPONSE_TIMEOUT} seconds, the offer is withdrawn from
+     * everyone. Since all players share one screen, human players are made the
+     * active player one after the other while the offer is open.
      *
      * @param offeringPlayer The player offering the trade.
      * @param offer          The resources the offering player offers.
@@ -323,29 +466,115 @@ public class GameController {
         final Map<ResourceType, Integer> request
     ) {
         // TODO: H2.3
-        final SimpleBooleanProperty tradeAccepted = new SimpleBooleanProperty(true); //booleans cannot be reassigned within lambda
-        for(final PlayerController pc : playerControllers.values()
+        final List<PlayerController> responders = playerControllers.values()
             .stream()
-            .filter
-                (playerController -> playerController
-                    .canAcceptTradeOffer(offeringPlayer, request)).toList()){
-            pc.setPlayerTradeOffer(offeringPlayer, offer, request);
-            withActivePlayer(pc, () -> {
-                final PlayerAction action = pc.waitForNextAction(PlayerObjective.ACCEPT_TRADE);
-                if (action instanceof final AcceptTradeAction tradeAction) {
-                    if (tradeAction.accepted()) {
-                        tradeAccepted.set(true);
-                    }
+            .filter(playerController -> playerController.canAcceptTradeOffer(offeringPlayer, request))
+            .toList();
+        final Map<Future<PlayerAction>, PlayerController> pendingResponses = new LinkedHashMap<>();
+        final CompletionService<PlayerAction> responses = new ExecutorCompletionService<>(getTradeResponseExecutor());
+        final AtomicReference<PlayerController> acceptor = new AtomicReference<>();
+        tradeOfferAcceptor = acceptor;
+        // the responders wait on their own threads, so the offer is shown with a snapshot of the game thread
+        publishSnapshot();
+        try {
+            for (final PlayerController pc : responders) {
+                pc.setPlayerTradeOffer(offeringPlayer, offer, request);
+                pendingResponses.put(responses.submit(() -> pc.waitForNextAction(PlayerObjective.ACCEPT_TRADE)), pc);
+            }
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(Config.TRADE_RESPONSE_TIMEOUT);
+            while (acceptor.get() == null && !pendingResponses.isEmpty()) {
+                showNextTradeResponder(pendingResponses.values(), offeringPlayer);
+                final Future<PlayerAction> response = responses.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (response == null) {
+                    break;
                 }
-            });
-            pc.resetPlayerTradeOffer();
-            if (tradeAccepted.get()) {
-                break;
+                pendingResponses.remove(response);
+                response.get();
             }
+        } catch (final InterruptedException e) {
+            throw new RuntimeException("Main thread was interrupted!", e);
+        } catch (final ExecutionException e) {
+            throw new RuntimeException("Failed to collect the responses to a trade offer", e.getCause());
+        } finally {
+            // withdraw the offer from everyone who has not responded yet, also if collecting a response failed
+            withdrawTradeOffer(pendingResponses);
+            tradeOfferAcceptor = null;
+            responders.forEach(pc -> {
+                pc.resetPlayerTradeOffer();
+                pc.setPlayerObjective(PlayerObjective.IDLE);
+            });
         }
         activePlayerControllerProperty.setValue(playerControllers.get(offeringPlayer));
     }
 
+    /**
+     * Declines the trade offer for all players that have not responded yet and
+     * waits until they stopped waiting for a response, so none of them is left
+     * blocked in {@link PlayerController#waitForNextAction(PlayerObjective)}.
+     *
+     * @param pendingResponses the responses that are still pending and the players
+     *                         they belong to
+     */
+    private void withdrawTradeOffer(final Map<Future<PlayerAction>, PlayerController> pendingResponses) {
+        pendingResponses.values().forEach(pc -> pc.triggerAction(new AcceptTradeAction(false)));
+        for (final Future<PlayerAction> response : pendingResponses.keySet()) {
+            try {
+                response.get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (final ExecutionException e) {
+                LOGGER.error("Failed to withdraw a trade offer", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Makes the first human player that still has to respond to the trade offer
+     * the active player, or the offering player if only AI players are left.
+     *
+     * @param pendingResponders the players that have not responded yet
+     * @param offeringPlayer    the player offering the trade
+     */
+    private void showNextTradeResponder(
+        final Collection<PlayerController> pendingResponders, final Player offeringPlayer
+    ) {
+        activePlayerControllerProperty.setValue(pendingResponders.stream()
+            .filter(pc -> !pc.getPlayer().isAi())
+            .findFirst()
+            .orElse(playerControllers.get(offeringPlayer)));
+    }
+
+    /**
+     * Claims the trade offer that is currently broadcast for the given player.
+     * Only the first player to claim the offer may settle the trade.
+     *
+     * @param pc the player that wants to accept the trade offer
+     * @return whether the player may settle the trade; always {@code true} if the
+     * offer is not broadcast by {@link #offerTrade}
+     */
+    boolean claimTradeOffer(final PlayerController pc) {
+        final AtomicReference<PlayerController> acceptor = tradeOfferAcceptor;
+        return acceptor == null || acceptor.compareAndSet(null, pc);
+    }
+
+    /**
+     * Returns the executor the responses to trade offers are awaited on, creating
+     * it if necessary.
+     *
+     * @return the executor for trade responses
+     */
+    private synchronized ExecutorService getTradeResponseExecutor() {
+        if (tradeResponseExecutor == null) {
+            tradeResponseExecutor = Executors.newCachedThreadPool(runnable -> {
+                final Thread thread = new Thread(runnable, "TradeResponseThread");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return tradeResponseExecutor;
+    }
+
     /**
      * Triggers the actions that happen when a 7 is rolled.
      * <p>
@@ -2,14 +2,32 @@ package projekt.controller;
 
 import javafx.beans.property.Property;
 import javafx.beans.property.SimpleObjectProperty;
+import org.jetbrains.annotations.Nullable;
 import org.tudalgo.algoutils.student.annotation.DoNotTouch;
 import org.tudalgo.algoutils.student.annotation.StudentImplementationRequired;
 import projekt.Config;
+import projekt.controller.actions.AcceptTradeAction;
 import projekt.controller.actions.BuildRoadAction;
 import projekt.controller.actions.BuildVillageAction;
+import projekt.controller.actions.BuyDevelopmentCardAction;
 import projekt.controller.actions.IllegalActionException;
+import projekt.controller.actions.PlayDevelopmentCardAction;
 import projekt.controller.actions.PlayerAction;
+import projekt.controller.actions.RedoAction;
+import projekt.controller.actions.SelectCardsAction;
+import projekt.controller.actions.StealCardAction;
+import projekt.controller.actions.TradeAction;
+import projekt.controller.actions.UndoAction;
+import projekt.controller.actions.UpgradeVillageAction;
+import projekt.controller.actions.ValidationResult;
+import projekt.logging.LogLevel;
+import projekt.logging.Logger;
+import projekt.logging.Logging;
+import projekt.metrics.Counter;
+import projekt.metrics.MetricsRegistry;
+import projekt.metrics.Timer;
 import projekt.model.DevelopmentCardType;
+import projekt.model.GameDelta;
 import projekt.model.Intersection;
 import projekt.model.Player;
 import projekt.model.PlayerState;
@@ -19,14 +37,24 @@ import projekt.model.TradePayload;
 import projekt.model.buildings.Edge;
 import projekt.model.buildings.Port;
 import projekt.model.buildings.Settlement;
+import projekt.model.events.GameEvent;
+import projekt.model.events.ObjectiveChangedEvent;
+import projekt.model.events.ResourceChangedEvent;
 import projekt.model.tiles.Tile;
+import projekt.statistics.GameStatistics;
+import projekt.statistics.ResourceSource;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -41,6 +69,40 @@ import java.util.stream.Stream;
  * player's state.
  */
 public class PlayerController {
+    private static final Logger LOGGER = Logging.getLogger(PlayerController.class);
+
+    /**
+     * The time spent waiting for the next action in {@link #blockingGetNextAction()}.
+     */
+    private static final Timer BLOCKED_TIMER = MetricsRegistry.getGlobal().timer("player.waitingForAction");
+
+    /**
+     * The time spent rebuilding the {@link PlayerState} in {@link #updatePlayerState()}.
+     */
+    private static final Timer UPDATE_STATE_TIMER = MetricsRegistry.getGlobal().timer("player.updatePlayerState");
+
+    /**
+     * The number of rejected actions of all players, per reason.
+     */
+    private static final Map<ValidationResult.Reason, Counter> REJECTED_ACTIONS = Stream
+        .of(ValidationResult.Reason.values())
+        .collect(Collectors.toMap(
+            reason -> reason,
+            reason -> MetricsRegistry.getGlobal().counter("action.rejected." + reason),
+            (a, b) -> a,
+            () -> new EnumMap<>(ValidationResult.Reason.class)
+        ));
+
+    /**
+     * The time spent executing each type of {@link PlayerAction}, including the update of the {@link PlayerState}.
+     */
+    private static final ClassValue<Timer> ACTION_TIMERS = new ClassValue<>() {
+        @Override
+        protected Timer computeValue(final Class<?> type) {
+            return MetricsRegistry.getGlobal().timer("action." + type.getSimpleName());
+        }
+    };
+
     private final Player player;
 
     private final GameController gameController;
@@ -59,10 +121,56 @@ public class PlayerController {
 
     private Map<ResourceType, Integer> selectedResources = new HashMap<>();
 
-    private Map<ResourceType, Integer> oldResources = new HashMap<>();
+    /**
+     * The amounts of all resources that changed since the last action was awaited, as they were before their
+     * first change.
+     */
+    private final Map<ResourceType, Integer> oldResources = new EnumMap<>(ResourceType.class);
 
     private int cardsToSelect = 0;
 
+    /**
+     * Whether the game has changed since the {@link #playerStateProperty} was last updated.
+     */
+    private boolean playerStateOutdated = true;
+
+    /**
+     * The number of actions of this player that were rejected.
+     */
+    private final LongAdder rejectedActions = new LongAdder();
+
+    /**
+     * The actions of the current turn that can be undone, the latest first.
+     */
+    private final Deque<ExecutedAction> undoStack = new ConcurrentLinkedDeque<>();
+
+    /**
+     * The undone actions that can be redone, the latest undone first.
+     */
+    private final Deque<ExecutedAction> redoStack = new ConcurrentLinkedDeque<>();
+
+    /**
+     * Records the changes of the action that is executed, {@code null} if no action is executed.
+     * Actions executed while another action is executed, e.g. the roads of a development card, are part of the
+     * changes of the outer action.
+     */
+    private @Nullable GameDelta.Recorder recorder;
+
+    /**
+     * The development cards drawn by the batch that is executed, the latest first, {@code null} if no batch is
+     * executed. They are put back on the deck if the batch is rolled back.
+     */
+    private @Nullable Deque<DevelopmentCardType> batchDrawnCards;
+
+    /**
+     * An executed action and its changes.
+     *
+     * @param action the action
+     * @param delta  the changes of the action
+     */
+    private record ExecutedAction(PlayerAction action, GameDelta delta) {
+    }
+
     /**
      * Creates a new {@link PlayerController} with the given {@link GameController}
      * and {@link Player}.
@@ -78,7 +186,34 @@ public class PlayerController {
         this.player = player;
         this.playerObjectiveProperty.addListener((observable, oldValue, newValue) -> {
             updatePlayerState();
+            gameController.getEventBus().publish(new ObjectiveChangedEvent(player, oldValue, newValue));
         });
+        gameController.getEventBus().subscribe(this::onGameEvent);
+    }
+
+    /**
+     * Keeps track of the changes relevant to the {@link PlayerState} of this controller.
+     * Records the previous amount of this player's resources on their first change and marks the
+     * {@link PlayerState} as outdated on any change of the game.
+     * Clears the history of undoable actions when the player leaves their regular turn.
+     *
+     * @param event the published event
+     */
+    private void onGameEvent(final GameEvent event) {
+        if (event instanceof final ObjectiveChangedEvent objectiveChangedEvent) {
+            if (objectiveChangedEvent.player() == player
+                && objectiveChangedEvent.objective() != PlayerObjective.REGULAR_TURN) {
+                clearHistory();
+            }
+            return;
+        }
+        if (event instanceof final ResourceChangedEvent resourceChangedEvent && resourceChangedEvent.player() == player) {
+            oldResources.putIfAbsent(
+                resourceChangedEvent.resourceType(),
+                resourceChangedEvent.amount() - resourceChangedEvent.delta()
+            );
+        }
+        playerStateOutdated = true;
     }
 
     /**
@@ -147,11 +282,14 @@ public class PlayerController {
      */
     @DoNotTouch
     private void updatePlayerState() {
+        final long start = UPDATE_STATE_TIMER.start();
+        playerStateOutdated = false;
         playerStateProperty
             .setValue(new PlayerState(getBuildableVillageIntersections(), getUpgradeableVillageIntersections(),
                                       getBuildableRoadEdges(), getPlayersToStealFrom(), getPlayerTradingPayload(),
                                       getCardsToSelect(), getChangedResources()
             ));
+        UPDATE_STATE_TIMER.stop(start);
     }
 
     /**
@@ -160,14 +298,13 @@ public class PlayerController {
      * @return a map of the changed resources
      */
     private Map<ResourceType, Integer> getChangedResources() {
-        final Map<ResourceType, Integer> changedResources = new HashMap<>();
-        for (final ResourceType resourceType : ResourceType.values()) {
-            final int oldAmount = oldResources.getOrDefault(resourceType, 0);
+        final Map<ResourceType, Integer> changedResources = new EnumMap<>(ResourceType.class);
+        oldResources.forEach((resourceType, oldAmount) -> {
             final int newAmount = player.getResources().getOrDefault(resourceType, 0);
             if (oldAmount != newAmount) {
                 changedResources.put(resourceType, newAmount - oldAmount);
             }
-        }
+        });
         return changedResources;
     }
 
@@ -269,36 +406,289 @@ public class PlayerController {
     /**
      * Waits for a action to be triggered, checks if the action is allowed and then
      * executes it.
-     * If a {@link IllegalActionException} is thrown, the action is ignored and the
-     * next action is awaited. This is done to ensure only allowed actions are
+     * Publishes a {@link projekt.model.GameSnapshot} of the game before waiting, so the view shows the state the
+     * action is chosen in. Players responding to a trade offer wait on their own threads and do not publish, the
+     * {@link GameController#offerTrade offering game thread} publishes for them.
+     * The {@link PlayerState} is only rebuilt if the action actually changed the game.
+     * If the action is rejected by {@link #validateAction(PlayerAction)} or its
+     * execution throws an {@link IllegalActionException}, the action is ignored and
+     * the next action is awaited. This is done to ensure only allowed actions are
      * executed.
      *
      * @return the executed action
      */
     @DoNotTouch
     public PlayerAction waitForNextAction() {
-        try {
-            oldResources = new HashMap<>(player.getResources());
+        if (playerObjectiveProperty.getValue() != PlayerObjective.ACCEPT_TRADE) {
+            gameController.publishSnapshot();
+        }
+        while (true) {
+            oldResources.clear();
             // blocking, waiting for viewing thread
-            final PlayerAction action = blockingGetNextAction();
+            final PlayerAction action;
+            final long waitStart = BLOCKED_TIMER.start();
+            try {
+                action = blockingGetNextAction();
+            } catch (final InterruptedException e) {
+                throw new RuntimeException("Main thread was interrupted!", e);
+            }
+            BLOCKED_TIMER.stop(waitStart);
 
-            System.out.println("TRIGGER " + action + " [" + player.getName() + "]");
+            LOGGER.debug("Triggered {} [{}]", action, player.getName());
 
-            if (!playerObjectiveProperty.getValue().allowedActions.contains(action.getClass())) {
-                throw new IllegalActionException(String.format("Illegal Action %s performed. Allowed Actions: %s",
-                                                               action, playerObjectiveProperty.getValue().getAllowedActions()
-                ));
+            ValidationResult result = validateAction(action);
+            if (result.isAccepted()) {
+                result = executeAction(action);
+            }
+            if (result.isAccepted()) {
+                return action;
             }
+            // Ignore and keep going
+            rejectedActions.increment();
+            REJECTED_ACTIONS.get(result.reason()).increment();
+            if (LOGGER.isEnabled(LogLevel.DEBUG)) {
+                LOGGER.debug("Rejected action of {}: {}", player.getName(), result.message());
+            }
+        }
+    }
+
+    /**
+     * Checks whether the given action can be executed right now, without executing it.
+     * The action must be allowed by the current {@link PlayerObjective} and pass
+     * its own {@link PlayerAction#validate(PlayerController) validation}.
+     *
+     * @param action the action to check
+     * @return the result of the validation
+     */
+    public ValidationResult validateAction(final PlayerAction action) {
+        final PlayerObjective objective = playerObjectiveProperty.getValue();
+        if (!objective.allowedActions.contains(action.getClass())) {
+            return ValidationResult.reject(
+                ValidationResult.Reason.NOT_ALLOWED,
+                () -> "Illegal Action %s performed. Allowed Actions: %s".formatted(
+                    action,
+                    objective.getAllowedActions()
+                )
+            );
+        }
+        return action.validate(this);
+    }
+
+    /**
+     * Executes the given validated action and rebuilds the {@link PlayerState} if
+     * the action changed the game.
+     *
+     * @param action the action to execute
+     * @return {@link ValidationResult#ACCEPTED}, or the rejection if the action
+     * threw an {@link IllegalActionException}
+     */
+    private ValidationResult executeAction(final PlayerAction action) {
+        final Timer actionTimer = ACTION_TIMERS.get(action.getClass());
+        final long actionStart = actionTimer.start();
+        attributeResourcesTo(action);
+        final boolean recording = recorder == null && !(action instanceof UndoAction || action instanceof RedoAction);
+        if (recording) {
+            recorder = GameDelta.record(gameController.getState());
+        }
+        try {
             action.execute(this);
-            updatePlayerState();
-            return action;
+            return ValidationResult.ACCEPTED;
         } catch (final IllegalActionException e) {
-            // Ignore and keep going
-            e.printStackTrace();
-            return waitForNextAction();
-        } catch (final InterruptedException e) {
-            throw new RuntimeException("Main thread was interrupted!", e);
+            return ValidationResult.reject(ValidationResult.Reason.EXECUTION_FAILED, e.getMessage());
+        } finally {
+            if (recording) {
+                addToHistory(action, recorder.stop());
+                recorder = null;
+            }
+            // failed actions may have changed the game before throwing
+            if (playerStateOutdated) {
+                updatePlayerState();
+            }
+            actionTimer.stop(actionStart);
+        }
+    }
+
+    /**
+     * Executes the given actions in order, as a single action.
+     * If one of the actions fails, the changes of all previous actions are rolled
+     * back, see {@link GameDelta}, and the development cards they bought are put
+     * back on top of the deck. The rolled back changes are reverted in the
+     * {@link GameStatistics} of the game as well.
+     * The actions must not wait for further actions themselves.
+     *
+     * @param steps the actions to execute
+     * @throws IllegalActionException if one of the actions fails
+     * @see projekt.controller.actions.CompositeAction
+     */
+    public void executeAll(final List<PlayerAction> steps) throws IllegalActionException {
+        final Deque<ExecutedAction> executed = new ArrayDeque<>();
+        final Deque<DevelopmentCardType> drawnCards = new ArrayDeque<>();
+        batchDrawnCards = drawnCards;
+        try {
+            for (int i = 0; i < steps.size(); i++) {
+                final GameDelta.Recorder step = GameDelta.record(gameController.getState());
+                try {
+                    attributeResourcesTo(steps.get(i));
+                    steps.get(i).execute(this);
+                } catch (final IllegalActionException | RuntimeException e) {
+                    // the failed step may have changed the game before it failed, the latest step is reverted first
+                    executed.push(new ExecutedAction(steps.get(i), step.stop()));
+                    executed.forEach(action -> apply(action, false));
+                    drawnCards.forEach(gameController::returnDevelopmentCard);
+                    if (e instanceof RuntimeException) {
+                        throw e;
+                    }
+                    throw new IllegalActionException(
+                        String.format("Step %d of the batch failed: %s", i + 1, e.getMessage())
+                    );
+                }
+                executed.push(new ExecutedAction(steps.get(i), step.stop()));
+            }
+        } finally {
+            batchDrawnCards = null;
+        }
+    }
+
+    // -- Undo methods --
+
+    /**
+     * Adds the changes of the given executed action to the history of the current turn.
+     * Actions that reveal information or cannot be reversed clear the history instead, as no action before them
+     * can be undone anymore. Every other change discards the actions that could be redone.
+     *
+     * @param action the executed action
+     * @param delta  the changes of the action
+     */
+    private void addToHistory(final PlayerAction action, final GameDelta delta) {
+        if (action.revealsInformation() || !delta.isReversible()) {
+            clearHistory();
+        } else if (!delta.isEmpty()) {
+            undoStack.push(new ExecutedAction(action, delta));
+            redoStack.clear();
+        }
+    }
+
+    /**
+     * Clears the history of the current turn, nothing can be undone or redone afterwards.
+     */
+    private void clearHistory() {
+        undoStack.clear();
+        redoStack.clear();
+    }
+
+    /**
+     * Returns whether there is an action to undo.
+     * Can be called from any thread.
+     *
+     * @return whether there is an action to undo
+     */
+    public boolean canUndo() {
+        return !undoStack.isEmpty();
+    }
+
+    /**
+     * Returns whether there is an undone action to redo.
+     * Can be called from any thread.
+     *
+     * @return whether there is an action to redo
+     */
+    public boolean canRedo() {
+        return !redoStack.isEmpty();
+    }
+
+    /**
+     * Undoes the last action of the current turn that has not been undone yet.
+     * Only the actions of the current regular turn since the last action that revealed information can be undone,
+     * see {@link PlayerAction#revealsInformation()}.
+     *
+     * @throws IllegalActionException if there is no action to undo
+     */
+    public void undo() throws IllegalActionException {
+        final ExecutedAction action = undoStack.poll();
+        if (action == null) {
+            throw new IllegalActionException("Nothing to undo");
+        }
+        apply(action, false);
+        redoStack.push(action);
+    }
+
+    /**
+     * Redoes the last undone action, unless another action was executed since.
+     *
+     * @throws IllegalActionException if there is no action to redo
+     */
+    public void redo() throws IllegalActionException {
+        final ExecutedAction action = redoStack.poll();
+        if (action == null) {
+            throw new IllegalActionException("Nothing to redo");
+        }
+        apply(action, true);
+        undoStack.push(action);
+    }
+
+    /**
+     * Redoes or reverts the changes of the given action. The changes are attributed to the source of the action in
+     * the {@link GameStatistics} of the game, and reverted changes are subtracted from it again, so undone and
+     * rolled back actions are not counted.
+     *
+     * @param action  the executed action
+     * @param forward whether to redo the changes instead of reverting them
+     */
+    private void apply(final ExecutedAction action, final boolean forward) {
+        attributeResourcesTo(action.action());
+        final GameStatistics statistics = gameController.getStatistics();
+        if (statistics != null) {
+            statistics.setReverting(!forward);
+        }
+        try {
+            if (forward) {
+                action.delta().redo();
+            } else {
+                action.delta().undo();
+            }
+        } finally {
+            if (statistics != null) {
+                statistics.setReverting(false);
+            }
+        }
+    }
+
+    /**
+     * Attributes all following resource changes in the {@link GameStatistics} of the game to the source of the given
+     * action.
+     *
+     * @param action the action that is executed next, {@code null} for changes that are not caused by an action
+     */
+    private void attributeResourcesTo(final @Nullable PlayerAction action) {
+        final GameStatistics statistics = gameController.getStatistics();
+        if (statistics == null) {
+            return;
+        }
+        final ResourceSource source;
+        if (action instanceof TradeAction || action instanceof AcceptTradeAction) {
+            source = ResourceSource.TRADE;
+        } else if (action instanceof StealCardAction || action instanceof SelectCardsAction) {
+            source = ResourceSource.ROBBER;
+        } else if (action instanceof final PlayDevelopmentCardAction playDevelopmentCardAction) {
+            source = playDevelopmentCardAction.developmentCard() == DevelopmentCardType.MONOPOLY
+                ? ResourceSource.MONOPOLY
+                : ResourceSource.DEVELOPMENT_CARD;
+        } else if (action instanceof BuildRoadAction || action instanceof BuildVillageAction
+            || action instanceof UpgradeVillageAction || action instanceof BuyDevelopmentCardAction) {
+            source = ResourceSource.BUILD;
+        } else {
+            source = ResourceSource.OTHER;
         }
+        statistics.setSource(source);
+    }
+
+    /**
+     * Returns the number of actions of this player that were rejected so far.
+     *
+     * @return the number of rejected actions
+     */
+    public long getRejectedActions() {
+        return rejectedActions.sum();
     }
 
     // -- Building methods --
@@ -501,12 +891,13 @@ public class PlayerController {
 
     /**
      * Checks whether the {@link Player} can buy a development card.
-     * To buy a development card, the {@link Player} must have enough resources.
+     * To buy a development card, the {@link Player} must have enough resources
+     * and there must be development cards left to draw.
      *
      * @return whether the {@link Player} can buy a development card.
      */
     public boolean canBuyDevelopmentCard() {
-        return player.hasResources(Config.DEVELOPMENT_CARD_COST);
+        return player.hasResources(Config.DEVELOPMENT_CARD_COST) && gameController.hasDevelopmentCards();
     }
 
     /**
@@ -523,7 +914,11 @@ public class PlayerController {
         }
 
         final var requiredResources = Config.DEVELOPMENT_CARD_COST;
-        player.addDevelopmentCard(gameController.drawDevelopmentCard());
+        final DevelopmentCardType developmentCard = gameController.drawDevelopmentCard();
+        if (batchDrawnCards != null) {
+            batchDrawnCards.push(developmentCard);
+        }
+        player.addDevelopmentCard(developmentCard);
         player.removeResources(requiredResources);
     }
 
@@ -567,7 +962,7 @@ public class PlayerController {
                 }
             }
             default -> {
-                System.out.printf("No action for development card type %s registered%n", developmentCard);
+                LOGGER.warn("No action for development card type {} registered", developmentCard);
                 return;
             }
         }
@@ -693,6 +1088,10 @@ public class PlayerController {
             throw new IllegalActionException("Other player does not have the requested resources");
         }
         playerObjectiveProperty.setValue(PlayerObjective.IDLE);
+        if (!gameController.claimTradeOffer(this)) {
+            // another player accepted the broadcast offer first
+            return;
+        }
 
         player.addResources(playerTradingOffer);
         tradingPlayer.removeResources(playerTradingOffer);
@@ -4,14 +4,17 @@ import projekt.controller.actions.AcceptTradeAction;
 import projekt.controller.actions.BuildRoadAction;
 import projekt.controller.actions.BuildVillageAction;
 import projekt.controller.actions.BuyDevelopmentCardAction;
+import projekt.controller.actions.CompositeAction;
 import projekt.controller.actions.EndTurnAction;
 import projekt.controller.actions.PlayDevelopmentCardAction;
 import projekt.controller.actions.PlayerAction;
+import projekt.controller.actions.RedoAction;
 import projekt.controller.actions.RollDiceAction;
 import projekt.controller.actions.SelectCardsAction;
 import projekt.controller.actions.SelectRobberTileAction;
 import projekt.controller.actions.StealCardAction;
 import projekt.controller.actions.TradeAction;
+import projekt.controller.actions.UndoAction;
 import projekt.controller.actions.UpgradeVillageAction;
 
 import java.util.Set;
@@ -27,7 +30,7 @@ public enum PlayerObjective {
     SELECT_ROBBER_TILE(Set.of(SelectRobberTileAction.class)),
     REGULAR_TURN(Set.of(BuildRoadAction.class, EndTurnAction.class, BuildVillageAction.class,
                         UpgradeVillageAction.class, TradeAction.class, BuyDevelopmentCardAction.class,
-                        PlayDevelopmentCardAction.class
+                        PlayDevelopmentCardAction.class, CompositeAction.class, UndoAction.class, RedoAction.class
     )),
     PLACE_VILLAGE(Set.of(BuildVillageAction.class)),
     PLACE_ROAD(Set.of(BuildRoadAction.class)),
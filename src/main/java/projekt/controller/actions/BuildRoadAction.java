@@ -1,6 +1,7 @@
 package projekt.controller.actions;
 
 import projekt.controller.PlayerController;
+import projekt.controller.actions.ValidationResult.Reason;
 import projekt.model.buildings.Edge;
 
 /**
@@ -19,4 +20,26 @@ public record BuildRoadAction(Edge edge) implements PlayerAction {
     public void execute(final PlayerController pc) throws IllegalActionException {
         pc.buildRoad(edge.getPosition1(), edge.getPosition2());
     }
+
+    /**
+     * Rejects the road if the player cannot build roads or the edge already has a road.
+     */
+    @Override
+    public ValidationResult validate(final PlayerController pc) {
+        if (!pc.canBuildRoad()) {
+            return ValidationResult.reject(Reason.PRECONDITION_FAILED, "Cannot build road");
+        }
+        if (edge.hasRoad()) {
+            return ValidationResult.reject(Reason.PRECONDITION_FAILED, "Edge already has a road");
+        }
+        return ValidationResult.ACCEPTED;
+    }
+
+    /**
+     * Building a road reveals nothing.
+     */
+    @Override
+    public boolean revealsInformation() {
+        return false;
+    }
 }
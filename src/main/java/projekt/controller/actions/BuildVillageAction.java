@@ -1,6 +1,7 @@
 package projekt.controller.actions;
 
 import projekt.controller.PlayerController;
+import projekt.controller.actions.ValidationResult.Reason;
 import projekt.model.Intersection;
 
 /**
@@ -19,4 +20,26 @@ public record BuildVillageAction(Intersection intersection) implements PlayerAct
     public void execute(final PlayerController pc) throws IllegalActionException {
         pc.buildVillage(intersection);
     }
+
+    /**
+     * Rejects the village if the player cannot build villages or the intersection already has a settlement.
+     */
+    @Override
+    public ValidationResult validate(final PlayerController pc) {
+        if (!pc.canBuildVillage()) {
+            return ValidationResult.reject(Reason.PRECONDITION_FAILED, "Cannot build village");
+        }
+        if (intersection.hasSettlement()) {
+            return ValidationResult.reject(Reason.PRECONDITION_FAILED, "Intersection already has a settlement");
+        }
+        return ValidationResult.ACCEPTED;
+    }
+
+    /**
+     * Building a village reveals nothing.
+     */
+    @Override
+    public boolean revealsInformation() {
+        return false;
+    }
 }
@@ -1,6 +1,7 @@
 package projekt.controller.actions;
 
 import projekt.controller.PlayerController;
+import projekt.controller.actions.ValidationResult.Reason;
 
 /**
  * An action to buy a development card.
@@ -16,4 +17,14 @@ public record BuyDevelopmentCardAction() implements PlayerAction {
     public void execute(final PlayerController pc) throws IllegalActionException {
         pc.buyDevelopmentCard();
     }
+
+    /**
+     * Rejects the purchase if the player does not have enough resources or no development cards are left.
+     */
+    @Override
+    public ValidationResult validate(final PlayerController pc) {
+        return pc.canBuyDevelopmentCard()
+            ? ValidationResult.ACCEPTED
+            : ValidationResult.reject(Reason.PRECONDITION_FAILED, "Cannot buy development card");
+    }
 }
@@ -0,0 +1,169 @@
+package projekt.controller.actions;
+
+import projekt.Config;
+import projekt.controller.PlayerController;
+import projekt.controller.PlayerObjective;
+import projekt.controller.actions.ValidationResult.Reason;
+import projekt.model.ResourceType;
+import projekt.model.buildings.Settlement;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An action that executes an ordered batch of actions as one, e.g. a whole planned turn of an AI.
+ * The batch is validated as a whole before any step is executed: every step must be allowed by the current
+ * objective, and the player must be able to afford all steps in order, including resources gained by trades with
+ * the bank earlier in the batch. The steps are executed all-or-nothing; if one fails, the changes of all previous
+ * steps are rolled back. The {@link projekt.model.PlayerState} is rebuilt only once, after the whole batch.
+ * <p>
+ * Only steps that do not wait for further input can be batched: building roads and villages, upgrading villages,
+ * buying development cards, trading with the bank and, as the last step, ending the turn.
+ *
+ * @param steps the actions to execute, in order
+ */
+public record CompositeAction(List<PlayerAction> steps) implements PlayerAction {
+    /**
+     * The actions that can be steps of a batch.
+     */
+    private static final Set<Class<? extends PlayerAction>> BATCHABLE_ACTIONS = Set.of(
+        BuildRoadAction.class, BuildVillageAction.class, UpgradeVillageAction.class,
+        BuyDevelopmentCardAction.class, TradeAction.class, EndTurnAction.class
+    );
+
+    /**
+     * Creates a new batch of the given actions.
+     *
+     * @param steps the actions to execute, in order
+     */
+    public CompositeAction {
+        steps = List.copyOf(steps);
+    }
+
+    /**
+     * Creates a new batch of the given actions.
+     *
+     * @param steps the actions to execute, in order
+     * @return the batch
+     */
+    public static CompositeAction of(final PlayerAction... steps) {
+        return new CompositeAction(List.of(steps));
+    }
+
+    /**
+     * Executes all steps, rolling back all of them if one fails.
+     *
+     * @throws IllegalActionException if a step cannot be executed
+     */
+    @Override
+    public void execute(final PlayerController pc) throws IllegalActionException {
+        pc.executeAll(steps);
+    }
+
+    /**
+     * Rejects empty batches, steps that cannot be batched or are not allowed and batches the player cannot afford.
+     */
+    @Override
+    public ValidationResult validate(final PlayerController pc) {
+        if (steps.isEmpty()) {
+            return ValidationResult.reject(Reason.PRECONDITION_FAILED, "Batch has no steps");
+        }
+        final PlayerObjective objective = pc.getPlayerObjectiveProperty().getValue();
+        final Map<ResourceType, Integer> resources = new EnumMap<>(ResourceType.class);
+        resources.putAll(pc.getPlayer().getResources());
+        int remainingRoads = pc.getPlayer().getRemainingRoads();
+        int remainingVillages = pc.getPlayer().getRemainingVillages();
+        int remainingCities = pc.getPlayer().getRemainingCities();
+        for (int i = 0; i < steps.size(); i++) {
+            final PlayerAction step = steps.get(i);
+            if (!BATCHABLE_ACTIONS.contains(step.getClass())
+                || step instanceof final TradeAction tradeAction && !tradeAction.payload().withBank()) {
+                return ValidationResult.reject(Reason.NOT_ALLOWED, String.format("%s cannot be batched", step));
+            }
+            if (!objective.getAllowedActions().contains(step.getClass())) {
+                return ValidationResult.reject(Reason.NOT_ALLOWED, String.format("%s is not allowed", step));
+            }
+            if (step.endsTurn() && i < steps.size() - 1) {
+                return ValidationResult.reject(Reason.NOT_ALLOWED, "Only the last step can end the turn");
+            }
+            final boolean affordable;
+            if (step instanceof BuildRoadAction) {
+                affordable = remainingRoads-- > 0
+                    && (objective == PlayerObjective.PLACE_ROAD || pay(resources, Config.ROAD_BUILDING_COST));
+            } else if (step instanceof BuildVillageAction) {
+                affordable = remainingVillages-- > 0 && (objective == PlayerObjective.PLACE_VILLAGE
+                    || pay(resources, Config.SETTLEMENT_BUILDING_COST.get(Settlement.Type.VILLAGE)));
+            } else if (step instanceof UpgradeVillageAction) {
+                remainingVillages++;
+                affordable = remainingCities-- > 0 && pay(resources, Config.SETTLEMENT_BUILDING_COST.get(Settlement.Type.CITY));
+            } else if (step instanceof BuyDevelopmentCardAction) {
+                affordable = pay(resources, Config.DEVELOPMENT_CARD_COST);
+            } else if (step instanceof final TradeAction tradeAction) {
+                affordable = pay(resources, tradeAction.payload().offer())
+                    && receive(resources, tradeAction.payload().request());
+            } else {
+                affordable = true;
+            }
+            if (!affordable) {
+                return ValidationResult.reject(
+                    Reason.PRECONDITION_FAILED,
+                    String.format("Player cannot afford step %d (%s) of the batch", i + 1, step)
+                );
+            }
+        }
+        return ValidationResult.ACCEPTED;
+    }
+
+    /**
+     * Ends the turn if the last step does.
+     */
+    @Override
+    public boolean endsTurn() {
+        return !steps.isEmpty() && steps.get(steps.size() - 1).endsTurn();
+    }
+
+    /**
+     * Reveals information if any step does.
+     */
+    @Override
+    public boolean revealsInformation() {
+        return steps.stream().anyMatch(PlayerAction::revealsInformation);
+    }
+
+    /**
+     * Removes the given cost from the given resources, if they are sufficient.
+     *
+     * @param resources the available resources
+     * @param cost      the cost to pay
+     * @return whether the resources were sufficient
+     */
+    private static boolean pay(final Map<ResourceType, Integer> resources, final Map<ResourceType, Integer> cost) {
+        if (cost == null || cost.isEmpty()) {
+            return false;
+        }
+        for (final Map.Entry<ResourceType, Integer> entry : cost.entrySet()) {
+            if (resources.getOrDefault(entry.getKey(), 0) < entry.getValue()) {
+                return false;
+            }
+        }
+        cost.forEach((type, amount) -> resources.merge(type, -amount, Integer::sum));
+        return true;
+    }
+
+    /**
+     * Adds one resource of the requested type to the given resources, as a trade with the bank does.
+     *
+     * @param resources the available resources
+     * @param request   the requested resources
+     * @return whether anything was requested
+     */
+    private static boolean receive(final Map<ResourceType, Integer> resources, final Map<ResourceType, Integer> request) {
+        if (request == null || request.isEmpty()) {
+            return false;
+        }
+        resources.merge(request.keySet().iterator().next(), 1, Integer::sum);
+        return true;
+    }
+}
@@ -17,4 +17,9 @@ public class EndTurnAction implements PlayerAction {
         // This action does not execute any specific code, but is picked up by the
         // gameController.
     }
+
+    @Override
+    public boolean endsTurn() {
+        return true;
+    }
 }
@@ -3,15 +3,17 @@ package projekt.controller.actions;
 /**
  * An exception that is thrown when an action is illegal.
  * An action is illegal if it cannot be executed for any reason.
+ * Illegal actions are expected, e.g. from stale clicks, and are handled without inspecting the stack, so exceptions
+ * without a cause do not capture a stack trace.
  */
 public class IllegalActionException extends Exception {
     /**
-     * Creates a new illegal action exception.
+     * Creates a new illegal action exception without a stack trace.
      *
      * @param message The message of the exception.
      */
     public IllegalActionException(final String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     /**
@@ -1,6 +1,7 @@
 package projekt.controller.actions;
 
 import projekt.controller.PlayerController;
+import projekt.controller.actions.ValidationResult.Reason;
 import projekt.model.DevelopmentCardType;
 
 /**
@@ -20,4 +21,14 @@ public record PlayDevelopmentCardAction(DevelopmentCardType developmentCard) imp
     public void execute(final PlayerController pc) throws IllegalActionException {
         pc.playDevelopmentCard(developmentCard);
     }
+
+    /**
+     * Rejects the action if the player does not have the development card.
+     */
+    @Override
+    public ValidationResult validate(final PlayerController pc) {
+        return pc.getPlayer().getDevelopmentCards().getOrDefault(developmentCard, 0) > 0
+            ? ValidationResult.ACCEPTED
+            : ValidationResult.reject(Reason.PRECONDITION_FAILED, "Player does not have the selected development card");
+    }
 }
@@ -14,4 +14,38 @@ public interface PlayerAction {
      * @throws IllegalActionException if the action is illegal
      */
     void execute(PlayerController pc) throws IllegalActionException;
+
+    /**
+     * Checks the preconditions of the action before it is executed.
+     * Only cheap checks of the model belong here; {@link #execute(PlayerController)} still has to validate
+     * everything it relies on. By default, every action is accepted.
+     *
+     * @param pc the player controller that would execute the action
+     * @return the result of the validation
+     */
+    default ValidationResult validate(final PlayerController pc) {
+        return ValidationResult.ACCEPTED;
+    }
+
+    /**
+     * Returns whether the player's regular turn is over after this action was executed.
+     *
+     * @return whether the action ends the turn
+     */
+    default boolean endsTurn() {
+        return false;
+    }
+
+    /**
+     * Returns whether executing this action reveals information that was hidden before, e.g. a dice roll, a drawn
+     * development card or the answers of other players to a trade offer.
+     * Such actions cannot be undone, and neither can any action before them.
+     * By default, every action is assumed to reveal information.
+     *
+     * @return whether the action reveals information
+     * @see PlayerController#undo()
+     */
+    default boolean revealsInformation() {
+        return true;
+    }
 }
@@ -0,0 +1,39 @@
+package projekt.controller.actions;
+
+import projekt.controller.PlayerController;
+import projekt.controller.actions.ValidationResult.Reason;
+
+/**
+ * An action to redo the last undone action.
+ */
+public class RedoAction implements PlayerAction {
+
+    /**
+     * Redoes the last undone action.
+     *
+     * @throws IllegalActionException if there is no action to redo
+     */
+    @Override
+    public void execute(final PlayerController pc) throws IllegalActionException {
+        pc.redo();
+    }
+
+    /**
+     * Rejects the redo if there is no action to redo.
+     */
+    @Override
+    public ValidationResult validate(final PlayerController pc) {
+        if (!pc.canRedo()) {
+            return ValidationResult.reject(Reason.PRECONDITION_FAILED, "Nothing to redo");
+        }
+        return ValidationResult.ACCEPTED;
+    }
+
+    /**
+     * Redoing reveals nothing.
+     */
+    @Override
+    public boolean revealsInformation() {
+        return false;
+    }
+}
@@ -1,6 +1,7 @@
 package projekt.controller.actions;
 
 import projekt.controller.PlayerController;
+import projekt.controller.actions.ValidationResult.Reason;
 import projekt.model.Player;
 import projekt.model.ResourceType;
 
@@ -19,4 +20,14 @@ public record StealCardAction(ResourceType resourceToSteal, Player playerToSteal
     public void execute(final PlayerController pc) throws IllegalActionException {
         pc.selectPlayerAndResourceToSteal(playerToStealFrom, resourceToSteal);
     }
+
+    /**
+     * Rejects the action if the other player does not have the resource.
+     */
+    @Override
+    public ValidationResult validate(final PlayerController pc) {
+        return playerToStealFrom.getResources().getOrDefault(resourceToSteal, 0) > 0
+            ? ValidationResult.ACCEPTED
+            : ValidationResult.reject(Reason.PRECONDITION_FAILED, "Player does not have the selected resource");
+    }
 }
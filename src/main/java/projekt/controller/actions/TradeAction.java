@@ -1,6 +1,7 @@
 package projekt.controller.actions;
 
 import projekt.controller.PlayerController;
+import projekt.controller.actions.ValidationResult.Reason;
 import projekt.model.Player;
 import projekt.model.ResourceType;
 import projekt.model.TradePayload;
@@ -33,4 +34,27 @@ public record TradeAction(TradePayload payload) implements PlayerAction {
             pc.offerTrade(payload.offer(), payload.request());
         }
     }
+
+    /**
+     * Rejects trades without offered or requested resources and trades the player cannot afford.
+     */
+    @Override
+    public ValidationResult validate(final PlayerController pc) {
+        if (payload.offer() == null || payload.offer().isEmpty()
+            || payload.request() == null || payload.request().isEmpty()) {
+            return ValidationResult.reject(Reason.PRECONDITION_FAILED, "Trade must offer and request resources");
+        }
+        if (!pc.getPlayer().hasResources(payload.offer())) {
+            return ValidationResult.reject(Reason.PRECONDITION_FAILED, "Player doesn't have enough resources");
+        }
+        return ValidationResult.ACCEPTED;
+    }
+
+    /**
+     * Trades with the bank reveal nothing, trades with other players reveal their answers.
+     */
+    @Override
+    public boolean revealsInformation() {
+        return !payload.withBank();
+    }
 }
@@ -0,0 +1,39 @@
+package projekt.controller.actions;
+
+import projekt.controller.PlayerController;
+import projekt.controller.actions.ValidationResult.Reason;
+
+/**
+ * An action to undo the last action of the current turn.
+ */
+public class UndoAction implements PlayerAction {
+
+    /**
+     * Undoes the last action.
+     *
+     * @throws IllegalActionException if there is no action to undo
+     */
+    @Override
+    public void execute(final PlayerController pc) throws IllegalActionException {
+        pc.undo();
+    }
+
+    /**
+     * Rejects the undo if there is no action to undo.
+     */
+    @Override
+    public ValidationResult validate(final PlayerController pc) {
+        if (!pc.canUndo()) {
+            return ValidationResult.reject(Reason.PRECONDITION_FAILED, "Nothing to undo");
+        }
+        return ValidationResult.ACCEPTED;
+    }
+
+    /**
+     * Undoing reveals nothing.
+     */
+    @Override
+    public boolean revealsInformation() {
+        return false;
+    }
+}
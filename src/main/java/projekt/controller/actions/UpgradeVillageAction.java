@@ -1,7 +1,9 @@
 package projekt.controller.actions;
 
 import projekt.controller.PlayerController;
+import projekt.controller.actions.ValidationResult.Reason;
 import projekt.model.Intersection;
+import projekt.model.buildings.Settlement;
 
 /**
  * An action to upgrade a village to a city.
@@ -19,4 +21,28 @@ public record UpgradeVillageAction(Intersection intersection) implements PlayerA
     public void execute(final PlayerController pc) throws IllegalActionException {
         pc.upgradeVillage(intersection);
     }
+
+    /**
+     * Rejects the upgrade if the player cannot upgrade villages or does not own a village at the intersection.
+     */
+    @Override
+    public ValidationResult validate(final PlayerController pc) {
+        if (!pc.canUpgradeVillage()) {
+            return ValidationResult.reject(Reason.PRECONDITION_FAILED, "Cannot upgrade village");
+        }
+        final Settlement settlement = intersection.getSettlement();
+        if (settlement == null || settlement.type() != Settlement.Type.VILLAGE
+            || !settlement.owner().equals(pc.getPlayer())) {
+            return ValidationResult.reject(Reason.PRECONDITION_FAILED, "No own village at this intersection");
+        }
+        return ValidationResult.ACCEPTED;
+    }
+
+    /**
+     * Upgrading a village reveals nothing.
+     */
+    @Override
+    public boolean revealsInformation() {
+        return false;
+    }
 }
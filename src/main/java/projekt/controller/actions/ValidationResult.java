@@ -0,0 +1,122 @@
+package projekt.controller.actions;
+
+import projekt.controller.PlayerController;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * The result of checking whether a {@link PlayerAction} can be executed.
+ * Unlike an {@link IllegalActionException}, a result is cheap to create, so rejecting an action does not capture a
+ * stack trace or unwind the call stack. The message of a rejection is only built when it is read.
+ * Results are equal if they have the same reason and message.
+ *
+ * @see PlayerController#validateAction(PlayerAction)
+ */
+public final class ValidationResult {
+    /**
+     * The result of every accepted action.
+     */
+    public static final ValidationResult ACCEPTED = new ValidationResult(null, null);
+
+    private final Reason reason;
+    private final Supplier<String> messageSupplier;
+
+    /**
+     * Creates a new result.
+     *
+     * @param reason          why the action was rejected, {@code null} if it was accepted
+     * @param messageSupplier builds a description of the rejection, {@code null} if the action was accepted
+     */
+    private ValidationResult(final Reason reason, final Supplier<String> messageSupplier) {
+        this.reason = reason;
+        this.messageSupplier = messageSupplier;
+    }
+
+    /**
+     * Creates the result of a rejected action.
+     *
+     * @param reason  why the action was rejected
+     * @param message a description of the rejection
+     * @return the result of the rejected action
+     */
+    public static ValidationResult reject(final Reason reason, final String message) {
+        return new ValidationResult(reason, () -> message);
+    }
+
+    /**
+     * Creates the result of a rejected action whose description is expensive to build.
+     *
+     * @param reason          why the action was rejected
+     * @param messageSupplier builds a description of the rejection
+     * @return the result of the rejected action
+     */
+    public static ValidationResult reject(final Reason reason, final Supplier<String> messageSupplier) {
+        return new ValidationResult(reason, messageSupplier);
+    }
+
+    /**
+     * Returns why the action was rejected.
+     *
+     * @return why the action was rejected, {@code null} if it was accepted
+     */
+    public Reason reason() {
+        return reason;
+    }
+
+    /**
+     * Returns whether the action was accepted.
+     *
+     * @return whether the action was accepted
+     */
+    public boolean isAccepted() {
+        return reason == null;
+    }
+
+    /**
+     * Returns a description of the rejection.
+     *
+     * @return a description of the rejection, {@code null} if the action was accepted
+     */
+    public String message() {
+        return messageSupplier == null ? null : messageSupplier.get();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return o instanceof final ValidationResult other
+            && reason == other.reason
+            && Objects.equals(message(), other.message());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(reason, message());
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationResult[" +
+            "reason=" + reason + ", " +
+            "message=" + message() + ']';
+    }
+
+    /**
+     * The reasons an action can be rejected for.
+     */
+    public enum Reason {
+        /**
+         * The action is not allowed by the current {@link projekt.controller.PlayerObjective}.
+         */
+        NOT_ALLOWED,
+        /**
+         * The action is allowed, but the game is not in a state it can be executed in,
+         * e.g. because the player lacks resources.
+         */
+        PRECONDITION_FAILED,
+        /**
+         * The action passed validation but threw an {@link IllegalActionException} when it was executed.
+         */
+        EXECUTION_FAILED
+    }
+}
@@ -1,5 +1,7 @@
 package projekt.controller.gui;
 
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.scene.layout.Region;
@@ -8,6 +10,7 @@ import javafx.util.Builder;
 import projekt.Config;
 import projekt.model.GameState;
 import projekt.model.PlayerImpl;
+import projekt.view.BoardRenderMode;
 import projekt.view.menus.CreateGameBuilder;
 
 /**
@@ -17,6 +20,7 @@ public class CreateGameController implements SceneController {
     private final CreateGameBuilder builder;
     private final GameState gameState;
     private final ObservableList<PlayerImpl.Builder> playerBuilderList = FXCollections.observableArrayList();
+    private final Property<BoardRenderMode> boardRenderModeProperty = new SimpleObjectProperty<>(BoardRenderMode.NODES);
 
     /**
      * Creates a new create game controller.
@@ -28,7 +32,8 @@ public class CreateGameController implements SceneController {
         this.builder = new CreateGameBuilder(
             this.playerBuilderList,
             SceneController::loadMainMenuScene,
-            this::startGameHandler
+            this::startGameHandler,
+            this.boardRenderModeProperty
         );
     }
 
@@ -47,8 +52,8 @@ public class CreateGameController implements SceneController {
     /**
      * The handler for the start game button.
      * <p>
-     * Tries to start the game with the current players. If there are not enough
-     * players, the game will not start.
+     * Tries to start the game with the current players and the selected board
+     * render mode. If there are not enough players, the game will not start.
      *
      * @return true if the game was started, false if not
      */
@@ -57,7 +62,7 @@ public class CreateGameController implements SceneController {
             return false;
         }
         this.playerBuilderList.forEach(p -> this.gameState.addPlayer(p.build(this.gameState.getGrid())));
-        SceneController.loadGameScene();
+        SceneController.loadGameScene(this.boardRenderModeProperty.getValue());
         return true;
     }
 
@@ -11,14 +11,32 @@ import java.util.function.Consumer;
  */
 public class EdgeController {
     private final EdgeLine line;
+    private final Runnable redrawHandler;
+    private Consumer<MouseEvent> highlightHandler;
+    private boolean suggested;
 
     /**
      * Creates a new edge controller.
      *
-     * @param edge the edge to render
+     * @param edge            the edge to render
+     * @param renderScheduler the scheduler to render the edge with
      */
-    public EdgeController(final Edge edge) {
+    public EdgeController(final Edge edge, final RenderScheduler renderScheduler) {
         this.line = new EdgeLine(edge);
+        this.redrawHandler = () -> renderScheduler.schedule(this, this::render);
+    }
+
+    /**
+     * Creates a new edge controller that does not render the edge itself.
+     * Instead, the given handler is called whenever the edge or its highlight may have changed,
+     * e.g. to redraw the canvas the whole grid is drawn on.
+     *
+     * @param edge          the edge to render
+     * @param redrawHandler the handler to call when the edge has to be drawn again
+     */
+    public EdgeController(final Edge edge, final Runnable redrawHandler) {
+        this.line = new EdgeLine(edge);
+        this.redrawHandler = redrawHandler;
     }
 
     /**
@@ -39,19 +57,72 @@ public class EdgeController {
         return line;
     }
 
+    /**
+     * Returns the handler to call when the edge is clicked.
+     *
+     * @return the handler, {@code null} if the edge is not highlighted
+     */
+    public Consumer<MouseEvent> getHighlightHandler() {
+        return highlightHandler;
+    }
+
     /**
      * Highlights the edge.
      *
      * @param handler the handler to call when the edge is clicked
      */
     public void highlight(final Consumer<MouseEvent> handler) {
-        line.highlight(handler);
+        highlightHandler = handler;
+        redraw();
     }
 
     /**
-     * Unhighlights the edge.
+     * Unhighlights the edge and removes the suggestion.
      */
     public void unhighlight() {
-        line.unhighlight();
+        highlightHandler = null;
+        suggested = false;
+        redraw();
+    }
+
+    /**
+     * Returns whether the edge is highlighted as one of the suggested moves.
+     *
+     * @return whether the edge is suggested
+     */
+    public boolean isSuggested() {
+        return suggested;
+    }
+
+    /**
+     * Sets whether the edge is highlighted as one of the suggested moves. Only has an effect while the
+     * edge is highlighted.
+     *
+     * @param suggested whether the edge is suggested
+     */
+    public void suggest(final boolean suggested) {
+        if (this.suggested != suggested) {
+            this.suggested = suggested;
+            redraw();
+        }
+    }
+
+    /**
+     * Draws the edge again, with the next batch of the {@link RenderScheduler} if it renders itself.
+     * Keeps the current highlight.
+     */
+    public void redraw() {
+        redrawHandler.run();
+    }
+
+    /**
+     * Draws the road of the edge and the highlight, if any.
+     */
+    private void render() {
+        if (highlightHandler != null) {
+            line.highlight(highlightHandler, suggested);
+        } else {
+            line.unhighlight();
+        }
     }
 }
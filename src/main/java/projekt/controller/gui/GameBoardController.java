@@ -8,9 +8,16 @@ import javafx.scene.layout.Region;
 import javafx.util.Builder;
 import org.tudalgo.algoutils.student.annotation.DoNotTouch;
 import projekt.controller.PlayerController;
+import projekt.model.GameSnapshot;
 import projekt.model.GameState;
 import projekt.model.Player;
+import projekt.model.PlayerSnapshot;
 import projekt.model.ResourceType;
+import projekt.model.events.SnapshotPublishedEvent;
+import projekt.simulation.MoveAdvisor;
+import projekt.simulation.RolloutBoard;
+import projekt.simulation.WinProbabilityEstimator;
+import projekt.view.BoardRenderMode;
 import projekt.view.GameBoardBuilder;
 
 import java.util.Map;
@@ -24,6 +31,20 @@ public class GameBoardController implements SceneController {
     private final PlayerActionsController playerActionsController;
     private final HexGridController hexGridController;
     private final GameBoardBuilder gameBoardBuilder;
+    private final RenderScheduler renderScheduler = new RenderScheduler();
+    private final WinProbabilityEstimator winProbabilityEstimator;
+    private final MoveAdvisor moveAdvisor;
+    private volatile PlayerInformation playerInformation;
+
+    /**
+     * The player whose information is shown on the game board, together with the changes of their resources.
+     * Both are replaced together, so a render never pairs one player with the changes of another.
+     *
+     * @param player           the player
+     * @param changedResources the resources that have changed for the player
+     */
+    private record PlayerInformation(Player player, Map<ResourceType, Integer> changedResources) {
+    }
 
     /**
      * Creates a new game board controller.
@@ -31,6 +52,8 @@ public class GameBoardController implements SceneController {
      * changes.
      * Updates the dice roll on the game board when the dice roll changes.
      * Shows an alert when a player wins.
+     * Renders the hex grid with {@link BoardRenderMode#NODES}, see
+     * {@link #GameBoardController(GameState, Property, IntegerProperty, Property, IntegerProperty, BoardRenderMode)}.
      *
      * <b>Do not touch this constructor!</b>
      *
@@ -38,36 +61,88 @@ public class GameBoardController implements SceneController {
      * @param activePlayerControllerProperty the active player controller property
      * @param diceRollProperty               the dice roll property
      * @param winnerProperty                 the winner property
+     * @param roundCounterProperty           the round counter property
      */
     @DoNotTouch
     public GameBoardController(
         final GameState gameState,
         final Property<PlayerController> activePlayerControllerProperty, final IntegerProperty diceRollProperty,
         final Property<Player> winnerProperty, final IntegerProperty roundCounterProperty
+    ) {
+        this(gameState, activePlayerControllerProperty, diceRollProperty, winnerProperty, roundCounterProperty,
+             BoardRenderMode.NODES
+        );
+    }
+
+    /**
+     * Creates a new game board controller that renders the hex grid in the given mode.
+     * Updates the player information on the game board when the active player
+     * changes.
+     * Updates the dice roll on the game board when the dice roll changes.
+     * Shows an alert when a player wins.
+     * All updates except the alert go through the {@link RenderScheduler} of
+     * the game board, so only the latest value is rendered.
+     * The player information is rendered from the latest published
+     * {@link projekt.model.GameSnapshot} and rendered again whenever a new
+     * snapshot is published. Every published snapshot is also passed to a
+     * {@link WinProbabilityEstimator}, whose estimates are shown in the player
+     * overview as soon as they are finished, and to a {@link MoveAdvisor}, whose
+     * suggestions are shown on the highlighted intersections and edges. Both
+     * play their rollouts on the same {@link RolloutBoard}.
+     *
+     * @param gameState                      the game state
+     * @param activePlayerControllerProperty the active player controller property
+     * @param diceRollProperty               the dice roll property
+     * @param winnerProperty                 the winner property
+     * @param roundCounterProperty           the round counter property
+     * @param boardRenderMode                how to render the hex grid
+     */
+    public GameBoardController(
+        final GameState gameState,
+        final Property<PlayerController> activePlayerControllerProperty, final IntegerProperty diceRollProperty,
+        final Property<Player> winnerProperty, final IntegerProperty roundCounterProperty,
+        final BoardRenderMode boardRenderMode
     ) {
         this.gameState = gameState;
         this.playerActionsController = new PlayerActionsController(
             this,
             activePlayerControllerProperty
         );
-        this.hexGridController = new HexGridController(gameState.getGrid());
+        this.hexGridController = new HexGridController(gameState.getGrid(), renderScheduler, boardRenderMode);
         this.gameBoardBuilder = new GameBoardBuilder(hexGridController.buildView(), playerActionsController::buildView);
+        final RolloutBoard rolloutBoard = RolloutBoard.of(gameState.getGrid());
+        this.winProbabilityEstimator = new WinProbabilityEstimator(
+            rolloutBoard,
+            winProbabilities -> renderPlayerInformation()
+        );
+        this.moveAdvisor = new MoveAdvisor(
+            rolloutBoard,
+            advice -> renderScheduler.schedule(playerActionsController, playerActionsController::showSuggestions)
+        );
         activePlayerControllerProperty.addListener((observable, oldValue, newValue) -> {
             if (newValue == null) {
                 return;
             }
-            Platform.runLater(() -> updatePlayerInformation(newValue.getPlayer(), Map.of()));
+            updatePlayerInformation(newValue.getPlayer(), Map.of());
         });
         diceRollProperty.addListener((observable, oldValue, newValue) -> {
             if (newValue == null) {
                 return;
             }
-            Platform.runLater(() -> gameBoardBuilder.setDiceRoll(newValue.intValue()));
+            renderScheduler.schedule(diceRollProperty, () -> gameBoardBuilder.setDiceRoll(diceRollProperty.get()));
+        });
+        gameState.getEventBus().subscribe(SnapshotPublishedEvent.class, event -> {
+            hexGridController.redrawChanges(event);
+            winProbabilityEstimator.estimate(event.snapshot());
+            moveAdvisor.prepare(event.snapshot());
+            renderPlayerInformation();
         });
         winnerProperty.subscribe((oldValue, newValue) -> {
             if (newValue == null) {
                 return;
             }
+            winProbabilityEstimator.close();
+            moveAdvisor.close();
             Platform.runLater(() -> {
                 new Alert(Alert.AlertType.INFORMATION, String.format("Player %s won!", newValue.getName()))
                     .showAndWait();
@@ -78,7 +153,10 @@ public class GameBoardController implements SceneController {
             if (newValue == null) {
                 return;
             }
-            Platform.runLater(() -> gameBoardBuilder.setRoundCounter(newValue.intValue()));
+            renderScheduler.schedule(
+                roundCounterProperty,
+                () -> gameBoardBuilder.setRoundCounter(roundCounterProperty.get())
+            );
         });
     }
 
@@ -91,6 +169,24 @@ public class GameBoardController implements SceneController {
         return hexGridController;
     }
 
+    /**
+     * Returns the advisor that suggests moves to human players.
+     *
+     * @return the move advisor
+     */
+    public MoveAdvisor getMoveAdvisor() {
+        return moveAdvisor;
+    }
+
+    /**
+     * Returns the scheduler all updates of the game board are rendered with.
+     *
+     * @return the render scheduler
+     */
+    public RenderScheduler getRenderScheduler() {
+        return renderScheduler;
+    }
+
     /**
      * Updates the player information on the game board.
      *
@@ -99,8 +195,26 @@ public class GameBoardController implements SceneController {
      *                         player
      */
     public void updatePlayerInformation(final Player player, final Map<ResourceType, Integer> changedResources) {
-        Platform.runLater(
-            () -> gameBoardBuilder.updatePlayerInformation(player, gameState.getPlayers(), changedResources));
+        this.playerInformation = new PlayerInformation(player, Map.copyOf(changedResources));
+        renderPlayerInformation();
+    }
+
+    /**
+     * Renders the information of the last requested player with the next batch of the {@link RenderScheduler},
+     * using the snapshot that is published when the batch runs.
+     */
+    private void renderPlayerInformation() {
+        renderScheduler.schedule(gameBoardBuilder, () -> {
+            final GameSnapshot snapshot = gameState.getGrid().getSnapshot();
+            final PlayerInformation information = playerInformation;
+            final PlayerSnapshot playerSnapshot = information != null ? snapshot.getPlayer(information.player()) : null;
+            if (playerSnapshot != null) {
+                gameBoardBuilder.updatePlayerInformation(
+                    playerSnapshot, snapshot.players(), information.changedResources(),
+                    winProbabilityEstimator.getLatest()
+                );
+            }
+        });
     }
 
     @Override
@@ -1,6 +1,5 @@
 package projekt.controller.gui;
 
-import javafx.application.Platform;
 import javafx.event.Event;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.input.ScrollEvent;
@@ -8,14 +7,20 @@ import javafx.scene.layout.Region;
 import javafx.util.Builder;
 import org.tudalgo.algoutils.student.annotation.DoNotTouch;
 import projekt.controller.gui.tiles.TileController;
+import projekt.model.BoardSnapshot;
 import projekt.model.HexGrid;
 import projekt.model.Intersection;
+import projekt.model.TilePosition;
 import projekt.model.buildings.Edge;
+import projekt.model.events.SnapshotPublishedEvent;
 import projekt.model.tiles.Tile;
+import projekt.view.BoardRenderMode;
 import projekt.view.HexGridBuilder;
+import projekt.view.HexGridCanvasBuilder;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -30,28 +35,179 @@ public class HexGridController implements Controller {
     private final Map<Intersection, IntersectionController> intersectionControllers;
     private final Map<Edge, EdgeController> edgeControllers;
     private final Map<Tile, TileController> tileControllers;
+    private final HexGridCanvasBuilder canvasBuilder;
+    private final RenderScheduler renderScheduler;
     private static double lastX, lastY;
 
     /**
-     * Creates a new hex grid controller.
+     * Creates a new hex grid controller with its own {@link RenderScheduler}.
      *
      * @param hexGrid the hex grid to render
+     * @see #HexGridController(HexGrid, RenderScheduler)
      */
     public HexGridController(final HexGrid hexGrid) {
-        this.intersectionControllers = hexGrid.getIntersections().values().stream().map(IntersectionController::new)
+        this(hexGrid, new RenderScheduler());
+    }
+
+    /**
+     * Creates a new hex grid controller that renders every element of the grid as its own node.
+     *
+     * @param hexGrid         the hex grid to render
+     * @param renderScheduler the scheduler to render the grid with
+     * @see #HexGridController(HexGrid, RenderScheduler, BoardRenderMode)
+     */
+    public HexGridController(final HexGrid hexGrid, final RenderScheduler renderScheduler) {
+        this(hexGrid, renderScheduler, BoardRenderMode.NODES);
+    }
+
+    /**
+     * Creates a new hex grid controller.
+     * Redraws the affected tiles, edges and intersections for every published {@link projekt.model.GameSnapshot}
+     * that shows a changed road, settlement or robber position, see {@link #redrawChanges(SnapshotPublishedEvent)}.
+     * All redraws go through the given {@link RenderScheduler},
+     * so many changes in a short time only cause one redraw per element, or one redraw of the whole canvas in
+     * {@link BoardRenderMode#CANVAS}.
+     *
+     * @param hexGrid         the hex grid to render
+     * @param renderScheduler the scheduler to render the grid with
+     * @param renderMode      how to render the grid
+     */
+    public HexGridController(
+        final HexGrid hexGrid,
+        final RenderScheduler renderScheduler,
+        final BoardRenderMode renderMode
+    ) {
+        this.hexGrid = hexGrid;
+        this.renderScheduler = renderScheduler;
+        final boolean canvas = renderMode == BoardRenderMode.CANVAS;
+        this.intersectionControllers = hexGrid.getIntersections().values().stream()
+            .map(intersection -> canvas
+                ? new IntersectionController(intersection, this::redrawCanvas)
+                : new IntersectionController(intersection, renderScheduler))
             .collect(Collectors.toMap(IntersectionController::getIntersection, controller -> controller));
-        this.edgeControllers = hexGrid.getEdges().values().stream().map(EdgeController::new)
+        this.edgeControllers = hexGrid.getEdges().values().stream()
+            .map(edge -> canvas ? new EdgeController(edge, this::redrawCanvas) : new EdgeController(edge, renderScheduler))
             .collect(Collectors.toMap(EdgeController::getEdge, controller -> controller));
-        this.tileControllers = hexGrid.getTiles().values().stream().map(TileController::new)
+        this.tileControllers = hexGrid.getTiles().values().stream()
+            .map(tile -> canvas ? new TileController(tile, this::redrawCanvas) : new TileController(tile, renderScheduler))
             .collect(Collectors.toMap(TileController::getTile, controller -> controller));
-        this.builder = new HexGridBuilder(hexGrid,
-                                          intersectionControllers.values().stream().map(IntersectionController::getBuilder)
-                                              .collect(Collectors.toSet()),
-                                          edgeControllers.values().stream().map(EdgeController::getEdgeLine).collect(Collectors.toSet()),
-                                          tileControllers.values().stream().map(TileController::getBuilder).collect(Collectors.toSet()),
-                                          this::zoomHandler, this::mousePressedHandler, this::mouseDraggedHandler, this::centerPaneHandler
+        if (canvas) {
+            this.builder = null;
+            this.canvasBuilder = new HexGridCanvasBuilder(hexGrid,
+                                                          intersection -> intersectionControllers.get(intersection).getHighlightHandler(),
+                                                          edge -> edgeControllers.get(edge).getHighlightHandler(),
+                                                          tile -> tileControllers.get(tile).getHighlightHandler(),
+                                                          element -> element instanceof Intersection intersection
+                                                              ? intersectionControllers.get(intersection).isSuggested()
+                                                              : element instanceof Edge edge && edgeControllers.get(edge).isSuggested(),
+                                                          this::zoomHandler, this::mousePressedHandler, this::mouseDraggedHandler, this::centerPaneHandler
+            );
+        } else {
+            this.builder = new HexGridBuilder(hexGrid,
+                                              intersectionControllers.values().stream().map(IntersectionController::getBuilder)
+                                                  .collect(Collectors.toSet()),
+                                              edgeControllers.values().stream().map(EdgeController::getEdgeLine).collect(Collectors.toSet()),
+                                              tileControllers.values().stream().map(TileController::getBuilder).collect(Collectors.toSet()),
+                                              this::zoomHandler, this::mousePressedHandler, this::mouseDraggedHandler, this::centerPaneHandler
+            );
+            this.canvasBuilder = null;
+        }
+    }
+
+    /**
+     * Redraws all tiles, edges and intersections that differ between the previous and the new published snapshot.
+     * The redraws read the published snapshot, not the model.
+     * Called by the {@link GameBoardController} for every snapshot published on the event bus of the game.
+     *
+     * @param event the event of the published snapshot
+     */
+    public void redrawChanges(final SnapshotPublishedEvent event) {
+        final BoardSnapshot board = event.snapshot().board();
+        final BoardSnapshot previous = event.previous() != null
+            ? event.previous().board()
+            : new BoardSnapshot(Map.of(), Map.of(), null, 0);
+        redrawChanged(
+            previous.roadOwners(),
+            board.roadOwners(),
+            positions -> redrawEdge(hexGrid.getEdges().get(positions))
         );
-        this.hexGrid = hexGrid;
+        redrawChanged(
+            previous.settlements(),
+            board.settlements(),
+            positions -> redrawIntersection(hexGrid.getIntersections().get(positions))
+        );
+        if (!Objects.equals(previous.robberPosition(), board.robberPosition())) {
+            redrawTile(previous.robberPosition());
+            redrawTile(board.robberPosition());
+        }
+    }
+
+    /**
+     * Calls the given handler for every key whose value differs between the given maps.
+     *
+     * @param previous the previous values
+     * @param current  the current values
+     * @param redraw   the handler to call with the keys of changed values
+     * @param <K>      the type of the keys
+     */
+    private static <K> void redrawChanged(final Map<K, ?> previous, final Map<K, ?> current, final Consumer<K> redraw) {
+        current.forEach((key, value) -> {
+            if (!value.equals(previous.get(key))) {
+                redraw.accept(key);
+            }
+        });
+        previous.keySet().forEach(key -> {
+            if (!current.containsKey(key)) {
+                redraw.accept(key);
+            }
+        });
+    }
+
+    /**
+     * Redraws the whole canvas with the next batch of the {@link RenderScheduler}.
+     * Only used in {@link BoardRenderMode#CANVAS}.
+     */
+    private void redrawCanvas() {
+        renderScheduler.schedule(canvasBuilder, canvasBuilder::draw);
+    }
+
+    /**
+     * Redraws the given edge, if it is part of this grid.
+     *
+     * @param edge the edge to redraw
+     */
+    private void redrawEdge(final Edge edge) {
+        final EdgeController controller = edgeControllers.get(edge);
+        if (controller != null) {
+            controller.redraw();
+        }
+    }
+
+    /**
+     * Redraws the given intersection, if it is part of this grid.
+     *
+     * @param intersection the intersection to redraw
+     */
+    private void redrawIntersection(final Intersection intersection) {
+        final IntersectionController controller = intersectionControllers.get(intersection);
+        if (controller != null) {
+            controller.redraw();
+        }
+    }
+
+    /**
+     * Redraws the tile at the given position, if there is one.
+     *
+     * @param position the position of the tile to redraw
+     */
+    private void redrawTile(final TilePosition position) {
+        if (position == null) {
+            return;
+        }
+        final TileController controller = tileControllers.get(hexGrid.getTileAt(position));
+        if (controller != null) {
+            controller.redraw();
+        }
     }
 
     /**
@@ -175,29 +331,38 @@ public class HexGridController implements Controller {
         tileControllers.values().forEach(TileController::unhighlight);
     }
 
+    /**
+     * Returns the scheduler the grid is rendered with.
+     *
+     * @return the render scheduler
+     */
+    public RenderScheduler getRenderScheduler() {
+        return renderScheduler;
+    }
+
     /**
      * Draws all tiles again.
      */
     public void drawTiles() {
-        Platform.runLater(() -> builder.drawTiles());
+        tileControllers.values().forEach(TileController::redraw);
     }
 
     /**
      * Draws all intersections again.
      */
     public void drawIntersections() {
-        Platform.runLater(() -> builder.drawIntersections());
+        intersectionControllers.values().forEach(IntersectionController::redraw);
     }
 
     /**
      * Draws all edges again.
      */
     public void drawEdges() {
-        Platform.runLater(() -> builder.drawEdges());
+        edgeControllers.values().forEach(EdgeController::redraw);
     }
 
     @Override
     public Builder<Region> getBuilder() {
-        return builder;
+        return builder != null ? builder : canvasBuilder;
     }
 }
@@ -1,6 +1,5 @@
 package projekt.controller.gui;
 
-import javafx.application.Platform;
 import javafx.scene.input.MouseEvent;
 import projekt.model.Intersection;
 import projekt.view.IntersectionBuilder;
@@ -12,14 +11,32 @@ import java.util.function.Consumer;
  */
 public class IntersectionController implements Controller {
     private final IntersectionBuilder buidler;
+    private final Runnable redrawHandler;
+    private Consumer<MouseEvent> highlightHandler;
+    private boolean suggested;
 
     /**
      * Creates a new intersection controller.
      *
-     * @param intersection the intersection to render
+     * @param intersection    the intersection to render
+     * @param renderScheduler the scheduler to render the intersection with
      */
-    public IntersectionController(final Intersection intersection) {
+    public IntersectionController(final Intersection intersection, final RenderScheduler renderScheduler) {
         this.buidler = new IntersectionBuilder(intersection);
+        this.redrawHandler = () -> renderScheduler.schedule(this, this::render);
+    }
+
+    /**
+     * Creates a new intersection controller that does not render the intersection itself.
+     * Instead, the given handler is called whenever the intersection or its highlight may have changed,
+     * e.g. to redraw the canvas the whole grid is drawn on.
+     *
+     * @param intersection  the intersection to render
+     * @param redrawHandler the handler to call when the intersection has to be drawn again
+     */
+    public IntersectionController(final Intersection intersection, final Runnable redrawHandler) {
+        this.buidler = new IntersectionBuilder(intersection);
+        this.redrawHandler = redrawHandler;
     }
 
     /**
@@ -31,20 +48,74 @@ public class IntersectionController implements Controller {
         return buidler.getIntersection();
     }
 
+    /**
+     * Returns the handler to call when the intersection is clicked.
+     *
+     * @return the handler, {@code null} if the intersection is not highlighted
+     */
+    public Consumer<MouseEvent> getHighlightHandler() {
+        return highlightHandler;
+    }
+
     /**
      * Highlights the intersection.
      *
      * @param handler the handler to call when the intersection is clicked
      */
     public void highlight(final Consumer<MouseEvent> handler) {
-        Platform.runLater(() -> buidler.highlight(handler));
+        highlightHandler = handler;
+        redraw();
     }
 
     /**
-     * Unhighlights the intersection.
+     * Unhighlights the intersection and removes the suggestion.
      */
     public void unhighlight() {
-        Platform.runLater(() -> buidler.unhighlight());
+        highlightHandler = null;
+        suggested = false;
+        redraw();
+    }
+
+    /**
+     * Returns whether the intersection is highlighted as one of the suggested moves.
+     *
+     * @return whether the intersection is suggested
+     */
+    public boolean isSuggested() {
+        return suggested;
+    }
+
+    /**
+     * Sets whether the intersection is highlighted as one of the suggested moves. Only has an effect while the
+     * intersection is highlighted.
+     *
+     * @param suggested whether the intersection is suggested
+     */
+    public void suggest(final boolean suggested) {
+        if (this.suggested != suggested) {
+            this.suggested = suggested;
+            redraw();
+        }
+    }
+
+    /**
+     * Draws the intersection again, with the next batch of the {@link RenderScheduler} if it renders itself.
+     * Keeps the current highlight.
+     */
+    public void redraw() {
+        redrawHandler.run();
+    }
+
+    /**
+     * Draws the settlement of the intersection and the highlight, if any.
+     */
+    private void render() {
+        buidler.update();
+        if (highlightHandler != null) {
+            buidler.highlight(highlightHandler, suggested);
+        } else {
+            buidler.unhighlight();
+        }
     }
 
     @Override
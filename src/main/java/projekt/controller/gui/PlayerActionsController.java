@@ -13,12 +13,16 @@ import org.tudalgo.algoutils.student.annotation.StudentImplementationRequired;
 import projekt.controller.PlayerController;
 import projekt.controller.PlayerObjective;
 import projekt.controller.actions.*;
+import projekt.logging.Logger;
+import projekt.logging.Logging;
 import projekt.model.DevelopmentCardType;
 import projekt.model.Player;
 import projekt.model.PlayerState;
 import projekt.model.ResourceType;
+import projekt.model.TilePosition;
 import projekt.model.TradePayload;
 import projekt.model.tiles.Tile;
+import projekt.simulation.MoveAdvice;
 import projekt.view.gameControls.AcceptTradeDialog;
 import projekt.view.gameControls.PlayerActionsBuilder;
 import projekt.view.gameControls.SelectCardToStealDialog;
@@ -26,10 +30,13 @@ import projekt.view.gameControls.SelectResourcesDialog;
 import projekt.view.gameControls.TradeDialog;
 import projekt.view.gameControls.UseDevelopmentCardDialog;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * This class is responsible for handling all player actions performed through
@@ -43,6 +50,7 @@ import java.util.function.Consumer;
  * ensure thread safety.</b>
  */
 public class PlayerActionsController implements Controller {
+    private static final Logger LOGGER = Logging.getLogger(PlayerActionsController.class);
     private final PlayerActionsBuilder builder;
     private final GameBoardController gameBoardController;
     private final Property<PlayerController> playerControllerProperty = new SimpleObjectProperty<>();
@@ -50,12 +58,16 @@ public class PlayerActionsController implements Controller {
     private final Property<PlayerState> playerStateProperty = new SimpleObjectProperty<>();
     private Subscription playerObjectiveSubscription = Subscription.EMPTY;
     private Subscription playerStateSubscription = Subscription.EMPTY;
+    private Function<MoveAdvice, List<Set<TilePosition>>> suggestionRanking = MoveAdvice::villages;
 
     /**
      * Creates a new PlayerActionsController.
      * It attaches listeners to populate the playerController, playerState and
      * playerObjective properties. This is necessary to ensure these properties are
      * always on the correct thread.
+     * Changes of the playerState and playerObjective are coalesced by the
+     * {@link RenderScheduler} of the game board, so only the latest values of the
+     * active player controller are applied.
      * Additionally the PlayerActionsBuilder is created with all necessary event
      * handlers.
      *
@@ -76,11 +88,19 @@ public class PlayerActionsController implements Controller {
                 playerObjectiveSubscription = newValue.getPlayerObjectiveProperty().subscribe((
                                                                                                   oldObjective,
                                                                                                   newObjective
-                                                                                              ) -> Platform.runLater(() -> this.playerObjectiveProperty.setValue(newObjective)));
+                                                                                              ) -> getRenderScheduler().schedule(this.playerObjectiveProperty, () -> {
+                    if (getPlayerController() == newValue) {
+                        this.playerObjectiveProperty.setValue(newValue.getPlayerObjectiveProperty().getValue());
+                    }
+                }));
 
                 playerStateSubscription.unsubscribe();
                 playerStateSubscription = newValue.getPlayerStateProperty().subscribe(
-                    (oldState, newState) -> Platform.runLater(() -> this.playerStateProperty.setValue(newState)));
+                    (oldState, newState) -> getRenderScheduler().schedule(this.playerStateProperty, () -> {
+                        if (getPlayerController() == newValue) {
+                            this.playerStateProperty.setValue(newValue.getPlayerStateProperty().getValue());
+                        }
+                    }));
                 this.playerStateProperty.setValue(newValue.getPlayerStateProperty().getValue());
                 this.playerObjectiveProperty.setValue(newValue.getPlayerObjectiveProperty().getValue());
             });
@@ -107,25 +127,25 @@ public class PlayerActionsController implements Controller {
             actionWrapper(this::endTurnButtonAction, false),
             actionWrapper(this::rollDiceButtonAction, false),
             actionWrapper(this::tradeButtonAction, false),
-            this::abortButtonAction
+            this::abortButtonAction,
+            actionWrapper(this::undoButtonAction, false),
+            actionWrapper(this::redoButtonAction, false)
         );
     }
 
     /**
      * Updates the UI based on the given objective. This includes enabling and
      * disabling buttons and prompting the user if necessary.
-     * Also redraws the game board and updates the player information.
+     * Also updates the player information. The game board redraws itself when the
+     * model changes, see {@link HexGridController}.
      *
      * @param objective the objective to check
      */
     @StudentImplementationRequired("H3.2")
     private void updateUIBasedOnObjective(final PlayerObjective objective) {
         // TODO: H3.2
-        System.out.println("Objective: "+objective);
+        LOGGER.debug("Objective: {}", objective);
         removeAllHighlights();
-        drawEdges();
-        drawIntersections();
-        getHexGridController().drawTiles();
         builder.disableAllButtons();
         updatePlayerInformation();
         if(getPlayer().isAi()){
@@ -168,6 +188,12 @@ public class PlayerActionsController implements Controller {
         if (allowedActions.contains(AcceptTradeAction.class)) {
             acceptTradeOffer();
         }
+        if (allowedActions.contains(UndoAction.class) && getPlayerController().canUndo()) {
+            builder.enableUndoButton();
+        }
+        if (allowedActions.contains(RedoAction.class) && getPlayerController().canRedo()) {
+            builder.enableRedoButton();
+        }
     }
 
     /**
@@ -202,6 +228,15 @@ public class PlayerActionsController implements Controller {
         return playerObjectiveProperty.getValue();
     }
 
+    /**
+     * Returns the RenderScheduler of the game board.
+     *
+     * @return the RenderScheduler of the game board
+     */
+    private RenderScheduler getRenderScheduler() {
+        return gameBoardController.getRenderScheduler();
+    }
+
     /**
      * Returns the HexGridController of the game board.
      *
@@ -343,6 +378,8 @@ public class PlayerActionsController implements Controller {
                     getPlayerController().triggerAction(new BuildVillageAction(intersectionController.getIntersection()));
                     drawIntersections();
                 })));
+        suggestionRanking = MoveAdvice::villages;
+        showSuggestions();
     }
 
     /**
@@ -382,6 +419,8 @@ public class PlayerActionsController implements Controller {
                     getPlayerController().triggerAction(new UpgradeVillageAction(intersectionController.getIntersection()));
                     drawIntersections();
                 })));
+        suggestionRanking = MoveAdvice::cities;
+        showSuggestions();
     }
 
     /**
@@ -419,6 +458,44 @@ public class PlayerActionsController implements Controller {
                 getPlayerController().triggerAction(new BuildRoadAction(edgeController.getEdge()));
                 drawEdges();
             })));
+        suggestionRanking = MoveAdvice::roads;
+        showSuggestions();
+    }
+
+    /**
+     * Marks the best highlighted intersections or edges as suggested moves, ranked by the
+     * {@link projekt.simulation.MoveAdvisor} with the ranking of the last build action.
+     * Does nothing for AI players or if the advice is not computed yet; the game board calls this method again when
+     * the advice is ready.
+     */
+    void showSuggestions() {
+        if (getPlayerController() == null || getPlayer().isAi()) {
+            return;
+        }
+        final MoveAdvice advice = gameBoardController.getMoveAdvisor().getAdvice(getPlayer());
+        if (advice == null) {
+            return;
+        }
+        final Map<Set<TilePosition>, IntersectionController> intersections = getHexGridController()
+            .getIntersectionControllers().stream()
+            .filter(controller -> controller.getHighlightHandler() != null)
+            .collect(Collectors.toMap(
+                controller -> controller.getIntersection().getAdjacentTilePositions(),
+                controller -> controller
+            ));
+        final Map<Set<TilePosition>, EdgeController> edges = getHexGridController()
+            .getEdgeControllers().stream()
+            .filter(controller -> controller.getHighlightHandler() != null)
+            .collect(Collectors.toMap(
+                controller -> controller.getEdge().getAdjacentTilePositions(),
+                controller -> controller
+            ));
+        final Set<Set<TilePosition>> best = advice.best(
+            suggestionRanking.apply(advice),
+            positions -> intersections.containsKey(positions) || edges.containsKey(positions)
+        );
+        intersections.forEach((positions, controller) -> controller.suggest(best.contains(positions)));
+        edges.forEach((positions, controller) -> controller.suggest(best.contains(positions)));
     }
 
     /**
@@ -441,6 +518,24 @@ public class PlayerActionsController implements Controller {
         getPlayerController().triggerAction(new RollDiceAction());
     }
 
+    /**
+     * The action that is triggered when the undo button is clicked.
+     *
+     * @param event the event that triggered the action
+     */
+    private void undoButtonAction(final ActionEvent event) {
+        getPlayerController().triggerAction(new UndoAction());
+    }
+
+    /**
+     * The action that is triggered when the redo button is clicked.
+     *
+     * @param event the event that triggered the action
+     */
+    private void redoButtonAction(final ActionEvent event) {
+        getPlayerController().triggerAction(new RedoAction());
+    }
+
     // Robber actions
 
     /**
@@ -577,11 +672,11 @@ public class PlayerActionsController implements Controller {
      */
     @DoNotTouch
     private void tradeButtonAction(final ActionEvent event) {
-        System.out.println("Trading");
+        LOGGER.debug("Trading");
         final TradeDialog dialog = new TradeDialog(new TradePayload(null, null, false, getPlayer()));
         dialog.showAndWait().ifPresentOrElse(payload -> {
             getPlayerController().triggerAction(new TradeAction(payload));
-        }, () -> System.out.println("Trade cancelled"));
+        }, () -> LOGGER.debug("Trade cancelled"));
         updateUIBasedOnObjective(getPlayerObjective());
     }
 
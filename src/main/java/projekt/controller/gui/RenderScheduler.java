@@ -0,0 +1,121 @@
+package projekt.controller.gui;
+
+import javafx.application.Platform;
+import projekt.metrics.Histogram;
+import projekt.metrics.MetricsRegistry;
+import projekt.metrics.Timer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Collects view updates from any thread and runs them on the JavaFX application thread in a single batch.
+ * Updates are scheduled under a key; scheduling another update under a key that is still pending replaces the
+ * pending update, so only the latest update per key is run. Pending updates run in the order their keys were
+ * first scheduled.
+ * <p>
+ * At most one batch is queued with {@link Platform#runLater(Runnable)} at any time, so the FX event queue does not
+ * flood when the game changes faster than it can be rendered, e.g. in games with only bots.
+ * Batches are not run inside an animation pulse, so updates may open dialogs with {@code showAndWait()}.
+ * <p>
+ * The number of pending updates of all schedulers, the time batches wait in the FX event queue and the time they
+ * take to run are recorded in the global {@link MetricsRegistry}. Schedulers are only referenced weakly for the
+ * gauge, so the schedulers of closed game boards can be collected.
+ */
+public class RenderScheduler {
+    private static final Timer QUEUE_DELAY_TIMER = MetricsRegistry.getGlobal().timer("fx.batchQueueDelay");
+    private static final Timer BATCH_TIMER = MetricsRegistry.getGlobal().timer("fx.batch");
+    private static final Histogram BATCH_SIZE = MetricsRegistry.getGlobal().histogram("fx.batchSize");
+    private static final Set<RenderScheduler> SCHEDULERS = Collections.synchronizedSet(
+        Collections.newSetFromMap(new WeakHashMap<>())
+    );
+
+    static {
+        MetricsRegistry.getGlobal().gauge("fx.pendingUpdates", RenderScheduler::getAllPendingUpdates);
+    }
+
+    private final Map<Object, Runnable> pendingUpdates = new LinkedHashMap<>();
+    private final AtomicBoolean flushQueued = new AtomicBoolean(false);
+    private final Executor fxExecutor;
+
+    /**
+     * Creates a new render scheduler whose pending updates are counted by the global gauge.
+     */
+    public RenderScheduler() {
+        this(Platform::runLater);
+    }
+
+    /**
+     * Creates a new render scheduler that queues its batches on the given executor instead of the FX event queue.
+     *
+     * @param fxExecutor the executor that runs the batches
+     */
+    RenderScheduler(final Executor fxExecutor) {
+        this.fxExecutor = fxExecutor;
+        SCHEDULERS.add(this);
+    }
+
+    /**
+     * Returns the number of pending updates of all schedulers that have not been collected yet.
+     *
+     * @return the number of pending updates
+     */
+    static long getAllPendingUpdates() {
+        synchronized (SCHEDULERS) {
+            return SCHEDULERS.stream().mapToLong(RenderScheduler::getPendingUpdates).sum();
+        }
+    }
+
+    /**
+     * Schedules the given update under the given key, replacing any pending update with the same key.
+     * Updates should read the current state of the model when they run instead of capturing it.
+     *
+     * @param key    the key of the update, usually the object that is updated
+     * @param update the update to run on the JavaFX application thread
+     */
+    public void schedule(final Object key, final Runnable update) {
+        synchronized (pendingUpdates) {
+            pendingUpdates.put(key, update);
+        }
+        if (flushQueued.compareAndSet(false, true)) {
+            final long queued = QUEUE_DELAY_TIMER.start();
+            fxExecutor.execute(() -> {
+                QUEUE_DELAY_TIMER.stop(queued);
+                flush();
+            });
+        }
+    }
+
+    /**
+     * Returns the number of updates that are waiting for the next batch.
+     *
+     * @return the number of pending updates
+     */
+    public int getPendingUpdates() {
+        synchronized (pendingUpdates) {
+            return pendingUpdates.size();
+        }
+    }
+
+    /**
+     * Runs all pending updates.
+     * Updates scheduled while the batch is running are run in the next batch.
+     */
+    private void flush() {
+        final List<Runnable> updates;
+        synchronized (pendingUpdates) {
+            flushQueued.set(false);
+            updates = new ArrayList<>(pendingUpdates.values());
+            pendingUpdates.clear();
+        }
+        BATCH_SIZE.record(updates.size());
+        BATCH_TIMER.time(() -> updates.forEach(Runnable::run));
+    }
+}
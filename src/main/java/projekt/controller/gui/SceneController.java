@@ -3,6 +3,8 @@ package projekt.controller.gui;
 import javafx.application.Platform;
 import javafx.stage.Stage;
 import org.tudalgo.algoutils.student.annotation.DoNotTouch;
+import projekt.logging.Logging;
+import projekt.view.BoardRenderMode;
 
 /**
  * The controller for a scene.
@@ -43,14 +45,14 @@ public interface SceneController extends Controller {
      * Loads the settings scene.
      */
     static void loadSettingsScene() {
-        System.out.println("Loading settings");
+        Logging.getLogger(SceneController.class).info("Loading settings");
     }
 
     /**
      * Loads the highscore scene.
      */
     static void loadHighscoreScene() {
-        System.out.println("Loading highscores");
+        Logging.getLogger(SceneController.class).info("Loading highscores");
     }
 
     /**
@@ -60,6 +62,16 @@ public interface SceneController extends Controller {
         SceneSwitcher.getInstance().loadScene(SceneSwitcher.SceneType.GAME_BOARD);
     }
 
+    /**
+     * Loads the game scene and renders the hex grid with the given render mode.
+     *
+     * @param boardRenderMode The render mode for the hex grid.
+     */
+    static void loadGameScene(final BoardRenderMode boardRenderMode) {
+        SceneSwitcher.getInstance().setBoardRenderMode(boardRenderMode);
+        loadGameScene();
+    }
+
     /**
      * Loads the about scene.
      */
@@ -4,6 +4,9 @@ import javafx.scene.Scene;
 import javafx.stage.Stage;
 import org.tudalgo.algoutils.student.annotation.DoNotTouch;
 import projekt.controller.GameController;
+import projekt.logging.Logger;
+import projekt.logging.Logging;
+import projekt.view.BoardRenderMode;
 
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -15,8 +18,10 @@ import java.util.function.Supplier;
  */
 @DoNotTouch
 public class SceneSwitcher {
+    private static final Logger LOGGER = Logging.getLogger(SceneSwitcher.class);
     private final Stage stage;
     private GameController gameController;
+    private BoardRenderMode boardRenderMode = BoardRenderMode.NODES;
     private static SceneSwitcher INSTANCE;
     private final Consumer<GameController> gameLoopStarter;
 
@@ -62,6 +67,15 @@ public class SceneSwitcher {
         return INSTANCE;
     }
 
+    /**
+     * Sets how the hex grid of the next game board is rendered.
+     *
+     * @param boardRenderMode The render mode for the hex grid.
+     */
+    public void setBoardRenderMode(final BoardRenderMode boardRenderMode) {
+        this.boardRenderMode = boardRenderMode;
+    }
+
     /**
      * The different types of scenes that can be loaded.
      */
@@ -78,7 +92,8 @@ public class SceneSwitcher {
                 getInstance().gameController.getActivePlayerControllerProperty(),
                 getInstance().gameController.getCurrentDiceRollProperty(),
                 getInstance().gameController.getState().getWinnerProperty(),
-                getInstance().gameController.getRoundCounterProperty()
+                getInstance().gameController.getRoundCounterProperty(),
+                getInstance().boardRenderMode
             );
         }),
         ABOUT(AboutController::new);
@@ -102,7 +117,7 @@ public class SceneSwitcher {
      */
     @DoNotTouch
     public void loadScene(final SceneType sceneType) {
-        System.out.println("Loading scene: " + sceneType);
+        LOGGER.info("Loading scene: {}", sceneType);
         final SceneController controller = sceneType.controller.get();
         final Scene scene = new Scene(controller.buildView());
         scene.getStylesheets().add("css/hexmap.css");
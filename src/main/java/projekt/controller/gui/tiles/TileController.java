@@ -1,6 +1,7 @@
 package projekt.controller.gui.tiles;
 
 import projekt.controller.gui.Controller;
+import projekt.controller.gui.RenderScheduler;
 import projekt.model.tiles.Tile;
 import projekt.view.tiles.TileBuilder;
 
@@ -11,14 +12,31 @@ import java.util.function.Consumer;
  */
 public class TileController implements Controller {
     private final TileBuilder builder;
+    private final Runnable redrawHandler;
+    private Runnable highlightHandler;
 
     /**
      * Creates a new tile controller.
      *
-     * @param tile the tile to render
+     * @param tile            the tile to render
+     * @param renderScheduler the scheduler to render the tile with
      */
-    public TileController(final Tile tile) {
+    public TileController(final Tile tile, final RenderScheduler renderScheduler) {
         builder = new TileBuilder(tile);
+        this.redrawHandler = () -> renderScheduler.schedule(this, this::render);
+    }
+
+    /**
+     * Creates a new tile controller that does not render the tile itself.
+     * Instead, the given handler is called whenever the tile or its highlight may have changed,
+     * e.g. to redraw the canvas the whole grid is drawn on.
+     *
+     * @param tile          the tile to render
+     * @param redrawHandler the handler to call when the tile has to be drawn again
+     */
+    public TileController(final Tile tile, final Runnable redrawHandler) {
+        builder = new TileBuilder(tile);
+        this.redrawHandler = redrawHandler;
     }
 
     /**
@@ -30,20 +48,51 @@ public class TileController implements Controller {
         return builder.getTile();
     }
 
+    /**
+     * Returns the handler to call when the tile is clicked.
+     *
+     * @return the handler, {@code null} if the tile is not highlighted
+     */
+    public Runnable getHighlightHandler() {
+        return highlightHandler;
+    }
+
     /**
      * Highlights the tile.
      *
      * @param handler the handler to call when the tile is clicked
      */
     public void highlight(final Consumer<Tile> handler) {
-        builder.highlight(() -> handler.accept(getTile()));
+        highlightHandler = () -> handler.accept(getTile());
+        redraw();
     }
 
     /**
      * Unhighlights the tile.
      */
     public void unhighlight() {
-        builder.unhighlight();
+        highlightHandler = null;
+        redraw();
+    }
+
+    /**
+     * Draws the tile again, with the next batch of the {@link RenderScheduler} if it renders itself.
+     * Keeps the current highlight.
+     */
+    public void redraw() {
+        redrawHandler.run();
+    }
+
+    /**
+     * Draws the robber of the tile and the highlight, if any.
+     */
+    private void render() {
+        builder.update();
+        if (highlightHandler != null) {
+            builder.highlight(highlightHandler);
+        } else {
+            builder.unhighlight();
+        }
     }
 
     @Override
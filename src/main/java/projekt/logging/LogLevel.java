@@ -0,0 +1,32 @@
+package projekt.logging;
+
+/**
+ * The severity of a log record, from the most verbose to the most severe.
+ * A logger set to a level writes all records of that level and above.
+ */
+public enum LogLevel {
+    /**
+     * Very detailed information, e.g. about single steps of an algorithm.
+     */
+    TRACE,
+    /**
+     * Information useful for debugging, e.g. every executed action.
+     */
+    DEBUG,
+    /**
+     * General information about the progress of the application.
+     */
+    INFO,
+    /**
+     * Something unexpected that the application can recover from.
+     */
+    WARN,
+    /**
+     * Something that failed.
+     */
+    ERROR,
+    /**
+     * Not a level of any record; disables a logger completely.
+     */
+    OFF
+}
@@ -0,0 +1,63 @@
+package projekt.logging;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+
+/**
+ * An output stream that logs every line written to it as one record.
+ * Used to route streams like {@link System#err} through the logging pipeline.
+ */
+class LogOutputStream extends OutputStream {
+    private final Logger logger;
+    private final LogLevel level;
+    private final Charset charset;
+    private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+
+    /**
+     * Creates a new stream that logs to the given logger.
+     *
+     * @param logger  the logger to log the lines with
+     * @param level   the level to log the lines with
+     * @param charset the charset the bytes are encoded with
+     */
+    LogOutputStream(final Logger logger, final LogLevel level, final Charset charset) {
+        this.logger = logger;
+        this.level = level;
+        this.charset = charset;
+    }
+
+    @Override
+    public synchronized void write(final int b) {
+        if (b == '\n') {
+            flushLine();
+        } else {
+            line.write(b);
+        }
+    }
+
+    @Override
+    public synchronized void write(final byte[] bytes, final int offset, final int length) {
+        int start = offset;
+        for (int i = offset; i < offset + length; i++) {
+            if (bytes[i] == '\n') {
+                line.write(bytes, start, i - start);
+                flushLine();
+                start = i + 1;
+            }
+        }
+        line.write(bytes, start, offset + length - start);
+    }
+
+    /**
+     * Logs the buffered line, without a trailing carriage return.
+     */
+    private void flushLine() {
+        String text = line.toString(charset);
+        line.reset();
+        if (text.endsWith("\r")) {
+            text = text.substring(0, text.length() - 1);
+        }
+        logger.log(level, null, text);
+    }
+}
@@ -0,0 +1,14 @@
+package projekt.logging;
+
+/**
+ * A single message waiting to be written.
+ *
+ * @param timestamp the time the record was created, in milliseconds since the epoch
+ * @param level     the level of the record
+ * @param category  the category of the logger that created the record
+ * @param thread    the name of the thread that created the record
+ * @param message   the formatted message
+ * @param thrown    the throwable to write with the message, may be {@code null}
+ */
+record LogRecord(long timestamp, LogLevel level, String category, String thread, String message, Throwable thrown) {
+}
@@ -0,0 +1,165 @@
+package projekt.logging;
+
+import projekt.metrics.Counter;
+import projekt.metrics.MetricsRegistry;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes log records on a background daemon thread.
+ * Records are collected in a fixed-size ring buffer and written in batches, with a single flush per batch.
+ * Logging never blocks the calling thread on I/O: if the buffer is full, new records are dropped and the number of
+ * dropped records is written with the next batch.
+ */
+class LogWriter {
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter
+        .ofPattern("yyyy-MM-dd HH:mm:ss.SSS")
+        .withZone(ZoneId.systemDefault());
+    private static final Counter DROPPED_RECORDS = MetricsRegistry.getGlobal().counter("log.dropped");
+
+    private final LogRecord[] buffer;
+    private final Writer output;
+    private final Object writeLock = new Object();
+    private int head;
+    private int size;
+    private long dropped;
+
+    /**
+     * Creates a new log writer and starts its thread.
+     *
+     * @param capacity the number of records the ring buffer can hold
+     * @param output   the writer to write the records to
+     */
+    LogWriter(final int capacity, final Writer output) {
+        this.buffer = new LogRecord[capacity];
+        this.output = output;
+        final Thread thread = new Thread(this::run, "LogWriterThread");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Adds the given record to the buffer, or drops it if the buffer is full.
+     *
+     * @param record the record to write
+     */
+    synchronized void write(final LogRecord record) {
+        if (size == buffer.length) {
+            dropped++;
+            DROPPED_RECORDS.increment();
+            return;
+        }
+        buffer[(head + size) % buffer.length] = record;
+        if (size++ == 0) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * Writes all buffered records and waits until they are written.
+     */
+    void flush() {
+        synchronized (writeLock) {
+            final List<LogRecord> batch = new ArrayList<>();
+            final long droppedRecords = drainTo(batch);
+            writeBatch(batch, droppedRecords);
+        }
+    }
+
+    /**
+     * Writes batches of records until the thread is interrupted.
+     */
+    private void run() {
+        final List<LogRecord> batch = new ArrayList<>();
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                awaitRecords();
+                synchronized (writeLock) {
+                    final long droppedRecords = drainTo(batch);
+                    writeBatch(batch, droppedRecords);
+                }
+                batch.clear();
+            }
+        } catch (final InterruptedException e) {
+            flush();
+        }
+    }
+
+    /**
+     * Waits until the buffer contains at least one record.
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    private synchronized void awaitRecords() throws InterruptedException {
+        while (size == 0) {
+            wait();
+        }
+    }
+
+    /**
+     * Moves all buffered records to the given list.
+     *
+     * @param batch the list to add the records to
+     * @return the number of records dropped since the last call
+     */
+    private synchronized long drainTo(final List<LogRecord> batch) {
+        for (; size > 0; size--) {
+            batch.add(buffer[head]);
+            buffer[head] = null;
+            head = (head + 1) % buffer.length;
+        }
+        final long droppedRecords = dropped;
+        dropped = 0;
+        return droppedRecords;
+    }
+
+    /**
+     * Writes the given records and flushes the output once.
+     *
+     * @param batch          the records to write
+     * @param droppedRecords the number of records dropped before the batch
+     */
+    private void writeBatch(final List<LogRecord> batch, final long droppedRecords) {
+        if (batch.isEmpty() && droppedRecords == 0) {
+            return;
+        }
+        try {
+            if (droppedRecords > 0) {
+                output.write(String.format("%d log records dropped because the log buffer was full%n", droppedRecords));
+            }
+            for (final LogRecord record : batch) {
+                output.write(format(record));
+            }
+            output.flush();
+        } catch (final IOException e) {
+            // there is nothing left to log the failure to
+        }
+    }
+
+    /**
+     * Formats the given record as one line, followed by the stack trace of its throwable, if any.
+     *
+     * @param record the record to format
+     * @return the formatted record
+     */
+    private static String format(final LogRecord record) {
+        final String category = record.category().substring(record.category().lastIndexOf('.') + 1);
+        final StringWriter line = new StringWriter();
+        line.append(TIMESTAMP_FORMAT.format(Instant.ofEpochMilli(record.timestamp())))
+            .append(String.format(" %-5s [%s] %s - ", record.level(), record.thread(), category))
+            .append(record.message())
+            .append(System.lineSeparator());
+        if (record.thrown() != null) {
+            record.thrown().printStackTrace(new PrintWriter(line));
+        }
+        return line.toString();
+    }
+}
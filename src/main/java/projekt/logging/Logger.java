@@ -0,0 +1,221 @@
+package projekt.logging;
+
+/**
+ * Creates log records for one category, usually a class.
+ * Records below the level of the logger are discarded before the message is formatted, so disabled log statements
+ * without varargs neither format nor allocate anything. Enabled records are formatted on the calling thread and
+ * handed to the {@link LogWriter}, which writes them on a background thread.
+ * <p>
+ * Messages may contain {@code {}} placeholders, which are replaced by the arguments in order.
+ * Obtain loggers with {@link Logging#getLogger(Class)}.
+ */
+public class Logger {
+    private final String category;
+    private final LogWriter writer;
+    private volatile LogLevel level;
+
+    /**
+     * Creates a new logger.
+     *
+     * @param category the category of the logger
+     * @param level    the initial level of the logger
+     * @param writer   the writer to hand enabled records to
+     */
+    Logger(final String category, final LogLevel level, final LogWriter writer) {
+        this.category = category;
+        this.level = level;
+        this.writer = writer;
+    }
+
+    /**
+     * Returns the category of this logger.
+     *
+     * @return the category of this logger
+     */
+    public String getCategory() {
+        return category;
+    }
+
+    /**
+     * Returns the level of this logger.
+     *
+     * @return the level of this logger
+     */
+    public LogLevel getLevel() {
+        return level;
+    }
+
+    /**
+     * Sets the level of this logger.
+     *
+     * @param level the new level
+     */
+    void setLevel(final LogLevel level) {
+        this.level = level;
+    }
+
+    /**
+     * Returns whether records of the given level are written.
+     * Use this to guard log statements whose arguments are expensive to compute.
+     *
+     * @param level the level to check
+     * @return whether records of the given level are written
+     */
+    public boolean isEnabled(final LogLevel level) {
+        return level.compareTo(this.level) >= 0 && level != LogLevel.OFF;
+    }
+
+    /**
+     * Logs the given message with the given level.
+     *
+     * @param level   the level of the message
+     * @param thrown  the throwable to log with the message, may be {@code null}
+     * @param message the message, may contain {@code {}} placeholders
+     * @param args    the arguments for the placeholders
+     */
+    public void log(final LogLevel level, final Throwable thrown, final String message, final Object... args) {
+        if (isEnabled(level)) {
+            writer.write(new LogRecord(
+                System.currentTimeMillis(),
+                level,
+                category,
+                Thread.currentThread().getName(),
+                format(message, args),
+                thrown
+            ));
+        }
+    }
+
+    /**
+     * Logs the given message with level {@link LogLevel#TRACE}.
+     *
+     * @param message the message, may contain {@code {}} placeholders
+     * @param args    the arguments for the placeholders
+     */
+    public void trace(final String message, final Object... args) {
+        if (isEnabled(LogLevel.TRACE)) {
+            log(LogLevel.TRACE, null, message, args);
+        }
+    }
+
+    /**
+     * Logs the given message with level {@link LogLevel#DEBUG}.
+     *
+     * @param message the message
+     */
+    public void debug(final String message) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            log(LogLevel.DEBUG, null, message);
+        }
+    }
+
+    /**
+     * Logs the given message with level {@link LogLevel#DEBUG}.
+     *
+     * @param message the message with one {@code {}} placeholder
+     * @param arg     the argument for the placeholder
+     */
+    public void debug(final String message, final Object arg) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            log(LogLevel.DEBUG, null, message, arg);
+        }
+    }
+
+    /**
+     * Logs the given message with level {@link LogLevel#DEBUG}.
+     *
+     * @param message the message with two {@code {}} placeholders
+     * @param arg1    the argument for the first placeholder
+     * @param arg2    the argument for the second placeholder
+     */
+    public void debug(final String message, final Object arg1, final Object arg2) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            log(LogLevel.DEBUG, null, message, arg1, arg2);
+        }
+    }
+
+    /**
+     * Logs the given message with level {@link LogLevel#INFO}.
+     *
+     * @param message the message
+     */
+    public void info(final String message) {
+        if (isEnabled(LogLevel.INFO)) {
+            log(LogLevel.INFO, null, message);
+        }
+    }
+
+    /**
+     * Logs the given message with level {@link LogLevel#INFO}.
+     *
+     * @param message the message with one {@code {}} placeholder
+     * @param arg     the argument for the placeholder
+     */
+    public void info(final String message, final Object arg) {
+        if (isEnabled(LogLevel.INFO)) {
+            log(LogLevel.INFO, null, message, arg);
+        }
+    }
+
+    /**
+     * Logs the given message with level {@link LogLevel#WARN}.
+     *
+     * @param message the message with one {@code {}} placeholder
+     * @param arg     the argument for the placeholder
+     */
+    public void warn(final String message, final Object arg) {
+        if (isEnabled(LogLevel.WARN)) {
+            log(LogLevel.WARN, null, message, arg);
+        }
+    }
+
+    /**
+     * Logs the given message with level {@link LogLevel#WARN}.
+     *
+     * @param message the message with two {@code {}} placeholders
+     * @param arg1    the argument for the first placeholder
+     * @param arg2    the argument for the second placeholder
+     */
+    public void warn(final String message, final Object arg1, final Object arg2) {
+        if (isEnabled(LogLevel.WARN)) {
+            log(LogLevel.WARN, null, message, arg1, arg2);
+        }
+    }
+
+    /**
+     * Logs the given message and throwable with level {@link LogLevel#ERROR}.
+     *
+     * @param message the message
+     * @param thrown  the throwable to log with the message
+     */
+    public void error(final String message, final Throwable thrown) {
+        if (isEnabled(LogLevel.ERROR)) {
+            log(LogLevel.ERROR, thrown, message);
+        }
+    }
+
+    /**
+     * Replaces the {@code {}} placeholders in the given message with the given arguments.
+     * Superfluous placeholders are kept, superfluous arguments are ignored.
+     *
+     * @param message the message
+     * @param args    the arguments for the placeholders
+     * @return the formatted message
+     */
+    static String format(final String message, final Object... args) {
+        if (args.length == 0) {
+            return message;
+        }
+        final StringBuilder builder = new StringBuilder(message.length() + 16 * args.length);
+        int start = 0;
+        for (final Object arg : args) {
+            final int placeholder = message.indexOf("{}", start);
+            if (placeholder < 0) {
+                break;
+            }
+            builder.append(message, start, placeholder).append(arg);
+            start = placeholder + 2;
+        }
+        return builder.append(message, start, message.length()).toString();
+    }
+}
@@ -0,0 +1,169 @@
+package projekt.logging;
+
+import projekt.Config;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The entry point to the asynchronous logging of the game.
+ * All loggers share one {@link LogWriter}, which writes the records in batches on a background thread, either to
+ * the console or to {@link Config#LOG_FILE}. Remaining records are written when the JVM shuts down.
+ * <p>
+ * The level of a logger is the level configured for the longest prefix of its category, or {@link Config#LOG_LEVEL}
+ * if there is none. Levels can be configured with system properties, e.g.
+ * {@code -Dprojekt.log.level.projekt.controller=DEBUG} writes all debug records of the controller package,
+ * and changed at runtime with {@link #setLevel(String, LogLevel)}.
+ */
+public final class Logging {
+    /**
+     * The prefix of the system properties that configure the level of a category.
+     */
+    private static final String LEVEL_PROPERTY_PREFIX = "projekt.log.level.";
+
+    /**
+     * The number of records that can wait to be written before new records are dropped.
+     */
+    private static final int BUFFER_CAPACITY = 8192;
+
+    private static final LogLevel DEFAULT_LEVEL = parseLevel(Config.LOG_LEVEL, LogLevel.INFO);
+    private static final Map<String, LogLevel> CATEGORY_LEVELS = new ConcurrentHashMap<>();
+    private static final Map<String, Logger> LOGGERS = new ConcurrentHashMap<>();
+    private static final LogWriter WRITER = new LogWriter(BUFFER_CAPACITY, createOutput());
+
+    static {
+        System.getProperties().stringPropertyNames().stream()
+            .filter(name -> name.startsWith(LEVEL_PROPERTY_PREFIX))
+            .forEach(name -> CATEGORY_LEVELS.put(
+                name.substring(LEVEL_PROPERTY_PREFIX.length()),
+                parseLevel(System.getProperty(name), DEFAULT_LEVEL)
+            ));
+        Runtime.getRuntime().addShutdownHook(new Thread(WRITER::flush, "LogFlushThread"));
+    }
+
+    private Logging() {
+    }
+
+    /**
+     * Returns the logger for the given class, with the fully qualified class name as category.
+     *
+     * @param type the class to log for
+     * @return the logger for the class
+     */
+    public static Logger getLogger(final Class<?> type) {
+        return getLogger(type.getName());
+    }
+
+    /**
+     * Returns the logger for the given category, creating it if necessary.
+     *
+     * @param category the category, usually a fully qualified class or package name
+     * @return the logger for the category
+     */
+    public static Logger getLogger(final String category) {
+        return LOGGERS.computeIfAbsent(category, ignored -> new Logger(category, getLevel(category), WRITER));
+    }
+
+    /**
+     * Sets the level of all loggers whose category starts with the given prefix, unless a longer prefix is
+     * configured for them.
+     *
+     * @param prefix the prefix of the categories, usually a package or class name
+     * @param level  the new level
+     */
+    public static synchronized void setLevel(final String prefix, final LogLevel level) {
+        CATEGORY_LEVELS.put(prefix, level);
+        LOGGERS.values().forEach(logger -> logger.setLevel(getLevel(logger.getCategory())));
+    }
+
+    /**
+     * Writes all pending records and waits until they are written.
+     */
+    public static void flush() {
+        WRITER.flush();
+    }
+
+    /**
+     * Creates a stream that logs every line written to it with the given logger.
+     * Can be used to redirect {@link System#err} into the log.
+     *
+     * @param logger the logger to log the lines with
+     * @param level  the level to log the lines with
+     * @return the stream
+     */
+    public static PrintStream createPrintStream(final Logger logger, final LogLevel level) {
+        return new PrintStream(new LogOutputStream(logger, level, Charset.defaultCharset()), true);
+    }
+
+    /**
+     * Returns the configured level of the given category.
+     *
+     * @param category the category
+     * @return the level configured for the longest matching prefix, the default level if there is none
+     */
+    private static LogLevel getLevel(final String category) {
+        String prefix = category;
+        while (true) {
+            final LogLevel level = CATEGORY_LEVELS.get(prefix);
+            if (level != null) {
+                return level;
+            }
+            final int separator = prefix.lastIndexOf('.');
+            if (separator < 0) {
+                return DEFAULT_LEVEL;
+            }
+            prefix = prefix.substring(0, separator);
+        }
+    }
+
+    /**
+     * Parses the given level name, ignoring case.
+     *
+     * @param name     the name of the level
+     * @param fallback the level to return if the name is invalid
+     * @return the parsed level
+     */
+    private static LogLevel parseLevel(final String name, final LogLevel fallback) {
+        try {
+            return LogLevel.valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException | NullPointerException e) {
+            return fallback;
+        }
+    }
+
+    /**
+     * Creates the writer all records are written to: {@link Config#LOG_FILE} if set and writable,
+     * the console otherwise. If the log file cannot be opened, the reason is the first line written to the console.
+     *
+     * @return the writer for all records
+     */
+    private static Writer createOutput() {
+        final Writer console = new BufferedWriter(new OutputStreamWriter(System.out, Charset.defaultCharset()));
+        if (Config.LOG_FILE != null) {
+            try {
+                final Path file = Path.of(Config.LOG_FILE).toAbsolutePath();
+                Files.createDirectories(file.getParent());
+                return Files.newBufferedWriter(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (final IOException e) {
+                try {
+                    console.write(String.format(
+                        "Cannot write log to %s, logging to the console: %s%n", Config.LOG_FILE, e
+                    ));
+                } catch (final IOException ignored) {
+                    // the console cannot be written either, so there is nowhere to report this
+                }
+            }
+        }
+        return console;
+    }
+}
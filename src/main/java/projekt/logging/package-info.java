@@ -0,0 +1,4 @@
+/**
+ * Contains the asynchronous logging of the game, see {@link projekt.logging.Logging}.
+ */
+package projekt.logging;
@@ -0,0 +1,36 @@
+package projekt.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A monotonically increasing count, e.g. of executed actions.
+ * Can be incremented from any thread without locking.
+ */
+public class Counter {
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Increments the count by one.
+     */
+    public void increment() {
+        count.increment();
+    }
+
+    /**
+     * Increments the count by the given amount.
+     *
+     * @param amount the amount to add
+     */
+    public void add(final long amount) {
+        count.add(amount);
+    }
+
+    /**
+     * Returns the current count.
+     *
+     * @return the current count
+     */
+    public long get() {
+        return count.sum();
+    }
+}
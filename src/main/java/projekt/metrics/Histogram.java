@@ -0,0 +1,150 @@
+package projekt.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The distribution of recorded non-negative values, e.g. durations in nanoseconds.
+ * Values are counted in buckets with a relative width of at most 25%: every power of two is split into four buckets.
+ * Recording a value only increments a few atomic counters, so it never blocks and never allocates.
+ * Percentiles are therefore approximate, but count, sum, minimum and maximum are exact.
+ */
+public class Histogram {
+    /**
+     * The number of buckets each power of two is split into, as a power of two.
+     */
+    private static final int SUB_BUCKET_BITS = 2;
+
+    /**
+     * The number of buckets each power of two is split into.
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(bucketIndex(Long.MAX_VALUE) + 1);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+    /**
+     * Records the given value. Negative values are recorded as {@code 0}.
+     *
+     * @param value the value to record
+     */
+    public void record(final long value) {
+        final long clamped = Math.max(value, 0);
+        buckets.incrementAndGet(bucketIndex(clamped));
+        count.increment();
+        sum.add(clamped);
+        min.accumulate(clamped);
+        max.accumulate(clamped);
+    }
+
+    /**
+     * Returns a snapshot of the values recorded so far.
+     * Values recorded while the snapshot is taken may or may not be included.
+     *
+     * @return a snapshot of the recorded values
+     */
+    public Snapshot snapshot() {
+        final long[] counts = new long[buckets.length()];
+        long total = 0;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return new Snapshot(0, 0, 0, 0, 0, 0, 0);
+        }
+        final long minValue = min.get();
+        final long maxValue = max.get();
+        return new Snapshot(
+            total,
+            sum.sum(),
+            minValue,
+            maxValue,
+            percentile(counts, total, 0.5, minValue, maxValue),
+            percentile(counts, total, 0.9, minValue, maxValue),
+            percentile(counts, total, 0.99, minValue, maxValue)
+        );
+    }
+
+    /**
+     * Returns the approximate value below which the given fraction of all values lie.
+     *
+     * @param counts   the number of values in each bucket
+     * @param total    the total number of values
+     * @param fraction the fraction of values, between {@code 0} and {@code 1}
+     * @param minValue the smallest recorded value
+     * @param maxValue the largest recorded value
+     * @return the upper bound of the bucket containing the percentile, clamped to the recorded range
+     */
+    private static long percentile(
+        final long[] counts, final long total, final double fraction,
+        final long minValue, final long maxValue
+    ) {
+        final long rank = Math.max(1, (long) Math.ceil(total * fraction));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(Math.max(bucketUpperBound(i), minValue), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    /**
+     * Returns the index of the bucket the given value is counted in.
+     *
+     * @param value the non-negative value
+     * @return the index of the bucket
+     */
+    private static int bucketIndex(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return SUB_BUCKETS + (exponent - SUB_BUCKET_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the largest value that is counted in the bucket with the given index.
+     *
+     * @param index the index of the bucket
+     * @return the largest value of the bucket
+     */
+    private static long bucketUpperBound(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        final long lower = (long) (SUB_BUCKETS + (index - SUB_BUCKETS) % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    /**
+     * The values recorded by a histogram at some point in time.
+     *
+     * @param count the number of recorded values
+     * @param sum   the sum of all recorded values
+     * @param min   the smallest recorded value, {@code 0} if there is none
+     * @param max   the largest recorded value, {@code 0} if there is none
+     * @param p50   the approximate median
+     * @param p90   the approximate 90th percentile
+     * @param p99   the approximate 99th percentile
+     */
+    public record Snapshot(long count, long sum, long min, long max, long p50, long p90, long p99) {
+
+        /**
+         * Returns the mean of all recorded values.
+         *
+         * @return the mean, {@code 0} if there are no values
+         */
+        public double mean() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+    }
+}
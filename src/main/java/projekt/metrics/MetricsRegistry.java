@@ -0,0 +1,170 @@
+package projekt.metrics;
+
+import javafx.util.Subscription;
+import projekt.Config;
+import projekt.logging.Logging;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * A named collection of {@link Counter}s, {@link Timer}s, {@link Histogram}s and gauges.
+ * Metrics are created on first use and live as long as the registry; looking them up is lock-free, but callers on
+ * hot paths should keep a reference to the metric instead of looking it up every time.
+ * <p>
+ * The game records into the {@link #getGlobal() global registry}, which does not depend on the GUI and therefore
+ * works in headless games as well. If {@link Config#METRICS_DUMP_INTERVAL} is set, the global registry is dumped to
+ * the log periodically.
+ */
+public class MetricsRegistry {
+    private static final MetricsRegistry GLOBAL = createGlobal();
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+    private ScheduledExecutorService dumpExecutor;
+
+    /**
+     * Returns the registry all metrics of the game are recorded in.
+     *
+     * @return the global registry
+     */
+    public static MetricsRegistry getGlobal() {
+        return GLOBAL;
+    }
+
+    /**
+     * Creates the global registry and starts dumping it if configured.
+     *
+     * @return the global registry
+     */
+    private static MetricsRegistry createGlobal() {
+        final MetricsRegistry registry = new MetricsRegistry();
+        if (Config.METRICS_DUMP_INTERVAL > 0) {
+            registry.startPeriodicDump(
+                Duration.ofSeconds(Config.METRICS_DUMP_INTERVAL),
+                snapshot -> Logging.getLogger(MetricsRegistry.class).info(snapshot.format())
+            );
+        }
+        return registry;
+    }
+
+    /**
+     * Returns the counter with the given name, creating it if necessary.
+     *
+     * @param name the name of the counter
+     * @return the counter
+     */
+    public Counter counter(final String name) {
+        return getOrCreate(counters, name, ignored -> new Counter());
+    }
+
+    /**
+     * Returns the timer with the given name, creating it if necessary.
+     *
+     * @param name the name of the timer
+     * @return the timer
+     */
+    public Timer timer(final String name) {
+        return getOrCreate(timers, name, ignored -> new Timer());
+    }
+
+    /**
+     * Returns the histogram with the given name, creating it if necessary.
+     *
+     * @param name the name of the histogram
+     * @return the histogram
+     */
+    public Histogram histogram(final String name) {
+        return getOrCreate(histograms, name, ignored -> new Histogram());
+    }
+
+    /**
+     * Registers a gauge with the given name, replacing any gauge with the same name.
+     * The gauge is sampled whenever a snapshot is taken, so it must be cheap and thread-safe.
+     *
+     * @param name  the name of the gauge
+     * @param value the current value of the gauge
+     */
+    public void gauge(final String name, final LongSupplier value) {
+        gauges.put(name, value);
+    }
+
+    /**
+     * Returns the current values of all metrics.
+     *
+     * @return a snapshot of all metrics
+     */
+    public MetricsSnapshot snapshot() {
+        final SortedMap<String, Long> counterValues = new TreeMap<>();
+        counters.forEach((name, counter) -> counterValues.put(name, counter.get()));
+        final SortedMap<String, Long> gaugeValues = new TreeMap<>();
+        gauges.forEach((name, gauge) -> gaugeValues.put(name, gauge.getAsLong()));
+        final SortedMap<String, Histogram.Snapshot> histogramValues = new TreeMap<>();
+        histograms.forEach((name, histogram) -> histogramValues.put(name, histogram.snapshot()));
+        final SortedMap<String, Histogram.Snapshot> timerValues = new TreeMap<>();
+        timers.forEach((name, timer) -> timerValues.put(name, timer.snapshot()));
+        return new MetricsSnapshot(Instant.now(), counterValues, gaugeValues, histogramValues, timerValues);
+    }
+
+    /**
+     * Passes a {@link #snapshot()} to the given consumer in the given interval, on a background daemon thread.
+     *
+     * @param interval the time between two snapshots
+     * @param consumer the consumer of the snapshots
+     * @return a {@link Subscription} that stops the dump again
+     */
+    public Subscription startPeriodicDump(final Duration interval, final Consumer<? super MetricsSnapshot> consumer) {
+        final ScheduledFuture<?> future = getDumpExecutor().scheduleAtFixedRate(
+            () -> consumer.accept(snapshot()),
+            interval.toNanos(),
+            interval.toNanos(),
+            TimeUnit.NANOSECONDS
+        );
+        return () -> future.cancel(false);
+    }
+
+    /**
+     * Returns the executor running the periodic dumps, creating it if necessary.
+     *
+     * @return the executor running the periodic dumps
+     */
+    private synchronized ScheduledExecutorService getDumpExecutor() {
+        if (dumpExecutor == null) {
+            dumpExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "MetricsDumpThread");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return dumpExecutor;
+    }
+
+    /**
+     * Returns the metric with the given name from the given map, creating it if necessary.
+     *
+     * @param metrics the metrics of one kind
+     * @param name    the name of the metric
+     * @param factory creates the metric if it does not exist yet
+     * @param <M>     the kind of metric
+     * @return the metric
+     */
+    private static <M> M getOrCreate(
+        final Map<String, M> metrics, final String name, final Function<String, ? extends M> factory
+    ) {
+        final M metric = metrics.get(name);
+        return metric != null ? metric : metrics.computeIfAbsent(name, factory);
+    }
+}
@@ -0,0 +1,68 @@
+package projekt.metrics;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The values of all metrics of a {@link MetricsRegistry} at some point in time.
+ * All maps are sorted by the names of the metrics.
+ *
+ * @param timestamp  the time the snapshot was taken
+ * @param counters   the values of all counters
+ * @param gauges     the values of all gauges
+ * @param histograms the snapshots of all histograms
+ * @param timers     the snapshots of all timers, in nanoseconds
+ */
+public record MetricsSnapshot(
+    Instant timestamp,
+    SortedMap<String, Long> counters,
+    SortedMap<String, Long> gauges,
+    SortedMap<String, Histogram.Snapshot> histograms,
+    SortedMap<String, Histogram.Snapshot> timers
+) {
+
+    /**
+     * Returns a human-readable representation of this snapshot with one metric per line.
+     * Durations are shown in milliseconds.
+     *
+     * @return a multi-line representation of this snapshot
+     */
+    public String format() {
+        final StringBuilder builder = new StringBuilder("Metrics at ").append(timestamp).append('\n');
+        for (final Map.Entry<String, Long> entry : counters.entrySet()) {
+            builder.append(String.format("  counter   %-32s %d%n", entry.getKey(), entry.getValue()));
+        }
+        for (final Map.Entry<String, Long> entry : gauges.entrySet()) {
+            builder.append(String.format("  gauge     %-32s %d%n", entry.getKey(), entry.getValue()));
+        }
+        for (final Map.Entry<String, Histogram.Snapshot> entry : histograms.entrySet()) {
+            final Histogram.Snapshot snapshot = entry.getValue();
+            builder.append(String.format(
+                "  histogram %-32s count=%d mean=%.1f p50=%d p90=%d p99=%d max=%d%n",
+                entry.getKey(), snapshot.count(), snapshot.mean(),
+                snapshot.p50(), snapshot.p90(), snapshot.p99(), snapshot.max()
+            ));
+        }
+        for (final Map.Entry<String, Histogram.Snapshot> entry : timers.entrySet()) {
+            final Histogram.Snapshot snapshot = entry.getValue();
+            builder.append(String.format(
+                "  timer     %-32s count=%d total=%.1fms mean=%.3fms p50=%.3fms p90=%.3fms p99=%.3fms max=%.3fms%n",
+                entry.getKey(), snapshot.count(), millis(snapshot.sum()), snapshot.mean() / TimeUnit.MILLISECONDS.toNanos(1),
+                millis(snapshot.p50()), millis(snapshot.p90()), millis(snapshot.p99()), millis(snapshot.max())
+            ));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Converts the given nanoseconds to milliseconds.
+     *
+     * @param nanos the duration in nanoseconds
+     * @return the duration in milliseconds
+     */
+    private static double millis(final long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,62 @@
+package projekt.metrics;
+
+import java.util.function.Supplier;
+
+/**
+ * A {@link Histogram} of durations in nanoseconds.
+ * Durations are measured with {@link System#nanoTime()}, either around a task or from a start time taken with
+ * {@link #start()}, which does not need to allocate a lambda on the hot path.
+ */
+public class Timer extends Histogram {
+
+    /**
+     * Returns the current time to pass to {@link #stop(long)}.
+     *
+     * @return the current value of {@link System#nanoTime()}
+     */
+    public long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the time that passed since the given start time.
+     *
+     * @param start the start time returned by {@link #start()}
+     * @return the recorded duration in nanoseconds
+     */
+    public long stop(final long start) {
+        final long duration = System.nanoTime() - start;
+        record(duration);
+        return duration;
+    }
+
+    /**
+     * Runs the given task and records how long it took, even if it throws.
+     *
+     * @param task the task to run
+     */
+    public void time(final Runnable task) {
+        final long start = start();
+        try {
+            task.run();
+        } finally {
+            stop(start);
+        }
+    }
+
+    /**
+     * Runs the given task and records how long it took, even if it throws.
+     *
+     * @param task the task to run
+     * @param <T>  the type of the result
+     * @return the result of the task
+     */
+    public <T> T time(final Supplier<T> task) {
+        final long start = start();
+        try {
+            return task.get();
+        } finally {
+            stop(start);
+        }
+    }
+}
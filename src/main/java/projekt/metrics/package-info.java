@@ -0,0 +1,5 @@
+/**
+ * Contains the {@link projekt.metrics.MetricsRegistry} and the counters, timers and histograms recorded on the hot
+ * paths of the game.
+ */
+package projekt.metrics;
@@ -0,0 +1,353 @@
+package projekt.model;
+
+import projekt.Config;
+import projekt.model.tiles.Tile;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Generates balanced boards. The tile types and roll numbers are drawn with the quotas of
+ * {@link Config#generateTileTypes(Random)} and {@link Config#generateRollNumbers(Random)}, then arranged by a local
+ * search that swaps tiles as long as the board does not get worse:
+ * <ol>
+ *     <li>tile types are spread so that as few neighbours as possible have the same type,</li>
+ *     <li>roll numbers are arranged so that no two high-probability numbers (6 and 8) and as few equal numbers as
+ *     possible are neighbours, and the pips of each resource are about proportional to its amount of tiles.</li>
+ * </ol>
+ * That no two high-probability numbers are neighbours is a hard constraint: if the search leaves any, they are
+ * moved to tiles without high-probability neighbours directly, and if there are not enough such tiles, the board is
+ * drawn again.
+ * The neighbourhood of the board is computed once per generator, so generating many boards of the same radius is
+ * cheap. A generator is not thread-safe.
+ */
+public class BoardGenerator {
+    /**
+     * How many swaps are tried per tile and phase before the search stops.
+     */
+    private static final int SWAPS_PER_TILE = 40;
+
+    /**
+     * How often the board is drawn again if its high-probability numbers cannot be separated.
+     */
+    private static final int MAX_RESTARTS = 10;
+
+    /**
+     * The penalty for two neighbouring high-probability numbers, high enough that no other improvement outweighs it.
+     */
+    private static final int HIGH_PROBABILITY_PENALTY = 1000;
+
+    /**
+     * The penalty for two neighbouring tiles with the same roll number.
+     */
+    private static final int SAME_NUMBER_PENALTY = 20;
+
+    private final int radius;
+    private final Random random;
+    private final List<TilePosition> positions = new ArrayList<>();
+    private final int[][] neighbours;
+
+    /**
+     * Creates a new generator for boards with the given radius.
+     *
+     * @param radius the radius of the boards, center is included
+     * @param random the source of randomness
+     */
+    public BoardGenerator(final int radius, final Random random) {
+        this.radius = radius;
+        this.random = random;
+        TilePosition.intern(radius);
+        TilePosition.forEachSpiral(TilePosition.of(0, 0), radius, (position, params) -> positions.add(position));
+        final Map<TilePosition, Integer> indices = new HashMap<>();
+        for (int i = 0; i < positions.size(); i++) {
+            indices.put(positions.get(i), i);
+        }
+        this.neighbours = new int[positions.size()][];
+        for (int i = 0; i < positions.size(); i++) {
+            neighbours[i] = TilePosition.neighbours(positions.get(i)).stream()
+                .filter(indices::containsKey)
+                .mapToInt(indices::get)
+                .toArray();
+        }
+    }
+
+    /**
+     * Generates a new balanced board.
+     *
+     * @return the layout of the board
+     * @throws IllegalStateException if the high-probability numbers could not be separated after
+     *                               {@value #MAX_RESTARTS} restarts
+     */
+    public BoardLayout generate() {
+        final int n = positions.size();
+        final Tile.Type[] types = new Tile.Type[n];
+        final int[] rollNumbers = new int[n];
+        for (int attempt = 0; ; attempt++) {
+            final Supplier<Tile.Type> typeSupplier = Config.generateTileTypes(random);
+            final Supplier<Integer> rollNumberSupplier = Config.generateRollNumbers(random);
+            for (int i = 0; i < n; i++) {
+                types[i] = typeSupplier.get();
+            }
+            spreadTypes(types);
+            for (int i = 0; i < n; i++) {
+                rollNumbers[i] = types[i].resourceType != null ? rollNumberSupplier.get() : 0;
+            }
+            if (arrangeRollNumbers(types, rollNumbers) < HIGH_PROBABILITY_PENALTY
+                || separateHighProbabilityNumbers(rollNumbers)) {
+                break;
+            }
+            if (attempt == MAX_RESTARTS) {
+                throw new IllegalStateException(
+                    "Cannot separate the high-probability numbers of a board with radius %d".formatted(radius)
+                );
+            }
+        }
+        return new BoardLayout(radius, positions, Arrays.asList(types), Arrays.stream(rollNumbers).boxed().toList());
+    }
+
+    /**
+     * Swaps tile types so that as few neighbouring tiles as possible have the same type.
+     *
+     * @param types the tile types to arrange, in spiral order
+     */
+    private void spreadTypes(final Tile.Type[] types) {
+        final int n = types.length;
+        for (int swap = 0; swap < SWAPS_PER_TILE * n; swap++) {
+            final int i = random.nextInt(n);
+            final int j = random.nextInt(n);
+            if (types[i] == types[j]) {
+                continue;
+            }
+            final int before = sameTypeNeighbours(types, i, types[i]) + sameTypeNeighbours(types, j, types[j]);
+            swap(types, i, j);
+            final int after = sameTypeNeighbours(types, i, types[i]) + sameTypeNeighbours(types, j, types[j]);
+            if (after > before) {
+                swap(types, i, j);
+            }
+        }
+    }
+
+    /**
+     * Swaps the roll numbers of tiles with a resource to minimize the penalty of the board.
+     *
+     * @param types       the tile types, in spiral order
+     * @param rollNumbers the roll numbers to arrange, in spiral order; {@code 0} for tiles without a resource
+     * @return the part of the penalty caused by neighbouring tiles
+     */
+    private int arrangeRollNumbers(final Tile.Type[] types, final int[] rollNumbers) {
+        final int n = types.length;
+        final int[] resourceTiles = new int[n];
+        int resourceTileCount = 0;
+        final int resourceTypes = ResourceType.values().length;
+        final long[] tiles = new long[resourceTypes];
+        final long[] pips = new long[resourceTypes];
+        long totalPips = 0;
+        for (int i = 0; i < n; i++) {
+            if (types[i].resourceType != null) {
+                resourceTiles[resourceTileCount++] = i;
+                tiles[types[i].resourceType.ordinal()]++;
+                pips[types[i].resourceType.ordinal()] += pips(rollNumbers[i]);
+                totalPips += pips(rollNumbers[i]);
+            }
+        }
+        if (resourceTileCount < 2) {
+            return 0;
+        }
+
+        int neighbourPenalty = 0;
+        for (int k = 0; k < resourceTileCount; k++) {
+            neighbourPenalty += neighbourPenalty(rollNumbers, resourceTiles[k], rollNumbers[resourceTiles[k]]);
+        }
+        neighbourPenalty /= 2;
+
+        for (int swap = 0; swap < SWAPS_PER_TILE * n; swap++) {
+            final int i = resourceTiles[random.nextInt(resourceTileCount)];
+            final int j = resourceTiles[random.nextInt(resourceTileCount)];
+            if (rollNumbers[i] == rollNumbers[j]) {
+                continue;
+            }
+            final int before = neighbourPenalty(rollNumbers, i, rollNumbers[i])
+                + neighbourPenalty(rollNumbers, j, rollNumbers[j]);
+            swap(rollNumbers, i, j);
+            final int after = neighbourPenalty(rollNumbers, i, rollNumbers[i])
+                + neighbourPenalty(rollNumbers, j, rollNumbers[j]);
+
+            final int typeI = types[i].resourceType.ordinal();
+            final int typeJ = types[j].resourceType.ordinal();
+            long balanceDelta = 0;
+            if (typeI != typeJ) {
+                // pips of type i changed from old(i) = new(j) to new(i), and vice versa
+                final int pipDelta = pips(rollNumbers[i]) - pips(rollNumbers[j]);
+                final long imbalanceBefore = imbalance(pips[typeI], tiles[typeI], totalPips, resourceTileCount)
+                    + imbalance(pips[typeJ], tiles[typeJ], totalPips, resourceTileCount);
+                final long imbalanceAfter = imbalance(pips[typeI] + pipDelta, tiles[typeI], totalPips, resourceTileCount)
+                    + imbalance(pips[typeJ] - pipDelta, tiles[typeJ], totalPips, resourceTileCount);
+                balanceDelta = imbalanceAfter - imbalanceBefore;
+                if (after - before + balanceDelta <= 0) {
+                    pips[typeI] += pipDelta;
+                    pips[typeJ] -= pipDelta;
+                }
+            }
+            if (after - before + balanceDelta > 0) {
+                swap(rollNumbers, i, j);
+            } else {
+                neighbourPenalty += after - before;
+            }
+        }
+        return neighbourPenalty;
+    }
+
+    /**
+     * Moves every high-probability number that has a high-probability neighbour to a tile whose neighbours have
+     * none, swapping it with the lower number there. Every swap removes a conflict without adding one, so a single
+     * pass either separates all high-probability numbers or finds that there is no such tile left.
+     *
+     * @param rollNumbers the roll numbers to arrange, in spiral order; {@code 0} for tiles without a resource
+     * @return whether no two high-probability numbers are neighbours anymore
+     */
+    private boolean separateHighProbabilityNumbers(final int[] rollNumbers) {
+        final int n = rollNumbers.length;
+        for (int i = 0; i < n; i++) {
+            if (!isHighProbability(rollNumbers[i]) || !hasHighProbabilityNeighbour(rollNumbers, i, -1)) {
+                continue;
+            }
+            final int offset = random.nextInt(n);
+            int target = -1;
+            for (int k = 0; k < n && target < 0; k++) {
+                final int j = (offset + k) % n;
+                if (rollNumbers[j] != 0 && !isHighProbability(rollNumbers[j])
+                    && !hasHighProbabilityNeighbour(rollNumbers, j, i)) {
+                    target = j;
+                }
+            }
+            if (target < 0) {
+                return false;
+            }
+            swap(rollNumbers, i, target);
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether any neighbour of the given tile, except the ignored one, has a high-probability number.
+     *
+     * @param rollNumbers the roll numbers, in spiral order
+     * @param tile        the index of the tile
+     * @param ignored     the index of the neighbour to ignore, {@code -1} to check all neighbours
+     * @return whether the tile has a high-probability neighbour
+     */
+    private boolean hasHighProbabilityNeighbour(final int[] rollNumbers, final int tile, final int ignored) {
+        for (final int neighbour : neighbours[tile]) {
+            if (neighbour != ignored && isHighProbability(rollNumbers[neighbour])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns how many neighbours of the given tile have the given type.
+     *
+     * @param types the tile types, in spiral order
+     * @param tile  the index of the tile
+     * @param type  the type to compare with
+     * @return the amount of neighbours with the given type
+     */
+    private int sameTypeNeighbours(final Tile.Type[] types, final int tile, final Tile.Type type) {
+        int count = 0;
+        for (final int neighbour : neighbours[tile]) {
+            if (types[neighbour] == type) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the penalty of the given roll number on the given tile caused by the roll numbers of its neighbours.
+     *
+     * @param rollNumbers the roll numbers, in spiral order
+     * @param tile        the index of the tile
+     * @param rollNumber  the roll number of the tile
+     * @return the penalty
+     */
+    private int neighbourPenalty(final int[] rollNumbers, final int tile, final int rollNumber) {
+        int penalty = 0;
+        for (final int neighbour : neighbours[tile]) {
+            final int other = rollNumbers[neighbour];
+            if (isHighProbability(rollNumber) && isHighProbability(other)) {
+                penalty += HIGH_PROBABILITY_PENALTY;
+            } else if (rollNumber == other && rollNumber != 0) {
+                penalty += SAME_NUMBER_PENALTY;
+            }
+        }
+        return penalty;
+    }
+
+    /**
+     * Returns the squared difference between the pips of a resource and its fair share of all pips, scaled to keep
+     * the result integral.
+     *
+     * @param pips       the pips of the resource
+     * @param tiles      the amount of tiles of the resource
+     * @param totalPips  the pips of all resources
+     * @param totalTiles the amount of tiles of all resources
+     * @return the imbalance of the resource
+     */
+    private static long imbalance(final long pips, final long tiles, final long totalPips, final long totalTiles) {
+        final long difference = pips * totalTiles - totalPips * tiles;
+        return difference * difference / (totalTiles * totalTiles);
+    }
+
+    /**
+     * Returns the amount of dice combinations that roll the given number, the "pips" printed on the number token.
+     *
+     * @param rollNumber the roll number
+     * @return the pips of the roll number, {@code 0} for tiles without a resource
+     */
+    public static int pips(final int rollNumber) {
+        return rollNumber == 0 ? 0 : 6 - Math.abs(7 - rollNumber);
+    }
+
+    /**
+     * Returns whether the given roll number is one of the two most likely numbers, 6 and 8.
+     *
+     * @param rollNumber the roll number
+     * @return whether the roll number is 6 or 8
+     */
+    private static boolean isHighProbability(final int rollNumber) {
+        return pips(rollNumber) == 5;
+    }
+
+    /**
+     * Swaps two elements of the given array.
+     *
+     * @param array the array
+     * @param i     the index of the first element
+     * @param j     the index of the second element
+     */
+    private static void swap(final int[] array, final int i, final int j) {
+        final int value = array[i];
+        array[i] = array[j];
+        array[j] = value;
+    }
+
+    /**
+     * Swaps two elements of the given array.
+     *
+     * @param array the array
+     * @param i     the index of the first element
+     * @param j     the index of the second element
+     * @param <T>   the type of the elements
+     */
+    private static <T> void swap(final T[] array, final int i, final int j) {
+        final T value = array[i];
+        array[i] = array[j];
+        array[j] = value;
+    }
+}
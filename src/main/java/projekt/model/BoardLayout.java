@@ -0,0 +1,67 @@
+package projekt.model;
+
+import projekt.model.tiles.Tile;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * The tile types and roll numbers of a board, in the order {@link TilePosition#forEachSpiral} visits the positions.
+ * A layout is immutable and can be turned into any number of grids.
+ *
+ * @param radius      the radius of the board, center is included
+ * @param positions   the positions of the tiles, in spiral order
+ * @param types       the type of each tile, in spiral order
+ * @param rollNumbers the roll number of each tile, in spiral order; {@code 0} for tiles without a resource
+ * @see BoardGenerator
+ */
+public record BoardLayout(int radius, List<TilePosition> positions, List<Tile.Type> types, List<Integer> rollNumbers) {
+    /**
+     * Creates a new layout.
+     *
+     * @param radius      the radius of the board, center is included
+     * @param positions   the positions of the tiles, in spiral order
+     * @param types       the type of each tile, in spiral order
+     * @param rollNumbers the roll number of each tile, in spiral order; {@code 0} for tiles without a resource
+     */
+    public BoardLayout {
+        positions = List.copyOf(positions);
+        types = List.copyOf(types);
+        rollNumbers = List.copyOf(rollNumbers);
+        if (positions.size() != types.size() || positions.size() != rollNumbers.size()) {
+            throw new IllegalArgumentException("Every tile needs a position, a type and a roll number");
+        }
+    }
+
+    /**
+     * Returns a supplier that returns the tile types of this layout in spiral order,
+     * as {@link HexGridImpl#HexGridImpl(int, Supplier, Supplier)} expects them.
+     *
+     * @return a new supplier of the tile types
+     */
+    public Supplier<Tile.Type> tileTypeSupplier() {
+        return types.iterator()::next;
+    }
+
+    /**
+     * Returns a supplier that returns the roll numbers of this layout in spiral order, skipping tiles without a
+     * resource, as {@link HexGridImpl#HexGridImpl(int, Supplier, Supplier)} expects them.
+     *
+     * @return a new supplier of the roll numbers
+     */
+    public Supplier<Integer> rollNumberSupplier() {
+        return rollNumbers.stream().filter(rollNumber -> rollNumber != 0).iterator()::next;
+    }
+
+    /**
+     * Creates a new grid with the tiles of this layout.
+     * Ports are placed by {@link projekt.Config#generatePortMapper()}, as for every grid.
+     * The positions of the grid are interned first, however large it is.
+     *
+     * @return the new grid
+     */
+    public HexGridImpl createGrid() {
+        TilePosition.intern(radius);
+        return new HexGridImpl(radius, rollNumberSupplier(), tileTypeSupplier());
+    }
+}
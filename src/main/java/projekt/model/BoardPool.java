@@ -0,0 +1,143 @@
+package projekt.model;
+
+import projekt.Config;
+import projekt.metrics.Counter;
+import projekt.metrics.MetricsRegistry;
+
+import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A bounded pool of ready-to-use grids that are generated in the background.
+ * Generating a grid creates all tiles, intersections and edges, which is too slow to do while a game is started.
+ * The pool keeps up to {@link Config#BOARD_POOL_SIZE} unused grids and refills itself on a background daemon thread
+ * whenever one is taken. If the pool is empty, the calling thread briefly waits for the grid that is being generated
+ * in the background, and generates one itself with a separate generator if that takes too long.
+ * <p>
+ * Every grid is handed out only once, as grids are changed by the game played on them.
+ */
+public class BoardPool {
+    private static final Counter HITS = MetricsRegistry.getGlobal().counter("boardPool.hits");
+    private static final Counter MISSES = MetricsRegistry.getGlobal().counter("boardPool.misses");
+
+    /**
+     * How long {@link #take()} waits for the grid that is being generated in the background before generating one on
+     * the calling thread.
+     */
+    private static final long MISS_WAIT_MILLIS = 50;
+
+    private static BoardPool defaultPool;
+
+    private final BoardGenerator generator;
+    private final BoardGenerator callerGenerator;
+    private final BlockingQueue<HexGridImpl> grids;
+    private final AtomicBoolean refilling = new AtomicBoolean();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "BoardPoolThread");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+
+    /**
+     * Creates a new pool of balanced grids with the given radius and starts filling it.
+     *
+     * @param radius   the radius of the grids, center is included
+     * @param capacity how many unused grids are kept at most
+     * @param random   the source of randomness
+     */
+    public BoardPool(final int radius, final int capacity, final Random random) {
+        this.generator = new BoardGenerator(radius, random);
+        this.callerGenerator = new BoardGenerator(radius, new Random(random.nextLong()));
+        this.grids = new ArrayBlockingQueue<>(capacity);
+        refill();
+    }
+
+    /**
+     * Returns the pool of grids with the radius {@link Config#GRID_RADIUS}, creating it if necessary.
+     * Calling this method early, e.g. while the main menu is shown, fills the pool before the first game is created.
+     *
+     * @return the default pool
+     */
+    public static synchronized BoardPool getDefault() {
+        if (defaultPool == null) {
+            defaultPool = new BoardPool(Config.GRID_RADIUS, Config.BOARD_POOL_SIZE, new Random(Config.RANDOM.nextLong()));
+        }
+        return defaultPool;
+    }
+
+    /**
+     * Takes a grid from the pool, generating one if the pool is empty, and refills the pool in the background.
+     *
+     * @return an unused grid
+     */
+    public HexGridImpl take() {
+        HexGridImpl grid = grids.poll();
+        if (grid != null) {
+            HITS.increment();
+        } else {
+            MISSES.increment();
+            grid = awaitRefill();
+            if (grid == null) {
+                grid = callerGenerator.generate().createGrid();
+            }
+        }
+        refill();
+        return grid;
+    }
+
+    /**
+     * Returns how many unused grids are in the pool.
+     *
+     * @return the amount of unused grids
+     */
+    public int size() {
+        return grids.size();
+    }
+
+    /**
+     * Waits up to {@link #MISS_WAIT_MILLIS} for the grid that is being generated in the background, if any.
+     *
+     * @return the generated grid, or {@code null} if none is being generated or it took too long
+     */
+    private HexGridImpl awaitRefill() {
+        if (!refilling.get()) {
+            return null;
+        }
+        try {
+            return grids.poll(MISS_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * Generates grids on the background thread until the pool is full, unless that already happens.
+     */
+    private void refill() {
+        if (!refilling.compareAndSet(false, true)) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                while (grids.remainingCapacity() > 0) {
+                    if (!grids.offer(generator.generate().createGrid())) {
+                        break;
+                    }
+                }
+            } finally {
+                refilling.set(false);
+            }
+            // a grid may have been taken after the loop ended, but before the flag was reset
+            if (grids.remainingCapacity() > 0) {
+                refill();
+            }
+        });
+    }
+}
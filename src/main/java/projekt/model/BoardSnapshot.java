@@ -0,0 +1,91 @@
+package projekt.model;
+
+import org.jetbrains.annotations.Nullable;
+import projekt.model.buildings.Edge;
+import projekt.model.buildings.Settlement;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An immutable copy of the parts of a {@link HexGrid} that change during a game: the roads, the settlements and the
+ * position of the robber. Roads and settlements are keyed by the positions of their edge or intersection.
+ *
+ * @param roadOwners     the owners of all roads
+ * @param settlements    all settlements
+ * @param robberPosition the position of the robber, may be {@code null}
+ * @param hash           the {@link HexGrid#getBoardHash() hash} of the board, equal boards have equal hashes
+ */
+public record BoardSnapshot(
+    Map<Set<TilePosition>, Player> roadOwners,
+    Map<Set<TilePosition>, Settlement> settlements,
+    @Nullable TilePosition robberPosition,
+    long hash
+) {
+    /**
+     * Creates a new board snapshot with unmodifiable views of the given maps.
+     * The maps must not be modified afterwards.
+     */
+    public BoardSnapshot {
+        roadOwners = Collections.unmodifiableMap(roadOwners);
+        settlements = Collections.unmodifiableMap(settlements);
+    }
+
+    /**
+     * Copies the current roads, settlements and robber position of the given grid.
+     * Must be called on the thread that changes the grid.
+     *
+     * @param grid the grid to copy
+     * @return the snapshot
+     */
+    public static BoardSnapshot capture(final HexGrid grid) {
+        final Map<Set<TilePosition>, Player> roadOwners = new HashMap<>();
+        for (final Edge edge : grid.getEdges().values()) {
+            final Player owner = edge.getRoadOwner();
+            if (owner != null) {
+                roadOwners.put(edge.getAdjacentTilePositions(), owner);
+            }
+        }
+        final Map<Set<TilePosition>, Settlement> settlements = new HashMap<>();
+        for (final Intersection intersection : grid.getIntersections().values()) {
+            final Settlement settlement = intersection.getSettlement();
+            if (settlement != null) {
+                settlements.put(intersection.getAdjacentTilePositions(), settlement);
+            }
+        }
+        return new BoardSnapshot(roadOwners, settlements, grid.getRobberPosition(), grid.getBoardHash());
+    }
+
+    /**
+     * Returns the owner of the road on the given edge.
+     *
+     * @param edge the edge
+     * @return the owner of the road, {@code null} if there is no road
+     */
+    public @Nullable Player getRoadOwner(final Edge edge) {
+        return roadOwners.get(edge.getAdjacentTilePositions());
+    }
+
+    /**
+     * Returns the settlement on the given intersection.
+     *
+     * @param intersection the intersection
+     * @return the settlement, {@code null} if there is none
+     */
+    public @Nullable Settlement getSettlement(final Intersection intersection) {
+        return settlements.get(intersection.getAdjacentTilePositions());
+    }
+
+    /**
+     * Returns whether the robber is on the tile at the given position.
+     *
+     * @param position the position of the tile
+     * @return whether the robber is on the tile
+     */
+    public boolean hasRobber(final TilePosition position) {
+        return Objects.equals(robberPosition, position);
+    }
+}
@@ -0,0 +1,111 @@
+package projekt.model;
+
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * A finite, shuffled deck of development cards.
+ * The deck is shuffled once when it is created, so drawing a card and querying the remaining cards take constant
+ * time. Two decks created with the same ratios and the same seed draw the same cards in the same order.
+ */
+public class DevelopmentCardDeck implements Supplier<DevelopmentCardType> {
+    private final DevelopmentCardType[] cards;
+    private final int[] remaining = new int[DevelopmentCardType.values().length];
+    private int next;
+
+    /**
+     * Creates a new deck with the given amount of cards of each type, shuffled with the given seed.
+     *
+     * @param ratios the amount of cards of each type
+     * @param seed   the seed to shuffle the deck with
+     */
+    public DevelopmentCardDeck(final Map<DevelopmentCardType, Integer> ratios, final long seed) {
+        cards = new DevelopmentCardType[ratios.values().stream().mapToInt(Integer::intValue).sum()];
+        int i = 0;
+        for (final DevelopmentCardType type : DevelopmentCardType.values()) {
+            final int amount = ratios.getOrDefault(type, 0);
+            remaining[type.ordinal()] = amount;
+            for (int j = 0; j < amount; j++) {
+                cards[i++] = type;
+            }
+        }
+        final Random random = new Random(seed);
+        for (int j = cards.length - 1; j > 0; j--) {
+            final int k = random.nextInt(j + 1);
+            final DevelopmentCardType card = cards[j];
+            cards[j] = cards[k];
+            cards[k] = card;
+        }
+    }
+
+    /**
+     * Draws the top card of the deck.
+     *
+     * @return the drawn card
+     * @throws NoSuchElementException if the deck is empty
+     */
+    public synchronized DevelopmentCardType draw() {
+        if (next == cards.length) {
+            throw new NoSuchElementException("The development card deck is empty");
+        }
+        final DevelopmentCardType card = cards[next];
+        cards[next++] = null;
+        remaining[card.ordinal()]--;
+        return card;
+    }
+
+    /**
+     * Puts the given card back on top of the deck, e.g. to roll back a purchase.
+     * Cards have to be put back in the reverse order they were drawn in, so the deck draws the same cards again.
+     *
+     * @param card the card that was drawn last
+     * @throws IllegalStateException if no card has been drawn
+     */
+    public synchronized void putBack(final DevelopmentCardType card) {
+        if (next == 0) {
+            throw new IllegalStateException("No card has been drawn from the development card deck");
+        }
+        cards[--next] = card;
+        remaining[card.ordinal()]++;
+    }
+
+    /**
+     * Draws the top card of the deck, see {@link #draw()}.
+     *
+     * @return the drawn card
+     */
+    @Override
+    public DevelopmentCardType get() {
+        return draw();
+    }
+
+    /**
+     * Returns whether all cards have been drawn.
+     *
+     * @return whether the deck is empty
+     */
+    public synchronized boolean isEmpty() {
+        return next == cards.length;
+    }
+
+    /**
+     * Returns the amount of cards that have not been drawn yet.
+     *
+     * @return the amount of cards left in the deck
+     */
+    public synchronized int getRemaining() {
+        return cards.length - next;
+    }
+
+    /**
+     * Returns the amount of cards of the given type that have not been drawn yet.
+     *
+     * @param type the type of card
+     * @return the amount of cards of the given type left in the deck
+     */
+    public synchronized int getRemaining(final DevelopmentCardType type) {
+        return remaining[type.ordinal()];
+    }
+}
@@ -0,0 +1,293 @@
+package projekt.model;
+
+import org.jetbrains.annotations.Nullable;
+import projekt.model.buildings.Edge;
+import projekt.model.buildings.Settlement;
+import projekt.model.events.DevelopmentCardChangedEvent;
+import projekt.model.events.GameEvent;
+import projekt.model.events.ResourceChangedEvent;
+import projekt.model.events.RoadBuiltEvent;
+import projekt.model.events.RoadRemovedEvent;
+import projekt.model.events.RobberMovedEvent;
+import projekt.model.events.SettlementPlacedEvent;
+import projekt.model.events.SettlementRemovedEvent;
+import projekt.model.events.Subscription;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A compact, reversible record of the changes to a game: the net change of the resources and development cards of
+ * every player, and the owner of every changed road, settlement and the robber position before and after.
+ * <p>
+ * Deltas are recorded from the events published on the {@link projekt.model.events.GameEventBus} of the game, see
+ * {@link #record(GameState)}, so any change of the model can be recorded without copying the state. Changes that cancel
+ * each other out, like a road that was built and removed again, are not part of the delta.
+ * {@link #undo()} restores the state before the changes, {@link #redo()} the state after them; both expect the game
+ * to be in the state the delta leads from. This makes deltas usable both as the history of a turn and to make and
+ * unmake moves while searching.
+ * <p>
+ * Development cards that were drawn from the deck are discarded on undo; the deck is not part of the delta, so
+ * whoever drew them has to put them back, see {@link DevelopmentCardDeck#putBack}. Played development
+ * cards cannot be unplayed, so deltas that contain them are not {@link #isReversible() reversible}. Neither are
+ * deltas that change settlements or development cards of other implementations than {@link IntersectionImpl} and
+ * {@link PlayerImpl}, as only those can restore them.
+ */
+public final class GameDelta {
+    private static final ResourceType[] RESOURCE_TYPES = ResourceType.values();
+    private static final DevelopmentCardType[] DEVELOPMENT_CARD_TYPES = DevelopmentCardType.values();
+
+    private final HexGrid grid;
+    private final Map<Player, int[]> resources;
+    private final Map<Player, int[]> developmentCards;
+    private final Map<Edge, Change<Player>> roads;
+    private final Map<Intersection, Change<Settlement>> settlements;
+    private final @Nullable Change<TilePosition> robber;
+    private final boolean reversible;
+
+    /**
+     * The value of a part of the game before and after the changes.
+     *
+     * @param before the value before the changes, may be {@code null}
+     * @param after  the value after the changes, may be {@code null}
+     * @param <T>    the type of the value
+     */
+    private record Change<T>(@Nullable T before, @Nullable T after) {
+
+        /**
+         * Combines this change with a following change of the same part.
+         *
+         * @param next the following change
+         * @return the combined change
+         */
+        Change<T> then(final Change<T> next) {
+            return new Change<>(before, next.after);
+        }
+
+        /**
+         * Returns whether the value is the same before and after the changes.
+         *
+         * @return whether nothing changed
+         */
+        boolean isEmpty() {
+            return Objects.equals(before, after);
+        }
+
+        /**
+         * Returns the value before or after the changes.
+         *
+         * @param forward whether to return the value after the changes
+         * @return the value
+         */
+        @Nullable T get(final boolean forward) {
+            return forward ? after : before;
+        }
+    }
+
+    /**
+     * Creates a new delta from the changes collected by the given recorder, without the parts that did not change.
+     *
+     * @param recorder the recorder
+     */
+    private GameDelta(final Recorder recorder) {
+        this.grid = recorder.grid;
+        this.resources = withoutZeros(recorder.resources);
+        this.developmentCards = withoutZeros(recorder.developmentCards);
+        recorder.roads.values().removeIf(Change::isEmpty);
+        this.roads = recorder.roads;
+        recorder.settlements.values().removeIf(Change::isEmpty);
+        this.settlements = recorder.settlements;
+        this.robber = recorder.robber == null || recorder.robber.isEmpty() ? null : recorder.robber;
+        this.reversible = !recorder.playedDevelopmentCard
+            && settlements.keySet().stream().allMatch(IntersectionImpl.class::isInstance)
+            && developmentCards.keySet().stream().allMatch(PlayerImpl.class::isInstance);
+    }
+
+    /**
+     * Starts recording all changes to the given game that are made on the calling thread, until
+     * {@link Recorder#stop()} is called. Changes made on other threads, e.g. by players answering a trade offer, are
+     * not recorded. Several recorders can record at the same time.
+     *
+     * @param state the game
+     * @return the recorder
+     */
+    public static Recorder record(final GameState state) {
+        return new Recorder(state);
+    }
+
+    /**
+     * Returns whether nothing changed.
+     *
+     * @return whether this delta is empty
+     */
+    public boolean isEmpty() {
+        return resources.isEmpty() && developmentCards.isEmpty() && roads.isEmpty() && settlements.isEmpty()
+            && robber == null;
+    }
+
+    /**
+     * Returns whether the changes can be undone, i.e. no development card was played and all changed settlements
+     * and development cards can be restored.
+     *
+     * @return whether this delta is reversible
+     */
+    public boolean isReversible() {
+        return reversible;
+    }
+
+    /**
+     * Restores the state of the game before the changes.
+     *
+     * @throws IllegalStateException if this delta is not reversible
+     */
+    public void undo() {
+        apply(false);
+    }
+
+    /**
+     * Restores the state of the game after the changes, after they have been {@link #undo() undone}.
+     *
+     * @throws IllegalStateException if this delta is not reversible
+     */
+    public void redo() {
+        apply(true);
+    }
+
+    /**
+     * Sets all changed parts of the game to their value before or after the changes.
+     *
+     * @param forward whether to restore the values after the changes
+     */
+    private void apply(final boolean forward) {
+        if (!reversible) {
+            throw new IllegalStateException("Played development cards or foreign settlements cannot be restored");
+        }
+        roads.forEach((edge, change) -> grid.restoreRoad(edge, change.get(forward)));
+        settlements.forEach(
+            (intersection, change) -> ((IntersectionImpl) intersection).restoreSettlement(change.get(forward))
+        );
+        if (robber != null) {
+            grid.setRobberPosition(robber.get(forward));
+        }
+        final int sign = forward ? 1 : -1;
+        resources.forEach((player, amounts) -> {
+            for (int i = 0; i < amounts.length; i++) {
+                final int amount = sign * amounts[i];
+                if (amount > 0) {
+                    player.addResource(RESOURCE_TYPES[i], amount);
+                } else if (amount < 0) {
+                    player.removeResource(RESOURCE_TYPES[i], -amount);
+                }
+            }
+        });
+        developmentCards.forEach((player, amounts) -> {
+            for (int i = 0; i < amounts.length; i++) {
+                for (int amount = sign * amounts[i]; amount > 0; amount--) {
+                    player.addDevelopmentCard(DEVELOPMENT_CARD_TYPES[i]);
+                }
+                for (int amount = sign * amounts[i]; amount < 0; amount++) {
+                    ((PlayerImpl) player).discardDevelopmentCard(DEVELOPMENT_CARD_TYPES[i]);
+                }
+            }
+        });
+    }
+
+    /**
+     * Removes the players without any changes from the given map.
+     *
+     * @param changes the changes per player
+     * @return the given map
+     */
+    private static Map<Player, int[]> withoutZeros(final Map<Player, int[]> changes) {
+        changes.values().removeIf(amounts -> Arrays.stream(amounts).allMatch(amount -> amount == 0));
+        return changes;
+    }
+
+    @Override
+    public String toString() {
+        return "GameDelta[" +
+            "resources=" + resources.size() + ", " +
+            "developmentCards=" + developmentCards.size() + ", " +
+            "roads=" + roads.keySet() + ", " +
+            "settlements=" + settlements.keySet() + ", " +
+            "robber=" + robber + ", " +
+            "reversible=" + reversible + ']';
+    }
+
+    /**
+     * Collects the changes to a game while they are made, see {@link GameDelta#record(GameState)}.
+     */
+    public static final class Recorder {
+        private final HexGrid grid;
+        private final Thread thread = Thread.currentThread();
+        private final Subscription subscription;
+        private final Map<Player, int[]> resources = new LinkedHashMap<>();
+        private final Map<Player, int[]> developmentCards = new LinkedHashMap<>();
+        private final Map<Edge, Change<Player>> roads = new LinkedHashMap<>();
+        private final Map<Intersection, Change<Settlement>> settlements = new LinkedHashMap<>();
+        private @Nullable Change<TilePosition> robber;
+        private boolean playedDevelopmentCard;
+
+        /**
+         * Starts recording the changes to the given game.
+         *
+         * @param state the game
+         */
+        private Recorder(final GameState state) {
+            this.grid = state.getGrid();
+            this.subscription = state.getEventBus().subscribe(this::onGameEvent);
+        }
+
+        /**
+         * Stops recording.
+         *
+         * @return the recorded changes
+         */
+        public GameDelta stop() {
+            subscription.unsubscribe();
+            return new GameDelta(this);
+        }
+
+        /**
+         * Adds the change of the given event to the recorded changes.
+         *
+         * @param event the published event
+         */
+        private void onGameEvent(final GameEvent event) {
+            if (Thread.currentThread() != thread) {
+                return;
+            }
+            if (event instanceof final ResourceChangedEvent resourceChangedEvent) {
+                resources.computeIfAbsent(resourceChangedEvent.player(), player -> new int[RESOURCE_TYPES.length])
+                    [resourceChangedEvent.resourceType().ordinal()] += resourceChangedEvent.delta();
+            } else if (event instanceof final DevelopmentCardChangedEvent developmentCardChangedEvent) {
+                playedDevelopmentCard |= developmentCardChangedEvent.played();
+                developmentCards.computeIfAbsent(
+                    developmentCardChangedEvent.player(),
+                    player -> new int[DEVELOPMENT_CARD_TYPES.length]
+                )[developmentCardChangedEvent.developmentCardType().ordinal()] += developmentCardChangedEvent.delta();
+            } else if (event instanceof final RoadBuiltEvent roadBuiltEvent) {
+                roads.merge(roadBuiltEvent.edge(), new Change<>(null, roadBuiltEvent.owner()), Change::then);
+            } else if (event instanceof final RoadRemovedEvent roadRemovedEvent) {
+                roads.merge(roadRemovedEvent.edge(), new Change<>(roadRemovedEvent.owner(), null), Change::then);
+            } else if (event instanceof final SettlementPlacedEvent settlementPlacedEvent) {
+                settlements.merge(
+                    settlementPlacedEvent.settlement().intersection(),
+                    new Change<>(settlementPlacedEvent.previous(), settlementPlacedEvent.settlement()),
+                    Change::then
+                );
+            } else if (event instanceof final SettlementRemovedEvent settlementRemovedEvent) {
+                settlements.merge(
+                    settlementRemovedEvent.settlement().intersection(),
+                    new Change<>(settlementRemovedEvent.settlement(), null),
+                    Change::then
+                );
+            } else if (event instanceof final RobberMovedEvent robberMovedEvent) {
+                final Change<TilePosition> change = new Change<>(robberMovedEvent.from(), robberMovedEvent.to());
+                robber = robber == null ? change : robber.then(change);
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package projekt.model;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * An immutable copy of the state of a game that the view can read from any thread.
+ * The game thread captures a new snapshot whenever the game is waiting for an action and publishes it with
+ * {@link HexGrid#publishSnapshot(GameSnapshot)}, so the view never reads the model while it is being changed.
+ *
+ * @param version the version of the snapshot, increases with every published snapshot
+ * @param hash    the {@link GameState#getZobristHash() hash} of the game, equal states have equal hashes
+ * @param board   the state of the board
+ * @param players the state of all players, in the order of the game
+ */
+public record GameSnapshot(long version, long hash, BoardSnapshot board, List<PlayerSnapshot> players) {
+    /**
+     * Creates a new game snapshot with an unmodifiable copy of the given players.
+     */
+    public GameSnapshot {
+        players = List.copyOf(players);
+    }
+
+    /**
+     * Copies the current state of the given game.
+     * Must be called on the thread that changes the game.
+     *
+     * @param version the version of the snapshot
+     * @param state   the state to copy
+     * @return the snapshot
+     */
+    public static GameSnapshot capture(final long version, final GameState state) {
+        return new GameSnapshot(
+            version,
+            state.getZobristHash(),
+            BoardSnapshot.capture(state.getGrid()),
+            state.getPlayers().stream().map(PlayerSnapshot::capture).toList()
+        );
+    }
+
+    /**
+     * Returns the snapshot of the given player.
+     *
+     * @param player the player
+     * @return the snapshot of the player, {@code null} if the player is not part of this snapshot
+     */
+    public @Nullable PlayerSnapshot getPlayer(final Player player) {
+        for (final PlayerSnapshot snapshot : players) {
+            if (snapshot.player() == player) {
+                return snapshot;
+            }
+        }
+        return null;
+    }
+}
@@ -6,6 +6,7 @@ import javafx.scene.paint.Color;
 import org.jetbrains.annotations.Nullable;
 import org.tudalgo.algoutils.student.annotation.DoNotTouch;
 import projekt.Config;
+import projekt.model.events.GameEventBus;
 
 import java.util.Collections;
 import java.util.List;
@@ -28,6 +29,11 @@ public final class GameState {
      */
     private final List<Player> players;
 
+    /**
+     * The {@link GameEventBus} all changes of this game are published on.
+     */
+    private final GameEventBus eventBus;
+
     /**
      * The game over flag.
      */
@@ -43,6 +49,7 @@ public final class GameState {
     public GameState(final HexGrid grid, final List<Player> players) {
         this.grid = grid;
         this.players = players;
+        this.eventBus = grid instanceof HexGridImpl hexGridImpl ? hexGridImpl.getEventBus() : new GameEventBus();
     }
 
     /**
@@ -54,6 +61,18 @@ public final class GameState {
         return grid;
     }
 
+    /**
+     * Returns the {@link GameEventBus} all changes to the grid and the players of this {@link GameState} are
+     * published on. A {@link HexGridImpl} brings its bus along, so changes made to it before this
+     * {@link GameState} was created, like players built on the grid, are published on the same bus. Other grids
+     * do not publish their changes, for them the bus only carries the events of the controllers.
+     *
+     * @return the {@link GameEventBus} of this {@link GameState}
+     */
+    public GameEventBus getEventBus() {
+        return eventBus;
+    }
+
     /**
      * Returns an unmodifiable list of all {@link Player}s in this
      * {@link GameState}.
@@ -136,6 +155,19 @@ public final class GameState {
         return player;
     }
 
+    /**
+     * Returns the {@link Zobrist} hash of the board and all players. Equal states have equal hashes in every run.
+     *
+     * @return the hash of the state
+     */
+    public long getZobristHash() {
+        long hash = grid.getBoardHash();
+        for (final Player player : players) {
+            hash ^= player.getZobristHash();
+        }
+        return hash;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(grid, players);
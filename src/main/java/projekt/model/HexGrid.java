@@ -207,6 +207,18 @@ public interface HexGrid {
         return removeRoad(road.getPosition1(), road.getPosition2());
     }
 
+    /**
+     * Replaces the road at the given edge with a road of the given owner, without any checks.
+     * Only meant to restore a previous state, e.g. to undo the removal of a road.
+     * Grids that keep state derived from the roads, like a hash or events, have to override this method.
+     *
+     * @param edge  the edge
+     * @param owner the owner of the road to restore, {@code null} to remove the road
+     */
+    default void restoreRoad(final Edge edge, final Player owner) {
+        edge.getRoadOwnerProperty().setValue(owner);
+    }
+
 
     // Robber / Bandit
 
@@ -223,4 +235,45 @@ public interface HexGrid {
      * @param position the new position of the robber
      */
     void setRobberPosition(TilePosition position);
+
+
+    // Hashing
+
+    /**
+     * Returns the {@link Zobrist} hash of the roads, settlements and robber position of this grid.
+     * Grids that do not keep the hash up to date compute it from scratch.
+     *
+     * @return the hash of the board
+     */
+    default long getBoardHash() {
+        return Zobrist.computeBoardHash(this);
+    }
+
+
+    // Snapshots
+
+    /**
+     * Returns the {@link GameSnapshot} that was published last for the view.
+     * Before the first snapshot is published, the grid captures a snapshot of the current board without any players
+     * once and returns it until the next snapshot is published.
+     * Grids that do not keep snapshots capture the current board without any players on every call.
+     *
+     * @return the latest published snapshot
+     */
+    default GameSnapshot getSnapshot() {
+        final BoardSnapshot board = BoardSnapshot.capture(this);
+        return new GameSnapshot(0, board.hash(), board, List.of());
+    }
+
+    /**
+     * Publishes the given snapshot for the view and then publishes a
+     * {@link projekt.model.events.SnapshotPublishedEvent} on the event bus of the game, see
+     * {@link GameState#getEventBus()}.
+     * Must only be called by the thread that changes the game.
+     * Grids that do not keep snapshots ignore published snapshots.
+     *
+     * @param snapshot the snapshot to publish
+     */
+    default void publishSnapshot(final GameSnapshot snapshot) {
+    }
 }
@@ -1,6 +1,5 @@
 package projekt.model;
 
-import javafx.beans.binding.Bindings;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleObjectProperty;
@@ -11,6 +10,11 @@ import projekt.Config;
 import projekt.model.buildings.Edge;
 import projekt.model.buildings.EdgeImpl;
 import projekt.model.buildings.Port;
+import projekt.model.events.GameEventBus;
+import projekt.model.events.RoadBuiltEvent;
+import projekt.model.events.RoadRemovedEvent;
+import projekt.model.events.RobberMovedEvent;
+import projekt.model.events.SnapshotPublishedEvent;
 import projekt.model.tiles.Tile;
 import projekt.model.tiles.TileImpl;
 
@@ -19,7 +23,9 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -30,12 +36,17 @@ import java.util.stream.Collectors;
 public class HexGridImpl implements HexGrid {
 
     private final Map<TilePosition, Tile> tiles = new HashMap<>();
-    private final Map<Set<TilePosition>, Intersection> intersections = new HashMap<>();
-    private final Map<Set<TilePosition>, Edge> edges = new HashMap<>();
+    private final PositionSetMap<Intersection> intersectionIndex = new PositionSetMap<>();
+    private final PositionSetMap<Edge> edgeIndex = new PositionSetMap<>();
+    private final Map<Set<TilePosition>, Intersection> intersections = intersectionIndex;
+    private final Map<Set<TilePosition>, Edge> edges = edgeIndex;
     private TilePosition robberPosition;
     private final ObservableDoubleValue tileWidth;
     private final ObservableDoubleValue tileHeight;
     private final DoubleProperty tileSize = new SimpleDoubleProperty(50);
+    private final GameEventBus eventBus = new GameEventBus();
+    private final AtomicReference<GameSnapshot> snapshot = new AtomicReference<>();
+    private long boardHash;
 
     /**
      * Constructs a new hex grid with the specified radius and generators.
@@ -46,8 +57,8 @@ public class HexGridImpl implements HexGrid {
      */
     @DoNotTouch
     public HexGridImpl(final int radius, final Supplier<Integer> rollNumberGenerator, final Supplier<Tile.Type> tileTypeGenerator) {
-        this.tileHeight = Bindings.createDoubleBinding(() -> tileSize.get() * 2, tileSize);
-        this.tileWidth = Bindings.createDoubleBinding(() -> Math.sqrt(3) * tileSize.get(), tileSize);
+        this.tileHeight = new ScaledDoubleValue(tileSize, 2);
+        this.tileWidth = new ScaledDoubleValue(tileSize, Math.sqrt(3));
         initTiles(radius, rollNumberGenerator, tileTypeGenerator);
         initIntersections();
         initEdges();
@@ -74,7 +85,7 @@ public class HexGridImpl implements HexGrid {
      */
     @DoNotTouch
     private void initTiles(final int grid_radius, final Supplier<Integer> rollNumberGenerator, final Supplier<Tile.Type> tileTypeGenerator) {
-        final TilePosition center = new TilePosition(0, 0);
+        final TilePosition center = TilePosition.of(0, 0);
 
         TilePosition.forEachSpiral(
             center,
@@ -177,7 +188,7 @@ public class HexGridImpl implements HexGrid {
 
     @Override
     public Tile getTileAt(final int q, final int r) {
-        return getTileAt(new TilePosition(q, r));
+        return getTileAt(TilePosition.of(q, r));
     }
 
     @Override
@@ -207,7 +218,7 @@ public class HexGridImpl implements HexGrid {
 
     @Override
     public Intersection getIntersectionAt(final TilePosition position0, final TilePosition position1, final TilePosition position2) {
-        return intersections.get(Set.of(position0, position1, position2));
+        return intersectionIndex.get(PositionSetMap.key(position0, position1, position2));
     }
 
 
@@ -220,7 +231,7 @@ public class HexGridImpl implements HexGrid {
 
     @Override
     public Edge getEdge(final TilePosition position0, final TilePosition position1) {
-        return edges.get(Set.of(position0, position1));
+        return edgeIndex.get(PositionSetMap.key(position0, position1));
     }
 
     @Override
@@ -258,7 +269,7 @@ public class HexGridImpl implements HexGrid {
         final boolean checkVillages
     ) {
         // TODO: H1.3
-        final var edge = edges.get(Set.of(position0, position1));
+        final var edge = getEdge(position0, position1);
         if(edge==null){
             throw new IllegalArgumentException("Edge is null");
         }
@@ -276,15 +287,37 @@ public class HexGridImpl implements HexGrid {
             return false;
         }
         edge.getRoadOwnerProperty().setValue(player);
+        boardHash ^= Zobrist.roadKey(edge.getAdjacentTilePositions(), player);
+        eventBus.publish(new RoadBuiltEvent(player, edge));
         return true;
     }
 
     @Override
     public boolean removeRoad(final TilePosition position0, final TilePosition position1) {
-        edges.get(Set.of(position0, position1)).getRoadOwnerProperty().setValue(null);
+        final Edge edge = getEdge(position0, position1);
+        final Player owner = edge.getRoadOwner();
+        edge.getRoadOwnerProperty().setValue(null);
+        boardHash ^= Zobrist.roadKey(edge.getAdjacentTilePositions(), owner);
+        if (owner != null) {
+            eventBus.publish(new RoadRemovedEvent(owner, edge));
+        }
         return true;
     }
 
+    @Override
+    public void restoreRoad(final Edge edge, final Player owner) {
+        final Player previous = edge.getRoadOwner();
+        edge.getRoadOwnerProperty().setValue(owner);
+        boardHash ^= Zobrist.roadKey(edge.getAdjacentTilePositions(), previous)
+            ^ Zobrist.roadKey(edge.getAdjacentTilePositions(), owner);
+        if (previous != null) {
+            eventBus.publish(new RoadRemovedEvent(previous, edge));
+        }
+        if (owner != null) {
+            eventBus.publish(new RoadBuiltEvent(owner, edge));
+        }
+    }
+
 
     // Robber / Bandit
 
@@ -295,6 +328,62 @@ public class HexGridImpl implements HexGrid {
 
     @Override
     public void setRobberPosition(final TilePosition position) {
+        final TilePosition previousPosition = robberPosition;
         robberPosition = position;
+        if (!Objects.equals(previousPosition, position)) {
+            eventBus.publish(new RobberMovedEvent(previousPosition, position));
+        }
+    }
+
+
+    // Hashing
+
+    /**
+     * Returns the hash of the board, kept up to date by every change of a road or settlement.
+     * The robber is only hashed when the hash is read, as it is placed before the hash exists.
+     */
+    @Override
+    public long getBoardHash() {
+        return boardHash ^ Zobrist.robberKey(robberPosition);
+    }
+
+    /**
+     * Replaces the key of a piece of the board in the hash, see {@link Zobrist}.
+     *
+     * @param keys the old key XOR the new key of the piece
+     */
+    void updateBoardHash(final long keys) {
+        boardHash ^= keys;
+    }
+
+
+    // Events
+
+    /**
+     * Returns the bus all changes to this grid and the players on it are published on.
+     * The bus is handed out by the {@link GameState} of the game, see {@link GameState#getEventBus()}.
+     *
+     * @return the event bus
+     */
+    GameEventBus getEventBus() {
+        return eventBus;
+    }
+
+    @Override
+    public GameSnapshot getSnapshot() {
+        final GameSnapshot published = snapshot.get();
+        if (published != null) {
+            return published;
+        }
+        final BoardSnapshot board = BoardSnapshot.capture(this);
+        final GameSnapshot initial = new GameSnapshot(0, board.hash(), board, List.of());
+        // a snapshot published in the meantime is newer than the initial one
+        return snapshot.compareAndSet(null, initial) ? initial : snapshot.get();
+    }
+
+    @Override
+    public void publishSnapshot(final GameSnapshot snapshot) {
+        final GameSnapshot previous = this.snapshot.getAndSet(snapshot);
+        eventBus.publish(new SnapshotPublishedEvent(previous, snapshot));
     }
 }
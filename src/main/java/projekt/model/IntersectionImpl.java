@@ -5,11 +5,13 @@ import org.tudalgo.algoutils.student.annotation.StudentImplementationRequired;
 import projekt.model.buildings.Edge;
 import projekt.model.buildings.Port;
 import projekt.model.buildings.Settlement;
+import projekt.model.events.GameEvent;
+import projekt.model.events.SettlementPlacedEvent;
+import projekt.model.events.SettlementRemovedEvent;
 
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -50,8 +52,9 @@ public class IntersectionImpl implements Intersection {
         if (position0.equals(position1) || position0.equals(position2) || position1.equals(position2))
             throw new IllegalArgumentException("Positions must not be equal");
 
-        if (!TilePosition.neighbours(position0).containsAll(Set.of(position1, position2))
-            || !TilePosition.neighbours(position1).containsAll(Set.of(position0, position2)))
+        final Set<TilePosition> neighbours0 = TilePosition.neighbours(position0);
+        if (!neighbours0.contains(position1) || !neighbours0.contains(position2)
+            || !TilePosition.neighbours(position1).contains(position2))
             throw new IllegalArgumentException(String.format("Positions must be neighbours: %s, %s, %s",
                                                              position0, position1, position2
             ));
@@ -90,6 +93,8 @@ public class IntersectionImpl implements Intersection {
             return false;
         }
         settlement = new Settlement(player, Settlement.Type.VILLAGE, this);
+        updateBoardHash(null, settlement);
+        publish(new SettlementPlacedEvent(settlement, null));
         return true;
     }
 
@@ -100,10 +105,69 @@ public class IntersectionImpl implements Intersection {
         if (settlement == null || settlement.type() != Settlement.Type.VILLAGE || !settlement.owner().equals(player)) {
             return false;
         }
+        final Settlement village = settlement;
         settlement = new Settlement(player, Settlement.Type.CITY, this);
+        updateBoardHash(village, settlement);
+        publish(new SettlementPlacedEvent(settlement, village));
         return true;
     }
 
+    /**
+     * Replaces the settlement on this intersection with the given one, without any checks.
+     * Only meant to restore a previous state, e.g. to roll back a placement or an upgrade, see {@link GameDelta}.
+     *
+     * @param settlement the settlement to restore, {@code null} to remove the settlement
+     */
+    public void restoreSettlement(final Settlement settlement) {
+        final Settlement previous = this.settlement;
+        this.settlement = settlement;
+        updateBoardHash(previous, settlement);
+        if (settlement != null) {
+            publish(new SettlementPlacedEvent(settlement, previous));
+        } else if (previous != null) {
+            publish(new SettlementRemovedEvent(previous));
+        }
+    }
+
+    /**
+     * Publishes the given event on the event bus of the grid, if the grid publishes events.
+     *
+     * @param event the event to publish
+     */
+    private void publish(final GameEvent event) {
+        if (hexGrid instanceof HexGridImpl grid) {
+            grid.getEventBus().publish(event);
+        }
+    }
+
+    /**
+     * Replaces the key of the previous settlement with the key of the new one in the hash of the grid, if the grid
+     * keeps its hash up to date.
+     *
+     * @param previous   the previous settlement, may be {@code null}
+     * @param settlement the new settlement, may be {@code null}
+     */
+    private void updateBoardHash(final Settlement previous, final Settlement settlement) {
+        if (hexGrid instanceof HexGridImpl grid) {
+            grid.updateBoardHash(zobristKey(previous) ^ zobristKey(settlement));
+        }
+    }
+
+    /**
+     * Returns the {@link Zobrist} key of the given settlement on this intersection.
+     *
+     * @param settlement the settlement, may be {@code null}
+     * @return the key, {@code 0} if there is no settlement
+     */
+    private long zobristKey(final Settlement settlement) {
+        if (settlement == null) {
+            return 0;
+        }
+        final long positionsKey = Zobrist.positionKey(position0) ^ Zobrist.positionKey(position1)
+            ^ Zobrist.positionKey(position2);
+        return Zobrist.settlementKey(positionsKey, settlement.owner().getID(), settlement.type());
+    }
+
     @Override
     public Port getPort() {
         return getConnectedEdges().stream()
@@ -116,12 +180,11 @@ public class IntersectionImpl implements Intersection {
     @Override
     public Set<Edge> getConnectedEdges() {
         return Stream.of(
-                Set.of(this.position1, this.position2),
-                Set.of(this.position2, this.position0),
-                Set.of(this.position0, this.position1)
+                this.hexGrid.getEdge(this.position1, this.position2),
+                this.hexGrid.getEdge(this.position2, this.position0),
+                this.hexGrid.getEdge(this.position0, this.position1)
             )
-            .filter(this.hexGrid.getEdges()::containsKey)
-            .map(this.hexGrid.getEdges()::get)
+            .filter(Objects::nonNull)
             .collect(Collectors.toUnmodifiableSet());
     }
 
@@ -133,15 +196,29 @@ public class IntersectionImpl implements Intersection {
 
     @Override
     public Set<Intersection> getAdjacentIntersections() {
-        return hexGrid.getIntersections().entrySet().stream().filter(
-                entry -> entry.getKey().containsAll(Set.of(position0, position1)) ||
-                    entry.getKey().containsAll(Set.of(position1, position2)) ||
-                    entry.getKey().containsAll(Set.of(position2, position0)))
-            .map(Map.Entry::getValue)
-            .filter(Predicate.not(this::equals))
+        // the other intersection on the edge between a and b is the one at a, b and their other common neighbour,
+        // which lies at a + b - c
+        return Stream.of(
+                hexGrid.getIntersectionAt(position0, position1, otherCommonNeighbour(position0, position1, position2)),
+                hexGrid.getIntersectionAt(position1, position2, otherCommonNeighbour(position1, position2, position0)),
+                hexGrid.getIntersectionAt(position2, position0, otherCommonNeighbour(position2, position0, position1))
+            )
+            .filter(Objects::nonNull)
             .collect(Collectors.toUnmodifiableSet());
     }
 
+    /**
+     * Returns the common neighbour of two neighbouring positions that is not the given one.
+     *
+     * @param a     the first position
+     * @param b     the second position
+     * @param other the common neighbour to exclude
+     * @return the other common neighbour
+     */
+    private static TilePosition otherCommonNeighbour(final TilePosition a, final TilePosition b, final TilePosition other) {
+        return TilePosition.of(a.q() + b.q() - other.q(), a.r() + b.r() - other.r());
+    }
+
     @Override
     public Set<TilePosition> getAdjacentTilePositions() {
         return Set.of(position0, position1, position2);
@@ -70,6 +70,16 @@ public interface Player {
      */
     int getVictoryPoints();
 
+    /**
+     * Returns the {@link Zobrist} hash of the resources, development cards and played knights of the player.
+     * Players that do not keep the hash up to date compute it from scratch.
+     *
+     * @return the hash of the player
+     */
+    default long getZobristHash() {
+        return Zobrist.computePlayerHash(this);
+    }
+
     /**
      * Returns an immutable map of all resources the player currently has and how
      * many of each.
@@ -139,6 +149,20 @@ public interface Player {
      */
     int getTradeRatio(ResourceType resourceType);
 
+    /**
+     * Returns the ratios the player can trade each resource for with the bank, indexed by
+     * {@link ResourceType#ordinal()}. Meant for planners that look up ratios in a loop.
+     *
+     * @return the trade ratios of the player; changes to the array do not affect the player
+     */
+    default int[] getTradeRatios() {
+        final int[] ratios = new int[ResourceType.values().length];
+        for (final ResourceType type : ResourceType.values()) {
+            ratios[type.ordinal()] = getTradeRatio(type);
+        }
+        return ratios;
+    }
+
     /**
      * Returns the amount of roads the player can still build.
      *
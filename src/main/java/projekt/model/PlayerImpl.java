@@ -6,8 +6,15 @@ import org.jetbrains.annotations.Nullable;
 import org.tudalgo.algoutils.student.annotation.DoNotTouch;
 import org.tudalgo.algoutils.student.annotation.StudentImplementationRequired;
 import projekt.Config;
+import projekt.model.buildings.Port;
 import projekt.model.buildings.Settlement;
+import projekt.model.events.DevelopmentCardChangedEvent;
+import projekt.model.events.GameEvent;
+import projekt.model.events.ResourceChangedEvent;
+import projekt.model.events.SettlementPlacedEvent;
+import projekt.model.events.SettlementRemovedEvent;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -28,6 +35,8 @@ public class PlayerImpl implements Player {
     private final Map<ResourceType, Integer> resources = new HashMap<>();
     private final Map<DevelopmentCardType, Integer> developmentCards = new HashMap<>();
     private final Map<DevelopmentCardType, Integer> playedDevelopmentCards = new HashMap<>();
+    private volatile int @Nullable [] tradeRatios;
+    private long zobristHash;
 
     @DoNotTouch("Please don't create a public Contructor, use the Builder instead.")
     private PlayerImpl(final HexGrid hexGrid, final Color color, final int id, final String name, final boolean ai) {
@@ -86,7 +95,8 @@ public class PlayerImpl implements Player {
     public void addResource(final ResourceType resourceType, final int amount) {
         // TODO: H1.1
         //If resourceType is not present, replace with amount. If present, replaced with a remapping function
-        resources.merge(resourceType, amount, Integer::sum);
+        final int newAmount = resources.merge(resourceType, amount, Integer::sum);
+        resourceChanged(resourceType, amount, newAmount);
     }
 
     @Override
@@ -116,10 +126,27 @@ public class PlayerImpl implements Player {
         if(!hasResources(Map.of(resourceType, amount))){
             return false;
         }
-        resources.merge(resourceType, -amount, Integer::sum);
+        final int newAmount = resources.merge(resourceType, -amount, Integer::sum);
+        resourceChanged(resourceType, -amount, newAmount);
         return true;
     }
 
+    /**
+     * Updates the {@link Zobrist} hash of this player and publishes a {@link ResourceChangedEvent}, unless nothing
+     * changed.
+     *
+     * @param resourceType the type of the changed resource
+     * @param delta        the amount that was added (positive) or removed (negative)
+     * @param amount       the amount after the change
+     */
+    private void resourceChanged(final ResourceType resourceType, final int delta, final int amount) {
+        zobristHash ^= Zobrist.resourceKey(id, resourceType, amount - delta)
+            ^ Zobrist.resourceKey(id, resourceType, amount);
+        if (delta != 0) {
+            publish(new ResourceChangedEvent(this, resourceType, delta, amount));
+        }
+    }
+
     @Override
     @StudentImplementationRequired("H1.1")
     public boolean removeResources(final Map<ResourceType, Integer> resources) {
@@ -137,16 +164,81 @@ public class PlayerImpl implements Player {
     @StudentImplementationRequired("H1.1")
     public int getTradeRatio(final ResourceType resourceType) {
         // TODO: H1.1
-        return getHexGrid()
-            .getIntersections()
-            .values().stream()
-            .filter(intersection -> intersection.getPort()!=null //get only intersections with generic or specialised ports
-                &&
-                intersection.getPort().resourceType()==null||intersection.getPort().resourceType().equals(resourceType))
-            .filter(intersection -> intersection.playerHasSettlement(this)) //only get intersections -> ports owned by this player
-            .map(intersection -> intersection.getPort().ratio()) //map intersections with ports to the ports' respective ratios
-            .min(Integer::compareTo)
-            .orElse(4); //pick the first/lowest/best trade ratio, else default to 4
+        final int[] ratios = this.tradeRatios;
+        return (ratios != null ? ratios : computeTradeRatios())[resourceType.ordinal()];
+    }
+
+    /**
+     * Returns a copy of the trade ratios, which are kept up to date by the settlement events of the grid.
+     */
+    @Override
+    public int[] getTradeRatios() {
+        final int[] ratios = this.tradeRatios;
+        return ratios != null ? ratios.clone() : computeTradeRatios();
+    }
+
+    /**
+     * Computes the trade ratios once and keeps them up to date by the settlement events of the grid, if the grid
+     * publishes events. Placing a settlement of this player on a port can only improve a ratio, so the port is
+     * applied directly, while losing a settlement on a port recomputes all ratios.
+     * The cached array is replaced on every change and never modified, so it can be read from any thread.
+     */
+    private void trackTradeRatios() {
+        if (!(hexGrid instanceof HexGridImpl grid)) {
+            return;
+        }
+        tradeRatios = computeTradeRatios();
+        grid.getEventBus().subscribe(SettlementPlacedEvent.class, event -> {
+            final Settlement previous = event.previous();
+            if (previous != null && previous.owner().equals(this) && !event.settlement().owner().equals(this)) {
+                tradeRatios = computeTradeRatios();
+            } else if (event.settlement().owner().equals(this) && event.settlement().intersection().getPort() != null) {
+                final int[] ratios = tradeRatios.clone();
+                applyPort(ratios, event.settlement().intersection().getPort());
+                tradeRatios = ratios;
+            }
+        });
+        grid.getEventBus().subscribe(SettlementRemovedEvent.class, event -> {
+            if (event.settlement().owner().equals(this) && event.settlement().intersection().getPort() != null) {
+                tradeRatios = computeTradeRatios();
+            }
+        });
+    }
+
+    /**
+     * Computes the trade ratios of this player from the ports next to their settlements.
+     * Without a port, every resource is traded 4:1.
+     *
+     * @return the trade ratios of this player, indexed by {@link ResourceType#ordinal()}
+     */
+    private int[] computeTradeRatios() {
+        final int[] ratios = new int[ResourceType.values().length];
+        Arrays.fill(ratios, 4);
+        if (hexGrid != null) {
+            for (final Intersection intersection : hexGrid.getIntersections().values()) {
+                if (intersection.playerHasSettlement(this)) {
+                    applyPort(ratios, intersection.getPort());
+                }
+            }
+        }
+        return ratios;
+    }
+
+    /**
+     * Lowers the given ratios to the ratio of the given port for every resource the port accepts.
+     *
+     * @param ratios the ratios to update, indexed by {@link ResourceType#ordinal()}
+     * @param port   the port, may be {@code null}
+     */
+    private static void applyPort(final int[] ratios, final @Nullable Port port) {
+        if (port == null) {
+            return;
+        }
+        for (final ResourceType type : ResourceType.values()) {
+            if (port.resourceType() == null || port.resourceType() == type) {
+                ratios[type.ordinal()] = Math.min(ratios[type.ordinal()], port.ratio());
+            }
+        }
     }
 
     @Override
@@ -181,7 +273,8 @@ public class PlayerImpl implements Player {
     @StudentImplementationRequired("H1.2")
     public void addDevelopmentCard(final DevelopmentCardType developmentCardType) {
         // TODO: H1.2
-        developmentCards.merge(developmentCardType, 1, Integer::sum);
+        final int amount = developmentCards.merge(developmentCardType, 1, Integer::sum);
+        developmentCardsChanged(developmentCardType, 1, amount, false);
     }
 
     @Override
@@ -191,11 +284,68 @@ public class PlayerImpl implements Player {
         if(developmentCards.get(developmentCardType)<1){
             return false;
         }
-        developmentCards.merge(developmentCardType, -1, Integer::sum);
-        playedDevelopmentCards.merge(developmentCardType, 1, Integer::sum); //a removed dev card is played
+        final int amount = developmentCards.merge(developmentCardType, -1, Integer::sum);
+        //a removed dev card is played
+        final int played = playedDevelopmentCards.merge(developmentCardType, 1, Integer::sum);
+        developmentCardsChanged(developmentCardType, -1, amount, true);
+        if (developmentCardType == DevelopmentCardType.KNIGHT) {
+            zobristHash ^= Zobrist.knightsPlayedKey(id, played - 1) ^ Zobrist.knightsPlayedKey(id, played);
+        }
+        return true;
+    }
+
+    /**
+     * Takes back the given development card without playing it, e.g. to roll back a purchase, see {@link GameDelta}.
+     *
+     * @param developmentCardType the development card to take back
+     * @return true if the card was taken back, false if the player does not have it
+     */
+    public boolean discardDevelopmentCard(final DevelopmentCardType developmentCardType) {
+        if (developmentCards.getOrDefault(developmentCardType, 0) < 1) {
+            return false;
+        }
+        final int amount = developmentCards.merge(developmentCardType, -1, Integer::sum);
+        developmentCardsChanged(developmentCardType, -1, amount, false);
         return true;
     }
 
+    /**
+     * Replaces the {@link Zobrist} key of the previous amount of development cards of the given type with the key of
+     * the new amount and publishes a {@link DevelopmentCardChangedEvent}.
+     *
+     * @param developmentCardType the type of the development cards
+     * @param delta               the amount that was added (positive) or removed (negative)
+     * @param amount              the amount after the change
+     * @param played              whether the removed card was played
+     */
+    private void developmentCardsChanged(
+        final DevelopmentCardType developmentCardType, final int delta, final int amount, final boolean played
+    ) {
+        zobristHash ^= Zobrist.developmentCardKey(id, developmentCardType, amount - delta)
+            ^ Zobrist.developmentCardKey(id, developmentCardType, amount);
+        publish(new DevelopmentCardChangedEvent(this, developmentCardType, delta, amount, played));
+    }
+
+    /**
+     * Publishes the given event on the event bus of the grid, unless the player is not placed on a grid that
+     * publishes events.
+     *
+     * @param event the event to publish
+     */
+    private void publish(final GameEvent event) {
+        if (hexGrid instanceof HexGridImpl grid) {
+            grid.getEventBus().publish(event);
+        }
+    }
+
+    /**
+     * Returns the hash of this player, kept up to date by every change of the resources and development cards.
+     */
+    @Override
+    public long getZobristHash() {
+        return zobristHash;
+    }
+
     @Override
     @StudentImplementationRequired("H1.2")
     public int getTotalDevelopmentCards() {
@@ -339,12 +489,15 @@ public class PlayerImpl implements Player {
 
         /**
          * Builds the player with the properties set in this builder.
+         * From then on, the player keeps their trade ratios up to date with the settlements placed on the grid.
          *
          * @param grid the grid the player is on
          * @return the player with the properties set in this builder
          */
         public Player build(final HexGrid grid) {
-            return new PlayerImpl(grid, this.color, this.id, nameOrDefault(), this.ai.get());
+            final PlayerImpl player = new PlayerImpl(grid, this.color, this.id, nameOrDefault(), this.ai.get());
+            player.trackTradeRatios();
+            return player;
         }
     }
 
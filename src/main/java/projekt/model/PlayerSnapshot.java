@@ -0,0 +1,71 @@
+package projekt.model;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * An immutable copy of the parts of a {@link Player} that change during a game.
+ * The player itself is only kept to identify it and to read its name and color, which do not change.
+ *
+ * @param player            the player
+ * @param resources         the resources of the player, in the order of {@link ResourceType}
+ * @param developmentCards  the development cards of the player, in the order of {@link DevelopmentCardType}
+ * @param victoryPoints     the victory points of the player
+ * @param knightsPlayed     the amount of knights the player has played
+ * @param remainingRoads    the amount of roads the player can still build
+ * @param remainingVillages the amount of villages the player can still build
+ * @param remainingCities   the amount of cities the player can still build
+ */
+public record PlayerSnapshot(
+    Player player,
+    Map<ResourceType, Integer> resources,
+    Map<DevelopmentCardType, Integer> developmentCards,
+    int victoryPoints,
+    int knightsPlayed,
+    int remainingRoads,
+    int remainingVillages,
+    int remainingCities
+) {
+    /**
+     * Copies the current state of the given player.
+     * Must be called on the thread that changes the player.
+     *
+     * @param player the player to copy
+     * @return the snapshot
+     */
+    public static PlayerSnapshot capture(final Player player) {
+        final Map<ResourceType, Integer> resources = new EnumMap<>(ResourceType.class);
+        resources.putAll(player.getResources());
+        final Map<DevelopmentCardType, Integer> developmentCards = new EnumMap<>(DevelopmentCardType.class);
+        developmentCards.putAll(player.getDevelopmentCards());
+        return new PlayerSnapshot(
+            player,
+            Collections.unmodifiableMap(resources),
+            Collections.unmodifiableMap(developmentCards),
+            player.getVictoryPoints(),
+            player.getKnightsPlayed(),
+            player.getRemainingRoads(),
+            player.getRemainingVillages(),
+            player.getRemainingCities()
+        );
+    }
+
+    /**
+     * Returns the total amount of resources of the player.
+     *
+     * @return the total amount of resources
+     */
+    public int getTotalResources() {
+        return resources.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * Returns the total amount of development cards of the player.
+     *
+     * @return the total amount of development cards
+     */
+    public int getTotalDevelopmentCards() {
+        return developmentCards.values().stream().mapToInt(Integer::intValue).sum();
+    }
+}
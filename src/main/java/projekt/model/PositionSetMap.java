@@ -0,0 +1,348 @@
+package projekt.model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A map from sets of two or three {@link TilePosition}s, i.e. edges and intersections, to values.
+ * The positions of a set are packed into a single {@code long} key that does not depend on their order, so looking
+ * up a value neither allocates nor hashes a {@link Set}. The keys are stored in an open-addressing table with linear
+ * probing.
+ * <p>
+ * The map can be used like any other {@link java.util.Map}; {@link #get(long)} together with {@link #key} allows
+ * lookups without creating a set. The entry set is a view that is created on first use.
+ *
+ * @param <V> the type of the values
+ */
+final class PositionSetMap<V> extends AbstractMap<Set<TilePosition>, V> {
+    /**
+     * The key of empty slots. Valid keys are never negative.
+     */
+    private static final long EMPTY = -1;
+
+    /**
+     * The bits used for each coordinate of a packed position.
+     */
+    private static final int COORDINATE_BITS = 10;
+
+    /**
+     * The offset added to each coordinate to make it non-negative.
+     */
+    private static final int COORDINATE_OFFSET = 1 << (COORDINATE_BITS - 1);
+
+    private long[] keys;
+    private Object[] keySets;
+    private Object[] values;
+    private int size;
+    private Set<Entry<Set<TilePosition>, V>> entrySet;
+
+    /**
+     * Creates a new, empty map.
+     */
+    PositionSetMap() {
+        allocate(64);
+    }
+
+    /**
+     * Returns the key of the edge between the given positions.
+     *
+     * @param position0 the first position
+     * @param position1 the second position
+     * @return the packed key, or a negative value if a coordinate is out of range
+     */
+    static long key(final TilePosition position0, final TilePosition position1) {
+        if (!inRange(position0) || !inRange(position1)) {
+            return EMPTY;
+        }
+        final long packed0 = pack(position0);
+        final long packed1 = pack(position1);
+        return 2L << 60 | Math.min(packed0, packed1) << 20 | Math.max(packed0, packed1);
+    }
+
+    /**
+     * Returns the key of the intersection between the given positions.
+     *
+     * @param position0 the first position
+     * @param position1 the second position
+     * @param position2 the third position
+     * @return the packed key, or a negative value if a coordinate is out of range
+     */
+    static long key(final TilePosition position0, final TilePosition position1, final TilePosition position2) {
+        if (!inRange(position0) || !inRange(position1) || !inRange(position2)) {
+            return EMPTY;
+        }
+        long a = pack(position0);
+        long b = pack(position1);
+        long c = pack(position2);
+        if (a > b) {
+            final long t = a;
+            a = b;
+            b = t;
+        }
+        if (b > c) {
+            final long t = b;
+            b = c;
+            c = t;
+        }
+        if (a > b) {
+            final long t = a;
+            a = b;
+            b = t;
+        }
+        return 3L << 60 | a << 40 | b << 20 | c;
+    }
+
+    /**
+     * Returns the key of the given set of positions.
+     *
+     * @param positions the positions
+     * @return the packed key, or a negative value if the object is not a set of two or three positions in range
+     */
+    private static long key(final Object positions) {
+        if (!(positions instanceof final Set<?> set) || set.size() < 2 || set.size() > 3) {
+            return EMPTY;
+        }
+        final Iterator<?> iterator = set.iterator();
+        final Object position0 = iterator.next();
+        final Object position1 = iterator.next();
+        final Object position2 = iterator.hasNext() ? iterator.next() : null;
+        if (!(position0 instanceof final TilePosition tilePosition0 && position1 instanceof final TilePosition tilePosition1)) {
+            return EMPTY;
+        }
+        if (position2 == null) {
+            return key(tilePosition0, tilePosition1);
+        }
+        return position2 instanceof final TilePosition tilePosition2
+               ? key(tilePosition0, tilePosition1, tilePosition2)
+               : EMPTY;
+    }
+
+    /**
+     * Packs the coordinates of the given position into the lowest 20 bits of a {@code long}.
+     *
+     * @param position the position
+     * @return the packed position
+     */
+    private static long pack(final TilePosition position) {
+        return (long) (position.q() + COORDINATE_OFFSET) << COORDINATE_BITS | (position.r() + COORDINATE_OFFSET);
+    }
+
+    /**
+     * Returns whether the coordinates of the given position can be packed.
+     *
+     * @param position the position
+     * @return whether the position can be packed
+     */
+    private static boolean inRange(final TilePosition position) {
+        return position.q() >= -COORDINATE_OFFSET && position.q() < COORDINATE_OFFSET
+            && position.r() >= -COORDINATE_OFFSET && position.r() < COORDINATE_OFFSET;
+    }
+
+    /**
+     * Returns the value mapped to the given packed key.
+     *
+     * @param key the packed key, see {@link #key(TilePosition, TilePosition)} and
+     *            {@link #key(TilePosition, TilePosition, TilePosition)}
+     * @return the value, or {@code null} if there is none
+     */
+    @SuppressWarnings("unchecked")
+    V get(final long key) {
+        final int slot = find(key);
+        return slot >= 0 ? (V) values[slot] : null;
+    }
+
+    @Override
+    public V get(final Object key) {
+        return get(key(key));
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return find(key(key)) >= 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(final Set<TilePosition> positions, final V value) {
+        final long key = key(positions);
+        if (key == EMPTY) {
+            throw new IllegalArgumentException(String.format("Not an edge or intersection: %s", positions));
+        }
+        int slot = slot(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                final V previous = (V) values[slot];
+                keySets[slot] = positions;
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & (keys.length - 1);
+        }
+        keys[slot] = key;
+        keySets[slot] = positions;
+        values[slot] = value;
+        if (++size * 2 > keys.length) {
+            rehash(keys.length * 2);
+        }
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(final Object key) {
+        int slot = find(key(key));
+        if (slot < 0) {
+            return null;
+        }
+        final V previous = (V) values[slot];
+        // shift back following entries of the same cluster so that no probe sequence is interrupted
+        int next = (slot + 1) & (keys.length - 1);
+        while (keys[next] != EMPTY) {
+            final int home = slot(keys[next]);
+            if (((next - home) & (keys.length - 1)) >= ((next - slot) & (keys.length - 1))) {
+                keys[slot] = keys[next];
+                keySets[slot] = keySets[next];
+                values[slot] = values[next];
+                slot = next;
+            }
+            next = (next + 1) & (keys.length - 1);
+        }
+        keys[slot] = EMPTY;
+        keySets[slot] = null;
+        values[slot] = null;
+        size--;
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        Arrays.fill(keySets, null);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    @Override
+    public Set<Entry<Set<TilePosition>, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    /**
+     * Returns the slot of the given key.
+     *
+     * @param key the packed key
+     * @return the slot, or {@code -1} if the key is not contained
+     */
+    private int find(final long key) {
+        if (key == EMPTY) {
+            return -1;
+        }
+        int slot = slot(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & (keys.length - 1);
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the slot the given key is placed in if there are no collisions.
+     *
+     * @param key the packed key
+     * @return the home slot of the key
+     */
+    private int slot(final long key) {
+        final long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ hash >>> 32) & (keys.length - 1);
+    }
+
+    /**
+     * Creates empty tables with the given capacity.
+     *
+     * @param capacity the capacity, a power of two
+     */
+    private void allocate(final int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        keySets = new Object[capacity];
+        values = new Object[capacity];
+    }
+
+    /**
+     * Moves all entries into tables with the given capacity.
+     *
+     * @param capacity the new capacity, a power of two
+     */
+    private void rehash(final int capacity) {
+        final long[] oldKeys = keys;
+        final Object[] oldKeySets = keySets;
+        final Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slot(oldKeys[i]);
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & (keys.length - 1);
+                }
+                keys[slot] = oldKeys[i];
+                keySets[slot] = oldKeySets[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * The entries of the map, in slot order.
+     */
+    private final class EntrySet extends AbstractSet<Entry<Set<TilePosition>, V>> {
+        @Override
+        public Iterator<Entry<Set<TilePosition>, V>> iterator() {
+            return new Iterator<>() {
+                private int slot = advance(0);
+
+                @Override
+                public boolean hasNext() {
+                    return slot < keys.length;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public Entry<Set<TilePosition>, V> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    final Entry<Set<TilePosition>, V> entry =
+                        new SimpleImmutableEntry<>((Set<TilePosition>) keySets[slot], (V) values[slot]);
+                    slot = advance(slot + 1);
+                    return entry;
+                }
+
+                private int advance(int from) {
+                    while (from < keys.length && keys[from] == EMPTY) {
+                        from++;
+                    }
+                    return from;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package projekt.model;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableDoubleValue;
+import javafx.beans.value.ObservableValue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A read-only value that is a fixed multiple of another observable value, e.g. the width of a tile derived from
+ * the tile size.
+ * <p>
+ * Unlike a binding, this value does not cache anything and does not observe its source on its own: reading it
+ * simply multiplies the current value of the source, and listeners are only registered on the source while a view
+ * listens to this value. A grid that is never shown therefore does not pay for listeners or bindings.
+ */
+final class ScaledDoubleValue implements ObservableDoubleValue {
+    private final ObservableDoubleValue source;
+    private final double factor;
+    private List<ForwardingListener> listeners;
+
+    /**
+     * Creates a new value that is the given multiple of the given source.
+     *
+     * @param source the value to scale
+     * @param factor the factor to scale with
+     */
+    ScaledDoubleValue(final ObservableDoubleValue source, final double factor) {
+        this.source = source;
+        this.factor = factor;
+    }
+
+    @Override
+    public double get() {
+        return source.get() * factor;
+    }
+
+    @Override
+    public Number getValue() {
+        return get();
+    }
+
+    @Override
+    public int intValue() {
+        return (int) get();
+    }
+
+    @Override
+    public long longValue() {
+        return (long) get();
+    }
+
+    @Override
+    public float floatValue() {
+        return (float) get();
+    }
+
+    @Override
+    public double doubleValue() {
+        return get();
+    }
+
+    @Override
+    public void addListener(final InvalidationListener listener) {
+        final ForwardingListener forwardingListener = new ForwardingListener(listener, null);
+        getListeners().add(forwardingListener);
+        source.addListener((InvalidationListener) forwardingListener);
+    }
+
+    @Override
+    public void removeListener(final InvalidationListener listener) {
+        final ForwardingListener forwardingListener = removeForwardingListener(listener);
+        if (forwardingListener != null) {
+            source.removeListener((InvalidationListener) forwardingListener);
+        }
+    }
+
+    @Override
+    public void addListener(final ChangeListener<? super Number> listener) {
+        final ForwardingListener forwardingListener = new ForwardingListener(null, listener);
+        getListeners().add(forwardingListener);
+        source.addListener((ChangeListener<? super Number>) forwardingListener);
+    }
+
+    @Override
+    public void removeListener(final ChangeListener<? super Number> listener) {
+        final ForwardingListener forwardingListener = removeForwardingListener(listener);
+        if (forwardingListener != null) {
+            source.removeListener((ChangeListener<? super Number>) forwardingListener);
+        }
+    }
+
+    /**
+     * Returns the registered listeners, creating the list if necessary.
+     *
+     * @return the registered listeners
+     */
+    private List<ForwardingListener> getListeners() {
+        if (listeners == null) {
+            listeners = new ArrayList<>(1);
+        }
+        return listeners;
+    }
+
+    /**
+     * Removes the first forwarding listener for the given listener.
+     *
+     * @param listener the listener of this value
+     * @return the removed forwarding listener, {@code null} if the listener was not registered
+     */
+    private ForwardingListener removeForwardingListener(final Object listener) {
+        if (listeners == null) {
+            return null;
+        }
+        for (int i = 0; i < listeners.size(); i++) {
+            final ForwardingListener forwardingListener = listeners.get(i);
+            if (listener.equals(forwardingListener.invalidationListener)
+                || listener.equals(forwardingListener.changeListener)) {
+                return listeners.remove(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Listens to the source and notifies a listener of this value with this value and scaled values.
+     */
+    private final class ForwardingListener implements InvalidationListener, ChangeListener<Number> {
+        private final InvalidationListener invalidationListener;
+        private final ChangeListener<? super Number> changeListener;
+
+        /**
+         * Creates a new forwarding listener.
+         *
+         * @param invalidationListener the invalidation listener to notify, or {@code null}
+         * @param changeListener       the change listener to notify, or {@code null}
+         */
+        private ForwardingListener(
+            final InvalidationListener invalidationListener,
+            final ChangeListener<? super Number> changeListener
+        ) {
+            this.invalidationListener = invalidationListener;
+            this.changeListener = changeListener;
+        }
+
+        @Override
+        public void invalidated(final Observable observable) {
+            invalidationListener.invalidated(ScaledDoubleValue.this);
+        }
+
+        @Override
+        public void changed(final ObservableValue<? extends Number> observable, final Number oldValue, final Number newValue) {
+            changeListener.changed(ScaledDoubleValue.this, oldValue.doubleValue() * factor, newValue.doubleValue() * factor);
+        }
+    }
+}
@@ -2,9 +2,10 @@ package projekt.model;
 
 import org.jetbrains.annotations.NotNull;
 import org.tudalgo.algoutils.student.annotation.DoNotTouch;
+import projekt.Config;
 
 import java.util.Arrays;
-import java.util.Comparator;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
@@ -18,6 +19,114 @@ import java.util.stream.Stream;
  */
 @DoNotTouch
 public record TilePosition(int q, int r) implements Comparable<TilePosition> {
+    /**
+     * How many rings of padding are interned around a grid, so the positions just outside the grid that
+     * intersections, edges and ports refer to are interned as well.
+     */
+    private static final int INTERNED_PADDING = 2;
+
+    /**
+     * The interned positions and their neighbours. Starts with the default grid and grows to the largest grid
+     * constructed, see {@link #intern(int)}.
+     */
+    private static volatile Interned interned = new Interned(Config.GRID_RADIUS + INTERNED_PADDING, null);
+
+    /**
+     * Returns the position with the given coordinates.
+     * Positions on or near the largest grid constructed so far are interned, so no new object is created for them.
+     *
+     * @param q the q-coordinate
+     * @param r the r-coordinate
+     * @return the position
+     */
+    public static TilePosition of(final int q, final int r) {
+        final Interned table = interned;
+        return table.contains(q, r) ? table.positions[table.index(q, r)] : new TilePosition(q, r);
+    }
+
+    /**
+     * Makes sure that all positions on and near a grid with the given radius are interned.
+     * Positions that are already interned stay the same objects. Grids created from a {@link BoardLayout} call this
+     * before they are constructed; grids constructed directly only use the interned positions of the default radius
+     * and larger ones, beyond that positions are equal, but not interned.
+     *
+     * @param gridRadius the radius of the grid, center is included
+     */
+    static synchronized void intern(final int gridRadius) {
+        if (gridRadius + INTERNED_PADDING > interned.radius) {
+            interned = new Interned(gridRadius + INTERNED_PADDING, interned);
+        }
+    }
+
+    /**
+     * A square of interned positions and their neighbours. Its size never changes; {@link #intern(int)} replaces it
+     * with a larger one instead.
+     */
+    private static final class Interned {
+        /**
+         * The largest absolute coordinate of the interned positions.
+         */
+        private final int radius;
+
+        /**
+         * The width of the square of interned positions.
+         */
+        private final int width;
+
+        /**
+         * The interned positions, indexed by {@link #index(int, int)}.
+         */
+        private final TilePosition[] positions;
+
+        /**
+         * The neighbours of the interned positions, indexed by {@link #index(int, int)}.
+         * Filled on first use, as {@link EdgeDirection} cannot be used while {@link TilePosition} is initialized.
+         */
+        private final Set<TilePosition>[] neighbours;
+
+        /**
+         * Creates a new square of interned positions.
+         *
+         * @param radius   the largest absolute coordinate of the interned positions
+         * @param previous the smaller square whose positions are taken over, or {@code null}
+         */
+        @SuppressWarnings("unchecked")
+        private Interned(final int radius, final Interned previous) {
+            this.radius = radius;
+            this.width = 2 * radius + 1;
+            this.positions = new TilePosition[width * width];
+            this.neighbours = new Set[positions.length];
+            for (int q = -radius; q <= radius; q++) {
+                for (int r = -radius; r <= radius; r++) {
+                    positions[index(q, r)] = previous != null && previous.contains(q, r)
+                        ? previous.positions[previous.index(q, r)]
+                        : new TilePosition(q, r);
+                }
+            }
+        }
+
+        /**
+         * Returns whether the position with the given coordinates is interned.
+         *
+         * @param q the q-coordinate
+         * @param r the r-coordinate
+         * @return whether the position is interned
+         */
+        private boolean contains(final int q, final int r) {
+            return q >= -radius && q <= radius && r >= -radius && r <= radius;
+        }
+
+        /**
+         * Returns the index of the interned position with the given coordinates.
+         *
+         * @param q the q-coordinate
+         * @param r the r-coordinate
+         * @return the index in {@link #positions} and {@link #neighbours}
+         */
+        private int index(final int q, final int r) {
+            return (q + radius) * width + r + radius;
+        }
+    }
 
     /**
      * Calculates the s coordinate of this position.
@@ -36,7 +145,7 @@ public record TilePosition(int q, int r) implements Comparable<TilePosition> {
      * @return a new scaled position
      */
     public static TilePosition scale(final TilePosition position, final int scale) {
-        return new TilePosition(position.q * scale, position.r * scale);
+        return of(position.q * scale, position.r * scale);
     }
 
     /**
@@ -47,7 +156,7 @@ public record TilePosition(int q, int r) implements Comparable<TilePosition> {
      * @return the newly calculated position
      */
     public static TilePosition add(final TilePosition position1, final TilePosition position2) {
-        return new TilePosition(position1.q + position2.q, position1.r + position2.r);
+        return of(position1.q + position2.q, position1.r + position2.r);
     }
 
     /**
@@ -58,7 +167,7 @@ public record TilePosition(int q, int r) implements Comparable<TilePosition> {
      * @return the newly calculated position
      */
     public static TilePosition subtract(final TilePosition position1, final TilePosition position2) {
-        return new TilePosition(position1.q - position2.q, position1.r - position2.r);
+        return of(position1.q - position2.q, position1.r - position2.r);
     }
 
     /**
@@ -79,8 +188,29 @@ public record TilePosition(int q, int r) implements Comparable<TilePosition> {
      * @return all neighbours of the given position
      */
     public static Set<TilePosition> neighbours(final TilePosition position) {
-        return Arrays.stream(EdgeDirection.values()).map(direction -> neighbour(position, direction))
-            .collect(Collectors.toSet());
+        final Interned table = interned;
+        if (!table.contains(position.q, position.r)) {
+            return computeNeighbours(position);
+        }
+        final int index = table.index(position.q, position.r);
+        Set<TilePosition> neighbours = table.neighbours[index];
+        if (neighbours == null) {
+            // the sets are immutable, so racing threads at worst compute the same set twice
+            neighbours = computeNeighbours(position);
+            table.neighbours[index] = neighbours;
+        }
+        return neighbours;
+    }
+
+    /**
+     * Computes all neighbours of the given position.
+     *
+     * @param position the position to get the neighbours of
+     * @return all neighbours of the given position
+     */
+    private static Set<TilePosition> computeNeighbours(final TilePosition position) {
+        return Arrays.stream(EdgeDirection.VALUES).map(direction -> neighbour(position, direction))
+            .collect(Collectors.toUnmodifiableSet());
     }
 
     /**
@@ -138,6 +268,11 @@ public record TilePosition(int q, int r) implements Comparable<TilePosition> {
         SOUTH_WEST(new TilePosition(-1, 1)),
         SOUTH_EAST(new TilePosition(0, 1));
 
+        /**
+         * All directions, so that looking them up does not copy {@link #values()}.
+         */
+        private static final EdgeDirection[] VALUES = values();
+
         /**
          * The relative position this direction is pointing to; with q, r, s in [-1, 1].
          */
@@ -183,10 +318,12 @@ public record TilePosition(int q, int r) implements Comparable<TilePosition> {
          * @return the direction of the edge
          */
         public static EdgeDirection fromRelativePosition(final TilePosition position) {
-            return Arrays.stream(EdgeDirection.values())
-                .filter(direction -> direction.position.equals(position))
-                .findFirst()
-                .orElseThrow();
+            for (final EdgeDirection direction : VALUES) {
+                if (direction.position.equals(position)) {
+                    return direction;
+                }
+            }
+            throw new NoSuchElementException(String.format("%s is not next to the origin", position));
         }
 
         /**
@@ -215,7 +352,7 @@ public record TilePosition(int q, int r) implements Comparable<TilePosition> {
          * @return a stream of all possible edge directions
          */
         public static Stream<EdgeDirection> stream() {
-            return Arrays.stream(EdgeDirection.values());
+            return Arrays.stream(VALUES);
         }
 
         EdgeDirection(final TilePosition position) {
@@ -262,9 +399,8 @@ public record TilePosition(int q, int r) implements Comparable<TilePosition> {
     public int compareTo(@NotNull final TilePosition otherPosition) {
         // top to bottom
         // left to right
-        return Comparator.comparingInt(TilePosition::q)
-            .thenComparingInt(TilePosition::r)
-            .compare(this, otherPosition);
+        final int byQ = Integer.compare(this.q, otherPosition.q);
+        return byQ != 0 ? byQ : Integer.compare(this.r, otherPosition.r);
     }
 
     /**
@@ -0,0 +1,194 @@
+package projekt.model;
+
+import org.jetbrains.annotations.Nullable;
+import projekt.model.buildings.Edge;
+import projekt.model.buildings.Settlement;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Zobrist hashing of game states: every piece of state, e.g. a settlement of a player on an intersection or an amount
+ * of a resource in a wallet, has a 64-bit key, and the hash of a state is the XOR of the keys of all its pieces.
+ * Changing a piece only XORs its old key out and its new key in, so {@link HexGridImpl}, {@link IntersectionImpl} and
+ * {@link PlayerImpl} keep their hashes up to date in constant time per change.
+ * <p>
+ * The keys are derived from the positions, player ids and types with a fixed mixing function instead of being drawn
+ * from a random table, so the same state has the same hash in every run, e.g. to remove duplicates from data that was
+ * generated by many runs. Empty pieces, like an amount of {@code 0}, have the key {@code 0}, so an empty board
+ * without robber and a new player have the hash {@code 0}.
+ * <p>
+ * The {@code compute} methods compute hashes from scratch for grids and players that do not keep them up to date.
+ */
+public final class Zobrist {
+    private static final long SETTLEMENT = 0x5E77_1E4E_27A1_0001L;
+    private static final long ROAD = 0x90AD_0000_0000_0002L;
+    private static final long ROBBER = 0x90BB_E400_0000_0003L;
+    private static final long RESOURCE = 0x4E50_0C4E_0000_0004L;
+    private static final long DEVELOPMENT_CARD = 0xDE7C_A4D0_0000_0005L;
+    private static final long KNIGHTS_PLAYED = 0x6417_4700_0000_0006L;
+
+    private Zobrist() {
+    }
+
+    /**
+     * Returns the key of the given settlement on the intersection with the given positions.
+     *
+     * @param positions  the positions of the intersection
+     * @param settlement the settlement, may be {@code null}
+     * @return the key, {@code 0} if there is no settlement
+     */
+    public static long settlementKey(final Set<TilePosition> positions, final @Nullable Settlement settlement) {
+        return settlement == null ? 0 : settlementKey(
+            positionsKey(positions), settlement.owner().getID(), settlement.type()
+        );
+    }
+
+    /**
+     * Returns the key of a settlement on the intersection with the given positions key.
+     *
+     * @param positionsKey the {@link #positionKey(TilePosition) keys} of the positions of the intersection, XORed
+     * @param owner        the id of the owner
+     * @param type         the type of the settlement
+     * @return the key
+     */
+    static long settlementKey(final long positionsKey, final int owner, final Settlement.Type type) {
+        return mix(positionsKey ^ mix(SETTLEMENT + owner * 8L + type.ordinal()));
+    }
+
+    /**
+     * Returns the key of a road of the given owner on the edge with the given positions.
+     *
+     * @param positions the positions of the edge
+     * @param owner     the owner of the road, may be {@code null}
+     * @return the key, {@code 0} if there is no road
+     */
+    public static long roadKey(final Set<TilePosition> positions, final @Nullable Player owner) {
+        return owner == null ? 0 : mix(positionsKey(positions) ^ mix(ROAD + owner.getID()));
+    }
+
+    /**
+     * Returns the key of the robber on the given position.
+     *
+     * @param position the position of the robber, may be {@code null}
+     * @return the key, {@code 0} if there is no robber
+     */
+    public static long robberKey(final @Nullable TilePosition position) {
+        return position == null ? 0 : mix(positionKey(position) ^ ROBBER);
+    }
+
+    /**
+     * Returns the key of the given amount of a resource in the wallet of a player.
+     *
+     * @param player       the id of the player
+     * @param resourceType the type of the resource
+     * @param amount       the amount
+     * @return the key, {@code 0} if the amount is {@code 0}
+     */
+    public static long resourceKey(final int player, final ResourceType resourceType, final int amount) {
+        return amount == 0 ? 0 : mix(RESOURCE ^ mix(amountKey(player, resourceType.ordinal(), amount)));
+    }
+
+    /**
+     * Returns the key of the given amount of unplayed development cards of a type held by a player.
+     *
+     * @param player              the id of the player
+     * @param developmentCardType the type of the development cards
+     * @param amount              the amount
+     * @return the key, {@code 0} if the amount is {@code 0}
+     */
+    public static long developmentCardKey(
+        final int player, final DevelopmentCardType developmentCardType, final int amount
+    ) {
+        return amount == 0 ? 0 : mix(DEVELOPMENT_CARD ^ mix(amountKey(player, developmentCardType.ordinal(), amount)));
+    }
+
+    /**
+     * Returns the key of the given amount of knights played by a player.
+     *
+     * @param player the id of the player
+     * @param amount the amount
+     * @return the key, {@code 0} if the amount is {@code 0}
+     */
+    public static long knightsPlayedKey(final int player, final int amount) {
+        return amount == 0 ? 0 : mix(KNIGHTS_PLAYED ^ mix(amountKey(player, 0, amount)));
+    }
+
+    /**
+     * Computes the hash of the roads, settlements and robber of the given grid from scratch.
+     *
+     * @param grid the grid
+     * @return the hash of the board
+     */
+    public static long computeBoardHash(final HexGrid grid) {
+        long hash = robberKey(grid.getRobberPosition());
+        for (final Map.Entry<Set<TilePosition>, Intersection> entry : grid.getIntersections().entrySet()) {
+            hash ^= settlementKey(entry.getKey(), entry.getValue().getSettlement());
+        }
+        for (final Map.Entry<Set<TilePosition>, Edge> entry : grid.getEdges().entrySet()) {
+            hash ^= roadKey(entry.getKey(), entry.getValue().getRoadOwner());
+        }
+        return hash;
+    }
+
+    /**
+     * Computes the hash of the resources, development cards and played knights of the given player from scratch.
+     *
+     * @param player the player
+     * @return the hash of the player
+     */
+    public static long computePlayerHash(final Player player) {
+        long hash = knightsPlayedKey(player.getID(), player.getKnightsPlayed());
+        for (final Map.Entry<ResourceType, Integer> entry : player.getResources().entrySet()) {
+            hash ^= resourceKey(player.getID(), entry.getKey(), entry.getValue());
+        }
+        for (final Map.Entry<DevelopmentCardType, Integer> entry : player.getDevelopmentCards().entrySet()) {
+            hash ^= developmentCardKey(player.getID(), entry.getKey(), entry.getValue());
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the key of the given position. The keys of several positions are combined with XOR.
+     *
+     * @param position the position
+     * @return the key of the position
+     */
+    static long positionKey(final TilePosition position) {
+        return mix(((long) position.q() << 32) ^ (position.r() & 0xFFFF_FFFFL));
+    }
+
+    /**
+     * Returns the XORed keys of the given positions.
+     *
+     * @param positions the positions
+     * @return the combined key
+     */
+    private static long positionsKey(final Set<TilePosition> positions) {
+        long key = 0;
+        for (final TilePosition position : positions) {
+            key ^= positionKey(position);
+        }
+        return key;
+    }
+
+    /**
+     * Packs a player id, a type and an amount into one value.
+     */
+    private static long amountKey(final int player, final int type, final int amount) {
+        return ((long) player << 40) ^ ((long) type << 32) ^ (amount & 0xFFFF_FFFFL);
+    }
+
+    /**
+     * Mixes the bits of the given value, the finalizer of SplitMix64.
+     *
+     * @param value the value
+     * @return the mixed value
+     */
+    private static long mix(long value) {
+        value += 0x9E37_79B9_7F4A_7C15L;
+        value = (value ^ (value >>> 30)) * 0xBF58_476D_1CE4_E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D0_49BB_1331_11EBL;
+        return value ^ (value >>> 31);
+    }
+}
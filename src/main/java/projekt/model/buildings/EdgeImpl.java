@@ -59,10 +59,10 @@ public record EdgeImpl(
     public Set<Intersection> getIntersections() {
         // TODO: H1.3
         final var edgeDir = TilePosition.EdgeDirection.fromRelativePosition(TilePosition.subtract(this.position2, this.position1));
-        final var is1 = this.grid.getIntersections()
-            .get(Set.of(this.position1, this.position2, TilePosition.neighbour(this.position1, edgeDir.left())));
-        final var is2 = this.grid.getIntersections()
-            .get(Set.of(this.position1, this.position2, TilePosition.neighbour(this.position1, edgeDir.right())));
+        final var is1 = this.grid
+            .getIntersectionAt(this.position1, this.position2, TilePosition.neighbour(this.position1, edgeDir.left()));
+        final var is2 = this.grid
+            .getIntersectionAt(this.position1, this.position2, TilePosition.neighbour(this.position1, edgeDir.right()));
         if (is1 == null || is2 == null)
             throw new RuntimeException("Edge is not connected to two intersections");
         return Set.of(is1, is2);
@@ -0,0 +1,278 @@
+package projekt.model.compact;
+
+import projekt.model.TilePosition;
+import projekt.model.TilePosition.EdgeDirection;
+import projekt.model.TilePosition.IntersectionDirection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The immutable structure of a board with a given radius: its tiles, edges and intersections and how they are
+ * connected. Tiles, edges and intersections are identified by their index; all adjacency is stored in flat
+ * {@code int} arrays. The structure is the same for all boards with the same radius, so it is created once per
+ * radius and shared by all games, see {@link #forRadius(int)}.
+ * <p>
+ * Tiles are indexed in the order {@link TilePosition#forEachSpiral} visits them. Edges and intersections are
+ * indexed in the order they are first reached when walking the tiles in that order.
+ */
+public final class BoardTopology {
+    private static final Map<Integer, BoardTopology> TOPOLOGIES = new ConcurrentHashMap<>();
+
+    private final int radius;
+    private final TilePosition[] tilePositions;
+    private final Map<TilePosition, Integer> tileIndices = new HashMap<>();
+    private final TilePosition[][] edgePositions;
+    private final Map<Set<TilePosition>, Integer> edgeIndices = new HashMap<>();
+    private final TilePosition[][] intersectionPositions;
+    private final Map<Set<TilePosition>, Integer> intersectionIndices = new HashMap<>();
+    private final int[] tileIntersections;
+    private final int[] edgeIntersections;
+    private final int[] intersectionEdgeOffsets;
+    private final int[] intersectionEdges;
+
+    /**
+     * Creates the topology of a board with the given radius.
+     *
+     * @param radius the radius of the board, center is included
+     */
+    private BoardTopology(final int radius) {
+        this.radius = radius;
+        final List<TilePosition> tiles = new ArrayList<>();
+        TilePosition.forEachSpiral(TilePosition.of(0, 0), radius, (position, params) -> tiles.add(position));
+        this.tilePositions = tiles.toArray(TilePosition[]::new);
+        for (int i = 0; i < tilePositions.length; i++) {
+            tileIndices.put(tilePositions[i], i);
+        }
+
+        final int corners = IntersectionDirection.values().length;
+        final List<TilePosition[]> intersections = new ArrayList<>();
+        this.tileIntersections = new int[tilePositions.length * corners];
+        final List<TilePosition[]> edges = new ArrayList<>();
+        for (int tile = 0; tile < tilePositions.length; tile++) {
+            final TilePosition position = tilePositions[tile];
+            for (final IntersectionDirection direction : IntersectionDirection.values()) {
+                final TilePosition[] positions = {
+                    position,
+                    TilePosition.neighbour(position, direction.leftDirection),
+                    TilePosition.neighbour(position, direction.rightDirection)
+                };
+                tileIntersections[tile * corners + direction.ordinal()] =
+                    intersectionIndices.computeIfAbsent(Set.of(positions), key -> {
+                        intersections.add(positions);
+                        return intersections.size() - 1;
+                    });
+            }
+            for (final EdgeDirection direction : EdgeDirection.values()) {
+                final TilePosition[] positions = {position, TilePosition.neighbour(position, direction)};
+                edgeIndices.computeIfAbsent(Set.of(positions), key -> {
+                    edges.add(positions);
+                    return edges.size() - 1;
+                });
+            }
+        }
+        this.intersectionPositions = intersections.toArray(TilePosition[][]::new);
+        this.edgePositions = edges.toArray(TilePosition[][]::new);
+
+        // each edge has two intersections: its two positions and either of their common neighbours
+        this.edgeIntersections = new int[edgePositions.length * 2];
+        final int[] edgeCounts = new int[intersectionPositions.length];
+        for (int edge = 0; edge < edgePositions.length; edge++) {
+            final TilePosition a = edgePositions[edge][0];
+            final TilePosition b = edgePositions[edge][1];
+            int found = 0;
+            for (final TilePosition common : TilePosition.neighbours(a)) {
+                if (found < 2 && TilePosition.neighbours(b).contains(common)) {
+                    final Integer intersection = intersectionIndices.get(Set.of(a, b, common));
+                    edgeIntersections[edge * 2 + found++] = intersection != null ? intersection : -1;
+                    if (intersection != null) {
+                        edgeCounts[intersection]++;
+                    }
+                }
+            }
+        }
+        this.intersectionEdgeOffsets = new int[intersectionPositions.length + 1];
+        for (int intersection = 0; intersection < intersectionPositions.length; intersection++) {
+            intersectionEdgeOffsets[intersection + 1] = intersectionEdgeOffsets[intersection] + edgeCounts[intersection];
+        }
+        this.intersectionEdges = new int[intersectionEdgeOffsets[intersectionPositions.length]];
+        final int[] next = Arrays.copyOf(intersectionEdgeOffsets, intersectionPositions.length);
+        for (int edge = 0; edge < edgePositions.length; edge++) {
+            for (int side = 0; side < 2; side++) {
+                final int intersection = edgeIntersections[edge * 2 + side];
+                if (intersection >= 0) {
+                    intersectionEdges[next[intersection]++] = edge;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the topology of boards with the given radius, creating it if necessary.
+     *
+     * @param radius the radius of the board, center is included
+     * @return the shared topology
+     */
+    public static BoardTopology forRadius(final int radius) {
+        return TOPOLOGIES.computeIfAbsent(radius, BoardTopology::new);
+    }
+
+    /**
+     * Returns the radius of the board.
+     *
+     * @return the radius of the board, center is included
+     */
+    public int getRadius() {
+        return radius;
+    }
+
+    /**
+     * Returns the amount of tiles.
+     *
+     * @return the amount of tiles
+     */
+    public int getTileCount() {
+        return tilePositions.length;
+    }
+
+    /**
+     * Returns the amount of edges.
+     *
+     * @return the amount of edges
+     */
+    public int getEdgeCount() {
+        return edgePositions.length;
+    }
+
+    /**
+     * Returns the amount of intersections.
+     *
+     * @return the amount of intersections
+     */
+    public int getIntersectionCount() {
+        return intersectionPositions.length;
+    }
+
+    /**
+     * Returns the position of the given tile.
+     *
+     * @param tile the index of the tile
+     * @return the position of the tile
+     */
+    public TilePosition getTilePosition(final int tile) {
+        return tilePositions[tile];
+    }
+
+    /**
+     * Returns the index of the tile at the given position.
+     *
+     * @param position the position of the tile
+     * @return the index of the tile, {@code -1} if there is none
+     */
+    public int getTile(final TilePosition position) {
+        return tileIndices.getOrDefault(position, -1);
+    }
+
+    /**
+     * Returns the index of the edge between the given positions.
+     *
+     * @param positions the positions of the edge
+     * @return the index of the edge, {@code -1} if there is none
+     */
+    public int getEdge(final Set<TilePosition> positions) {
+        return edgeIndices.getOrDefault(positions, -1);
+    }
+
+    /**
+     * Returns the index of the intersection between the given positions.
+     *
+     * @param positions the positions of the intersection
+     * @return the index of the intersection, {@code -1} if there is none
+     */
+    public int getIntersection(final Set<TilePosition> positions) {
+        return intersectionIndices.getOrDefault(positions, -1);
+    }
+
+    /**
+     * Returns the positions of the given edge.
+     *
+     * @param edge the index of the edge
+     * @return the positions of the edge
+     */
+    public Set<TilePosition> getEdgePositions(final int edge) {
+        return Set.of(edgePositions[edge]);
+    }
+
+    /**
+     * Returns the positions of the given intersection.
+     *
+     * @param intersection the index of the intersection
+     * @return the positions of the intersection
+     */
+    public Set<TilePosition> getIntersectionPositions(final int intersection) {
+        return Set.of(intersectionPositions[intersection]);
+    }
+
+    /**
+     * Returns the intersection at the given corner of the given tile.
+     *
+     * @param tile      the index of the tile
+     * @param direction the corner of the tile
+     * @return the index of the intersection
+     */
+    public int getTileIntersection(final int tile, final IntersectionDirection direction) {
+        return tileIntersections[tile * IntersectionDirection.values().length + direction.ordinal()];
+    }
+
+    /**
+     * Returns one of the two intersections at the ends of the given edge.
+     *
+     * @param edge the index of the edge
+     * @param side {@code 0} or {@code 1}
+     * @return the index of the intersection, {@code -1} if the edge has no intersection on that side
+     */
+    public int getEdgeIntersection(final int edge, final int side) {
+        return edgeIntersections[edge * 2 + side];
+    }
+
+    /**
+     * Returns the amount of edges connected to the given intersection.
+     *
+     * @param intersection the index of the intersection
+     * @return the amount of connected edges
+     */
+    public int getIntersectionEdgeCount(final int intersection) {
+        return intersectionEdgeOffsets[intersection + 1] - intersectionEdgeOffsets[intersection];
+    }
+
+    /**
+     * Returns one of the edges connected to the given intersection.
+     *
+     * @param intersection the index of the intersection
+     * @param i            the index of the edge among the connected edges,
+     *                     less than {@link #getIntersectionEdgeCount(int)}
+     * @return the index of the edge
+     */
+    public int getIntersectionEdge(final int intersection, final int i) {
+        return intersectionEdges[intersectionEdgeOffsets[intersection] + i];
+    }
+
+    /**
+     * Returns the intersection at the other end of one of the edges connected to the given intersection.
+     *
+     * @param intersection the index of the intersection
+     * @param i            the index of the edge among the connected edges,
+     *                     less than {@link #getIntersectionEdgeCount(int)}
+     * @return the index of the adjacent intersection
+     */
+    public int getAdjacentIntersection(final int intersection, final int i) {
+        final int edge = getIntersectionEdge(intersection, i);
+        final int first = edgeIntersections[edge * 2];
+        return first != intersection ? first : edgeIntersections[edge * 2 + 1];
+    }
+}
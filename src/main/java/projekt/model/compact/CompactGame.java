@@ -0,0 +1,379 @@
+package projekt.model.compact;
+
+import projekt.model.BoardLayout;
+import projekt.model.DevelopmentCardType;
+import projekt.model.HexGrid;
+import projekt.model.Player;
+import projekt.model.ResourceType;
+import projekt.model.TilePosition;
+import projekt.model.buildings.Edge;
+import projekt.model.buildings.Port;
+import projekt.model.buildings.Settlement;
+import projekt.model.tiles.Tile;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The state of a game stored in flat primitive arrays, for hosting many idle tables at once.
+ * Everything that is the same for all boards of a radius is kept in the shared {@link BoardTopology}; a game only
+ * stores what can differ between games: tile types and roll numbers, ports, roads, settlements, the robber and the
+ * resources and development cards of each player. Players are identified by their index, starting at {@code 0}.
+ * <p>
+ * A compact game is not thread-safe and does not publish events; it is meant to be converted from and to the full
+ * model when a table becomes active.
+ */
+public final class CompactGame {
+    private static final int RESOURCE_TYPES = ResourceType.values().length;
+    private static final int DEVELOPMENT_CARD_TYPES = DevelopmentCardType.values().length;
+    private static final Tile.Type[] TILE_TYPES = Tile.Type.values();
+    private static final ResourceType[] RESOURCES = ResourceType.values();
+
+    private final BoardTopology topology;
+    private final int playerCount;
+    private final byte[] tileTypes;
+    private final byte[] rollNumbers;
+    private final byte[] ports;
+    private final byte[] roadOwners;
+    private final byte[] settlements;
+    private final short[] resources;
+    private final short[] developmentCards;
+    private final short[] playedDevelopmentCards;
+    private int robberTile = -1;
+
+    /**
+     * Creates a new game on an empty board with the given topology.
+     * All tiles are deserts until their types are set.
+     *
+     * @param topology    the topology of the board
+     * @param playerCount the amount of players
+     */
+    public CompactGame(final BoardTopology topology, final int playerCount) {
+        this.topology = topology;
+        this.playerCount = playerCount;
+        this.tileTypes = new byte[topology.getTileCount()];
+        this.rollNumbers = new byte[topology.getTileCount()];
+        this.ports = new byte[topology.getEdgeCount()];
+        this.roadOwners = new byte[topology.getEdgeCount()];
+        this.settlements = new byte[topology.getIntersectionCount()];
+        this.resources = new short[playerCount * RESOURCE_TYPES];
+        this.developmentCards = new short[playerCount * DEVELOPMENT_CARD_TYPES];
+        this.playedDevelopmentCards = new short[playerCount * DEVELOPMENT_CARD_TYPES];
+        Arrays.fill(tileTypes, (byte) Tile.Type.DESERT.ordinal());
+    }
+
+    /**
+     * Creates a new game on a board with the given layout and no ports.
+     *
+     * @param layout      the layout of the board
+     * @param playerCount the amount of players
+     * @return the new game
+     */
+    public static CompactGame of(final BoardLayout layout, final int playerCount) {
+        final CompactGame game = new CompactGame(BoardTopology.forRadius(layout.radius()), playerCount);
+        for (int tile = 0; tile < layout.positions().size(); tile++) {
+            game.tileTypes[tile] = (byte) layout.types().get(tile).ordinal();
+            game.rollNumbers[tile] = layout.rollNumbers().get(tile).byteValue();
+            if (layout.types().get(tile).resourceType == null && game.robberTile < 0) {
+                game.robberTile = tile;
+            }
+        }
+        return game;
+    }
+
+    /**
+     * Creates a compact copy of the given grid and the given players, taking the radius from the tiles of the grid.
+     *
+     * @param grid    the grid
+     * @param players the players, in the order of their indices
+     * @return the compact copy
+     */
+    public static CompactGame of(final HexGrid grid, final List<Player> players) {
+        final int radius = grid.getTiles().keySet().stream()
+            .mapToInt(position -> Math.max(Math.abs(position.q()), Math.max(Math.abs(position.r()), Math.abs(position.s()))))
+            .max()
+            .orElse(-1) + 1;
+        return of(grid, radius, players);
+    }
+
+    /**
+     * Creates a compact copy of the given grid and the given players.
+     *
+     * @param grid    the grid
+     * @param radius  the radius of the grid, center is included
+     * @param players the players, in the order of their indices
+     * @return the compact copy
+     */
+    public static CompactGame of(final HexGrid grid, final int radius, final List<Player> players) {
+        final BoardTopology topology = BoardTopology.forRadius(radius);
+        final CompactGame game = new CompactGame(topology, players.size());
+        for (int tile = 0; tile < topology.getTileCount(); tile++) {
+            final Tile gridTile = grid.getTileAt(topology.getTilePosition(tile));
+            game.tileTypes[tile] = (byte) gridTile.getType().ordinal();
+            game.rollNumbers[tile] = (byte) gridTile.getRollNumber();
+        }
+        game.robberTile = grid.getRobberPosition() != null ? topology.getTile(grid.getRobberPosition()) : -1;
+        for (final Map.Entry<Set<TilePosition>, Edge> entry : grid.getEdges().entrySet()) {
+            final int edge = topology.getEdge(entry.getKey());
+            if (edge >= 0) {
+                game.setPort(edge, entry.getValue().getPort());
+                if (entry.getValue().hasRoad()) {
+                    game.roadOwners[edge] = (byte) (players.indexOf(entry.getValue().getRoadOwner()) + 1);
+                }
+            }
+        }
+        for (int player = 0; player < players.size(); player++) {
+            final Player gridPlayer = players.get(player);
+            for (final Settlement settlement : gridPlayer.getSettlements()) {
+                final int intersection = topology.getIntersection(settlement.intersection().getAdjacentTilePositions());
+                if (intersection >= 0) {
+                    game.setSettlement(intersection, player, settlement.type());
+                }
+            }
+            for (final Map.Entry<ResourceType, Integer> entry : gridPlayer.getResources().entrySet()) {
+                game.resources[player * RESOURCE_TYPES + entry.getKey().ordinal()] = entry.getValue().shortValue();
+            }
+            for (final Map.Entry<DevelopmentCardType, Integer> entry : gridPlayer.getDevelopmentCards().entrySet()) {
+                game.developmentCards[player * DEVELOPMENT_CARD_TYPES + entry.getKey().ordinal()] =
+                    entry.getValue().shortValue();
+            }
+            // the full model only tracks played knights
+            game.playedDevelopmentCards[player * DEVELOPMENT_CARD_TYPES + DevelopmentCardType.KNIGHT.ordinal()] =
+                (short) gridPlayer.getKnightsPlayed();
+        }
+        return game;
+    }
+
+    /**
+     * Returns the shared topology of the board.
+     *
+     * @return the topology of the board
+     */
+    public BoardTopology getTopology() {
+        return topology;
+    }
+
+    /**
+     * Returns the amount of players.
+     *
+     * @return the amount of players
+     */
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    // Tiles
+
+    /**
+     * Returns the type of the given tile.
+     *
+     * @param tile the index of the tile
+     * @return the type of the tile
+     */
+    public Tile.Type getTileType(final int tile) {
+        return TILE_TYPES[tileTypes[tile]];
+    }
+
+    /**
+     * Returns the roll number of the given tile.
+     *
+     * @param tile the index of the tile
+     * @return the roll number of the tile, {@code 0} if it has none
+     */
+    public int getRollNumber(final int tile) {
+        return rollNumbers[tile];
+    }
+
+    /**
+     * Returns the tile the robber is on.
+     *
+     * @return the index of the tile, {@code -1} if the robber is not placed
+     */
+    public int getRobberTile() {
+        return robberTile;
+    }
+
+    /**
+     * Moves the robber to the given tile.
+     *
+     * @param tile the index of the tile
+     */
+    public void setRobberTile(final int tile) {
+        this.robberTile = tile;
+    }
+
+    // Edges
+
+    /**
+     * Returns the port on the given edge.
+     *
+     * @param edge the index of the edge
+     * @return the port, {@code null} if there is none
+     */
+    public Port getPort(final int edge) {
+        final int port = ports[edge];
+        if (port == 0) {
+            return null;
+        }
+        final int resource = (port & 0b111) - 1;
+        return new Port(port >>> 3, resource >= 0 ? RESOURCES[resource] : null);
+    }
+
+    /**
+     * Places the given port on the given edge.
+     *
+     * @param edge the index of the edge
+     * @param port the port, {@code null} to remove it
+     */
+    public void setPort(final int edge, final Port port) {
+        ports[edge] = port == null
+                      ? 0
+                      : (byte) (port.ratio() << 3 | (port.resourceType() != null ? port.resourceType().ordinal() + 1 : 0));
+    }
+
+    /**
+     * Returns the owner of the road on the given edge.
+     *
+     * @param edge the index of the edge
+     * @return the index of the owner, {@code -1} if there is no road
+     */
+    public int getRoadOwner(final int edge) {
+        return roadOwners[edge] - 1;
+    }
+
+    /**
+     * Builds or removes the road on the given edge.
+     *
+     * @param edge   the index of the edge
+     * @param player the index of the owner, {@code -1} to remove the road
+     */
+    public void setRoadOwner(final int edge, final int player) {
+        roadOwners[edge] = (byte) (player + 1);
+    }
+
+    // Intersections
+
+    /**
+     * Returns the owner of the settlement on the given intersection.
+     *
+     * @param intersection the index of the intersection
+     * @return the index of the owner, {@code -1} if there is no settlement
+     */
+    public int getSettlementOwner(final int intersection) {
+        return (settlements[intersection] >>> 2) - 1;
+    }
+
+    /**
+     * Returns the type of the settlement on the given intersection.
+     *
+     * @param intersection the index of the intersection
+     * @return the type of the settlement, {@code null} if there is no settlement
+     */
+    public Settlement.Type getSettlementType(final int intersection) {
+        final int type = (settlements[intersection] & 0b11) - 1;
+        return type >= 0 ? Settlement.Type.values()[type] : null;
+    }
+
+    /**
+     * Places, upgrades or removes the settlement on the given intersection.
+     *
+     * @param intersection the index of the intersection
+     * @param player       the index of the owner, {@code -1} to remove the settlement
+     * @param type         the type of the settlement, ignored when removing it
+     */
+    public void setSettlement(final int intersection, final int player, final Settlement.Type type) {
+        settlements[intersection] = player < 0 ? 0 : (byte) ((player + 1) << 2 | (type.ordinal() + 1));
+    }
+
+    // Players
+
+    /**
+     * Returns the amount of the given resource the given player has.
+     *
+     * @param player the index of the player
+     * @param type   the type of resource
+     * @return the amount of the resource
+     */
+    public int getResource(final int player, final ResourceType type) {
+        return resources[player * RESOURCE_TYPES + type.ordinal()];
+    }
+
+    /**
+     * Adds the given amount of the given resource to the given player; negative amounts remove resources.
+     *
+     * @param player the index of the player
+     * @param type   the type of resource
+     * @param amount the amount to add
+     */
+    public void addResource(final int player, final ResourceType type, final int amount) {
+        resources[player * RESOURCE_TYPES + type.ordinal()] += (short) amount;
+    }
+
+    /**
+     * Returns how many development cards of the given type the given player holds.
+     *
+     * @param player the index of the player
+     * @param type   the type of development card
+     * @return the amount of held cards
+     */
+    public int getDevelopmentCards(final int player, final DevelopmentCardType type) {
+        return developmentCards[player * DEVELOPMENT_CARD_TYPES + type.ordinal()];
+    }
+
+    /**
+     * Adds the given amount of development cards of the given type to the given player.
+     *
+     * @param player the index of the player
+     * @param type   the type of development card
+     * @param amount the amount to add
+     */
+    public void addDevelopmentCards(final int player, final DevelopmentCardType type, final int amount) {
+        developmentCards[player * DEVELOPMENT_CARD_TYPES + type.ordinal()] += (short) amount;
+    }
+
+    /**
+     * Returns how many development cards of the given type the given player has played.
+     *
+     * @param player the index of the player
+     * @param type   the type of development card
+     * @return the amount of played cards
+     */
+    public int getPlayedDevelopmentCards(final int player, final DevelopmentCardType type) {
+        return playedDevelopmentCards[player * DEVELOPMENT_CARD_TYPES + type.ordinal()];
+    }
+
+    /**
+     * Plays a development card of the given type from the hand of the given player.
+     *
+     * @param player the index of the player
+     * @param type   the type of development card
+     * @return whether the player held a card of that type
+     */
+    public boolean playDevelopmentCard(final int player, final DevelopmentCardType type) {
+        final int index = player * DEVELOPMENT_CARD_TYPES + type.ordinal();
+        if (developmentCards[index] == 0) {
+            return false;
+        }
+        developmentCards[index]--;
+        playedDevelopmentCards[index]++;
+        return true;
+    }
+
+    /**
+     * Returns the victory points of the given player from settlements and victory point cards.
+     *
+     * @param player the index of the player
+     * @return the victory points of the player
+     */
+    public int getVictoryPoints(final int player) {
+        int points = getDevelopmentCards(player, DevelopmentCardType.VICTORY_POINTS);
+        for (int intersection = 0; intersection < settlements.length; intersection++) {
+            if (getSettlementOwner(intersection) == player) {
+                points += getSettlementType(intersection).resourceAmount;
+            }
+        }
+        return points;
+    }
+}
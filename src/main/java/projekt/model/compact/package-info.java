@@ -0,0 +1,7 @@
+/**
+ * Contains a compact representation of games for hosting many tables at once: the {@link
+ * projekt.model.compact.BoardTopology} shared by all boards with the same radius, and the per-game state of a
+ * {@link projekt.model.compact.CompactGame} stored in flat primitive arrays. The rollouts of
+ * {@link projekt.simulation} are played on the same topology.
+ */
+package projekt.model.compact;
@@ -0,0 +1,18 @@
+package projekt.model.events;
+
+import projekt.model.DevelopmentCardType;
+import projekt.model.Player;
+
+/**
+ * Published when the amount of unplayed development cards of a type a player holds has changed.
+ *
+ * @param player              the player whose development cards changed
+ * @param developmentCardType the type of the changed development cards
+ * @param delta               the (signed) amount that was added or removed
+ * @param amount              the amount the player holds after the change
+ * @param played              whether the removed card was played instead of discarded
+ */
+public record DevelopmentCardChangedEvent(
+    Player player, DevelopmentCardType developmentCardType, int delta, int amount, boolean played
+) implements GameEvent {
+}
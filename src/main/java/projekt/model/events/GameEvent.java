@@ -0,0 +1,8 @@
+package projekt.model.events;
+
+/**
+ * A fine-grained change of the game's state.
+ * Events are published on a {@link GameEventBus} right after the change has been applied to the model.
+ */
+public interface GameEvent {
+}
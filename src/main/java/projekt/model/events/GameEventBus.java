@@ -0,0 +1,82 @@
+package projekt.model.events;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * A single, ordered feed of all {@link GameEvent}s of a game.
+ * Events are delivered synchronously on the thread that published them, in the order they were published.
+ * Subscribers that need to run on another thread (e.g. the JavaFX application thread) have to hand the event
+ * over themselves.
+ */
+public class GameEventBus {
+    private final List<Subscriber<?>> subscribers = new CopyOnWriteArrayList<>();
+
+    /**
+     * Subscribes the given handler to all events of the given type (including subtypes).
+     *
+     * @param eventType the type of events to receive
+     * @param handler   the handler to call for each event
+     * @param <E>       the type of events to receive
+     * @return a {@link Subscription} that removes the handler again
+     */
+    public <E extends GameEvent> Subscription subscribe(final Class<E> eventType, final Consumer<? super E> handler) {
+        final Subscriber<E> subscriber = new Subscriber<>(eventType, handler);
+        subscribers.add(subscriber);
+        return () -> subscribers.remove(subscriber);
+    }
+
+    /**
+     * Subscribes the given handler to all events.
+     *
+     * @param handler the handler to call for each event
+     * @return a {@link Subscription} that removes the handler again
+     */
+    public Subscription subscribe(final Consumer<? super GameEvent> handler) {
+        return subscribe(GameEvent.class, handler);
+    }
+
+    /**
+     * Delivers the given event to all matching subscribers.
+     *
+     * @param event the event to publish
+     */
+    public void publish(final GameEvent event) {
+        for (final Subscriber<?> subscriber : subscribers) {
+            subscriber.accept(event);
+        }
+    }
+
+    /**
+     * Returns whether there is at least one subscriber for events of the given type.
+     * Can be used to skip creating events nobody listens to.
+     *
+     * @param eventType the type of events
+     * @return whether anyone subscribed to events of the given type
+     */
+    public boolean hasSubscribers(final Class<? extends GameEvent> eventType) {
+        return subscribers.stream().anyMatch(subscriber -> subscriber.eventType().isAssignableFrom(eventType));
+    }
+
+    /**
+     * A handler registered for a specific type of events.
+     *
+     * @param eventType the type of events the handler receives
+     * @param handler   the handler
+     * @param <E>       the type of events the handler receives
+     */
+    private record Subscriber<E extends GameEvent>(Class<E> eventType, Consumer<? super E> handler) {
+
+        /**
+         * Passes the given event to the handler if it has the right type.
+         *
+         * @param event the event
+         */
+        void accept(final GameEvent event) {
+            if (eventType.isInstance(event)) {
+                handler.accept(eventType.cast(event));
+            }
+        }
+    }
+}
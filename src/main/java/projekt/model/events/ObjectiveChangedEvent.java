@@ -0,0 +1,15 @@
+package projekt.model.events;
+
+import projekt.controller.PlayerObjective;
+import projekt.model.Player;
+
+/**
+ * Published when the objective of a player has changed.
+ *
+ * @param player    the player whose objective changed
+ * @param previous  the previous objective
+ * @param objective the new objective
+ */
+public record ObjectiveChangedEvent(Player player, PlayerObjective previous, PlayerObjective objective)
+    implements GameEvent {
+}
@@ -0,0 +1,16 @@
+package projekt.model.events;
+
+import projekt.model.Player;
+import projekt.model.ResourceType;
+
+/**
+ * Published when the amount of a resource a player holds has changed.
+ *
+ * @param player       the player whose resources changed
+ * @param resourceType the type of the changed resource
+ * @param delta        the (signed) amount that was added or removed
+ * @param amount       the amount the player holds after the change
+ */
+public record ResourceChangedEvent(Player player, ResourceType resourceType, int delta, int amount)
+    implements GameEvent {
+}
@@ -0,0 +1,13 @@
+package projekt.model.events;
+
+import projekt.model.Player;
+import projekt.model.buildings.Edge;
+
+/**
+ * Published when a road has been built on an edge.
+ *
+ * @param owner the player that owns the new road
+ * @param edge  the edge the road has been built on
+ */
+public record RoadBuiltEvent(Player owner, Edge edge) implements GameEvent {
+}
@@ -0,0 +1,13 @@
+package projekt.model.events;
+
+import projekt.model.Player;
+import projekt.model.buildings.Edge;
+
+/**
+ * Published when a road has been removed from an edge, e.g. because a build was rolled back.
+ *
+ * @param owner the player that owned the removed road
+ * @param edge  the edge the road has been removed from
+ */
+public record RoadRemovedEvent(Player owner, Edge edge) implements GameEvent {
+}
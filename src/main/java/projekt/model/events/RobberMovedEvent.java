@@ -0,0 +1,12 @@
+package projekt.model.events;
+
+import projekt.model.TilePosition;
+
+/**
+ * Published when the robber has been moved to another tile.
+ *
+ * @param from the previous position of the robber, may be {@code null}
+ * @param to   the new position of the robber
+ */
+public record RobberMovedEvent(TilePosition from, TilePosition to) implements GameEvent {
+}
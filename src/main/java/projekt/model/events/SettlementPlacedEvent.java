@@ -0,0 +1,12 @@
+package projekt.model.events;
+
+import projekt.model.buildings.Settlement;
+
+/**
+ * Published when a settlement has been placed on an intersection, either as a new village or as an upgrade.
+ *
+ * @param settlement the new settlement
+ * @param previous   the settlement that was replaced, {@code null} if the intersection was empty
+ */
+public record SettlementPlacedEvent(Settlement settlement, Settlement previous) implements GameEvent {
+}
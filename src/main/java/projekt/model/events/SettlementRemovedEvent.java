@@ -0,0 +1,11 @@
+package projekt.model.events;
+
+import projekt.model.buildings.Settlement;
+
+/**
+ * Published when a settlement has been removed from its intersection, e.g. because a build was rolled back.
+ *
+ * @param settlement the removed settlement
+ */
+public record SettlementRemovedEvent(Settlement settlement) implements GameEvent {
+}
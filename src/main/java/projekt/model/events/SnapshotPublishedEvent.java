@@ -0,0 +1,12 @@
+package projekt.model.events;
+
+import projekt.model.GameSnapshot;
+
+/**
+ * Published when a new {@link GameSnapshot} has been published for the view.
+ *
+ * @param previous the previously published snapshot, may be {@code null}
+ * @param snapshot the published snapshot
+ */
+public record SnapshotPublishedEvent(GameSnapshot previous, GameSnapshot snapshot) implements GameEvent {
+}
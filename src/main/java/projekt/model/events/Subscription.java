@@ -0,0 +1,22 @@
+package projekt.model.events;
+
+/**
+ * A handler registered on a {@link GameEventBus}, see {@link GameEventBus#subscribe}.
+ * Can be used in a try-with-resources statement to receive events only for a limited time.
+ */
+@FunctionalInterface
+public interface Subscription extends AutoCloseable {
+
+    /**
+     * Removes the handler from the bus. Removing it again has no effect.
+     */
+    void unsubscribe();
+
+    /**
+     * Removes the handler from the bus, see {@link #unsubscribe()}.
+     */
+    @Override
+    default void close() {
+        unsubscribe();
+    }
+}
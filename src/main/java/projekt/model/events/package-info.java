@@ -0,0 +1,5 @@
+/**
+ * Contains the domain events published by the model and the {@link projekt.model.events.GameEventBus} they are
+ * published on.
+ */
+package projekt.model.events;
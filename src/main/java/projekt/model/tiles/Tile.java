@@ -13,7 +13,6 @@ import projekt.model.TilePosition.IntersectionDirection;
 import projekt.model.buildings.Edge;
 import projekt.model.buildings.Settlement;
 
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -82,7 +81,11 @@ public interface Tile {
      * @return the intersection in the given direction
      */
     default Intersection getIntersection(final IntersectionDirection direction) {
-        return getHexGrid().getIntersections().get(getIntersectionPositions(direction));
+        return getHexGrid().getIntersectionAt(
+            getPosition(),
+            TilePosition.neighbour(getPosition(), direction.leftDirection),
+            TilePosition.neighbour(getPosition(), direction.rightDirection)
+        );
     }
 
     /**
@@ -105,9 +108,9 @@ public interface Tile {
      * @return all neighbours of this tile
      */
     default Set<Tile> getNeighbours() {
-        return getHexGrid().getTiles().entrySet().stream()
-            .filter(entrySet -> TilePosition.neighbours(getPosition()).contains(entrySet.getKey()))
-            .map(Map.Entry::getValue)
+        return EdgeDirection.stream()
+            .map(this::getNeighbour)
+            .filter(Objects::nonNull)
             .collect(Collectors.toSet());
     }
 
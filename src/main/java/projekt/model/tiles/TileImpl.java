@@ -55,7 +55,7 @@ public record TileImpl(
         final ObservableDoubleValue widthProperty,
         final HexGrid hexGrid
     ) {
-        this(new TilePosition(q, r), type, rollNumber, heightProperty, widthProperty, hexGrid);
+        this(TilePosition.of(q, r), type, rollNumber, heightProperty, widthProperty, hexGrid);
     }
 
     @Override
@@ -88,7 +88,7 @@ public record TileImpl(
     @Override
     public Edge getEdge(final EdgeDirection direction) {
         final var neighbour = TilePosition.neighbour(this.position, direction);
-        return this.hexGrid.getEdges().get(Set.of(this.position, neighbour));
+        return this.hexGrid.getEdge(this.position, neighbour);
     }
 
     @Override
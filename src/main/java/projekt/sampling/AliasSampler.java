@@ -0,0 +1,99 @@
+package projekt.sampling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Samples values with replacement, each with a probability proportional to its weight.
+ * Uses Vose's alias method: building the tables takes linear time in the number of values, every sample afterwards
+ * takes constant time, independent of the number and distribution of the weights.
+ *
+ * @param <T> the type of the values
+ */
+public class AliasSampler<T> implements Supplier<T> {
+    private final Object[] values;
+    private final double[] probabilities;
+    private final int[] aliases;
+    private final Random random;
+
+    /**
+     * Creates a new sampler for the given weights.
+     * Values with a weight of {@code 0} are never sampled.
+     *
+     * @param weights mappings of values to their weights
+     * @param random  the source of randomness
+     * @throws IllegalArgumentException if a weight is negative or all weights are {@code 0}
+     */
+    public AliasSampler(final Map<? extends T, Integer> weights, final Random random) {
+        final List<T> keys = new ArrayList<>();
+        final List<Integer> keyWeights = new ArrayList<>();
+        long sum = 0;
+        for (final Map.Entry<? extends T, Integer> entry : weights.entrySet()) {
+            if (entry.getValue() < 0) {
+                throw new IllegalArgumentException(String.format("Negative weight for %s", entry.getKey()));
+            }
+            if (entry.getValue() > 0) {
+                keys.add(entry.getKey());
+                keyWeights.add(entry.getValue());
+                sum += entry.getValue();
+            }
+        }
+        if (sum == 0) {
+            throw new IllegalArgumentException("At least one weight must be positive");
+        }
+
+        final int n = keys.size();
+        this.values = keys.toArray();
+        this.probabilities = new double[n];
+        this.aliases = new int[n];
+        this.random = random;
+
+        final double[] scaled = new double[n];
+        final int[] small = new int[n];
+        final int[] large = new int[n];
+        int smallSize = 0;
+        int largeSize = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = keyWeights.get(i) * (double) n / sum;
+            if (scaled[i] < 1) {
+                small[smallSize++] = i;
+            } else {
+                large[largeSize++] = i;
+            }
+        }
+        while (smallSize > 0 && largeSize > 0) {
+            final int less = small[--smallSize];
+            final int more = large[--largeSize];
+            probabilities[less] = scaled[less];
+            aliases[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1;
+            if (scaled[more] < 1) {
+                small[smallSize++] = more;
+            } else {
+                large[largeSize++] = more;
+            }
+        }
+        // whatever is left over has a probability of 1, up to rounding errors
+        while (largeSize > 0) {
+            probabilities[large[--largeSize]] = 1;
+        }
+        while (smallSize > 0) {
+            probabilities[small[--smallSize]] = 1;
+        }
+    }
+
+    /**
+     * Returns a randomly picked value.
+     *
+     * @return the picked value
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get() {
+        final int column = random.nextInt(values.length);
+        return (T) values[random.nextDouble() < probabilities[column] ? column : aliases[column]];
+    }
+}
@@ -0,0 +1,67 @@
+package projekt.sampling;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Samples values without replacement from a bag that contains each value as often as its quota says.
+ * Once the bag is empty, it is refilled, so every full round returns each value exactly as often as its quota.
+ * Every sample takes constant time: the bag is an array, and a sample swaps a random remaining value to the end
+ * of the remaining part, like one step of a Fisher-Yates shuffle.
+ *
+ * @param <T> the type of the values
+ */
+public class QuotaBag<T> implements Supplier<T> {
+    private final Object[] bag;
+    private final Random random;
+    private int remaining;
+
+    /**
+     * Creates a new bag with the given quotas.
+     * Values with a quota of {@code 0} are never sampled.
+     *
+     * @param quotas mappings of values to how often they are contained in the bag
+     * @param random the source of randomness
+     * @throws IllegalArgumentException if a quota is negative or all quotas are {@code 0}
+     */
+    public QuotaBag(final Map<? extends T, Integer> quotas, final Random random) {
+        int size = 0;
+        for (final Map.Entry<? extends T, Integer> entry : quotas.entrySet()) {
+            if (entry.getValue() < 0) {
+                throw new IllegalArgumentException(String.format("Negative quota for %s", entry.getKey()));
+            }
+            size += entry.getValue();
+        }
+        if (size == 0) {
+            throw new IllegalArgumentException("At least one quota must be positive");
+        }
+
+        this.bag = new Object[size];
+        this.random = random;
+        int i = 0;
+        for (final Map.Entry<? extends T, Integer> entry : quotas.entrySet()) {
+            for (int j = 0; j < entry.getValue(); j++) {
+                bag[i++] = entry.getKey();
+            }
+        }
+    }
+
+    /**
+     * Returns a randomly picked value that is left in the bag, refilling the bag first if it is empty.
+     *
+     * @return the picked value
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get() {
+        if (remaining == 0) {
+            remaining = bag.length;
+        }
+        final int index = random.nextInt(remaining--);
+        final Object value = bag[index];
+        bag[index] = bag[remaining];
+        bag[remaining] = value;
+        return (T) value;
+    }
+}
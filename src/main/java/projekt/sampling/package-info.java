@@ -0,0 +1,5 @@
+/**
+ * Contains the random samplers the board and the decks are generated with: {@link projekt.sampling.AliasSampler}
+ * for weighted sampling with replacement and {@link projekt.sampling.QuotaBag} for exact quotas.
+ */
+package projekt.sampling;
@@ -0,0 +1,60 @@
+package projekt.simulation;
+
+import projekt.model.Player;
+import projekt.model.TilePosition;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * The ranked moves a {@link MoveAdvisor} suggests to a player for one state of the board, best first.
+ * The rankings contain every candidate regardless of the player's resources and roads; callers pick the
+ * {@link #best best} of the moves that are currently legal.
+ *
+ * @param player   the player the moves are suggested to
+ * @param villages the positions of the intersections to build a village on
+ * @param cities   the positions of the villages of the player to upgrade to a city
+ * @param roads    the positions of the edges to build a road on
+ */
+public record MoveAdvice(
+    Player player,
+    List<Set<TilePosition>> villages,
+    List<Set<TilePosition>> cities,
+    List<Set<TilePosition>> roads
+) {
+    /**
+     * How many moves are suggested at once.
+     */
+    public static final int SUGGESTIONS = 3;
+
+    /**
+     * Creates new move advice with unmodifiable copies of the given rankings.
+     */
+    public MoveAdvice {
+        villages = List.copyOf(villages);
+        cities = List.copyOf(cities);
+        roads = List.copyOf(roads);
+    }
+
+    /**
+     * Returns the {@link #SUGGESTIONS} highest ranked moves that are legal.
+     *
+     * @param ranking one of the rankings of this advice
+     * @param legal   whether a move is legal
+     * @return the positions of the best legal moves
+     */
+    public Set<Set<TilePosition>> best(final List<Set<TilePosition>> ranking, final Predicate<Set<TilePosition>> legal) {
+        final Set<Set<TilePosition>> best = new HashSet<>();
+        for (final Set<TilePosition> positions : ranking) {
+            if (best.size() == SUGGESTIONS) {
+                break;
+            }
+            if (legal.test(positions)) {
+                best.add(positions);
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,325 @@
+package projekt.simulation;
+
+import org.jetbrains.annotations.Nullable;
+import projekt.Config;
+import projekt.logging.Logger;
+import projekt.logging.Logging;
+import projekt.metrics.Counter;
+import projekt.metrics.MetricsRegistry;
+import projekt.metrics.Timer;
+import projekt.model.BoardGenerator;
+import projekt.model.BoardSnapshot;
+import projekt.model.GameSnapshot;
+import projekt.model.Player;
+import projekt.model.ResourceType;
+import projekt.model.TilePosition;
+import projekt.model.buildings.Settlement;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import static projekt.simulation.SimulationExecutor.EXECUTOR;
+
+/**
+ * Suggests where human players should build, computed speculatively in the background.
+ * <p>
+ * Every published {@link GameSnapshot} is passed to {@link #prepare(GameSnapshot)}, which starts computing the
+ * {@link MoveAdvice} of every human player for the new state of the board on the {@link SimulationExecutor}, also
+ * during the turns of other players and before the dice are rolled. The advice is cached per board state and
+ * player, so by the time a player wants to build, {@link #getAdvice(Player)} usually returns without any computation.
+ * Computations for a board state that is no longer the latest are cancelled between candidates.
+ * <p>
+ * Free intersections are scored by their pips, with a bonus for resources the player does not produce yet. The best
+ * {@link #CANDIDATES} are ranked by how often the player wins {@link Config#MOVE_ADVISOR_ROLLOUTS} simplified
+ * {@link Rollout rollouts} with a village there. Cities are ranked by pips and roads by the best intersection they
+ * lead to.
+ */
+public final class MoveAdvisor implements AutoCloseable {
+    private static final Logger LOGGER = Logging.getLogger(MoveAdvisor.class);
+    private static final Timer ADVICE_TIMER = MetricsRegistry.getGlobal().timer("moveAdvisor.advice");
+    private static final Counter CACHE_HITS = MetricsRegistry.getGlobal().counter("moveAdvisor.cacheHits");
+    private static final Counter CANCELLED = MetricsRegistry.getGlobal().counter("moveAdvisor.cancelled");
+
+    /**
+     * How many of the best scored intersections are evaluated with rollouts.
+     */
+    private static final int CANDIDATES = 6;
+
+    /**
+     * How many pieces of advice are cached.
+     */
+    private static final int CACHE_SIZE = 32;
+
+    private final RolloutBoard board;
+    private final int rollouts;
+    private final Consumer<MoveAdvice> listener;
+    private final Map<AdviceKey, MoveAdvice> cache = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<AdviceKey, MoveAdvice> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+    private final Map<Player, AdviceKey> currentKeys = new ConcurrentHashMap<>();
+    private final SplittableRandom seeds = new SplittableRandom();
+    private boolean closed;
+
+    /**
+     * The state advice is computed for.
+     *
+     * @param boardHash the {@link BoardSnapshot#hash() hash} of the board
+     * @param player    the player the advice is for
+     */
+    private record AdviceKey(long boardHash, Player player) {
+    }
+
+    /**
+     * Creates a new advisor for the game on the given board that plays {@link Config#MOVE_ADVISOR_ROLLOUTS} rollouts
+     * per candidate.
+     *
+     * @param board    the rollout board of the game
+     * @param listener called with every newly computed advice, on a pool thread
+     */
+    public MoveAdvisor(final RolloutBoard board, final Consumer<MoveAdvice> listener) {
+        this(board, Config.MOVE_ADVISOR_ROLLOUTS, listener);
+    }
+
+    /**
+     * Creates a new advisor for the game on the given board.
+     *
+     * @param board    the rollout board of the game
+     * @param rollouts how many rollouts are played per candidate, {@code 0} disables the advisor
+     * @param listener called with every newly computed advice, on a pool thread
+     */
+    public MoveAdvisor(final RolloutBoard board, final int rollouts, final Consumer<MoveAdvice> listener) {
+        this.board = board;
+        this.rollouts = rollouts;
+        this.listener = listener;
+    }
+
+    /**
+     * Starts computing the advice for all human players in the given snapshot, unless it is cached or already being
+     * computed. Cancels computations for older states of the board. Can be called from any thread.
+     *
+     * @param snapshot the snapshot to advise on
+     */
+    public void prepare(final GameSnapshot snapshot) {
+        if (rollouts <= 0) {
+            return;
+        }
+        for (int player = 0; player < snapshot.players().size(); player++) {
+            final Player owner = snapshot.players().get(player).player();
+            if (owner.isAi()) {
+                continue;
+            }
+            final AdviceKey key = new AdviceKey(snapshot.board().hash(), owner);
+            final long seed;
+            synchronized (this) {
+                if (closed || key.equals(currentKeys.get(owner))) {
+                    continue;
+                }
+                currentKeys.put(owner, key);
+                if (cache.containsKey(key)) {
+                    CACHE_HITS.increment();
+                    continue;
+                }
+                seed = seeds.nextLong();
+            }
+            advise(snapshot, player, key, seed);
+        }
+    }
+
+    /**
+     * Returns the advice for the given player on the latest prepared state of the board.
+     *
+     * @param player the player
+     * @return the advice, {@code null} if it is not computed yet
+     */
+    public synchronized @Nullable MoveAdvice getAdvice(final Player player) {
+        final AdviceKey key = currentKeys.get(player);
+        return key != null ? cache.get(key) : null;
+    }
+
+    /**
+     * Cancels all computations and ignores all further snapshots.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        currentKeys.clear();
+    }
+
+    /**
+     * Computes the advice for the given player in the background and caches it.
+     *
+     * @param snapshot the snapshot to advise on
+     * @param player   the index of the player in the snapshot
+     * @param key      the key of the advice
+     * @param seed     the seed of the rollouts
+     */
+    private void advise(final GameSnapshot snapshot, final int player, final AdviceKey key, final long seed) {
+        final long start = ADVICE_TIMER.start();
+        CompletableFuture.supplyAsync(() -> new Rollout(board, snapshot), EXECUTOR)
+            .thenCompose(rollout -> {
+                final double[] scores = scoreIntersections(board, rollout, snapshot, key.player());
+                final List<Integer> ranked = new ArrayList<>();
+                for (int intersection = 0; intersection < board.size(); intersection++) {
+                    if (scores[intersection] > 0) {
+                        ranked.add(intersection);
+                    }
+                }
+                ranked.sort(Comparator.comparingDouble(intersection -> -scores[intersection]));
+
+                final List<Integer> candidates = List.copyOf(ranked.subList(0, Math.min(CANDIDATES, ranked.size())));
+                @SuppressWarnings("unchecked")
+                final CompletableFuture<Integer>[] wins = new CompletableFuture[candidates.size()];
+                final SplittableRandom random = new SplittableRandom(seed);
+                for (int candidate = 0; candidate < wins.length; candidate++) {
+                    final Rollout withVillage = rollout.withVillage(candidates.get(candidate), player);
+                    final SplittableRandom candidateRandom = random.split();
+                    wins[candidate] = CompletableFuture.supplyAsync(
+                        () -> countWins(withVillage, player, candidateRandom, key),
+                        EXECUTOR
+                    );
+                }
+                return CompletableFuture.allOf(wins).thenApply(ignored -> {
+                    final Map<Integer, Integer> winsByCandidate = new LinkedHashMap<>();
+                    for (int candidate = 0; candidate < wins.length; candidate++) {
+                        if (wins[candidate].join() < 0) {
+                            return null;
+                        }
+                        winsByCandidate.put(candidates.get(candidate), wins[candidate].join());
+                    }
+                    // the evaluated candidates first, the others keep the order of their scores
+                    ranked.sort(Comparator.comparingInt(intersection -> -winsByCandidate.getOrDefault(intersection, -1)));
+                    return createAdvice(board, snapshot, key.player(), ranked, scores);
+                });
+            })
+            .whenComplete((advice, throwable) -> {
+                if (throwable != null) {
+                    LOGGER.error("Cannot compute move advice", throwable);
+                } else if (advice == null) {
+                    CANCELLED.increment();
+                } else {
+                    ADVICE_TIMER.stop(start);
+                    synchronized (this) {
+                        cache.put(key, advice);
+                    }
+                    listener.accept(advice);
+                }
+            });
+    }
+
+    /**
+     * Plays the given rollout and counts how often the given player wins, as long as the advice is still needed.
+     *
+     * @param rollout the rollout
+     * @param player  the index of the player
+     * @param random  the source of randomness
+     * @param key     the key of the advice
+     * @return the amount of wins, {@code -1} if the computation was cancelled
+     */
+    private int countWins(final Rollout rollout, final int player, final SplittableRandom random, final AdviceKey key) {
+        if (currentKeys.get(key.player()) != key) {
+            return -1;
+        }
+        int wins = 0;
+        for (int i = 0; i < rollouts; i++) {
+            if (rollout.play(random) == player) {
+                wins++;
+            }
+        }
+        return wins;
+    }
+
+    /**
+     * Scores all intersections the given player could build a village on by their pips, counting resources the
+     * player does not produce yet one and a half times.
+     *
+     * @param board    the rollout board
+     * @param rollout  the rollout of the snapshot
+     * @param snapshot the snapshot
+     * @param player   the player
+     * @return the score per intersection, {@code 0} if no village can be built there
+     */
+    private static double[] scoreIntersections(
+        final RolloutBoard board, final Rollout rollout, final GameSnapshot snapshot, final Player player
+    ) {
+        final boolean[] produced = new boolean[ResourceType.values().length];
+        for (final Map.Entry<Set<TilePosition>, Settlement> entry : snapshot.board().settlements().entrySet()) {
+            final int intersection = board.indexOf(entry.getKey());
+            if (entry.getValue().owner() == player && intersection >= 0) {
+                for (final int resource : board.tileResources(intersection)) {
+                    produced[resource] = true;
+                }
+            }
+        }
+        final double[] scores = new double[board.size()];
+        for (int intersection = 0; intersection < board.size(); intersection++) {
+            if (!rollout.isFree(intersection)) {
+                continue;
+            }
+            final int[] rolls = board.tileRolls(intersection);
+            final int[] resources = board.tileResources(intersection);
+            for (int tile = 0; tile < rolls.length; tile++) {
+                scores[intersection] += BoardGenerator.pips(rolls[tile])
+                    * (produced[resources[tile]] ? 1 : 1.5);
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * Creates the advice from the ranked intersections.
+     *
+     * @param board    the rollout board
+     * @param snapshot the snapshot
+     * @param player   the player
+     * @param villages the ranked intersections to build a village on
+     * @param scores   the scores of all intersections
+     * @return the advice
+     */
+    private static MoveAdvice createAdvice(
+        final RolloutBoard board, final GameSnapshot snapshot, final Player player, final List<Integer> villages,
+        final double[] scores
+    ) {
+        final List<Set<TilePosition>> cities = snapshot.board().settlements().entrySet().stream()
+            .filter(entry -> entry.getValue().owner() == player && entry.getValue().type() == Settlement.Type.VILLAGE)
+            .map(Map.Entry::getKey)
+            .filter(positions -> board.indexOf(positions) >= 0)
+            .sorted(Comparator.comparingInt(positions -> -board.pips(board.indexOf(positions))))
+            .toList();
+
+        // a road is worth the best free intersection at its end or, discounted, one road further
+        final double[] roadScores = new double[board.edgeCount()];
+        final List<Integer> roads = new ArrayList<>();
+        for (int edge = 0; edge < roadScores.length; edge++) {
+            if (snapshot.board().roadOwners().containsKey(board.edgePositions(edge))) {
+                continue;
+            }
+            for (int side = 0; side < 2; side++) {
+                final int intersection = board.edgeIntersection(edge, side);
+                roadScores[edge] = Math.max(roadScores[edge], scores[intersection]);
+                for (int i = 0; i < board.neighbourCount(intersection); i++) {
+                    roadScores[edge] = Math.max(roadScores[edge], scores[board.neighbour(intersection, i)] * 0.5);
+                }
+            }
+            roads.add(edge);
+        }
+        roads.sort(Comparator.comparingDouble(edge -> -roadScores[edge]));
+
+        return new MoveAdvice(
+            player,
+            villages.stream().map(board::intersectionPositions).toList(),
+            cities,
+            roads.stream().map(board::edgePositions).toList()
+        );
+    }
+}
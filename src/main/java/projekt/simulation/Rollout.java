@@ -0,0 +1,376 @@
+package projekt.simulation;
+
+import projekt.Config;
+import projekt.model.DevelopmentCardType;
+import projekt.model.GameSnapshot;
+import projekt.model.PlayerSnapshot;
+import projekt.model.ResourceType;
+import projekt.model.TilePosition;
+import projekt.model.buildings.Settlement;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * A simplified game that is played from a {@link GameSnapshot} until a player reaches
+ * {@link Config#REQUIRED_VICTORY_POINTS}.
+ * <p>
+ * All players follow the same greedy policy: upgrade the most productive village to a city, otherwise build a
+ * village on the most productive free intersection (paying for one road as well), otherwise buy a development card,
+ * otherwise trade four of the most plentiful resource for the most needed one. Roads, ports, the robber's movement and
+ * the effects of development cards other than victory points are not simulated. The robber stays where it is in the
+ * snapshot and a seven only makes players with more than seven cards discard half of them.
+ * <p>
+ * The initial state is computed once per snapshot; {@link #play(SplittableRandom)} copies it and can be called from
+ * several threads at once.
+ */
+final class Rollout {
+    private static final int RESOURCE_TYPES = ResourceType.values().length;
+    private static final int[] VILLAGE_COST = cost(
+        Config.SETTLEMENT_BUILDING_COST.get(Settlement.Type.VILLAGE),
+        Config.ROAD_BUILDING_COST
+    );
+    private static final int[] CITY_COST = cost(Config.SETTLEMENT_BUILDING_COST.get(Settlement.Type.CITY));
+    private static final int[] DEVELOPMENT_CARD_COST = cost(Config.DEVELOPMENT_CARD_COST);
+    private static final double VICTORY_POINT_CARD_SHARE = Config.DEVELOPMENT_CARD_RATIOS
+        .getOrDefault(DevelopmentCardType.VICTORY_POINTS, 0)
+        / (double) Math.max(1, Config.DEVELOPMENT_CARD_RATIOS.values().stream().mapToInt(Integer::intValue).sum());
+
+    /**
+     * The amount of rounds after which the player with the most victory points wins.
+     */
+    private static final int MAX_ROUNDS = 200;
+
+    private static final int FREE = -1;
+
+    private final RolloutBoard board;
+    private final int players;
+    private final int[] victoryPoints;
+    private final int[] resources;
+    private final int[] remainingVillages;
+    private final int[] remainingCities;
+    private final int[] owners;
+    private final boolean[] cities;
+    private final boolean[] blocked;
+    private final boolean[] robbed;
+
+    /**
+     * Computes the initial state of rollouts from the given snapshot.
+     *
+     * @param board    the board of the game
+     * @param snapshot the snapshot to start from
+     */
+    Rollout(final RolloutBoard board, final GameSnapshot snapshot) {
+        this.board = board;
+        this.players = snapshot.players().size();
+        this.victoryPoints = new int[players];
+        this.resources = new int[players * RESOURCE_TYPES];
+        this.remainingVillages = new int[players];
+        this.remainingCities = new int[players];
+        for (int player = 0; player < players; player++) {
+            final PlayerSnapshot playerSnapshot = snapshot.players().get(player);
+            victoryPoints[player] = playerSnapshot.victoryPoints();
+            remainingVillages[player] = playerSnapshot.remainingVillages();
+            remainingCities[player] = playerSnapshot.remainingCities();
+            for (final Map.Entry<ResourceType, Integer> entry : playerSnapshot.resources().entrySet()) {
+                resources[player * RESOURCE_TYPES + entry.getKey().ordinal()] = entry.getValue();
+            }
+        }
+        this.owners = new int[board.size()];
+        this.cities = new boolean[board.size()];
+        this.blocked = new boolean[board.size()];
+        Arrays.fill(owners, FREE);
+        for (final Map.Entry<Set<TilePosition>, Settlement> entry : snapshot.board().settlements().entrySet()) {
+            final int intersection = board.indexOf(entry.getKey());
+            final int owner = snapshot.players().indexOf(snapshot.getPlayer(entry.getValue().owner()));
+            if (intersection >= 0 && owner >= 0) {
+                occupy(owners, blocked, intersection, owner);
+                cities[intersection] = entry.getValue().type() == Settlement.Type.CITY;
+            }
+        }
+        // the tiles under the robber do not produce, remembered per intersection and tile
+        this.robbed = new boolean[board.size() * 3];
+        for (int intersection = 0; intersection < board.size(); intersection++) {
+            final TilePosition[] positions = board.tilePositions(intersection);
+            for (int tile = 0; tile < positions.length; tile++) {
+                robbed[intersection * 3 + tile] = snapshot.board().hasRobber(positions[tile]);
+            }
+        }
+    }
+
+    /**
+     * Creates a copy of the given rollout with a village of the given player on the given intersection.
+     *
+     * @param rollout      the rollout to copy
+     * @param intersection the index of the intersection
+     * @param player       the index of the player
+     */
+    private Rollout(final Rollout rollout, final int intersection, final int player) {
+        this.board = rollout.board;
+        this.players = rollout.players;
+        this.victoryPoints = rollout.victoryPoints.clone();
+        this.resources = rollout.resources;
+        this.remainingVillages = rollout.remainingVillages.clone();
+        this.remainingCities = rollout.remainingCities;
+        this.owners = rollout.owners.clone();
+        this.cities = rollout.cities;
+        this.blocked = rollout.blocked.clone();
+        this.robbed = rollout.robbed;
+        occupy(owners, blocked, intersection, player);
+        victoryPoints[player]++;
+        remainingVillages[player]--;
+    }
+
+    /**
+     * Returns a rollout that starts with an additional village of the given player on the given intersection.
+     * The resources of the player are left as they are, so rollouts with different villages can be compared.
+     *
+     * @param intersection the index of the intersection, must be {@link #isFree(int) free}
+     * @param player       the index of the player
+     * @return the new rollout
+     */
+    Rollout withVillage(final int intersection, final int player) {
+        return new Rollout(this, intersection, player);
+    }
+
+    /**
+     * Returns whether a village can be built on the given intersection in the initial state, ignoring roads.
+     *
+     * @param intersection the index of the intersection
+     * @return whether the intersection and its neighbours are free
+     */
+    boolean isFree(final int intersection) {
+        return !blocked[intersection];
+    }
+
+    /**
+     * Plays one game from the initial state.
+     *
+     * @param random the source of randomness
+     * @return the index of the winner
+     */
+    int play(final SplittableRandom random) {
+        final int[] victoryPoints = this.victoryPoints.clone();
+        final int[] resources = this.resources.clone();
+        final int[] remainingVillages = this.remainingVillages.clone();
+        final int[] remainingCities = this.remainingCities.clone();
+        final int[] owners = this.owners.clone();
+        final boolean[] cities = this.cities.clone();
+        final boolean[] blocked = this.blocked.clone();
+
+        final int firstPlayer = random.nextInt(players);
+        for (int turn = 0; turn < MAX_ROUNDS * players; turn++) {
+            final int player = (firstPlayer + turn) % players;
+            int roll = Config.NUMBER_OF_DICE;
+            for (int die = 0; die < Config.NUMBER_OF_DICE; die++) {
+                roll += random.nextInt(Config.DICE_SIDES);
+            }
+            if (roll == 7) {
+                discardHalf(resources);
+            } else {
+                produce(roll, owners, cities, resources);
+            }
+            victoryPoints[player] += buildGreedily(
+                player, random, resources, remainingVillages, remainingCities, owners, cities, blocked
+            );
+            if (victoryPoints[player] >= Config.REQUIRED_VICTORY_POINTS) {
+                return player;
+            }
+        }
+        int leader = 0;
+        for (int player = 1; player < players; player++) {
+            if (victoryPoints[player] > victoryPoints[leader]) {
+                leader = player;
+            }
+        }
+        return leader;
+    }
+
+    /**
+     * Gives every settlement the resources of its tiles with the given roll number.
+     *
+     * @param roll      the rolled number
+     * @param owners    the owners of all intersections
+     * @param cities    whether the settlement on each intersection is a city
+     * @param resources the resources of all players
+     */
+    private void produce(final int roll, final int[] owners, final boolean[] cities, final int[] resources) {
+        for (int intersection = 0; intersection < owners.length; intersection++) {
+            final int owner = owners[intersection];
+            if (owner == FREE) {
+                continue;
+            }
+            final int[] rolls = board.tileRolls(intersection);
+            final int[] tileResources = board.tileResources(intersection);
+            for (int tile = 0; tile < rolls.length; tile++) {
+                if (rolls[tile] == roll && !robbed[intersection * 3 + tile]) {
+                    resources[owner * RESOURCE_TYPES + tileResources[tile]] += cities[intersection] ? 2 : 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * Makes every player with more than seven resources discard half of them, always the most plentiful first.
+     *
+     * @param resources the resources of all players
+     */
+    private void discardHalf(final int[] resources) {
+        for (int player = 0; player < players; player++) {
+            int total = 0;
+            for (int type = 0; type < RESOURCE_TYPES; type++) {
+                total += resources[player * RESOURCE_TYPES + type];
+            }
+            if (total > 7) {
+                for (int discard = total / 2; discard > 0; discard--) {
+                    resources[player * RESOURCE_TYPES + mostPlentiful(resources, player)]--;
+                }
+            }
+        }
+    }
+
+    /**
+     * Builds as much as the given player can afford with the greedy policy.
+     *
+     * @return the victory points gained
+     */
+    private int buildGreedily(
+        final int player, final SplittableRandom random, final int[] resources, final int[] remainingVillages,
+        final int[] remainingCities, final int[] owners, final boolean[] cities, final boolean[] blocked
+    ) {
+        int gained = 0;
+        for (int action = 0; action < 8; action++) {
+            final int village = bestOwnVillage(player, owners, cities);
+            final int freeIntersection = bestFreeIntersection(blocked);
+            if (village >= 0 && remainingCities[player] > 0 && pay(resources, player, CITY_COST)) {
+                cities[village] = true;
+                remainingCities[player]--;
+                remainingVillages[player]++;
+                gained++;
+            } else if (freeIntersection >= 0 && remainingVillages[player] > 0 && pay(resources, player, VILLAGE_COST)) {
+                occupy(owners, blocked, freeIntersection, player);
+                remainingVillages[player]--;
+                gained++;
+            } else if (pay(resources, player, DEVELOPMENT_CARD_COST)) {
+                if (random.nextDouble() < VICTORY_POINT_CARD_SHARE) {
+                    gained++;
+                }
+            } else if (!tradeWithBank(resources, player, village >= 0 ? CITY_COST : VILLAGE_COST)) {
+                break;
+            }
+        }
+        return gained;
+    }
+
+    /**
+     * Trades four of the most plentiful resource of the given player for a resource the given target still needs.
+     *
+     * @return whether a trade was made
+     */
+    private static boolean tradeWithBank(final int[] resources, final int player, final int[] target) {
+        final int offered = mostPlentiful(resources, player);
+        if (resources[player * RESOURCE_TYPES + offered] < 4 + target[offered]) {
+            return false;
+        }
+        for (int type = 0; type < RESOURCE_TYPES; type++) {
+            if (resources[player * RESOURCE_TYPES + type] < target[type]) {
+                resources[player * RESOURCE_TYPES + offered] -= 4;
+                resources[player * RESOURCE_TYPES + type]++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the village of the given player on the most productive intersection.
+     *
+     * @return the index of the intersection, {@code -1} if the player has no village
+     */
+    private int bestOwnVillage(final int player, final int[] owners, final boolean[] cities) {
+        int best = -1;
+        for (int intersection = 0; intersection < owners.length; intersection++) {
+            if (owners[intersection] == player && !cities[intersection]
+                && (best < 0 || board.pips(intersection) > board.pips(best))) {
+                best = intersection;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the most productive intersection that a village can be built on.
+     *
+     * @return the index of the intersection, {@code -1} if there is none
+     */
+    private int bestFreeIntersection(final boolean[] blocked) {
+        int best = -1;
+        for (int intersection = 0; intersection < blocked.length; intersection++) {
+            if (!blocked[intersection] && board.pips(intersection) > 0
+                && (best < 0 || board.pips(intersection) > board.pips(best))) {
+                best = intersection;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Places a settlement of the given player and blocks the intersection and its neighbours.
+     */
+    private void occupy(final int[] owners, final boolean[] blocked, final int intersection, final int player) {
+        owners[intersection] = player;
+        blocked[intersection] = true;
+        for (int i = 0; i < board.neighbourCount(intersection); i++) {
+            blocked[board.neighbour(intersection, i)] = true;
+        }
+    }
+
+    /**
+     * Removes the given cost from the resources of the given player, if the player can afford it.
+     *
+     * @return whether the player paid
+     */
+    private static boolean pay(final int[] resources, final int player, final int[] cost) {
+        for (int type = 0; type < RESOURCE_TYPES; type++) {
+            if (resources[player * RESOURCE_TYPES + type] < cost[type]) {
+                return false;
+            }
+        }
+        for (int type = 0; type < RESOURCE_TYPES; type++) {
+            resources[player * RESOURCE_TYPES + type] -= cost[type];
+        }
+        return true;
+    }
+
+    /**
+     * Returns the resource the given player has the most of.
+     *
+     * @return the ordinal of the resource
+     */
+    private static int mostPlentiful(final int[] resources, final int player) {
+        int most = 0;
+        for (int type = 1; type < RESOURCE_TYPES; type++) {
+            if (resources[player * RESOURCE_TYPES + type] > resources[player * RESOURCE_TYPES + most]) {
+                most = type;
+            }
+        }
+        return most;
+    }
+
+    /**
+     * Adds the given costs up, indexed by the ordinal of the resource.
+     *
+     * @param costs the costs
+     * @return the total cost per resource
+     */
+    @SafeVarargs
+    private static int[] cost(final Map<ResourceType, Integer>... costs) {
+        final int[] total = new int[RESOURCE_TYPES];
+        for (final Map<ResourceType, Integer> cost : costs) {
+            cost.forEach((type, amount) -> total[type.ordinal()] += amount);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,187 @@
+package projekt.simulation;
+
+import projekt.model.BoardGenerator;
+import projekt.model.HexGrid;
+import projekt.model.TilePosition;
+import projekt.model.compact.BoardTopology;
+import projekt.model.compact.CompactGame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The parts of a board that do not change during a game, as needed by fast rollouts. Intersections and edges are
+ * identified by their index in the shared {@link BoardTopology}, which also stores how they are connected; this class
+ * only adds which roll numbers produce which resources at each intersection.
+ * Only reads the tiles of the board, which are never changed after the grid was created, so it can be built on any
+ * thread. A game creates its rollout board once and shares it between all its simulations.
+ */
+public final class RolloutBoard {
+    private final BoardTopology topology;
+    private final int[][] tileRolls;
+    private final int[][] tileResources;
+    private final TilePosition[][] tilePositions;
+    private final int[] pips;
+
+    /**
+     * Creates the rollout board of the given game.
+     *
+     * @param game the game, only its tiles are read
+     */
+    RolloutBoard(final CompactGame game) {
+        this.topology = game.getTopology();
+        final int intersections = topology.getIntersectionCount();
+        this.tileRolls = new int[intersections][];
+        this.tileResources = new int[intersections][];
+        this.tilePositions = new TilePosition[intersections][];
+        this.pips = new int[intersections];
+        for (int intersection = 0; intersection < intersections; intersection++) {
+            final List<Integer> tiles = new ArrayList<>();
+            for (final TilePosition position : topology.getIntersectionPositions(intersection)) {
+                final int tile = topology.getTile(position);
+                if (tile >= 0 && game.getTileType(tile).resourceType != null && game.getRollNumber(tile) > 0) {
+                    tiles.add(tile);
+                }
+            }
+            tileRolls[intersection] = tiles.stream().mapToInt(game::getRollNumber).toArray();
+            tileResources[intersection] = tiles.stream()
+                .mapToInt(tile -> game.getTileType(tile).resourceType.ordinal())
+                .toArray();
+            tilePositions[intersection] = tiles.stream().map(topology::getTilePosition).toArray(TilePosition[]::new);
+            for (final int rollNumber : tileRolls[intersection]) {
+                pips[intersection] += BoardGenerator.pips(rollNumber);
+            }
+        }
+    }
+
+    /**
+     * Creates the rollout board of the given grid.
+     *
+     * @param grid the grid
+     * @return the rollout board
+     */
+    public static RolloutBoard of(final HexGrid grid) {
+        return new RolloutBoard(CompactGame.of(grid, List.of()));
+    }
+
+    /**
+     * Returns the amount of intersections.
+     *
+     * @return the amount of intersections
+     */
+    int size() {
+        return tileRolls.length;
+    }
+
+    /**
+     * Returns the index of the intersection between the given positions.
+     *
+     * @param positions the positions of the intersection
+     * @return the index, {@code -1} if there is no such intersection
+     */
+    int indexOf(final Set<TilePosition> positions) {
+        return topology.getIntersection(positions);
+    }
+
+    /**
+     * Returns the amount of intersections adjacent to the given intersection.
+     *
+     * @param intersection the index of the intersection
+     * @return the amount of adjacent intersections
+     */
+    int neighbourCount(final int intersection) {
+        return topology.getIntersectionEdgeCount(intersection);
+    }
+
+    /**
+     * Returns one of the intersections adjacent to the given intersection.
+     *
+     * @param intersection the index of the intersection
+     * @param i            the index of the neighbour, less than {@link #neighbourCount(int)}
+     * @return the index of the adjacent intersection
+     */
+    int neighbour(final int intersection, final int i) {
+        return topology.getAdjacentIntersection(intersection, i);
+    }
+
+    /**
+     * Returns the roll numbers of the producing tiles at the given intersection.
+     *
+     * @param intersection the index of the intersection
+     * @return the roll numbers, must not be modified
+     */
+    int[] tileRolls(final int intersection) {
+        return tileRolls[intersection];
+    }
+
+    /**
+     * Returns the resources of the producing tiles at the given intersection, in the order of {@link #tileRolls}.
+     *
+     * @param intersection the index of the intersection
+     * @return the ordinals of the resources, must not be modified
+     */
+    int[] tileResources(final int intersection) {
+        return tileResources[intersection];
+    }
+
+    /**
+     * Returns the positions of the producing tiles at the given intersection, in the order of {@link #tileRolls}.
+     *
+     * @param intersection the index of the intersection
+     * @return the positions, must not be modified
+     */
+    TilePosition[] tilePositions(final int intersection) {
+        return tilePositions[intersection];
+    }
+
+    /**
+     * Returns the positions of the given intersection.
+     *
+     * @param intersection the index of the intersection
+     * @return the positions of the intersection
+     */
+    Set<TilePosition> intersectionPositions(final int intersection) {
+        return topology.getIntersectionPositions(intersection);
+    }
+
+    /**
+     * Returns the amount of edges.
+     *
+     * @return the amount of edges
+     */
+    int edgeCount() {
+        return topology.getEdgeCount();
+    }
+
+    /**
+     * Returns the positions of the given edge.
+     *
+     * @param edge the index of the edge
+     * @return the positions of the edge
+     */
+    Set<TilePosition> edgePositions(final int edge) {
+        return topology.getEdgePositions(edge);
+    }
+
+    /**
+     * Returns one of the two intersections the given edge connects.
+     *
+     * @param edge the index of the edge
+     * @param side {@code 0} or {@code 1}
+     * @return the index of the intersection
+     */
+    int edgeIntersection(final int edge, final int side) {
+        return topology.getEdgeIntersection(edge, side);
+    }
+
+    /**
+     * Returns how likely the given intersection produces anything per roll, in pips.
+     *
+     * @param intersection the index of the intersection
+     * @return the sum of the pips of the producing tiles
+     */
+    int pips(final int intersection) {
+        return pips[intersection];
+    }
+}
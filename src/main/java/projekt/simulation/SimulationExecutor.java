@@ -0,0 +1,28 @@
+package projekt.simulation;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The pool of low-priority daemon threads all simulations run on, shared by all games so simulations never use more
+ * than one thread per processor but one, which is left for the game and the JavaFX application thread.
+ */
+final class SimulationExecutor {
+    /**
+     * The amount of threads of the pool.
+     */
+    static final int THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+    /**
+     * The pool.
+     */
+    static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(THREADS, runnable -> {
+        final Thread thread = new Thread(runnable, "SimulationThread");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+
+    private SimulationExecutor() {
+    }
+}
@@ -0,0 +1,31 @@
+package projekt.simulation;
+
+import projekt.model.Player;
+
+import java.util.Map;
+
+/**
+ * The estimated win probabilities of all players for one published {@link projekt.model.GameSnapshot}.
+ *
+ * @param version       the version of the snapshot the probabilities were estimated for
+ * @param rollouts      the amount of simulated games the estimate is based on
+ * @param probabilities the probability of each player to win, between {@code 0} and {@code 1}
+ */
+public record WinProbabilities(long version, int rollouts, Map<Player, Double> probabilities) {
+    /**
+     * Creates new win probabilities with an unmodifiable copy of the given probabilities.
+     */
+    public WinProbabilities {
+        probabilities = Map.copyOf(probabilities);
+    }
+
+    /**
+     * Returns the estimated probability of the given player to win.
+     *
+     * @param player the player
+     * @return the probability, {@link Double#NaN} if there is no estimate for the player
+     */
+    public double get(final Player player) {
+        return probabilities.getOrDefault(player, Double.NaN);
+    }
+}
@@ -0,0 +1,193 @@
+package projekt.simulation;
+
+import org.jetbrains.annotations.Nullable;
+import projekt.Config;
+import projekt.logging.Logger;
+import projekt.logging.Logging;
+import projekt.metrics.Counter;
+import projekt.metrics.MetricsRegistry;
+import projekt.metrics.Timer;
+import projekt.model.GameSnapshot;
+import projekt.model.Player;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static projekt.simulation.SimulationExecutor.EXECUTOR;
+import static projekt.simulation.SimulationExecutor.THREADS;
+
+/**
+ * Estimates the win probabilities of the players of a game by playing many simplified {@link Rollout rollouts} from
+ * the published {@link GameSnapshot}s.
+ * <p>
+ * {@link #estimate(GameSnapshot)} returns immediately; the rollouts are split into one chunk per thread of the
+ * {@link SimulationExecutor}, which leaves one processor for the game and the JavaFX application thread.
+ * Every new estimate cancels the previous one: the chunks check between rollouts whether their snapshot is still the
+ * latest and stop otherwise, so stale estimates never take processing time from current ones and are never
+ * published. Finished estimates are passed to the listener on a pool thread.
+ * <p>
+ * How long estimates take and how many are cancelled is recorded in the global {@link MetricsRegistry}.
+ */
+public final class WinProbabilityEstimator implements AutoCloseable {
+    private static final Logger LOGGER = Logging.getLogger(WinProbabilityEstimator.class);
+    private static final Timer ESTIMATE_TIMER = MetricsRegistry.getGlobal().timer("winProbability.estimate");
+    private static final Counter CANCELLED = MetricsRegistry.getGlobal().counter("winProbability.cancelled");
+
+    private final RolloutBoard board;
+    private final int rollouts;
+    private final Consumer<WinProbabilities> listener;
+    private final AtomicLong generation = new AtomicLong();
+    private final SplittableRandom seeds = new SplittableRandom();
+    private volatile @Nullable WinProbabilities latest;
+    private @Nullable Long lastHash;
+    private boolean closed;
+
+    /**
+     * Creates a new estimator for the game on the given board that plays {@link Config#WIN_PROBABILITY_ROLLOUTS}
+     * rollouts per estimate.
+     *
+     * @param board    the rollout board of the game
+     * @param listener called with every finished estimate, on a pool thread
+     */
+    public WinProbabilityEstimator(final RolloutBoard board, final Consumer<WinProbabilities> listener) {
+        this(board, Config.WIN_PROBABILITY_ROLLOUTS, listener);
+    }
+
+    /**
+     * Creates a new estimator for the game on the given board.
+     *
+     * @param board    the rollout board of the game
+     * @param rollouts how many rollouts are played per estimate, {@code 0} disables the estimator
+     * @param listener called with every finished estimate, on a pool thread
+     */
+    public WinProbabilityEstimator(
+        final RolloutBoard board, final int rollouts, final Consumer<WinProbabilities> listener
+    ) {
+        this.board = board;
+        this.rollouts = rollouts;
+        this.listener = listener;
+    }
+
+    /**
+     * Starts estimating the win probabilities from the given snapshot and cancels the running estimate.
+     * Does nothing if neither the board nor the players changed since the last estimate.
+     * Can be called from any thread.
+     *
+     * @param snapshot the snapshot to estimate from
+     */
+    public void estimate(final GameSnapshot snapshot) {
+        if (rollouts <= 0 || snapshot.players().isEmpty()) {
+            return;
+        }
+        final long generation;
+        final long[] chunkSeeds = new long[Math.min(THREADS, rollouts)];
+        synchronized (this) {
+            if (closed || lastHash != null && lastHash == snapshot.hash()) {
+                return;
+            }
+            lastHash = snapshot.hash();
+            generation = this.generation.incrementAndGet();
+            for (int chunk = 0; chunk < chunkSeeds.length; chunk++) {
+                chunkSeeds[chunk] = seeds.nextLong();
+            }
+        }
+
+        final long start = ESTIMATE_TIMER.start();
+        CompletableFuture.supplyAsync(() -> new Rollout(board, snapshot), EXECUTOR)
+            .thenCompose(rollout -> {
+                @SuppressWarnings("unchecked")
+                final CompletableFuture<int[]>[] chunks = new CompletableFuture[chunkSeeds.length];
+                for (int chunk = 0; chunk < chunks.length; chunk++) {
+                    final int chunkRollouts = rollouts / chunks.length + (chunk < rollouts % chunks.length ? 1 : 0);
+                    final SplittableRandom random = new SplittableRandom(chunkSeeds[chunk]);
+                    chunks[chunk] = CompletableFuture.supplyAsync(
+                        () -> play(rollout, chunkRollouts, random, generation, snapshot.players().size()),
+                        EXECUTOR
+                    );
+                }
+                return CompletableFuture.allOf(chunks).thenApply(ignored -> combine(snapshot, chunks));
+            })
+            .whenComplete((result, throwable) -> {
+                if (throwable != null) {
+                    LOGGER.error("Cannot estimate win probabilities", throwable);
+                } else if (result == null || this.generation.get() != generation) {
+                    CANCELLED.increment();
+                } else {
+                    ESTIMATE_TIMER.stop(start);
+                    latest = result;
+                    listener.accept(result);
+                }
+            });
+    }
+
+    /**
+     * Returns the latest finished estimate.
+     *
+     * @return the latest estimate, {@code null} if no estimate has finished yet
+     */
+    public @Nullable WinProbabilities getLatest() {
+        return latest;
+    }
+
+    /**
+     * Cancels the running estimate and ignores all further snapshots.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Plays the given amount of rollouts as long as the estimate is not cancelled.
+     *
+     * @param rollout    the rollout to play
+     * @param rollouts   the amount of rollouts
+     * @param random     the source of randomness
+     * @param generation the generation of the estimate
+     * @param players    the amount of players
+     * @return the wins per player, {@code null} if the estimate was cancelled
+     */
+    private int @Nullable [] play(
+        final Rollout rollout, final int rollouts, final SplittableRandom random, final long generation,
+        final int players
+    ) {
+        final int[] wins = new int[players];
+        for (int i = 0; i < rollouts; i++) {
+            if (this.generation.get() != generation) {
+                return null;
+            }
+            wins[rollout.play(random)]++;
+        }
+        return wins;
+    }
+
+    /**
+     * Adds up the wins of all chunks.
+     *
+     * @param snapshot the snapshot the chunks played from
+     * @param chunks   the finished chunks
+     * @return the estimate, {@code null} if a chunk was cancelled
+     */
+    private @Nullable WinProbabilities combine(final GameSnapshot snapshot, final CompletableFuture<int[]>[] chunks) {
+        final int[] wins = new int[snapshot.players().size()];
+        for (final CompletableFuture<int[]> chunk : chunks) {
+            final int[] chunkWins = chunk.join();
+            if (chunkWins == null) {
+                return null;
+            }
+            for (int player = 0; player < wins.length; player++) {
+                wins[player] += chunkWins[player];
+            }
+        }
+        final Map<Player, Double> probabilities = new HashMap<>();
+        for (int player = 0; player < wins.length; player++) {
+            probabilities.put(snapshot.players().get(player).player(), wins[player] / (double) rollouts);
+        }
+        return new WinProbabilities(snapshot.version(), rollouts, probabilities);
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * Contains the {@link projekt.simulation.WinProbabilityEstimator}, which estimates the win probability of each
+ * player by playing fast, simplified games from a published {@link projekt.model.GameSnapshot} on background
+ * threads.
+ */
+package projekt.simulation;
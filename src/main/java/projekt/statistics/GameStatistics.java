@@ -0,0 +1,452 @@
+package projekt.statistics;
+
+import projekt.Config;
+import projekt.model.Player;
+import projekt.model.ResourceType;
+import projekt.model.buildings.Settlement;
+import projekt.model.events.GameEventBus;
+import projekt.model.events.ResourceChangedEvent;
+import projekt.model.events.RoadBuiltEvent;
+import projekt.model.events.RoadRemovedEvent;
+import projekt.model.events.SettlementPlacedEvent;
+import projekt.model.events.SettlementRemovedEvent;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Statistics of a single game: the dice rolls, the resources each player produced and lost by
+ * {@link ResourceSource}, when roads and settlements were built, who held the largest army after each round and how
+ * long each turn took.
+ * <p>
+ * All values are kept in primitive arrays that are indexed by player, source and resource, so recording does not
+ * allocate apart from growing the arrays of the timelines. Players are identified by their index in the list the
+ * statistics were created with. The statistics are only changed by the game thread and must not be read while the
+ * game is running.
+ * <p>
+ * Changes that are undone or rolled back are reverted, see {@link #setReverting(boolean)}, so the statistics only
+ * count what actually happened in the game.
+ */
+public final class GameStatistics {
+    private static final int RESOURCE_TYPES = ResourceType.values().length;
+    private static final int SOURCES = ResourceSource.values().length;
+
+    /**
+     * The build type of roads in the build timeline, settlements use {@code 1 + type.ordinal()}.
+     */
+    private static final int ROAD = 0;
+
+    private final List<Player> players;
+    private final Map<Player, Integer> playerIndices = new IdentityHashMap<>();
+    private final long[] diceRolls = new long[Config.NUMBER_OF_DICE * Config.DICE_SIDES + 1];
+    private final long[] produced;
+    private final long[] lost;
+    private ResourceSource source = ResourceSource.OTHER;
+    private boolean reverting;
+    private int round;
+    private int winner = -1;
+
+    private int builds;
+    private int[] buildRounds = new int[16];
+    private int[] buildPlayers = new int[16];
+    private int[] buildTypes = new int[16];
+
+    private int turns;
+    private int[] turnRounds = new int[16];
+    private int[] turnPlayers = new int[16];
+    private long[] turnDurations = new long[16];
+    private long turnStart;
+    private int turnPlayer = -1;
+
+    private int[] largestArmyHolders = new int[16];
+
+    /**
+     * Creates new, empty statistics for the given players.
+     *
+     * @param players the players of the game, in the order of their indices
+     */
+    public GameStatistics(final List<Player> players) {
+        this.players = List.copyOf(players);
+        for (int i = 0; i < this.players.size(); i++) {
+            playerIndices.put(this.players.get(i), i);
+        }
+        this.produced = new long[players.size() * SOURCES * RESOURCE_TYPES];
+        this.lost = new long[players.size() * SOURCES * RESOURCE_TYPES];
+    }
+
+    /**
+     * Creates new statistics for the given players that record the resource changes and builds published on the
+     * given event bus. Removed roads and settlements are only taken into account while reverting.
+     *
+     * @param eventBus the event bus of the game
+     * @param players  the players of the game, in the order of their indices
+     * @return the new statistics
+     */
+    public static GameStatistics attach(final GameEventBus eventBus, final List<Player> players) {
+        final GameStatistics statistics = new GameStatistics(players);
+        eventBus.subscribe(ResourceChangedEvent.class, statistics::recordResourceChange);
+        eventBus.subscribe(RoadBuiltEvent.class, event -> statistics.recordBuild(event.owner(), ROAD));
+        eventBus.subscribe(RoadRemovedEvent.class, event -> statistics.revertBuild(event.owner(), ROAD));
+        eventBus.subscribe(SettlementPlacedEvent.class, statistics::recordSettlement);
+        eventBus.subscribe(
+            SettlementRemovedEvent.class,
+            event -> statistics.revertBuild(event.settlement().owner(), 1 + event.settlement().type().ordinal())
+        );
+        return statistics;
+    }
+
+    // Recording
+
+    /**
+     * Sets the source all following resource changes are attributed to.
+     *
+     * @param source the source of the following resource changes
+     */
+    public void setSource(final ResourceSource source) {
+        this.source = source;
+    }
+
+    /**
+     * Sets whether the following changes revert earlier changes, e.g. because an action is undone. While reverting,
+     * resource changes are subtracted from the current source instead of being added, and removed roads and
+     * settlements are taken off the build timeline instead of placed ones being added.
+     *
+     * @param reverting whether the following changes revert earlier changes
+     */
+    public void setReverting(final boolean reverting) {
+        this.reverting = reverting;
+    }
+
+    /**
+     * Records a dice roll.
+     *
+     * @param diceRoll the rolled number
+     */
+    public void recordDiceRoll(final int diceRoll) {
+        if (diceRoll >= 0 && diceRoll < diceRolls.length) {
+            diceRolls[diceRoll]++;
+        }
+    }
+
+    /**
+     * Records the start of the turn of the given player.
+     *
+     * @param player the player whose turn starts
+     */
+    public void turnStarted(final Player player) {
+        turnPlayer = indexOf(player);
+        turnStart = System.nanoTime();
+    }
+
+    /**
+     * Records the end of the turn that was started last.
+     */
+    public void turnEnded() {
+        if (turnPlayer < 0) {
+            return;
+        }
+        if (turns == turnRounds.length) {
+            turnRounds = Arrays.copyOf(turnRounds, turns * 2);
+            turnPlayers = Arrays.copyOf(turnPlayers, turns * 2);
+            turnDurations = Arrays.copyOf(turnDurations, turns * 2);
+        }
+        turnRounds[turns] = round;
+        turnPlayers[turns] = turnPlayer;
+        turnDurations[turns] = System.nanoTime() - turnStart;
+        turns++;
+        turnPlayer = -1;
+    }
+
+    /**
+     * Records the end of the current round, including who holds the largest army.
+     * The first round, in which the players place their first villages and roads, is round {@code 0}.
+     */
+    public void roundEnded() {
+        if (round == largestArmyHolders.length) {
+            largestArmyHolders = Arrays.copyOf(largestArmyHolders, round * 2);
+        }
+        largestArmyHolders[round] = findLargestArmyHolder();
+        round++;
+    }
+
+    /**
+     * Records the winner of the game.
+     *
+     * @param player the winner
+     */
+    public void gameEnded(final Player player) {
+        this.winner = indexOf(player);
+    }
+
+    /**
+     * Attributes the given resource change to the current source.
+     *
+     * @param event the resource change
+     */
+    private void recordResourceChange(final ResourceChangedEvent event) {
+        final int player = indexOf(event.player());
+        if (player < 0 || event.delta() == 0) {
+            return;
+        }
+        final int index = (player * SOURCES + source.ordinal()) * RESOURCE_TYPES + event.resourceType().ordinal();
+        if (reverting) {
+            // a refund reverts a loss, returning resources reverts their production
+            if (event.delta() > 0) {
+                lost[index] -= event.delta();
+            } else {
+                produced[index] += event.delta();
+            }
+        } else if (event.delta() > 0) {
+            produced[index] += event.delta();
+        } else {
+            lost[index] -= event.delta();
+        }
+    }
+
+    /**
+     * Appends the placed settlement to the build timeline or, while reverting, takes the replaced settlement off it,
+     * e.g. the city of an undone upgrade.
+     *
+     * @param event the placed settlement
+     */
+    private void recordSettlement(final SettlementPlacedEvent event) {
+        if (!reverting) {
+            recordBuild(event.settlement().owner(), 1 + event.settlement().type().ordinal());
+        } else if (event.previous() != null) {
+            revertBuild(event.previous().owner(), 1 + event.previous().type().ordinal());
+        }
+    }
+
+    /**
+     * Appends a build to the build timeline.
+     *
+     * @param owner the owner of the building
+     * @param type  the build type
+     */
+    private void recordBuild(final Player owner, final int type) {
+        if (reverting) {
+            return;
+        }
+        if (builds == buildRounds.length) {
+            buildRounds = Arrays.copyOf(buildRounds, builds * 2);
+            buildPlayers = Arrays.copyOf(buildPlayers, builds * 2);
+            buildTypes = Arrays.copyOf(buildTypes, builds * 2);
+        }
+        buildRounds[builds] = round;
+        buildPlayers[builds] = indexOf(owner);
+        buildTypes[builds] = type;
+        builds++;
+    }
+
+    /**
+     * Takes the latest build of the given owner and type off the build timeline, if the build is reverted.
+     *
+     * @param owner the owner of the building
+     * @param type  the build type
+     */
+    private void revertBuild(final Player owner, final int type) {
+        if (!reverting) {
+            return;
+        }
+        final int player = indexOf(owner);
+        for (int build = builds - 1; build >= 0; build--) {
+            if (buildPlayers[build] == player && buildTypes[build] == type) {
+                System.arraycopy(buildRounds, build + 1, buildRounds, build, builds - build - 1);
+                System.arraycopy(buildPlayers, build + 1, buildPlayers, build, builds - build - 1);
+                System.arraycopy(buildTypes, build + 1, buildTypes, build, builds - build - 1);
+                builds--;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the player with the most played knights, if they played at least three.
+     *
+     * @return the index of the player, {@code -1} if nobody holds the largest army
+     */
+    private int findLargestArmyHolder() {
+        int holder = -1;
+        int knights = 2;
+        for (int i = 0; i < players.size(); i++) {
+            if (players.get(i).getKnightsPlayed() > knights) {
+                holder = i;
+                knights = players.get(i).getKnightsPlayed();
+            }
+        }
+        return holder;
+    }
+
+    /**
+     * Returns the index of the given player.
+     *
+     * @param player the player
+     * @return the index of the player, {@code -1} if the player is not part of these statistics
+     */
+    private int indexOf(final Player player) {
+        final Integer index = playerIndices.get(player);
+        return index != null ? index : -1;
+    }
+
+    // Reading
+
+    /**
+     * Returns the players, in the order of their indices.
+     *
+     * @return the players
+     */
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    /**
+     * Returns how often the given number was rolled.
+     *
+     * @param diceRoll the number
+     * @return how often the number was rolled
+     */
+    public long getDiceRolls(final int diceRoll) {
+        return diceRoll >= 0 && diceRoll < diceRolls.length ? diceRolls[diceRoll] : 0;
+    }
+
+    /**
+     * Returns the highest number that can be rolled.
+     *
+     * @return the highest number that can be rolled
+     */
+    public int getMaxDiceRoll() {
+        return diceRolls.length - 1;
+    }
+
+    /**
+     * Returns how many resources of the given type the given player gained from the given source.
+     *
+     * @param player       the index of the player
+     * @param source       the source
+     * @param resourceType the type of resource
+     * @return the amount of gained resources
+     */
+    public long getProduced(final int player, final ResourceSource source, final ResourceType resourceType) {
+        return produced[(player * SOURCES + source.ordinal()) * RESOURCE_TYPES + resourceType.ordinal()];
+    }
+
+    /**
+     * Returns how many resources of the given type the given player lost to the given source.
+     *
+     * @param player       the index of the player
+     * @param source       the source
+     * @param resourceType the type of resource
+     * @return the amount of lost resources
+     */
+    public long getLost(final int player, final ResourceSource source, final ResourceType resourceType) {
+        return lost[(player * SOURCES + source.ordinal()) * RESOURCE_TYPES + resourceType.ordinal()];
+    }
+
+    /**
+     * Returns the amount of completed rounds, including the first round.
+     *
+     * @return the amount of completed rounds
+     */
+    public int getRounds() {
+        return round;
+    }
+
+    /**
+     * Returns the winner of the game.
+     *
+     * @return the index of the winner, {@code -1} if the game has not ended
+     */
+    public int getWinner() {
+        return winner;
+    }
+
+    /**
+     * Returns who held the largest army at the end of the given round.
+     *
+     * @param round the round, less than {@link #getRounds()}
+     * @return the index of the player, {@code -1} if nobody held the largest army
+     */
+    public int getLargestArmyHolder(final int round) {
+        return largestArmyHolders[round];
+    }
+
+    /**
+     * Returns the amount of recorded builds.
+     *
+     * @return the amount of builds
+     */
+    public int getBuilds() {
+        return builds;
+    }
+
+    /**
+     * Returns the round of the given build.
+     *
+     * @param build the index of the build, less than {@link #getBuilds()}
+     * @return the round the building was built in
+     */
+    public int getBuildRound(final int build) {
+        return buildRounds[build];
+    }
+
+    /**
+     * Returns the owner of the given build.
+     *
+     * @param build the index of the build, less than {@link #getBuilds()}
+     * @return the index of the owner
+     */
+    public int getBuildPlayer(final int build) {
+        return buildPlayers[build];
+    }
+
+    /**
+     * Returns what was built.
+     *
+     * @param build the index of the build, less than {@link #getBuilds()}
+     * @return {@code "ROAD"} or the name of the {@link Settlement.Type}
+     */
+    public String getBuildType(final int build) {
+        return buildTypes[build] == ROAD ? "ROAD" : Settlement.Type.values()[buildTypes[build] - 1].name();
+    }
+
+    /**
+     * Returns the amount of recorded turns.
+     *
+     * @return the amount of turns
+     */
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * Returns the round of the given turn.
+     *
+     * @param turn the index of the turn, less than {@link #getTurns()}
+     * @return the round of the turn
+     */
+    public int getTurnRound(final int turn) {
+        return turnRounds[turn];
+    }
+
+    /**
+     * Returns the player of the given turn.
+     *
+     * @param turn the index of the turn, less than {@link #getTurns()}
+     * @return the index of the player
+     */
+    public int getTurnPlayer(final int turn) {
+        return turnPlayers[turn];
+    }
+
+    /**
+     * Returns how long the given turn took.
+     *
+     * @param turn the index of the turn, less than {@link #getTurns()}
+     * @return the duration of the turn in nanoseconds
+     */
+    public long getTurnDuration(final int turn) {
+        return turnDurations[turn];
+    }
+}
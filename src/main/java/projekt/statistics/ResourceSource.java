@@ -0,0 +1,35 @@
+package projekt.statistics;
+
+/**
+ * Where a change of a player's resources came from.
+ */
+public enum ResourceSource {
+    /**
+     * Resources produced by tiles after a dice roll.
+     */
+    DICE,
+    /**
+     * Resources traded with the bank or another player.
+     */
+    TRADE,
+    /**
+     * Resources stolen or discarded because of the robber.
+     */
+    ROBBER,
+    /**
+     * Resources taken with a monopoly card.
+     */
+    MONOPOLY,
+    /**
+     * Resources gained or lost through other development cards.
+     */
+    DEVELOPMENT_CARD,
+    /**
+     * Resources spent on roads, settlements and development cards.
+     */
+    BUILD,
+    /**
+     * Any other change, e.g. resources that were rolled back.
+     */
+    OTHER
+}
@@ -0,0 +1,179 @@
+package projekt.statistics;
+
+import projekt.Config;
+import projekt.logging.Logger;
+import projekt.logging.Logging;
+import projekt.model.ResourceType;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends the {@link GameStatistics} of finished games to CSV files in a directory, one file per table so each file
+ * can be loaded as a column-oriented table:
+ * <ul>
+ *     <li>{@code games.csv}: one row per game with the amount of players and rounds and the winner</li>
+ *     <li>{@code dice.csv}: how often each number was rolled</li>
+ *     <li>{@code resources.csv}: the resources each player gained and lost per source, only non-zero rows</li>
+ *     <li>{@code builds.csv}: the build timeline</li>
+ *     <li>{@code turns.csv}: the duration of each turn</li>
+ *     <li>{@code holders.csv}: who held the largest army after each round</li>
+ * </ul>
+ * All rows start with the id of their game, which is unique per exporter. Existing files are appended to, so the
+ * results of many runs can be collected in the same directory; headers are only written to new files.
+ * <p>
+ * Games can be written from any thread. If {@link Config#STATISTICS_DIRECTORY} is set, all games are written with
+ * the {@link #getDefault() default exporter}.
+ */
+public final class StatisticsExporter implements Closeable {
+    private static final Logger LOGGER = Logging.getLogger(StatisticsExporter.class);
+    private static StatisticsExporter defaultExporter;
+
+    private final Writer games;
+    private final Writer dice;
+    private final Writer resources;
+    private final Writer builds;
+    private final Writer turns;
+    private final Writer holders;
+    private final String runId;
+    private long nextGameId;
+
+    /**
+     * Creates a new exporter that appends to the files in the given directory, creating them if necessary.
+     *
+     * @param directory the directory to write to
+     * @throws IOException if the directory or a file cannot be created
+     */
+    public StatisticsExporter(final Path directory) throws IOException {
+        Files.createDirectories(directory);
+        this.games = open(directory, "games.csv", "game,players,rounds,winner");
+        this.dice = open(directory, "dice.csv", "game,roll,count");
+        this.resources = open(directory, "resources.csv", "game,player,source,resource,produced,lost");
+        this.builds = open(directory, "builds.csv", "game,round,player,type");
+        this.turns = open(directory, "turns.csv", "game,round,player,duration_ns");
+        this.holders = open(directory, "holders.csv", "game,round,largest_army");
+        this.runId = Long.toHexString(Config.SEED) + "-" + Long.toHexString(System.nanoTime());
+    }
+
+    /**
+     * Returns the exporter that writes to {@link Config#STATISTICS_DIRECTORY}, creating it on first use.
+     * It is closed when the JVM shuts down.
+     *
+     * @return the default exporter, {@code null} if no directory is configured or it cannot be written to
+     */
+    public static synchronized StatisticsExporter getDefault() {
+        if (defaultExporter == null && Config.STATISTICS_DIRECTORY != null) {
+            try {
+                defaultExporter = new StatisticsExporter(Path.of(Config.STATISTICS_DIRECTORY));
+                final StatisticsExporter exporter = defaultExporter;
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                    try {
+                        exporter.close();
+                    } catch (final IOException e) {
+                        // the JVM is shutting down, there is nothing left to report the failure to
+                    }
+                }, "StatisticsExporterShutdown"));
+            } catch (final IOException e) {
+                LOGGER.warn("Cannot write statistics to {}: {}", Config.STATISTICS_DIRECTORY, e);
+            }
+        }
+        return defaultExporter;
+    }
+
+    /**
+     * Appends the rows of the given game to all files.
+     *
+     * @param statistics the statistics of the game
+     * @throws IOException if a file cannot be written
+     */
+    public synchronized void write(final GameStatistics statistics) throws IOException {
+        final String game = runId + "-" + nextGameId++;
+        final StringBuilder row = new StringBuilder();
+
+        row(games, row, game, statistics.getPlayers().size(), statistics.getRounds(), statistics.getWinner());
+        for (int roll = 0; roll <= statistics.getMaxDiceRoll(); roll++) {
+            if (statistics.getDiceRolls(roll) > 0) {
+                row(dice, row, game, roll, statistics.getDiceRolls(roll));
+            }
+        }
+        for (int player = 0; player < statistics.getPlayers().size(); player++) {
+            for (final ResourceSource source : ResourceSource.values()) {
+                for (final ResourceType resourceType : ResourceType.values()) {
+                    final long produced = statistics.getProduced(player, source, resourceType);
+                    final long lost = statistics.getLost(player, source, resourceType);
+                    if (produced != 0 || lost != 0) {
+                        row(resources, row, game, player, source, resourceType, produced, lost);
+                    }
+                }
+            }
+        }
+        for (int build = 0; build < statistics.getBuilds(); build++) {
+            row(builds, row, game, statistics.getBuildRound(build), statistics.getBuildPlayer(build),
+                statistics.getBuildType(build)
+            );
+        }
+        for (int turn = 0; turn < statistics.getTurns(); turn++) {
+            row(turns, row, game, statistics.getTurnRound(turn), statistics.getTurnPlayer(turn),
+                statistics.getTurnDuration(turn)
+            );
+        }
+        for (int round = 0; round < statistics.getRounds(); round++) {
+            row(holders, row, game, round, statistics.getLargestArmyHolder(round));
+        }
+
+        for (final Writer writer : new Writer[] {games, dice, resources, builds, turns, holders}) {
+            writer.flush();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        for (final Writer writer : new Writer[] {games, dice, resources, builds, turns, holders}) {
+            writer.close();
+        }
+    }
+
+    /**
+     * Writes one row with the given values to the given writer.
+     *
+     * @param writer the writer to write to
+     * @param row    a builder to reuse for the row
+     * @param values the values of the row, none of them contains a comma
+     * @throws IOException if the row cannot be written
+     */
+    private static void row(final Writer writer, final StringBuilder row, final Object... values) throws IOException {
+        row.setLength(0);
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                row.append(',');
+            }
+            row.append(values[i]);
+        }
+        row.append('\n');
+        writer.append(row);
+    }
+
+    /**
+     * Opens the given file for appending and writes the header if the file is new.
+     *
+     * @param directory the directory of the file
+     * @param name      the name of the file
+     * @param header    the header of the file
+     * @return the writer for the file
+     * @throws IOException if the file cannot be opened
+     */
+    private static Writer open(final Path directory, final String name, final String header) throws IOException {
+        final Path file = directory.resolve(name);
+        final boolean exists = Files.exists(file) && Files.size(file) > 0;
+        final BufferedWriter writer = Files.newBufferedWriter(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        if (!exists) {
+            writer.write(header + "\n");
+        }
+        return writer;
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * Contains the {@link projekt.statistics.GameStatistics} collected during each game and the
+ * {@link projekt.statistics.StatisticsExporter} that writes them to CSV files for offline analysis.
+ */
+package projekt.statistics;
@@ -0,0 +1,34 @@
+package projekt.view;
+
+import projekt.model.HexGrid;
+
+/**
+ * The ways the {@link HexGrid} can be rendered on the game board.
+ */
+public enum BoardRenderMode {
+    /**
+     * Every tile, edge and intersection is its own node in the scene graph, see {@link HexGridBuilder}.
+     */
+    NODES("Scene graph"),
+    /**
+     * The whole grid is drawn onto a single canvas, see {@link HexGridCanvasBuilder}.
+     * Recommended for large grids.
+     */
+    CANVAS("Canvas");
+
+    private final String displayName;
+
+    /**
+     * Creates a new render mode with the given name.
+     *
+     * @param displayName the name to show to the user
+     */
+    BoardRenderMode(final String displayName) {
+        this.displayName = displayName;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
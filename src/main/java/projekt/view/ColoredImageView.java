@@ -36,6 +36,8 @@ public class ColoredImageView extends ImageView {
 
     /**
      * Colors the image with the given color.
+     * Uses the shared tinted image from the {@link SpriteCache} and only falls back to a {@link Lighting} effect
+     * if the image cannot be tinted yet.
      *
      * @param color color to colorize the image with
      */
@@ -43,7 +45,20 @@ public class ColoredImageView extends ImageView {
         if (color == null) {
             return;
         }
+        final Image tinted = SpriteCache.getTinted(getImage(), color);
+        if (tinted != null) {
+            setImage(tinted);
+            return;
+        }
+        applyLighting(color);
+    }
 
+    /**
+     * Colors the view with a {@link Lighting} effect in the given color.
+     *
+     * @param color color to colorize the view with
+     */
+    protected void applyLighting(final Color color) {
         final Lighting lighting = new Lighting();
         lighting.setDiffuseConstant(1.0);
         lighting.setSpecularConstant(0.0);
@@ -54,6 +69,6 @@ public class ColoredImageView extends ImageView {
         // matter that much
         lighting.setLight(new Light.Distant(0.0, 90.0, color));
 
-        this.setEffect(lighting);
+        setEffect(lighting);
     }
 }
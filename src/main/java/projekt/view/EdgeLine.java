@@ -5,14 +5,18 @@ import javafx.geometry.Point2D;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Line;
+import projekt.model.Player;
 import projekt.model.buildings.Edge;
 import projekt.model.buildings.EdgeImpl;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
 
 /**
  * A Line that represents an {@link EdgeImpl}. Has methods to highlight and
- * unhighlight itself.
+ * unhighlight itself. Highlighted edges that are suggested by the
+ * {@link projekt.simulation.MoveAdvisor} are outlined in {@link IntersectionBuilder#SUGGESTED_COLOR}.
  */
 public class EdgeLine extends Line {
     private final Edge edge;
@@ -35,10 +39,8 @@ public class EdgeLine extends Line {
         outline.strokeDashOffsetProperty().bind(strokeDashOffsetProperty());
         outline.setStrokeWidth(strokeWidth * 1.4);
         outline.setStroke(Color.TRANSPARENT);
-        getStrokeDashArray().addListener((ListChangeListener<Double>) change -> {
-            outline.getStrokeDashArray().clear();
-            outline.getStrokeDashArray().addAll(change.getList());
-        });
+        getStrokeDashArray().addListener(
+            (ListChangeListener<Double>) change -> outline.getStrokeDashArray().setAll(change.getList()));
     }
 
     /**
@@ -70,32 +72,69 @@ public class EdgeLine extends Line {
 
     /**
      * Initializes the EdgeLine with the given dashScale.
+     * The dash array is only replaced if it changed, so initializing an unchanged EdgeLine again does not
+     * cause any layout or rendering work.
      *
      * @param dashScale factor to scale the dash length by
      */
     public void init(final double dashScale) {
+        init(dashScale, List.of());
+    }
+
+    /**
+     * Initializes the EdgeLine with the given dashScale, followed by the given additional dashes.
+     *
+     * @param dashScale        factor to scale the dash length by
+     * @param additionalDashes dashes to append to the dash array
+     */
+    private void init(final double dashScale, final List<Double> additionalDashes) {
         this.distance = new Point2D(getStartX(), getStartY()).distance(getEndX(), getEndY());
         setStrokeWidth(strokeWidth);
-        setStroke(edge.hasRoad() ? edge.getRoadOwner().getColor() : Color.TRANSPARENT);
+        final Player roadOwner = edge.getHexGrid().getSnapshot().board().getRoadOwner(edge);
+        setStroke(roadOwner != null ? roadOwner.getColor() : Color.TRANSPARENT);
         setStrokeDashOffset(-positionOffset / 2);
-        getStrokeDashArray().clear();
-        getStrokeDashArray().add((distance - positionOffset) * dashScale);
-        if (edge.hasRoad()) {
+        final List<Double> dashes = new ArrayList<>();
+        dashes.add((distance - positionOffset) * dashScale);
+        dashes.addAll(additionalDashes);
+        setStrokeDashArray(dashes);
+        if (roadOwner != null) {
             outline.setStroke(Color.BLACK);
         }
     }
 
+    /**
+     * Replaces the stroke dash array with the given dashes, if they differ.
+     *
+     * @param dashes the new dashes
+     */
+    private void setStrokeDashArray(final List<Double> dashes) {
+        if (!getStrokeDashArray().equals(dashes)) {
+            getStrokeDashArray().setAll(dashes);
+        }
+    }
+
     /**
      * Highlights the EdgeLine with the given handler.
      *
      * @param handler the handler to call when the EdgeLine is clicked
      */
     public void highlight(final Consumer<MouseEvent> handler) {
-        init(0.1);
-        outline.setStroke(Color.BLACK);
+        highlight(handler, false);
+    }
+
+    /**
+     * Highlights the EdgeLine with the given handler.
+     *
+     * @param handler   the handler to call when the EdgeLine is clicked
+     * @param suggested whether the edge is one of the suggested moves
+     */
+    public void highlight(final Consumer<MouseEvent> handler, final boolean suggested) {
+        init(0.1, List.of(10.0));
+        outline.setStroke(suggested ? IntersectionBuilder.SUGGESTED_COLOR : Color.BLACK);
         outline.setStrokeWidth(strokeWidth * 1.6);
-        getStyleClass().add("selectable");
-        getStrokeDashArray().add(10.0);
+        if (!getStyleClass().contains("selectable")) {
+            getStyleClass().add("selectable");
+        }
         setStrokeWidth(strokeWidth * 1.2);
         setOnMouseClicked(handler::accept);
     }
@@ -14,9 +14,11 @@ import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.util.Builder;
+import org.jetbrains.annotations.Nullable;
 import org.tudalgo.algoutils.student.annotation.DoNotTouch;
-import projekt.model.Player;
+import projekt.model.PlayerSnapshot;
 import projekt.model.ResourceType;
+import projekt.simulation.WinProbabilities;
 import projekt.view.gameControls.PlayerInformationBuilder;
 import projekt.view.gameControls.PlayersOverviewBuilder;
 
@@ -107,19 +109,20 @@ public class GameBoardBuilder implements Builder<Region> {
     }
 
     /**
-     * Updates the player information and overview.
+     * Updates the player information and overview from a published snapshot of the game.
      *
-     * @param player           The player to update the information for.
-     * @param players          The list of all players.
+     * @param player           The snapshot of the player to update the information for.
+     * @param players          The snapshots of all players.
      * @param changedResources The resources that have changed for the player.
+     * @param winProbabilities The latest estimated win probabilities, {@code null} if there is none.
      */
     public void updatePlayerInformation(
-        final Player player, final List<Player> players,
-        final Map<ResourceType, Integer> changedResources
+        final PlayerSnapshot player, final List<PlayerSnapshot> players,
+        final Map<ResourceType, Integer> changedResources, final @Nullable WinProbabilities winProbabilities
     ) {
         playerInformation.getChildren().clear();
         playerInformation.getChildren().add(new PlayerInformationBuilder(player, changedResources).build());
-        playerInformation.getChildren().add(new PlayersOverviewBuilder(players).build());
+        playerInformation.getChildren().add(new PlayersOverviewBuilder(players, winProbabilities).build());
     }
 
     /**
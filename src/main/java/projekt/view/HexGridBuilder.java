@@ -149,10 +149,10 @@ public class HexGridBuilder implements Builder<Region> {
     }
 
     /**
-     * Draws the tiles on the hex grid.
+     * Updates the tiles on the hex grid in place.
      */
     public void drawTiles() {
-        tileBuilders.forEach(TileBuilder::build);
+        tileBuilders.forEach(TileBuilder::update);
     }
 
     /**
@@ -174,10 +174,10 @@ public class HexGridBuilder implements Builder<Region> {
     }
 
     /**
-     * Draws the intersections on the hex grid.
+     * Updates the intersections on the hex grid in place.
      */
     public void drawIntersections() {
-        intersectionBuilders.forEach(IntersectionBuilder::build);
+        intersectionBuilders.forEach(IntersectionBuilder::update);
     }
 
     /**
@@ -0,0 +1,594 @@
+package projekt.view;
+
+import javafx.beans.binding.Bindings;
+import javafx.event.Event;
+import javafx.geometry.Point2D;
+import javafx.geometry.VPos;
+import javafx.scene.Cursor;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Button;
+import javafx.scene.image.Image;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.StrokeLineCap;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+import javafx.util.Builder;
+import projekt.model.BoardSnapshot;
+import projekt.model.HexGrid;
+import projekt.model.Intersection;
+import projekt.model.Player;
+import projekt.model.TilePosition;
+import projekt.model.buildings.Edge;
+import projekt.model.buildings.Settlement;
+import projekt.model.tiles.Tile;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A builder for the {@link HexGrid} that draws the whole grid onto a single {@link Canvas}
+ * instead of creating nodes for every tile, edge and intersection like {@link HexGridBuilder}.
+ * <p>
+ * Highlights are queried from the given lookup functions on every {@link #draw()}; an element is highlighted if
+ * its lookup returns a handler. Mouse clicks are mapped to tiles, edges and intersections with axial coordinates
+ * and passed to the handler of the clicked element, if it is highlighted. Highlighted intersections and edges that
+ * are suggested moves are outlined in {@link IntersectionBuilder#SUGGESTED_COLOR}.
+ * The grid can be zoomed, panned and centered the same way as with {@link HexGridBuilder}.
+ */
+public class HexGridCanvasBuilder implements Builder<Region> {
+    private static final double SQRT_3 = Math.sqrt(3);
+    private static final double INTERSECTION_RADIUS = 15;
+    private static final double EDGE_WIDTH = 5;
+    private static final double EDGE_POSITION_OFFSET = 10;
+    private static final Color SELECTABLE_COLOR = Color.CRIMSON;
+    private static final Color HOVER_COLOR = Color.LIME;
+
+    private final HexGrid grid;
+    private final Function<Intersection, Consumer<MouseEvent>> intersectionHighlights;
+    private final Function<Edge, Consumer<MouseEvent>> edgeHighlights;
+    private final Function<Tile, Runnable> tileHighlights;
+    private final Predicate<Object> suggestions;
+    private final BiConsumer<ScrollEvent, Region> scrollHandler;
+    private final Consumer<MouseEvent> pressedHandler;
+    private final BiConsumer<MouseEvent, Region> draggedHandler;
+    private final BiConsumer<Event, Region> centerButtonHandler;
+
+    private final double tileSize;
+    private final Point2D origin;
+    private final Canvas canvas;
+    private final Map<Intersection, Point2D> intersectionPoints = new HashMap<>();
+    private final Map<TilePosition, List<Intersection>> intersectionsByPosition = new HashMap<>();
+    private final Map<TilePosition, List<Edge>> edgesByPosition = new HashMap<>();
+    private Object hoveredElement;
+
+    /**
+     * Creates a new canvas builder for the given hex grid.
+     *
+     * @param grid                   The hex grid.
+     * @param intersectionHighlights Returns the click handler of a highlighted intersection, {@code null} if the
+     *                               intersection is not highlighted.
+     * @param edgeHighlights         Returns the click handler of a highlighted edge, {@code null} if the edge is
+     *                               not highlighted.
+     * @param tileHighlights         Returns the click handler of a highlighted tile, {@code null} if the tile is
+     *                               not highlighted.
+     * @param suggestions            Returns whether a highlighted intersection or edge is a suggested move.
+     * @param scrollHandler          The handler for the scroll event. Used for zooming.
+     * @param pressedHandler         The handler for the mouse pressed event.
+     * @param draggedHandler         The handler for the mouse dragged event. Used for panning
+     * @param centerButtonHandler    The handler for the center button event.
+     */
+    public HexGridCanvasBuilder(
+        final HexGrid grid,
+        final Function<Intersection, Consumer<MouseEvent>> intersectionHighlights,
+        final Function<Edge, Consumer<MouseEvent>> edgeHighlights,
+        final Function<Tile, Runnable> tileHighlights,
+        final Predicate<Object> suggestions,
+        final BiConsumer<ScrollEvent, Region> scrollHandler,
+        final Consumer<MouseEvent> pressedHandler, final BiConsumer<MouseEvent, Region> draggedHandler,
+        final BiConsumer<Event, Region> centerButtonHandler
+    ) {
+        this.grid = grid;
+        this.intersectionHighlights = intersectionHighlights;
+        this.edgeHighlights = edgeHighlights;
+        this.tileHighlights = tileHighlights;
+        this.suggestions = suggestions;
+        this.scrollHandler = scrollHandler;
+        this.pressedHandler = pressedHandler;
+        this.draggedHandler = draggedHandler;
+        this.centerButtonHandler = centerButtonHandler;
+        this.tileSize = grid.getTileSize();
+
+        // one ring of tiles as margin, so ports and the outer edges are on the canvas
+        final double marginX = grid.getTileWidth() * 1.5;
+        final double marginY = grid.getTileHeight() * 1.5;
+        double minX = 0, minY = 0, maxX = 0, maxY = 0;
+        for (final TilePosition position : grid.getTiles().keySet()) {
+            final Point2D center = axialToPixel(position);
+            minX = Math.min(minX, center.getX());
+            minY = Math.min(minY, center.getY());
+            maxX = Math.max(maxX, center.getX());
+            maxY = Math.max(maxY, center.getY());
+        }
+        this.origin = new Point2D(marginX - minX, marginY - minY);
+        this.canvas = new Canvas(maxX - minX + 2 * marginX, maxY - minY + 2 * marginY);
+
+        grid.getIntersections().values().forEach(intersection -> {
+            intersectionPoints.put(intersection, calculateIntersectionCenter(intersection));
+            intersection.getAdjacentTilePositions().forEach(position -> intersectionsByPosition
+                .computeIfAbsent(position, key -> new ArrayList<>())
+                .add(intersection));
+        });
+        grid.getEdges().values().forEach(edge -> edge.getAdjacentTilePositions().forEach(
+            position -> edgesByPosition.computeIfAbsent(position, key -> new ArrayList<>()).add(edge)));
+    }
+
+    @Override
+    public Region build() {
+        final Pane hexGridPane = new Pane(canvas);
+        hexGridPane.setMinSize(canvas.getWidth(), canvas.getHeight());
+        hexGridPane.setMaxSize(canvas.getWidth(), canvas.getHeight());
+
+        canvas.setOnMouseClicked(this::clickHandler);
+        canvas.setOnMouseMoved(this::hoverHandler);
+        canvas.setOnMouseExited(event -> setHoveredElement(null));
+
+        final StackPane mapPane = new StackPane(hexGridPane);
+        mapPane.getStylesheets().add("css/hexmap.css");
+        mapPane.getStyleClass().add("hex-grid");
+        mapPane.setOnScroll(event -> scrollHandler.accept(event, hexGridPane));
+        mapPane.setOnMousePressed(pressedHandler::accept);
+        mapPane.setOnMouseDragged(event -> draggedHandler.accept(event, hexGridPane));
+
+        final Button centerButton = new Button("Center map");
+        centerButton.setOnAction(event -> centerButtonHandler.accept(event, hexGridPane));
+        centerButton.translateXProperty().bind(Bindings
+                                                   .createDoubleBinding(
+                                                       () -> (centerButton.getWidth() - mapPane.getWidth()) / 2 + 10,
+                                                       mapPane.widthProperty()
+                                                   ));
+        centerButton.translateYProperty().bind(Bindings
+                                                   .createDoubleBinding(
+                                                       () -> (mapPane.getHeight() - centerButton.getHeight()) / 2 - 10,
+                                                       mapPane.heightProperty()
+                                                   ));
+        mapPane.getChildren().add(centerButton);
+
+        draw();
+        return mapPane;
+    }
+
+    /**
+     * Draws the whole grid again, as it is in the latest published snapshot.
+     */
+    public void draw() {
+        final GraphicsContext gc = canvas.getGraphicsContext2D();
+        final BoardSnapshot board = grid.getSnapshot().board();
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        grid.getEdges().values().stream().filter(Edge::hasPort).forEach(edge -> drawPort(gc, edge));
+        grid.getTiles().values().forEach(tile -> drawTile(gc, board, tile));
+        grid.getEdges().values().forEach(edge -> drawEdge(gc, board, edge));
+        grid.getIntersections().values().forEach(intersection -> drawIntersection(gc, board, intersection));
+    }
+
+    // Drawing
+
+    /**
+     * Draws the given tile with its resource icon, roll number and the robber if present.
+     *
+     * @param gc    the graphics context to draw on
+     * @param board the snapshot of the board to draw
+     * @param tile  the tile to draw
+     */
+    private void drawTile(final GraphicsContext gc, final BoardSnapshot board, final Tile tile) {
+        final Point2D center = tileCenter(tile.getPosition());
+        final double[] xPoints = new double[6];
+        final double[] yPoints = new double[6];
+        for (int i = 0; i < 6; i++) {
+            final double angle = Math.toRadians(60 * i - 30);
+            xPoints[i] = center.getX() + tileSize * Math.cos(angle);
+            yPoints[i] = center.getY() + tileSize * Math.sin(angle);
+        }
+        gc.setFill(tile.getType().color);
+        gc.fillPolygon(xPoints, yPoints, 6);
+        gc.setStroke(highlightColor(tile, tileHighlights.apply(tile), Color.BLACK));
+        gc.setLineWidth(5);
+        gc.strokePolygon(xPoints, yPoints, 6);
+
+        final double width = grid.getTileWidth();
+        if (tile.getType().resourceType != null) {
+            drawSprite(gc, Utils.resourcesSpriteSheet, tile.getType().resourceType.iconIndex,
+                       tile.getType().resourceType.color, center.getX(), center.getY() - width * 0.15, width * 0.5
+            );
+        }
+        if (board.hasRobber(tile.getPosition())) {
+            drawImage(gc, Utils.robberImage, Color.BLACK, center.getX(), center.getY() - width * 0.15, width * 0.3);
+        }
+        if (tile.getRollNumber() > 0) {
+            gc.setFont(Font.font(null, FontWeight.BLACK, 18));
+            gc.setTextAlign(TextAlignment.CENTER);
+            gc.setTextBaseline(VPos.CENTER);
+            gc.setLineWidth(1);
+            gc.setStroke(Color.BLACK);
+            gc.setFill(Color.WHITE);
+            final String rollNumber = Integer.toString(tile.getRollNumber());
+            gc.fillText(rollNumber, center.getX(), center.getY() + width * 0.25);
+            gc.strokeText(rollNumber, center.getX(), center.getY() + width * 0.25);
+        }
+    }
+
+    /**
+     * Draws the road on the given edge and its highlight, if any.
+     *
+     * @param gc    the graphics context to draw on
+     * @param board the snapshot of the board to draw
+     * @param edge  the edge to draw
+     */
+    private void drawEdge(final GraphicsContext gc, final BoardSnapshot board, final Edge edge) {
+        final Consumer<MouseEvent> handler = edgeHighlights.apply(edge);
+        final Player roadOwner = board.getRoadOwner(edge);
+        if (roadOwner == null && handler == null) {
+            return;
+        }
+        final List<Intersection> intersections = edge.getIntersections().stream().toList();
+        final Point2D start = intersectionPoints.get(intersections.get(0));
+        final Point2D end = intersectionPoints.get(intersections.get(1));
+        final Point2D offset = end.subtract(start).normalize().multiply(EDGE_POSITION_OFFSET / 2);
+        final Point2D from = start.add(offset);
+        final Point2D to = end.subtract(offset);
+
+        gc.setLineCap(StrokeLineCap.BUTT);
+        if (handler != null) {
+            gc.setLineDashes(from.distance(to) * 0.1, 10);
+            gc.setStroke(highlightColor(edge, handler, Color.BLACK));
+            gc.setLineWidth(EDGE_WIDTH * 1.6);
+            gc.strokeLine(from.getX(), from.getY(), to.getX(), to.getY());
+        } else {
+            gc.setStroke(Color.BLACK);
+            gc.setLineWidth(EDGE_WIDTH * 1.4);
+            gc.strokeLine(from.getX(), from.getY(), to.getX(), to.getY());
+        }
+        if (roadOwner != null) {
+            gc.setStroke(roadOwner.getColor());
+            gc.setLineWidth(handler != null ? EDGE_WIDTH * 1.2 : EDGE_WIDTH);
+            gc.strokeLine(from.getX(), from.getY(), to.getX(), to.getY());
+        }
+        gc.setLineDashes();
+    }
+
+    /**
+     * Draws the settlement on the given intersection and its highlight, if any.
+     *
+     * @param gc           the graphics context to draw on
+     * @param board        the snapshot of the board to draw
+     * @param intersection the intersection to draw
+     */
+    private void drawIntersection(final GraphicsContext gc, final BoardSnapshot board, final Intersection intersection) {
+        final Point2D center = intersectionPoints.get(intersection);
+        final Settlement settlement = board.getSettlement(intersection);
+        if (settlement != null) {
+            drawSprite(gc, Utils.settlementsSpriteSheet, settlement.type().ordinal(), settlement.owner().getColor(),
+                       center.getX(), center.getY(), 25
+            );
+        }
+        final Consumer<MouseEvent> handler = intersectionHighlights.apply(intersection);
+        if (handler != null) {
+            gc.setStroke(highlightColor(intersection, handler, SELECTABLE_COLOR));
+            gc.setLineWidth(4);
+            gc.strokeOval(
+                center.getX() - INTERSECTION_RADIUS, center.getY() - INTERSECTION_RADIUS,
+                INTERSECTION_RADIUS * 2, INTERSECTION_RADIUS * 2
+            );
+        }
+    }
+
+    /**
+     * Draws the port on the given edge with its connections to the intersections of the edge.
+     *
+     * @param gc   the graphics context to draw on
+     * @param edge the edge the port is on
+     */
+    private void drawPort(final GraphicsContext gc, final Edge edge) {
+        final TilePosition position = edge.getAdjacentTilePositions().stream()
+            .filter(Predicate.not(grid.getTiles()::containsKey))
+            .findAny()
+            .orElseThrow();
+        final Point2D center = tileCenter(position);
+        gc.setStroke(Color.BLACK);
+        gc.setLineWidth(3);
+        edge.getIntersections().stream().map(intersectionPoints::get).forEach(
+            point -> gc.strokeLine(center.getX(), center.getY(), point.getX(), point.getY()));
+
+        final double radius = grid.getTileWidth() / 2 * 0.6;
+        gc.setFill(Color.WHITE);
+        gc.fillOval(center.getX() - radius, center.getY() - radius, radius * 2, radius * 2);
+        gc.strokeOval(center.getX() - radius, center.getY() - radius, radius * 2, radius * 2);
+
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setTextBaseline(VPos.CENTER);
+        gc.setFill(Color.BLACK);
+        if (edge.getPort().resourceType() != null) {
+            drawSprite(gc, Utils.resourcesSpriteSheet, edge.getPort().resourceType().iconIndex,
+                       edge.getPort().resourceType().color, center.getX(), center.getY() - radius * 0.25, radius
+            );
+        } else {
+            gc.setFont(Font.font(null, FontWeight.BLACK, 30));
+            gc.fillText("?", center.getX(), center.getY() - radius * 0.25);
+        }
+        gc.setFont(Font.font(10));
+        gc.fillText(String.format("%d:1", edge.getPort().ratio()), center.getX(), center.getY() + radius * 0.6);
+    }
+
+    /**
+     * Draws the image with the given index from the given sprite sheet, tinted with the given color and centered
+     * at the given point. The tinted image is taken from the {@link SpriteCache}.
+     *
+     * @param gc          the graphics context to draw on
+     * @param spriteSheet the sprite sheet, with all images in a single column
+     * @param index       the index of the image in the sprite sheet
+     * @param color       the color to tint the image with
+     * @param centerX     the x coordinate of the center
+     * @param centerY     the y coordinate of the center
+     * @param width       the width to draw the image with
+     */
+    private void drawSprite(
+        final GraphicsContext gc, final Image spriteSheet, final int index, final Color color,
+        final double centerX, final double centerY, final double width
+    ) {
+        final Image sprite = SpriteCache.getSprite(spriteSheet, index, color);
+        if (sprite != null) {
+            gc.drawImage(sprite, centerX - width / 2, centerY - width / 2, width, width);
+            return;
+        }
+        final double cellSize = spriteSheet.getWidth();
+        gc.drawImage(
+            spriteSheet, 0, cellSize * index, cellSize, cellSize,
+            centerX - width / 2, centerY - width / 2, width, width
+        );
+    }
+
+    /**
+     * Draws the given image tinted with the given color, keeping its ratio, centered at the given point.
+     * The tinted image is taken from the {@link SpriteCache}.
+     *
+     * @param gc      the graphics context to draw on
+     * @param image   the image to draw
+     * @param color   the color to tint the image with
+     * @param centerX the x coordinate of the center
+     * @param centerY the y coordinate of the center
+     * @param width   the width to draw the image with
+     */
+    private void drawImage(
+        final GraphicsContext gc, final Image image, final Color color,
+        final double centerX, final double centerY, final double width
+    ) {
+        final Image tinted = SpriteCache.getTinted(image, color);
+        final double height = image.getWidth() > 0 ? width * image.getHeight() / image.getWidth() : width;
+        gc.drawImage(tinted != null ? tinted : image, centerX - width / 2, centerY - height / 2, width, height);
+    }
+
+    /**
+     * Returns the color to draw the outline of the given element with.
+     *
+     * @param element      the element
+     * @param handler      the click handler of the element, {@code null} if it is not highlighted
+     * @param defaultColor the color to use if the element is not highlighted
+     * @return the color of the outline
+     */
+    private Color highlightColor(final Object element, final Object handler, final Color defaultColor) {
+        if (handler == null) {
+            return defaultColor;
+        }
+        if (element.equals(hoveredElement)) {
+            return HOVER_COLOR;
+        }
+        return suggestions.test(element) ? IntersectionBuilder.SUGGESTED_COLOR : SELECTABLE_COLOR;
+    }
+
+    // Hit testing
+
+    /**
+     * Passes the given click to the handler of the clicked element, if it is highlighted.
+     * Clicks that end a drag of the map are ignored.
+     * Intersections are preferred over edges and edges over tiles.
+     *
+     * @param event the click
+     */
+    private void clickHandler(final MouseEvent event) {
+        if (!event.isStillSincePress()) {
+            return;
+        }
+        final Point2D point = new Point2D(event.getX(), event.getY());
+        final Intersection intersection = intersectionAt(point);
+        if (intersection != null && intersectionHighlights.apply(intersection) != null) {
+            intersectionHighlights.apply(intersection).accept(event);
+            return;
+        }
+        final Edge edge = edgeAt(point);
+        if (edge != null && edgeHighlights.apply(edge) != null) {
+            edgeHighlights.apply(edge).accept(event);
+            return;
+        }
+        final Tile tile = grid.getTileAt(pixelToAxial(point));
+        if (tile != null && tileHighlights.apply(tile) != null) {
+            tileHighlights.apply(tile).run();
+        }
+    }
+
+    /**
+     * Redraws the grid if the mouse moved onto another highlighted element.
+     *
+     * @param event the mouse movement
+     */
+    private void hoverHandler(final MouseEvent event) {
+        final Point2D point = new Point2D(event.getX(), event.getY());
+        final Intersection intersection = intersectionAt(point);
+        if (intersection != null && intersectionHighlights.apply(intersection) != null) {
+            setHoveredElement(intersection);
+            return;
+        }
+        final Edge edge = edgeAt(point);
+        if (edge != null && edgeHighlights.apply(edge) != null) {
+            setHoveredElement(edge);
+            return;
+        }
+        final Tile tile = grid.getTileAt(pixelToAxial(point));
+        setHoveredElement(tile != null && tileHighlights.apply(tile) != null ? tile : null);
+    }
+
+    /**
+     * Sets the element under the mouse and redraws the grid if it changed.
+     *
+     * @param element the element under the mouse, {@code null} if there is none
+     */
+    private void setHoveredElement(final Object element) {
+        if (element == hoveredElement) {
+            return;
+        }
+        hoveredElement = element;
+        canvas.setCursor(element != null ? Cursor.HAND : null);
+        draw();
+    }
+
+    /**
+     * Returns the intersection at the given point, {@code null} if there is none.
+     * Only intersections adjacent to the tile position containing the point are checked.
+     *
+     * @param point the point on the canvas
+     * @return the intersection at the given point
+     */
+    private Intersection intersectionAt(final Point2D point) {
+        Intersection closest = null;
+        double closestDistance = INTERSECTION_RADIUS;
+        for (final Intersection intersection : intersectionsByPosition.getOrDefault(pixelToAxial(point), List.of())) {
+            final double distance = intersectionPoints.get(intersection).distance(point);
+            if (distance <= closestDistance) {
+                closest = intersection;
+                closestDistance = distance;
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Returns the edge at the given point, {@code null} if there is none.
+     * Only edges adjacent to the tile position containing the point are checked.
+     *
+     * @param point the point on the canvas
+     * @return the edge at the given point
+     */
+    private Edge edgeAt(final Point2D point) {
+        Edge closest = null;
+        double closestDistance = EDGE_WIDTH * 1.6;
+        for (final Edge edge : edgesByPosition.getOrDefault(pixelToAxial(point), List.of())) {
+            final List<Intersection> intersections = edge.getIntersections().stream().toList();
+            final double distance = distanceToSegment(
+                point,
+                intersectionPoints.get(intersections.get(0)),
+                intersectionPoints.get(intersections.get(1))
+            );
+            if (distance <= closestDistance) {
+                closest = edge;
+                closestDistance = distance;
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Calculates the distance of the given point to the line segment between start and end.
+     *
+     * @param point the point
+     * @param start the start of the segment
+     * @param end   the end of the segment
+     * @return the distance of the point to the segment
+     */
+    private static double distanceToSegment(final Point2D point, final Point2D start, final Point2D end) {
+        final Point2D segment = end.subtract(start);
+        final double lengthSquared = segment.dotProduct(segment);
+        if (lengthSquared == 0) {
+            return point.distance(start);
+        }
+        final double t = Math.max(0, Math.min(1, point.subtract(start).dotProduct(segment) / lengthSquared));
+        return point.distance(start.add(segment.multiply(t)));
+    }
+
+    // Coordinates
+
+    /**
+     * Calculates the center of the tile at the given position relative to the center of the tile at (0, 0).
+     *
+     * @param position the position of the tile
+     * @return the center of the tile
+     */
+    private Point2D axialToPixel(final TilePosition position) {
+        return new Point2D(
+            tileSize * (SQRT_3 * position.q() + SQRT_3 / 2 * position.r()),
+            tileSize * (3.0 / 2 * position.r())
+        );
+    }
+
+    /**
+     * Calculates the center of the tile at the given position on the canvas.
+     *
+     * @param position the position of the tile
+     * @return the center of the tile on the canvas
+     */
+    private Point2D tileCenter(final TilePosition position) {
+        return axialToPixel(position).add(origin);
+    }
+
+    /**
+     * Calculates the center of the given intersection on the canvas.
+     *
+     * @param intersection the intersection
+     * @return the center of the intersection on the canvas
+     */
+    private Point2D calculateIntersectionCenter(final Intersection intersection) {
+        return intersection.getAdjacentTilePositions().stream()
+            .map(this::tileCenter)
+            .reduce(Point2D::add)
+            .orElseThrow()
+            .multiply(1.0 / 3);
+    }
+
+    /**
+     * Returns the position of the tile containing the given point on the canvas.
+     * The tile does not have to exist.
+     *
+     * @param point the point on the canvas
+     * @return the position of the tile containing the point
+     */
+    private TilePosition pixelToAxial(final Point2D point) {
+        final double x = point.getX() - origin.getX();
+        final double y = point.getY() - origin.getY();
+        final double q = (SQRT_3 / 3 * x - 1.0 / 3 * y) / tileSize;
+        final double r = (2.0 / 3 * y) / tileSize;
+        final double s = -q - r;
+
+        long roundedQ = Math.round(q);
+        long roundedR = Math.round(r);
+        final long roundedS = Math.round(s);
+        final double diffQ = Math.abs(roundedQ - q);
+        final double diffR = Math.abs(roundedR - r);
+        final double diffS = Math.abs(roundedS - s);
+        if (diffQ > diffR && diffQ > diffS) {
+            roundedQ = -roundedR - roundedS;
+        } else if (diffR > diffS) {
+            roundedR = -roundedQ - roundedS;
+        }
+        return TilePosition.of((int) roundedQ, (int) roundedR);
+    }
+}
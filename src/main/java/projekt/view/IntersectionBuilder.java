@@ -9,17 +9,27 @@ import javafx.util.Builder;
 import projekt.model.Intersection;
 import projekt.model.buildings.Settlement;
 
+import java.util.Objects;
 import java.util.function.Consumer;
 
 /**
  * A Builder to create views for {@link Intersection}s.
  * Renders the {@link Settlement} of the intersection with a sprite from
  * {@link Utils#settlementsSpriteSheet}
- * Has methods to highlight and unhighlight the intersection.
+ * Has methods to highlight and unhighlight the intersection. Highlighted intersections that are suggested by the
+ * {@link projekt.simulation.MoveAdvisor} are drawn in {@link #SUGGESTED_COLOR}.
  */
 public class IntersectionBuilder implements Builder<Region> {
+    /**
+     * The color of highlighted intersections that are suggested moves.
+     */
+    public static final Color SUGGESTED_COLOR = Color.GOLD;
+
     private final Intersection intersection;
     private final StackPane pane = new StackPane();
+    private final Circle highlightCircle = new Circle(15, Color.TRANSPARENT);
+    private Sprite settlementSprite;
+    private Settlement renderedSettlement;
 
     /**
      * Creates a new IntersectionBuilder for the given {@link Intersection}.
@@ -28,33 +38,57 @@ public class IntersectionBuilder implements Builder<Region> {
      */
     public IntersectionBuilder(final Intersection intersection) {
         this.intersection = intersection;
+        highlightCircle.setStroke(Color.RED);
+        highlightCircle.setStrokeWidth(4);
+        highlightCircle.getStyleClass().add("selectable");
+        highlightCircle.setVisible(false);
+        highlightCircle.setManaged(false);
+        pane.getChildren().add(highlightCircle);
+        pane.getStyleClass().add("intersection");
     }
 
     @Override
     public Region build() {
-        pane.getChildren().clear();
         unhighlight();
-        addSettlement();
-        pane.getStyleClass().add("intersection");
+        update();
         return pane;
     }
 
     /**
-     * Adds the {@link Settlement} of the {@link Intersection} to the pane.
+     * Updates the view to the {@link Settlement} of the {@link Intersection} in the latest published snapshot.
+     * The existing nodes are reused; nothing is changed if the settlement did not change since the last update.
      */
-    private void addSettlement() {
-        final Settlement settlement = intersection.getSettlement();
-        if (settlement == null) {
+    public void update() {
+        final Settlement settlement = intersection.getHexGrid().getSnapshot().board().getSettlement(intersection);
+        if (Objects.equals(settlement, renderedSettlement)) {
             return;
         }
+        if (settlement == null) {
+            pane.getChildren().remove(settlementSprite);
+            settlementSprite = null;
+        } else if (settlementSprite != null && renderedSettlement.owner() == settlement.owner()) {
+            settlementSprite.imageIndexProperty().set(settlement.type().ordinal());
+        } else {
+            pane.getChildren().remove(settlementSprite);
+            settlementSprite = createSettlementSprite(settlement);
+            pane.getChildren().add(0, settlementSprite);
+        }
+        renderedSettlement = settlement;
+    }
 
-        final Sprite settlementSprite = new Sprite(Utils.settlementsSpriteSheet, settlement.type().ordinal(),
-                                                   settlement.owner().getColor()
+    /**
+     * Creates the sprite for the given {@link Settlement}.
+     *
+     * @param settlement the settlement to create the sprite for
+     * @return the sprite
+     */
+    private Sprite createSettlementSprite(final Settlement settlement) {
+        final Sprite sprite = new Sprite(Utils.settlementsSpriteSheet, settlement.type().ordinal(),
+                                         settlement.owner().getColor()
         );
-        settlementSprite.setFitWidth(25);
-        settlementSprite.setPreserveRatio(true);
-
-        pane.getChildren().add(settlementSprite);
+        sprite.setFitWidth(25);
+        sprite.setPreserveRatio(true);
+        return sprite;
     }
 
     /**
@@ -72,12 +106,20 @@ public class IntersectionBuilder implements Builder<Region> {
      * @param handler the handler to call when the intersection is clicked
      */
     public void highlight(final Consumer<MouseEvent> handler) {
-        unhighlight();
-        final Circle circle = new Circle(15, Color.TRANSPARENT);
-        circle.setStroke(Color.RED);
-        circle.setStrokeWidth(4);
-        circle.getStyleClass().add("selectable");
-        pane.getChildren().add(circle);
+        highlight(handler, false);
+    }
+
+    /**
+     * Highlights the intersection and sets a handler for mouse clicks.
+     *
+     * @param handler   the handler to call when the intersection is clicked
+     * @param suggested whether the intersection is one of the suggested moves
+     */
+    public void highlight(final Consumer<MouseEvent> handler, final boolean suggested) {
+        highlightCircle.setStroke(suggested ? SUGGESTED_COLOR : Color.RED);
+        highlightCircle.setStrokeWidth(suggested ? 6 : 4);
+        highlightCircle.setVisible(true);
+        highlightCircle.setManaged(true);
         pane.setOnMouseClicked(handler::accept);
     }
 
@@ -85,7 +127,8 @@ public class IntersectionBuilder implements Builder<Region> {
      * Removes the highlight from the intersection.
      */
     public void unhighlight() {
-        pane.getChildren().removeIf(Circle.class::isInstance);
+        highlightCircle.setVisible(false);
+        highlightCircle.setManaged(false);
         pane.setOnMouseClicked(null);
     }
 }
@@ -15,6 +15,8 @@ import org.tudalgo.algoutils.student.annotation.DoNotTouch;
 @DoNotTouch
 public class Sprite extends ColoredImageView {
     private final IntegerProperty imageIndex;
+    private final Image spriteSheet;
+    private final Color color;
 
     /**
      * Creates a new sprite with the given sprite sheet path and starting index.
@@ -40,27 +42,52 @@ public class Sprite extends ColoredImageView {
 
     /**
      * Creates a new sprite with the given sprite sheet, starting index and color.
+     * Colored sprites show the shared tinted image from the {@link SpriteCache}.
      *
      * @param spriteSheet   The sprite sheet.
      * @param startingIndex The index of the first image in the sprite sheet.
      * @param color         The color of the sprite.
      */
     public Sprite(final Image spriteSheet, final int startingIndex, final Color color) {
-        super(spriteSheet, color);
+        super(spriteSheet, null);
+        this.spriteSheet = spriteSheet;
+        this.color = color;
         this.imageIndex = new SimpleIntegerProperty(startingIndex);
         initialize();
     }
 
     /**
-     * Initializes the srpite by setting the viewport and adding a listener to the
-     * image index to move the viewport to the correct position.
+     * Initializes the srpite by showing the current image and adding a listener to
+     * the image index to show the correct image.
      */
     private void initialize() {
-        final double cellSize = getImage().getWidth();
+        final double cellSize = spriteSheet.getWidth();
         setPreserveRatio(true);
-        setViewport(cellSize);
+        showImage(cellSize);
         imageIndex.addListener(
-            observable -> setViewport(cellSize));
+            observable -> showImage(cellSize));
+    }
+
+    /**
+     * Shows the current image. Colored sprites show the tinted image from the
+     * {@link SpriteCache}, all other sprites move the viewport on the sprite
+     * sheet to the correct position.
+     *
+     * @param cellSize The size of a single cell in the sprite sheet.
+     */
+    private void showImage(final double cellSize) {
+        if (color != null) {
+            final Image tinted = SpriteCache.getSprite(spriteSheet, imageIndex.get(), color);
+            if (tinted != null) {
+                setEffect(null);
+                setViewport(null);
+                setImage(tinted);
+                return;
+            }
+            applyLighting(color);
+        }
+        setImage(spriteSheet);
+        setViewport(cellSize);
     }
 
     /**
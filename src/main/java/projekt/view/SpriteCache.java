@@ -0,0 +1,158 @@
+package projekt.view;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A cache for colored images and sprites.
+ * Every combination of image, sprite index and color is tinted into a {@link WritableImage} once and shared by all
+ * views that show it, instead of rendering every view through its own {@link javafx.scene.effect.Lighting} effect.
+ * The least recently used images are evicted when the cache is full.
+ * <p>
+ * The tint produces the same colors as the lighting previously used by {@link ColoredImageView}: each color channel
+ * of a pixel is multiplied with the channel of the given color, the opacity is kept.
+ */
+public final class SpriteCache {
+    /**
+     * The maximum number of tinted images kept in the cache.
+     */
+    public static final int MAX_SIZE = 256;
+
+    /**
+     * The sprite index used for whole images.
+     */
+    private static final int WHOLE_IMAGE = -1;
+
+    private static final Map<Key, Image> CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Key, Image> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+
+    private SpriteCache() {
+    }
+
+    /**
+     * Returns the image with the given index from the given sprite sheet, tinted with the given color.
+     * The sprite sheet must display all images in a single column of square cells.
+     *
+     * @param spriteSheet the sprite sheet
+     * @param index       the index of the image in the sprite sheet
+     * @param color       the color to tint the image with
+     * @return the tinted image, {@code null} if the pixels of the sprite sheet cannot be read
+     */
+    public static Image getSprite(final Image spriteSheet, final int index, final Color color) {
+        final int cellSize = (int) spriteSheet.getWidth();
+        return get(spriteSheet, index, color, 0, cellSize * index, cellSize, cellSize);
+    }
+
+    /**
+     * Returns the given image tinted with the given color.
+     *
+     * @param image the image
+     * @param color the color to tint the image with
+     * @return the tinted image, {@code null} if the pixels of the image cannot be read
+     */
+    public static Image getTinted(final Image image, final Color color) {
+        return get(image, WHOLE_IMAGE, color, 0, 0, (int) image.getWidth(), (int) image.getHeight());
+    }
+
+    /**
+     * Returns the number of tinted images in the cache.
+     *
+     * @return the number of tinted images in the cache
+     */
+    public static int size() {
+        synchronized (CACHE) {
+            return CACHE.size();
+        }
+    }
+
+    /**
+     * Returns the given region of the given image tinted with the given color, from the cache if possible.
+     *
+     * @param image  the image
+     * @param index  the sprite index of the region, {@link #WHOLE_IMAGE} for the whole image
+     * @param color  the color to tint the region with
+     * @param x      the x coordinate of the region
+     * @param y      the y coordinate of the region
+     * @param width  the width of the region
+     * @param height the height of the region
+     * @return the tinted region, {@code null} if the pixels of the image cannot be read
+     */
+    private static Image get(
+        final Image image, final int index, final Color color,
+        final int x, final int y, final int width, final int height
+    ) {
+        final Key key = new Key(image.getUrl() != null ? image.getUrl() : image, index, color);
+        synchronized (CACHE) {
+            final Image cached = CACHE.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        final Image tinted = tint(image, color, x, y, width, height);
+        if (tinted != null) {
+            synchronized (CACHE) {
+                CACHE.put(key, tinted);
+            }
+        }
+        return tinted;
+    }
+
+    /**
+     * Tints the given region of the given image with the given color.
+     * Returns {@code null} if the pixels cannot be read, e.g. because the image is still loading.
+     *
+     * @param image  the image
+     * @param color  the color to tint the region with
+     * @param x      the x coordinate of the region
+     * @param y      the y coordinate of the region
+     * @param width  the width of the region
+     * @param height the height of the region
+     * @return the tinted region, {@code null} if the pixels cannot be read
+     */
+    private static Image tint(
+        final Image image, final Color color,
+        final int x, final int y, final int width, final int height
+    ) {
+        final PixelReader reader = image.getPixelReader();
+        if (reader == null || image.isError() || image.getProgress() < 1 || width <= 0 || height <= 0) {
+            return null;
+        }
+        final int[] pixels = new int[width * height];
+        reader.getPixels(x, y, width, height, PixelFormat.getIntArgbInstance(), pixels, 0, width);
+        final int red = (int) Math.round(color.getRed() * 255);
+        final int green = (int) Math.round(color.getGreen() * 255);
+        final int blue = (int) Math.round(color.getBlue() * 255);
+        for (int i = 0; i < pixels.length; i++) {
+            final int argb = pixels[i];
+            pixels[i] = argb & 0xFF000000
+                | ((argb >>> 16 & 0xFF) * red / 255) << 16
+                | ((argb >>> 8 & 0xFF) * green / 255) << 8
+                | (argb & 0xFF) * blue / 255;
+        }
+        final WritableImage tinted = new WritableImage(width, height);
+        final PixelWriter writer = tinted.getPixelWriter();
+        writer.setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), pixels, 0, width);
+        return tinted;
+    }
+
+    /**
+     * The key of a tinted image in the cache.
+     *
+     * @param image the url of the source image, or the image itself if it has no url
+     * @param index the sprite index, {@link #WHOLE_IMAGE} for the whole image
+     * @param color the color of the tint
+     */
+    private record Key(Object image, int index, Color color) {
+    }
+}
@@ -28,6 +28,8 @@ public class PlayerActionsBuilder implements Builder<Region> {
     private final Consumer<ActionEvent> rollDiceButtonAction;
     private final Consumer<ActionEvent> tradeButtonAction;
     private final Consumer<ActionEvent> abortButtonAction;
+    private final Consumer<ActionEvent> undoButtonAction;
+    private final Consumer<ActionEvent> redoButtonAction;
     private final HBox mainBox = new HBox();
     private Node abortNode;
     private Node buildRoadNode;
@@ -38,6 +40,8 @@ public class PlayerActionsBuilder implements Builder<Region> {
     private Node endTurnNode;
     private Node rollDiceNode;
     private Node tradeNode;
+    private Node undoNode;
+    private Node redoNode;
 
     /**
      * Creates a new PlayerActionsBuilder with the given actions.
@@ -55,6 +59,8 @@ public class PlayerActionsBuilder implements Builder<Region> {
      * @param rollDiceButtonAction            The handler for the roll dice action.
      * @param tradeButtonAction               The handler for the trade action.
      * @param abortButtonAction               The handler for the abort action.
+     * @param undoButtonAction                The handler for the undo action.
+     * @param redoButtonAction                The handler for the redo action.
      */
     public PlayerActionsBuilder(
         final Consumer<ActionEvent> buildVillageButtonAction,
@@ -65,7 +71,9 @@ public class PlayerActionsBuilder implements Builder<Region> {
         final Consumer<ActionEvent> endTurnButtonAction,
         final Consumer<ActionEvent> rollDiceButtonAction,
         final Consumer<ActionEvent> tradeButtonAction,
-        final Consumer<ActionEvent> abortButtonAction
+        final Consumer<ActionEvent> abortButtonAction,
+        final Consumer<ActionEvent> undoButtonAction,
+        final Consumer<ActionEvent> redoButtonAction
     ) {
         this.buildVillageButtonAction = buildVillageButtonAction;
         this.upgradeVillageButtonAction = upgradeVillageButtonAction;
@@ -76,6 +84,8 @@ public class PlayerActionsBuilder implements Builder<Region> {
         this.rollDiceButtonAction = rollDiceButtonAction;
         this.tradeButtonAction = tradeButtonAction;
         this.abortButtonAction = abortButtonAction;
+        this.undoButtonAction = undoButtonAction;
+        this.redoButtonAction = redoButtonAction;
     }
 
     @Override
@@ -120,8 +130,19 @@ public class PlayerActionsBuilder implements Builder<Region> {
         abortButton.setOnAction(abortButtonAction::accept);
         this.abortNode = abortButton;
 
+        final Button undoButton = new Button("Undo");
+        undoButton.setDisable(true);
+        undoButton.setOnAction(undoButtonAction::accept);
+        this.undoNode = undoButton;
+
+        final Button redoButton = new Button("Redo");
+        redoButton.setDisable(true);
+        redoButton.setOnAction(redoButtonAction::accept);
+        this.redoNode = redoButton;
+
         mainBox.getChildren().addAll(tradeButton, buildRoadButton, buildVillageButton, upgradeVillageButton,
-                                     buyDevelopmentCardButton, playDevelopmentCardButton, rollDiceButton, endTurnButton, abortButton
+                                     buyDevelopmentCardButton, playDevelopmentCardButton, rollDiceButton, endTurnButton, abortButton,
+                                     undoButton, redoButton
         );
         mainBox.setSpacing(5);
         mainBox.setPadding(new Insets(10));
@@ -269,4 +290,32 @@ public class PlayerActionsBuilder implements Builder<Region> {
     public void enableTradeButton() {
         tradeNode.setDisable(false);
     }
+
+    /**
+     * Disables the undo button.
+     */
+    public void disableUndoButton() {
+        undoNode.setDisable(true);
+    }
+
+    /**
+     * Enables the undo button.
+     */
+    public void enableUndoButton() {
+        undoNode.setDisable(false);
+    }
+
+    /**
+     * Disables the redo button.
+     */
+    public void disableRedoButton() {
+        redoNode.setDisable(true);
+    }
+
+    /**
+     * Enables the redo button.
+     */
+    public void enableRedoButton() {
+        redoNode.setDisable(false);
+    }
 }
@@ -7,7 +7,7 @@ import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import javafx.util.Builder;
 import projekt.model.DevelopmentCardType;
-import projekt.model.Player;
+import projekt.model.PlayerSnapshot;
 import projekt.model.ResourceType;
 import projekt.view.CardPane;
 import projekt.view.DevelopmentCardPane;
@@ -22,19 +22,20 @@ import java.util.Map;
  * resources, development cards, remaining roads/villages/cities and victory
  * points.
  * Highlights resources that have changed since the last update.
+ * Only reads the given {@link PlayerSnapshot}, never the player itself.
  */
 public class PlayerInformationBuilder implements Builder<Region> {
-    private final Player player;
+    private final PlayerSnapshot player;
     private final Map<ResourceType, Integer> changedResources;
 
     /**
      * Creates a new PlayerInformationBuilder with the given player and changed
      * resources.
      *
-     * @param player           the player to display information for
+     * @param player           the snapshot of the player to display information for
      * @param changedResources the resources that have changed since the last update
      */
-    public PlayerInformationBuilder(final Player player, final Map<ResourceType, Integer> changedResources) {
+    public PlayerInformationBuilder(final PlayerSnapshot player, final Map<ResourceType, Integer> changedResources) {
         this.player = player;
         this.changedResources = changedResources;
     }
@@ -43,18 +44,18 @@ public class PlayerInformationBuilder implements Builder<Region> {
     public Region build() {
         final VBox mainBox = new VBox();
         mainBox.getStylesheets().add("css/hexmap.css");
-        final Label playerName = new PlayerLabel(player);
+        final Label playerName = new PlayerLabel(player.player());
 
         final Label resourcesLabel = new Label("Your Resources:");
         final FlowPane resourcesBox = new FlowPane(5, 5);
-        for (final ResourceType resourceType : player.getResources().keySet()) {
-            if (player.getResources().get(resourceType) == 0) {
+        for (final ResourceType resourceType : player.resources().keySet()) {
+            if (player.resources().get(resourceType) == 0) {
                 continue;
             }
 
             final ResourceCardPane resourceCard = new ResourceCardPane(
                 resourceType,
-                player.getResources().get(resourceType)
+                player.resources().get(resourceType)
             );
             resourcesBox.getChildren().add(resourceCard);
             if (changedResources.containsKey(resourceType)) {
@@ -64,26 +65,26 @@ public class PlayerInformationBuilder implements Builder<Region> {
 
         final Label developmentCardsLabel = new Label("Your Development Cards:");
         final FlowPane developmentCardsBox = new FlowPane(5, 5);
-        for (final DevelopmentCardType developmentCardType : player.getDevelopmentCards().keySet()) {
-            if (player.getDevelopmentCards().get(developmentCardType) == 0) {
+        for (final DevelopmentCardType developmentCardType : player.developmentCards().keySet()) {
+            if (player.developmentCards().get(developmentCardType) == 0) {
                 continue;
             }
 
             final CardPane developmentCardTypeCard = new DevelopmentCardPane(
                 developmentCardType,
-                player.getDevelopmentCards().get(developmentCardType)
+                player.developmentCards().get(developmentCardType)
             );
             developmentCardsBox.getChildren().add(developmentCardTypeCard);
         }
 
         final Label remainingRoadsLabel = new Label(
-            String.format("Your remaining Roads: %d", player.getRemainingRoads()));
+            String.format("Your remaining Roads: %d", player.remainingRoads()));
         final Label remainingVillagesLabel = new Label(
-            String.format("Your remaining Villages: %d", player.getRemainingVillages()));
+            String.format("Your remaining Villages: %d", player.remainingVillages()));
         final Label remainingCitiesLabel = new Label(
-            String.format("Your remaining Cities: %d", player.getRemainingCities()));
+            String.format("Your remaining Cities: %d", player.remainingCities()));
 
-        final Label victoryPointsLabel = new Label(String.format("Your Victory Points: %d", player.getVictoryPoints()));
+        final Label victoryPointsLabel = new Label(String.format("Your Victory Points: %d", player.victoryPoints()));
 
         mainBox.getChildren().addAll(playerName, resourcesLabel, resourcesBox, developmentCardsLabel,
                                      developmentCardsBox, remainingRoadsLabel, remainingVillagesLabel, remainingCitiesLabel,
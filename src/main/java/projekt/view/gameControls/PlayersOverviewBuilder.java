@@ -11,8 +11,10 @@ import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 import javafx.util.Builder;
+import org.jetbrains.annotations.Nullable;
 import projekt.model.DevelopmentCardType;
-import projekt.model.Player;
+import projekt.model.PlayerSnapshot;
+import projekt.simulation.WinProbabilities;
 import projekt.view.CardPane;
 import projekt.view.DevelopmentCardPane;
 
@@ -24,24 +26,40 @@ import java.util.List;
  * It shows the how many resources but not what type of resources the players
  * have, how many development cards they have (also not their type), how many
  * victory points they have and how many knights they have played.
+ * If an estimate is given, it also shows how likely each player is to win.
+ * Only reads the given {@link PlayerSnapshot}s, never the players themselves.
  */
 public class PlayersOverviewBuilder implements Builder<Region> {
-    private final List<Player> players;
+    private final List<PlayerSnapshot> players;
+    private final @Nullable WinProbabilities winProbabilities;
 
     /**
      * Creates a new PlayersOverviewBuilder with the given players.
      *
-     * @param players the players to display information for
+     * @param players the snapshots of the players to display information for
      */
-    public PlayersOverviewBuilder(final List<Player> players) {
+    public PlayersOverviewBuilder(final List<PlayerSnapshot> players) {
+        this(players, null);
+    }
+
+    /**
+     * Creates a new PlayersOverviewBuilder with the given players and their estimated win probabilities.
+     *
+     * @param players          the snapshots of the players to display information for
+     * @param winProbabilities the estimated win probabilities, {@code null} if there is no estimate yet
+     */
+    public PlayersOverviewBuilder(
+        final List<PlayerSnapshot> players, final @Nullable WinProbabilities winProbabilities
+    ) {
         this.players = players;
+        this.winProbabilities = winProbabilities;
     }
 
     @Override
     public Region build() {
         final VBox mainBox = new VBox();
-        for (final Player player : players) {
-            mainBox.getChildren().add(createPlayerTiltedPane(player, players.indexOf(player) + 1));
+        for (int i = 0; i < players.size(); i++) {
+            mainBox.getChildren().add(createPlayerTiltedPane(players.get(i), i + 1));
         }
         return mainBox;
     }
@@ -51,29 +69,36 @@ public class PlayersOverviewBuilder implements Builder<Region> {
      * The titled pane contains information about the player's resources,
      * development cards, victory points and knights.
      *
-     * @param player       the player to create the titled pane for
+     * @param player       the snapshot of the player to create the titled pane for
      * @param playerNumber the number of the player
      * @return the created titled pane
      */
-    public TitledPane createPlayerTiltedPane(final Player player, final int playerNumber) {
+    public TitledPane createPlayerTiltedPane(final PlayerSnapshot player, final int playerNumber) {
         final GridPane detailsBox = new GridPane();
 
         final Label resourcesLabel = new Label("Resources:");
         detailsBox.add(resourcesLabel, 0, 0);
         detailsBox.add(createValuePane(
-            Integer.toString(player.getResources().values().stream().reduce(0, Integer::sum))), 1, 0);
+            Integer.toString(player.getTotalResources())), 1, 0);
 
         final Label developmentCardsLabel = new Label("Development Cards:");
         detailsBox.add(developmentCardsLabel, 0, 1);
         detailsBox.add(createValuePane(
-            Integer.toString(player.getDevelopmentCards().values().stream().reduce(0, Integer::sum))), 1, 1);
+            Integer.toString(player.getTotalDevelopmentCards())), 1, 1);
 
-        final Label victoryPointsLabel = new Label(String.format("Victory Points: %d", player.getVictoryPoints()));
+        final Label victoryPointsLabel = new Label(String.format("Victory Points: %d", player.victoryPoints()));
         detailsBox.add(victoryPointsLabel, 0, 2);
 
         final Label knightCardsLabel = new Label("Knights:");
         detailsBox.add(knightCardsLabel, 0, 3);
-        detailsBox.add(new DevelopmentCardPane(DevelopmentCardType.KNIGHT, player.getKnightsPlayed()), 1, 3);
+        detailsBox.add(new DevelopmentCardPane(DevelopmentCardType.KNIGHT, player.knightsPlayed()), 1, 3);
+
+        if (winProbabilities != null && !Double.isNaN(winProbabilities.get(player.player()))) {
+            final Label winChanceLabel = new Label(
+                String.format("Win Chance: %.0f%%", winProbabilities.get(player.player()) * 100)
+            );
+            detailsBox.add(winChanceLabel, 0, 4);
+        }
 
         final ColumnConstraints titleColumn = new ColumnConstraints();
         titleColumn.setPercentWidth(50);
@@ -82,8 +107,8 @@ public class PlayersOverviewBuilder implements Builder<Region> {
 
         detailsBox.getColumnConstraints().addAll(titleColumn, valueColumn);
 
-        final TitledPane playerPane = new TitledPane(player.getName(), detailsBox);
-        final Rectangle playerColor = new Rectangle(20, 20, player.getColor());
+        final TitledPane playerPane = new TitledPane(player.player().getName(), detailsBox);
+        final Rectangle playerColor = new Rectangle(20, 20, player.player().getColor());
         playerColor.setStroke(Color.BLACK);
         playerColor.setStrokeWidth(2);
         playerPane.setGraphic(playerColor);
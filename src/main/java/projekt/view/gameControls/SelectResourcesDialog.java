@@ -6,6 +6,8 @@ import javafx.scene.control.DialogPane;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Region;
 import org.tudalgo.algoutils.student.annotation.StudentImplementationRequired;
+import projekt.logging.Logger;
+import projekt.logging.Logging;
 import projekt.model.Player;
 import projekt.model.ResourceType;
 import projekt.view.CardPane;
@@ -27,6 +29,7 @@ import java.util.stream.Collectors;
  * amounts.
  */
 public class SelectResourcesDialog extends Dialog<Map<ResourceType, Integer>> {
+    private static final Logger LOGGER = Logging.getLogger(SelectResourcesDialog.class);
     private final Map<ResourceType, Integer> selectedResources = new HashMap<>();
 
     /**
@@ -70,7 +73,7 @@ public class SelectResourcesDialog extends Dialog<Map<ResourceType, Integer>> {
         final int amountToSelect, final Player player,
         Map<ResourceType, Integer> resourcesToSelectFrom, final boolean dropCards
     ) {
-        System.out.println("SelectResourceDialog");
+        LOGGER.debug("Showing dialog to {} {} resources", dropCards ? "drop" : "select", amountToSelect);
         if (resourcesToSelectFrom == null || resourcesToSelectFrom.isEmpty()) {
             resourcesToSelectFrom = Arrays.stream(ResourceType.values()).collect(Collectors.toMap(r -> r, r -> -1));
         }
@@ -1,5 +1,8 @@
 package projekt.view.menus;
 
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
@@ -11,6 +14,7 @@ import org.tudalgo.algoutils.student.annotation.DoNotTouch;
 import org.tudalgo.algoutils.student.annotation.StudentImplementationRequired;
 import projekt.model.PlayerImpl;
 import projekt.model.PlayerImpl.Builder;
+import projekt.view.BoardRenderMode;
 
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -25,6 +29,7 @@ import java.util.stream.Collectors;
 public class CreateGameBuilder extends MenuBuilder {
     private final ObservableList<PlayerImpl.Builder> observablePlayers;
     private final Supplier<Boolean> startGameHandler;
+    private final Property<BoardRenderMode> boardRenderModeProperty;
 
     /**
      * Creates a new CreateGameBuilder with the given players and handlers.
@@ -40,10 +45,32 @@ public class CreateGameBuilder extends MenuBuilder {
         final ObservableList<PlayerImpl.Builder> players,
         final Runnable returnHandler,
         final Supplier<Boolean> startGameHandler
+    ) {
+        this(players, returnHandler, startGameHandler, new SimpleObjectProperty<>(BoardRenderMode.NODES));
+    }
+
+    /**
+     * Creates a new CreateGameBuilder with the given players, handlers and a
+     * property for the selected render mode of the game board.
+     *
+     * @param players                 The list of players to display and modify.
+     * @param returnHandler           The handler to call when the user wants to
+     *                                return to the main menu
+     * @param startGameHandler        The handler to call when the user wants to
+     *                                start the game
+     * @param boardRenderModeProperty The property to store the selected render
+     *                                mode in
+     */
+    public CreateGameBuilder(
+        final ObservableList<PlayerImpl.Builder> players,
+        final Runnable returnHandler,
+        final Supplier<Boolean> startGameHandler,
+        final Property<BoardRenderMode> boardRenderModeProperty
     ) {
         super("Start new Game", returnHandler);
         this.startGameHandler = startGameHandler;
         this.observablePlayers = players;
+        this.boardRenderModeProperty = boardRenderModeProperty;
     }
 
     @Override
@@ -89,6 +116,7 @@ public class CreateGameBuilder extends MenuBuilder {
         mainBox.getChildren().addAll(
             createAddPlayerButton(), 
             playerListVBox,
+            createBoardRenderModeSelector(),
             startGameButton,
             startGameErrorLabel
         );
@@ -96,6 +124,21 @@ public class CreateGameBuilder extends MenuBuilder {
         return mainBox;
     }
 
+    /**
+     * Creates a selector for the render mode of the game board.
+     *
+     * @return a selector for the render mode of the game board
+     */
+    private Node createBoardRenderModeSelector() {
+        final HBox boardRenderModeRow = new HBox();
+        boardRenderModeRow.setAlignment(Pos.CENTER);
+        final ChoiceBox<BoardRenderMode> boardRenderModeChoiceBox = new ChoiceBox<>(
+            FXCollections.observableArrayList(BoardRenderMode.values()));
+        boardRenderModeChoiceBox.valueProperty().bindBidirectional(this.boardRenderModeProperty);
+        boardRenderModeRow.getChildren().addAll(new Label("Board rendering: "), boardRenderModeChoiceBox);
+        return boardRenderModeRow;
+    }
+
     /**
      * Creates a button to add a new player to the game.
      * The button adds a new player to the list of players when clicked.
@@ -24,6 +24,7 @@ public class TileBuilder implements Builder<Region> {
     private final Tile tile;
     private final StackPane pane = new StackPane();
     private final Sprite resourceIcon;
+    private ImageView robber;
 
     /**
      * Creates a new TileBuilder for the given {@link Tile}.
@@ -55,26 +56,43 @@ public class TileBuilder implements Builder<Region> {
         return tile;
     }
 
+    /**
+     * Creates the nodes of the tile on the first call, later calls only {@link #update()} them.
+     *
+     * @return the view of the tile
+     */
     @Override
     public Region build() {
-        pane.getChildren().clear();
-        final VBox mainBox = new VBox();
-        final StackPane resourcePane = new StackPane();
-        if (resourceIcon != null) {
-            resourcePane.getChildren().add(resourceIcon);
-        }
-        if (tile.hasRobber()) {
-            final ImageView robber = new ColoredImageView(Utils.robberImage, Color.BLACK);
+        if (pane.getChildren().isEmpty()) {
+            final VBox mainBox = new VBox();
+            final StackPane resourcePane = new StackPane();
+            if (resourceIcon != null) {
+                resourcePane.getChildren().add(resourceIcon);
+            }
+            robber = new ColoredImageView(Utils.robberImage, Color.BLACK);
             robber.setPreserveRatio(true);
             robber.setFitWidth(tile.widthProperty().get() * 0.3);
+            robber.managedProperty().bind(robber.visibleProperty());
             resourcePane.getChildren().add(robber);
+            mainBox.getChildren().addAll(resourcePane, createLabels());
+            mainBox.setAlignment(Pos.CENTER);
+            pane.getChildren().addAll(mainBox);
         }
-        mainBox.getChildren().addAll(resourcePane, createLabels());
-        mainBox.setAlignment(Pos.CENTER);
-        pane.getChildren().addAll(mainBox);
+        update();
         return pane;
     }
 
+    /**
+     * Updates the parts of the view that can change during a game, i.e. whether the robber is shown in the latest
+     * published snapshot.
+     * Does nothing before the view was built.
+     */
+    public void update() {
+        if (robber != null) {
+            robber.setVisible(tile.getHexGrid().getSnapshot().board().hasRobber(tile.getPosition()));
+        }
+    }
+
     /**
      * Styles and resizes the tile so it is rendered as a hexagon via css.
      *
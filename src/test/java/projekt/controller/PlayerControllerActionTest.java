@@ -0,0 +1,89 @@
+package projekt.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import projekt.Config;
+import projekt.controller.actions.AcceptTradeAction;
+import projekt.controller.actions.BuildRoadAction;
+import projekt.controller.actions.BuyDevelopmentCardAction;
+import projekt.controller.actions.PlayerAction;
+import projekt.controller.actions.ValidationResult;
+import projekt.metrics.MetricsRegistry;
+import projekt.model.GameState;
+import projekt.model.HexGridImpl;
+import projekt.model.Intersection;
+import projekt.model.Player;
+import projekt.model.buildings.Edge;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests for validating and executing triggered actions with {@link PlayerController#waitForNextAction()}.
+ */
+public class PlayerControllerActionTest {
+
+    private GameState state;
+    private PlayerController playerController;
+    private Player player;
+    private Intersection intersection;
+
+    @BeforeEach
+    public void setUp() {
+        state = new GameState(new HexGridImpl(1), new ArrayList<>());
+        player = state.newPlayer("player", null);
+        final GameController gameController = new GameController(state);
+        gameController.initPlayerControllers();
+        playerController = gameController.getPlayerControllers().get(player);
+        intersection = state.getGrid().getIntersections().values().iterator().next();
+        intersection.placeVillage(player, true);
+        Config.ROAD_BUILDING_COST.forEach(player::addResource);
+    }
+
+    @Test
+    public void testSkipsRejectedActionsAndExecutesNextValidAction() {
+        final Edge connected = intersection.getConnectedEdges().iterator().next();
+        final Edge unconnected = state.getGrid().getEdges().values().stream()
+            .filter(edge -> edge.getIntersections().stream().noneMatch(Intersection::hasSettlement))
+            .findFirst()
+            .orElseThrow();
+        final Map<ValidationResult.Reason, Long> rejectedBefore = rejectedActions();
+        final PlayerAction validAction = new BuildRoadAction(connected);
+
+        // not allowed during the regular turn
+        playerController.triggerAction(new AcceptTradeAction(true));
+        // the player cannot afford a development card
+        playerController.triggerAction(new BuyDevelopmentCardAction());
+        // valid, but no road can be built away from the village in the first round
+        playerController.triggerAction(new BuildRoadAction(unconnected));
+        playerController.triggerAction(validAction);
+
+        assertSame(validAction, playerController.waitForNextAction(PlayerObjective.REGULAR_TURN));
+
+        assertEquals(player, connected.getRoadOwner());
+        assertFalse(unconnected.hasRoad());
+        assertEquals(3, playerController.getRejectedActions());
+        final Map<ValidationResult.Reason, Long> rejectedAfter = rejectedActions();
+        for (final ValidationResult.Reason reason : ValidationResult.Reason.values()) {
+            assertEquals(rejectedBefore.get(reason) + 1, (long) rejectedAfter.get(reason));
+        }
+    }
+
+    /**
+     * Returns the number of rejected actions of all players, per reason.
+     *
+     * @return the number of rejected actions
+     */
+    private static Map<ValidationResult.Reason, Long> rejectedActions() {
+        final Map<ValidationResult.Reason, Long> rejectedActions = new EnumMap<>(ValidationResult.Reason.class);
+        for (final ValidationResult.Reason reason : ValidationResult.Reason.values()) {
+            rejectedActions.put(reason, MetricsRegistry.getGlobal().counter("action.rejected." + reason).get());
+        }
+        return rejectedActions;
+    }
+}
@@ -0,0 +1,125 @@
+package projekt.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import projekt.Config;
+import projekt.controller.actions.BuildRoadAction;
+import projekt.controller.actions.BuyDevelopmentCardAction;
+import projekt.controller.actions.IllegalActionException;
+import projekt.controller.actions.PlayerAction;
+import projekt.controller.actions.RedoAction;
+import projekt.controller.actions.UndoAction;
+import projekt.model.DevelopmentCardType;
+import projekt.model.GameState;
+import projekt.model.HexGridImpl;
+import projekt.model.Intersection;
+import projekt.model.Player;
+import projekt.model.ResourceType;
+import projekt.model.buildings.Edge;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for rolling back batches and undoing and redoing actions of a {@link PlayerController}.
+ */
+public class PlayerControllerHistoryTest {
+
+    private GameState state;
+    private GameController gameController;
+    private PlayerController playerController;
+    private Player player;
+
+    @BeforeEach
+    public void setUp() {
+        state = new GameState(new HexGridImpl(1), new ArrayList<>());
+        player = state.newPlayer("player", null);
+        gameController = new GameController(state);
+        gameController.initPlayerControllers();
+        playerController = gameController.getPlayerControllers().get(player);
+        playerController.setPlayerObjective(PlayerObjective.REGULAR_TURN);
+    }
+
+    @Test
+    public void testFailedBatchReturnsBoughtCard() {
+        Config.DEVELOPMENT_CARD_COST.forEach(player::addResource);
+        final int[] remaining = remainingDevelopmentCards();
+        final Edge unconnected = state.getGrid().getEdges().values().iterator().next();
+
+        assertThrows(IllegalActionException.class, () -> playerController.executeAll(List.of(
+            new BuyDevelopmentCardAction(),
+            new BuildRoadAction(unconnected)
+        )));
+
+        assertArrayEquals(remaining, remainingDevelopmentCards());
+        assertEquals(0, player.getTotalDevelopmentCards());
+        Config.DEVELOPMENT_CARD_COST.forEach(
+            (resourceType, amount) -> assertEquals((int) amount, amount(resourceType))
+        );
+    }
+
+    @Test
+    public void testUndoAndRedoRoad() {
+        final Intersection intersection = state.getGrid().getIntersections().values().iterator().next();
+        assertTrue(intersection.placeVillage(player, true));
+        final Edge edge = intersection.getConnectedEdges().iterator().next();
+        Config.ROAD_BUILDING_COST.forEach(player::addResource);
+
+        execute(new BuildRoadAction(edge));
+        assertEquals(player, edge.getRoadOwner());
+        assertTrue(playerController.canUndo());
+
+        execute(new UndoAction());
+        assertFalse(edge.hasRoad());
+        Config.ROAD_BUILDING_COST.forEach(
+            (resourceType, amount) -> assertEquals((int) amount, amount(resourceType))
+        );
+        assertFalse(playerController.canUndo());
+        assertTrue(playerController.canRedo());
+
+        execute(new RedoAction());
+        assertEquals(player, edge.getRoadOwner());
+        assertTrue(playerController.canUndo());
+        assertFalse(playerController.canRedo());
+    }
+
+    /**
+     * Triggers the given action and executes it on this thread, after checking that it is accepted.
+     *
+     * @param action the action to execute
+     */
+    private void execute(final PlayerAction action) {
+        // rejected actions would wait for the next action forever
+        assertTrue(playerController.validateAction(action).isAccepted());
+        playerController.triggerAction(action);
+        assertEquals(action, playerController.waitForNextAction(PlayerObjective.REGULAR_TURN));
+    }
+
+    /**
+     * Returns the remaining development cards of every type in the deck.
+     *
+     * @return the remaining cards, indexed by the ordinal of the type
+     */
+    private int[] remainingDevelopmentCards() {
+        return Arrays.stream(DevelopmentCardType.values())
+            .mapToInt(gameController::getRemainingDevelopmentCards)
+            .toArray();
+    }
+
+    /**
+     * Returns the amount of the given resource the player has.
+     *
+     * @param resourceType the type of resource
+     * @return the amount
+     */
+    private int amount(final ResourceType resourceType) {
+        return player.getResources().getOrDefault(resourceType, 0);
+    }
+}
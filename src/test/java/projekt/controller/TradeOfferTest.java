@@ -0,0 +1,121 @@
+package projekt.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import projekt.controller.actions.AcceptTradeAction;
+import projekt.controller.actions.IllegalActionException;
+import projekt.model.GameState;
+import projekt.model.HexGridImpl;
+import projekt.model.Player;
+import projekt.model.ResourceType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for broadcasting trade offers with {@link GameController#offerTrade(Player, Map, Map)}.
+ */
+public class TradeOfferTest {
+
+    private static final Map<ResourceType, Integer> OFFER = Map.of(ResourceType.WOOD, 1);
+    private static final Map<ResourceType, Integer> REQUEST = Map.of(ResourceType.ORE, 1);
+
+    private GameState state;
+    private Map<Player, PlayerController> playerControllers;
+    private GameController gameController;
+    private Player offeringPlayer;
+
+    @BeforeEach
+    public void setUp() {
+        state = new GameState(new HexGridImpl(1), new ArrayList<>());
+        playerControllers = new HashMap<>();
+        gameController = new GameController(state, playerControllers, () -> 2);
+        offeringPlayer = addPlayer("offering", false);
+        offeringPlayer.addResource(ResourceType.WOOD, 1);
+    }
+
+    @Test
+    public void testOnlyFirstAcceptorTrades() {
+        final Player first = addPlayer("first", false);
+        final Player second = addPlayer("second", false);
+        for (final Player responder : List.of(first, second)) {
+            responder.addResource(ResourceType.ORE, 1);
+            playerControllers.get(responder).triggerAction(new AcceptTradeAction(true));
+        }
+
+        gameController.offerTrade(offeringPlayer, OFFER, REQUEST);
+
+        assertEquals(0, amount(offeringPlayer, ResourceType.WOOD));
+        assertEquals(1, amount(offeringPlayer, ResourceType.ORE));
+        final int traded = (int) List.of(first, second)
+            .stream()
+            .filter(player -> amount(player, ResourceType.WOOD) == 1)
+            .count();
+        assertEquals(1, traded);
+    }
+
+    @Test
+    public void testFailedResponseWithdrawsOfferFromOthers() {
+        final Player failing = addPlayer("failing", true);
+        failing.addResource(ResourceType.ORE, 1);
+        final Player waiting = addPlayer("waiting", false);
+        waiting.addResource(ResourceType.ORE, 1);
+        playerControllers.get(failing).triggerAction(new AcceptTradeAction(true));
+
+        assertThrows(RuntimeException.class, () -> gameController.offerTrade(offeringPlayer, OFFER, REQUEST));
+
+        assertEquals(List.of(false), ((RecordingPlayerController) playerControllers.get(waiting)).responses);
+        assertEquals(PlayerObjective.IDLE, playerControllers.get(waiting).getPlayerObjectiveProperty().getValue());
+    }
+
+    /**
+     * Returns the amount of the given resource the given player has.
+     *
+     * @param player       the player
+     * @param resourceType the type of resource
+     * @return the amount of the resource
+     */
+    private static int amount(final Player player, final ResourceType resourceType) {
+        return player.getResources().getOrDefault(resourceType, 0);
+    }
+
+    /**
+     * Adds a new player with a {@link RecordingPlayerController} to the game.
+     *
+     * @param name    the name of the player
+     * @param failing whether the player fails when responding to a trade offer
+     * @return the new player
+     */
+    private Player addPlayer(final String name, final boolean failing) {
+        final Player player = state.newPlayer(name, null);
+        playerControllers.put(player, new RecordingPlayerController(gameController, player, failing));
+        return player;
+    }
+
+    /**
+     * A player controller that records its responses to trade offers.
+     */
+    private static class RecordingPlayerController extends PlayerController {
+        private final List<Boolean> responses = new ArrayList<>();
+        private final boolean failing;
+
+        RecordingPlayerController(final GameController gameController, final Player player, final boolean failing) {
+            super(gameController, player);
+            this.failing = failing;
+        }
+
+        @Override
+        public void acceptTradeOffer(final boolean accepted) throws IllegalActionException {
+            if (failing) {
+                throw new IllegalStateException("Response failed");
+            }
+            responses.add(accepted);
+            super.acceptTradeOffer(accepted);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package projekt.controller.actions;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import projekt.controller.GameController;
+import projekt.controller.PlayerController;
+import projekt.controller.PlayerObjective;
+import projekt.model.GameState;
+import projekt.model.HexGridImpl;
+import projekt.model.Player;
+import projekt.model.ResourceType;
+import projekt.model.TradePayload;
+import projekt.model.buildings.Edge;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the validation of {@link CompositeAction}.
+ */
+public class CompositeActionTest {
+
+    private PlayerController playerController;
+    private Player player;
+    private Edge edge1;
+    private Edge edge2;
+
+    @BeforeEach
+    public void setUp() {
+        final GameState state = new GameState(new HexGridImpl(1), new ArrayList<>());
+        player = state.newPlayer("player", null);
+        final GameController gameController = new GameController(state);
+        gameController.initPlayerControllers();
+        playerController = gameController.getPlayerControllers().get(player);
+        playerController.setPlayerObjective(PlayerObjective.REGULAR_TURN);
+        final Iterator<Edge> edges = state.getGrid().getEdges().values().iterator();
+        edge1 = edges.next();
+        edge2 = edges.next();
+    }
+
+    @Test
+    public void testAcceptsAffordableBatch() {
+        player.addResource(ResourceType.WOOD, 2);
+        player.addResource(ResourceType.CLAY, 2);
+
+        final CompositeAction batch = CompositeAction.of(
+            new BuildRoadAction(edge1),
+            new BuildRoadAction(edge2),
+            new EndTurnAction()
+        );
+
+        assertTrue(batch.validate(playerController).isAccepted());
+    }
+
+    @Test
+    public void testRejectsBatchAffordableOnlyStepByStep() {
+        player.addResource(ResourceType.WOOD, 1);
+        player.addResource(ResourceType.CLAY, 1);
+
+        final ValidationResult result = CompositeAction.of(
+            new BuildRoadAction(edge1),
+            new BuildRoadAction(edge2)
+        ).validate(playerController);
+
+        assertEquals(ValidationResult.Reason.PRECONDITION_FAILED, result.reason());
+    }
+
+    @Test
+    public void testCountsResourcesFromEarlierBankTrades() {
+        player.addResource(ResourceType.WOOD, 5);
+
+        final TradeAction trade = new TradeAction(
+            new TradePayload(Map.of(ResourceType.WOOD, 4), Map.of(ResourceType.CLAY, 1), true, player)
+        );
+
+        assertTrue(CompositeAction.of(trade, new BuildRoadAction(edge1)).validate(playerController).isAccepted());
+        assertEquals(
+            ValidationResult.Reason.PRECONDITION_FAILED,
+            CompositeAction.of(new BuildRoadAction(edge1), trade).validate(playerController).reason()
+        );
+    }
+
+    @Test
+    public void testRejectsEndTurnBeforeLastStep() {
+        player.addResource(ResourceType.WOOD, 1);
+        player.addResource(ResourceType.CLAY, 1);
+
+        final ValidationResult result = CompositeAction.of(
+            new EndTurnAction(),
+            new BuildRoadAction(edge1)
+        ).validate(playerController);
+
+        assertEquals(ValidationResult.Reason.NOT_ALLOWED, result.reason());
+    }
+
+    @Test
+    public void testRejectsEmptyBatch() {
+        assertEquals(
+            ValidationResult.Reason.PRECONDITION_FAILED,
+            CompositeAction.of().validate(playerController).reason()
+        );
+    }
+}
@@ -0,0 +1,64 @@
+package projekt.controller.actions;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link ValidationResult}.
+ */
+public class ValidationResultTest {
+
+    @Test
+    public void testAccepted() {
+        assertTrue(ValidationResult.ACCEPTED.isAccepted());
+        assertNull(ValidationResult.ACCEPTED.reason());
+        assertNull(ValidationResult.ACCEPTED.message());
+    }
+
+    @Test
+    public void testReject() {
+        final ValidationResult result = ValidationResult.reject(
+            ValidationResult.Reason.PRECONDITION_FAILED,
+            "Cannot build road"
+        );
+
+        assertFalse(result.isAccepted());
+        assertEquals(ValidationResult.Reason.PRECONDITION_FAILED, result.reason());
+        assertEquals("Cannot build road", result.message());
+    }
+
+    @Test
+    public void testMessageBuiltOnlyWhenRead() {
+        final AtomicInteger builds = new AtomicInteger();
+        final ValidationResult result = ValidationResult.reject(ValidationResult.Reason.NOT_ALLOWED, () -> {
+            builds.incrementAndGet();
+            return "Illegal Action";
+        });
+
+        assertFalse(result.isAccepted());
+        assertEquals(0, builds.get());
+        assertEquals("Illegal Action", result.message());
+        assertEquals(1, builds.get());
+    }
+
+    @Test
+    public void testEqualRejectionsAreEqual() {
+        final ValidationResult first = ValidationResult.reject(ValidationResult.Reason.NOT_ALLOWED, "Illegal Action");
+        final ValidationResult second = ValidationResult.reject(
+            ValidationResult.Reason.NOT_ALLOWED,
+            () -> "Illegal " + "Action"
+        );
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertNotEquals(first, ValidationResult.reject(ValidationResult.Reason.EXECUTION_FAILED, "Illegal Action"));
+        assertNotEquals(first, ValidationResult.ACCEPTED);
+    }
+}
@@ -0,0 +1,78 @@
+package projekt.controller.gui;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link RenderScheduler}.
+ */
+public class RenderSchedulerTest {
+
+    @Test
+    public void testQueuesOneBatch() {
+        final Queue<Runnable> fxQueue = new ArrayDeque<>();
+        final RenderScheduler scheduler = new RenderScheduler(fxQueue::add);
+
+        scheduler.schedule("a", () -> {});
+        scheduler.schedule("b", () -> {});
+        scheduler.schedule("c", () -> {});
+
+        assertEquals(1, fxQueue.size());
+        assertEquals(3, scheduler.getPendingUpdates());
+    }
+
+    @Test
+    public void testRunsLatestUpdatePerKeyInFirstScheduledOrder() {
+        final Queue<Runnable> fxQueue = new ArrayDeque<>();
+        final RenderScheduler scheduler = new RenderScheduler(fxQueue::add);
+        final List<String> ran = new ArrayList<>();
+
+        scheduler.schedule("a", () -> ran.add("a1"));
+        scheduler.schedule("b", () -> ran.add("b1"));
+        scheduler.schedule("a", () -> ran.add("a2"));
+        fxQueue.remove().run();
+
+        assertEquals(List.of("a2", "b1"), ran);
+        assertEquals(0, scheduler.getPendingUpdates());
+    }
+
+    @Test
+    public void testUpdatesScheduledDuringBatchRunInNextBatch() {
+        final Queue<Runnable> fxQueue = new ArrayDeque<>();
+        final RenderScheduler scheduler = new RenderScheduler(fxQueue::add);
+        final List<String> ran = new ArrayList<>();
+
+        scheduler.schedule("a", () -> {
+            ran.add("a1");
+            scheduler.schedule("a", () -> ran.add("a2"));
+        });
+        fxQueue.remove().run();
+
+        assertEquals(List.of("a1"), ran);
+        assertEquals(1, fxQueue.size());
+        fxQueue.remove().run();
+        assertEquals(List.of("a1", "a2"), ran);
+    }
+
+    @Test
+    public void testGaugeCountsAllSchedulers() {
+        final RenderScheduler first = new RenderScheduler(ignored -> {});
+        final RenderScheduler second = new RenderScheduler(ignored -> {});
+
+        first.schedule("a", () -> {});
+        second.schedule("a", () -> {});
+        second.schedule("b", () -> {});
+
+        // schedulers of other tests may still be counted until they are collected
+        assertTrue(RenderScheduler.getAllPendingUpdates() >= 3);
+        assertEquals(1, first.getPendingUpdates());
+        assertEquals(2, second.getPendingUpdates());
+    }
+}
@@ -0,0 +1,92 @@
+package projekt.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link Histogram}.
+ */
+public class HistogramTest {
+
+    @Test
+    public void testEmptySnapshot() {
+        assertEquals(new Histogram.Snapshot(0, 0, 0, 0, 0, 0, 0), new Histogram().snapshot());
+    }
+
+    @Test
+    public void testSmallValuesAreExact() {
+        final Histogram histogram = new Histogram();
+        histogram.record(0);
+        histogram.record(1);
+        histogram.record(2);
+        histogram.record(3);
+
+        final Histogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(4, snapshot.count());
+        assertEquals(6, snapshot.sum());
+        assertEquals(0, snapshot.min());
+        assertEquals(3, snapshot.max());
+        assertEquals(1, snapshot.p50());
+        assertEquals(3, snapshot.p90());
+    }
+
+    @Test
+    public void testPercentilesWithinBucketWidth() {
+        final Histogram histogram = new Histogram();
+        for (int value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+
+        final Histogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(100, snapshot.count());
+        assertEquals(5050, snapshot.sum());
+        assertEquals(50.5, snapshot.mean());
+        assertBetween(50, 50 * 1.25, snapshot.p50());
+        assertBetween(90, 90 * 1.25, snapshot.p90());
+        assertBetween(99, 100, snapshot.p99());
+    }
+
+    @Test
+    public void testPercentilesClampedToRecordedRange() {
+        final Histogram histogram = new Histogram();
+        for (int i = 0; i < 10; i++) {
+            histogram.record(1000);
+        }
+
+        final Histogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(1000, snapshot.p50());
+        assertEquals(1000, snapshot.p99());
+    }
+
+    @Test
+    public void testNegativeValuesRecordedAsZero() {
+        final Histogram histogram = new Histogram();
+        histogram.record(-5);
+
+        final Histogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(1, snapshot.count());
+        assertEquals(0, snapshot.sum());
+        assertEquals(0, snapshot.min());
+    }
+
+    @Test
+    public void testLargestValue() {
+        final Histogram histogram = new Histogram();
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(Long.MAX_VALUE, histogram.snapshot().p50());
+    }
+
+    /**
+     * Asserts that the given value lies in the given closed range.
+     *
+     * @param lower the smallest allowed value
+     * @param upper the largest allowed value
+     * @param value the value
+     */
+    private static void assertBetween(final double lower, final double upper, final long value) {
+        assertTrue(lower <= value && value <= upper, "%d is not in [%s, %s]".formatted(value, lower, upper));
+    }
+}
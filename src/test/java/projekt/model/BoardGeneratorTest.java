@@ -0,0 +1,115 @@
+package projekt.model;
+
+import org.junit.jupiter.api.Test;
+import projekt.Config;
+import projekt.model.tiles.Tile;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link BoardGenerator}.
+ */
+public class BoardGeneratorTest {
+
+    private static final int SEEDS = 200;
+
+    @Test
+    public void testNoNeighbouringHighProbabilityNumbers() {
+        forEachBoard(layout -> {
+            final Map<TilePosition, Integer> rollNumbers = rollNumbersByPosition(layout);
+            rollNumbers.forEach((position, rollNumber) -> {
+                if (BoardGenerator.pips(rollNumber) == 5) {
+                    for (final TilePosition neighbour : TilePosition.neighbours(position)) {
+                        final Integer neighbourNumber = rollNumbers.get(neighbour);
+                        assertFalse(
+                            neighbourNumber != null && BoardGenerator.pips(neighbourNumber) == 5,
+                            "%s at %s is next to %s at %s".formatted(rollNumber, position, neighbourNumber, neighbour)
+                        );
+                    }
+                }
+            });
+        });
+    }
+
+    @Test
+    public void testTileQuotasArePreserved() {
+        final int round = Config.TILE_RATIOS.values().stream().mapToInt(Integer::intValue).sum();
+        forEachBoard(layout -> {
+            final Map<Tile.Type, Integer> counts = new EnumMap<>(Tile.Type.class);
+            layout.types().forEach(type -> counts.merge(type, 1, Integer::sum));
+            final int fullRounds = layout.types().size() / round;
+            Config.TILE_RATIOS.forEach((type, ratio) -> {
+                final int count = counts.getOrDefault(type, 0);
+                assertTrue(count >= fullRounds * ratio && count <= (fullRounds + 1) * ratio, type + ": " + count);
+            });
+        });
+    }
+
+    @Test
+    public void testRollNumberQuotasArePreserved() {
+        forEachBoard(layout -> {
+            final Map<Integer, Integer> counts = new HashMap<>();
+            layout.rollNumbers().stream().filter(r -> r != 0).forEach(r -> counts.merge(r, 1, Integer::sum));
+            final int resourceTiles = counts.values().stream().mapToInt(Integer::intValue).sum();
+            // every round contains 2 and 12 once and the other nine numbers twice
+            final int fullRounds = resourceTiles / 18;
+            for (int rollNumber = 2; rollNumber <= 12; rollNumber++) {
+                if (rollNumber == 7) {
+                    assertFalse(counts.containsKey(7));
+                    continue;
+                }
+                final int ratio = rollNumber == 2 || rollNumber == 12 ? 1 : 2;
+                final int count = counts.getOrDefault(rollNumber, 0);
+                assertTrue(count >= fullRounds * ratio && count <= (fullRounds + 1) * ratio, rollNumber + ": " + count);
+            }
+        });
+    }
+
+    @Test
+    public void testOnlyDesertsHaveNoNumber() {
+        forEachBoard(layout -> {
+            for (int i = 0; i < layout.types().size(); i++) {
+                if (layout.types().get(i).resourceType == null) {
+                    assertEquals(0, (int) layout.rollNumbers().get(i));
+                } else {
+                    assertNotEquals(0, (int) layout.rollNumbers().get(i));
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testSameSeedSameBoard() {
+        final BoardLayout first = new BoardGenerator(3, new Random(42)).generate();
+        final BoardLayout second = new BoardGenerator(3, new Random(42)).generate();
+        assertEquals(first, second);
+    }
+
+    private static void forEachBoard(final Consumer<BoardLayout> check) {
+        for (final int radius : new int[] {2, 3, 5}) {
+            for (long seed = 0; seed < SEEDS; seed++) {
+                final BoardLayout layout = new BoardGenerator(radius, new Random(seed)).generate();
+                assertEquals(layout.positions().size(), layout.types().size());
+                assertEquals(layout.positions().size(), layout.rollNumbers().size());
+                check.accept(layout);
+            }
+        }
+    }
+
+    private static Map<TilePosition, Integer> rollNumbersByPosition(final BoardLayout layout) {
+        final Map<TilePosition, Integer> rollNumbers = new HashMap<>();
+        for (int i = 0; i < layout.positions().size(); i++) {
+            rollNumbers.put(layout.positions().get(i), layout.rollNumbers().get(i));
+        }
+        return rollNumbers;
+    }
+}
@@ -0,0 +1,38 @@
+package projekt.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link BoardPool}.
+ */
+public class BoardPoolTest {
+
+    @Test
+    public void testEveryGridIsHandedOutOnce() {
+        final BoardPool pool = new BoardPool(2, 1, new Random(0));
+        final Set<HexGridImpl> grids = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < 10; i++) {
+            assertTrue(grids.add(pool.take()));
+        }
+        assertEquals(10, grids.size());
+    }
+
+    @Test
+    public void testPoolRefillsInBackground() throws InterruptedException {
+        final BoardPool pool = new BoardPool(2, 2, new Random(0));
+        pool.take();
+        final long deadline = System.currentTimeMillis() + 10_000;
+        while (pool.size() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(2, pool.size());
+    }
+}
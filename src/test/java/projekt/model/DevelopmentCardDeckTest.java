@@ -0,0 +1,112 @@
+package projekt.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link DevelopmentCardDeck}.
+ */
+public class DevelopmentCardDeckTest {
+
+    private static final Map<DevelopmentCardType, Integer> RATIOS = Map.of(
+        DevelopmentCardType.KNIGHT, 14,
+        DevelopmentCardType.VICTORY_POINTS, 5,
+        DevelopmentCardType.ROAD_BUILDING, 2
+    );
+
+    @Test
+    public void testDrawsExactlyTheConfiguredCards() {
+        final DevelopmentCardDeck deck = new DevelopmentCardDeck(RATIOS, 42);
+        final Map<DevelopmentCardType, Integer> drawn = new EnumMap<>(DevelopmentCardType.class);
+
+        assertEquals(21, deck.getRemaining());
+        while (!deck.isEmpty()) {
+            drawn.merge(deck.draw(), 1, Integer::sum);
+        }
+
+        assertEquals(RATIOS, drawn);
+        assertEquals(0, deck.getRemaining());
+        assertThrows(NoSuchElementException.class, deck::draw);
+    }
+
+    @Test
+    public void testRemainingPerType() {
+        final DevelopmentCardDeck deck = new DevelopmentCardDeck(RATIOS, 42);
+
+        final DevelopmentCardType card = deck.draw();
+
+        assertEquals(RATIOS.get(card) - 1, deck.getRemaining(card));
+        assertEquals(20, deck.getRemaining());
+        assertEquals(0, deck.getRemaining(DevelopmentCardType.MONOPOLY));
+    }
+
+    @Test
+    public void testSameSeedSameOrder() {
+        assertEquals(drawAll(new DevelopmentCardDeck(RATIOS, 7)), drawAll(new DevelopmentCardDeck(RATIOS, 7)));
+        assertNotEquals(drawAll(new DevelopmentCardDeck(RATIOS, 7)), drawAll(new DevelopmentCardDeck(RATIOS, 8)));
+    }
+
+    @Test
+    public void testEmptyDeck() {
+        final DevelopmentCardDeck deck = new DevelopmentCardDeck(Map.of(), 0);
+
+        assertTrue(deck.isEmpty());
+        assertThrows(NoSuchElementException.class, deck::get);
+    }
+
+    @Test
+    public void testSingleCard() {
+        final DevelopmentCardDeck deck = new DevelopmentCardDeck(Map.of(DevelopmentCardType.MONOPOLY, 1), 0);
+
+        assertFalse(deck.isEmpty());
+        assertEquals(DevelopmentCardType.MONOPOLY, deck.get());
+        assertTrue(deck.isEmpty());
+    }
+
+    @Test
+    public void testPutBackRestoresOrder() {
+        final DevelopmentCardDeck deck = new DevelopmentCardDeck(RATIOS, 42);
+        final List<DevelopmentCardType> expected = drawAll(new DevelopmentCardDeck(RATIOS, 42));
+
+        final DevelopmentCardType first = deck.draw();
+        final DevelopmentCardType second = deck.draw();
+        deck.putBack(second);
+        deck.putBack(first);
+
+        assertEquals(21, deck.getRemaining());
+        assertEquals((int) RATIOS.get(first), deck.getRemaining(first));
+        assertEquals(expected, drawAll(deck));
+    }
+
+    @Test
+    public void testPutBackOnFullDeck() {
+        final DevelopmentCardDeck deck = new DevelopmentCardDeck(RATIOS, 42);
+
+        assertThrows(IllegalStateException.class, () -> deck.putBack(DevelopmentCardType.KNIGHT));
+    }
+
+    /**
+     * Draws all cards of the given deck.
+     *
+     * @param deck the deck
+     * @return the drawn cards, in order
+     */
+    private static List<DevelopmentCardType> drawAll(final DevelopmentCardDeck deck) {
+        final List<DevelopmentCardType> cards = new ArrayList<>();
+        while (!deck.isEmpty()) {
+            cards.add(deck.draw());
+        }
+        return cards;
+    }
+}
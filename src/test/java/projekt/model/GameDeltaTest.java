@@ -0,0 +1,113 @@
+package projekt.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import projekt.model.buildings.Edge;
+import projekt.model.buildings.Settlement;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for recording, undoing and redoing {@link GameDelta}s.
+ */
+public class GameDeltaTest {
+
+    private GameState state;
+    private HexGrid grid;
+    private Player player;
+    private Intersection intersection;
+    private Edge edge;
+    private TilePosition robberTarget;
+
+    @BeforeEach
+    public void setUp() {
+        state = new GameState(new HexGridImpl(2), new ArrayList<>());
+        grid = state.getGrid();
+        player = state.newPlayer("player", null);
+        intersection = grid.getIntersections().values().iterator().next();
+        edge = intersection.getConnectedEdges().iterator().next();
+        final Iterator<TilePosition> positions = grid.getTiles().keySet().iterator();
+        robberTarget = positions.next();
+        if (robberTarget.equals(grid.getRobberPosition())) {
+            robberTarget = positions.next();
+        }
+        player.addResource(ResourceType.WOOD, 5);
+    }
+
+    @Test
+    public void testUndoAndRedo() {
+        final long before = state.getZobristHash();
+        final TilePosition robberBefore = grid.getRobberPosition();
+
+        final GameDelta.Recorder recorder = GameDelta.record(state);
+        assertTrue(intersection.placeVillage(player, true));
+        assertTrue(intersection.upgradeSettlement(player));
+        assertTrue(grid.addRoad(edge.getPosition1(), edge.getPosition2(), player, true));
+        player.removeResource(ResourceType.WOOD, 2);
+        player.addResource(ResourceType.ORE, 1);
+        player.addDevelopmentCard(DevelopmentCardType.MONOPOLY);
+        grid.setRobberPosition(robberTarget);
+        final GameDelta delta = recorder.stop();
+        final long after = state.getZobristHash();
+
+        assertFalse(delta.isEmpty());
+        assertTrue(delta.isReversible());
+
+        delta.undo();
+        assertEquals(before, state.getZobristHash());
+        assertNull(intersection.getSettlement());
+        assertFalse(edge.hasRoad());
+        assertEquals(5, (int) player.getResources().get(ResourceType.WOOD));
+        assertEquals(0, (int) player.getResources().getOrDefault(ResourceType.ORE, 0));
+        assertEquals(0, player.getTotalDevelopmentCards());
+        assertEquals(robberBefore, grid.getRobberPosition());
+
+        delta.redo();
+        assertEquals(after, state.getZobristHash());
+        assertEquals(Settlement.Type.CITY, intersection.getSettlement().type());
+        assertEquals(player, edge.getRoadOwner());
+        assertEquals(3, (int) player.getResources().get(ResourceType.WOOD));
+        assertEquals(1, (int) player.getDevelopmentCards().get(DevelopmentCardType.MONOPOLY));
+        assertEquals(robberTarget, grid.getRobberPosition());
+    }
+
+    @Test
+    public void testChangesThatCancelOutAreEmpty() {
+        final GameDelta.Recorder recorder = GameDelta.record(state);
+        grid.restoreRoad(edge, player);
+        grid.restoreRoad(edge, null);
+        player.addResource(ResourceType.CLAY, 2);
+        player.removeResource(ResourceType.CLAY, 2);
+
+        assertTrue(recorder.stop().isEmpty());
+    }
+
+    @Test
+    public void testPlayedDevelopmentCardIsNotReversible() {
+        player.addDevelopmentCard(DevelopmentCardType.KNIGHT);
+
+        final GameDelta.Recorder recorder = GameDelta.record(state);
+        player.removeDevelopmentCard(DevelopmentCardType.KNIGHT);
+        final GameDelta delta = recorder.stop();
+
+        assertFalse(delta.isReversible());
+        assertThrows(IllegalStateException.class, delta::undo);
+    }
+
+    @Test
+    public void testChangesOfOtherThreadsAreNotRecorded() throws InterruptedException {
+        final GameDelta.Recorder recorder = GameDelta.record(state);
+        final Thread other = new Thread(() -> player.addResource(ResourceType.GRAIN, 1));
+        other.start();
+        other.join();
+
+        assertTrue(recorder.stop().isEmpty());
+    }
+}
@@ -0,0 +1,75 @@
+package projekt.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import projekt.controller.GameController;
+import projekt.model.events.SnapshotPublishedEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for capturing and publishing {@link GameSnapshot}s.
+ */
+public class GameSnapshotTest {
+
+    private GameState state;
+    private Player player;
+    private Intersection intersection;
+
+    @BeforeEach
+    public void setUp() {
+        state = new GameState(new HexGridImpl(1), new ArrayList<>());
+        player = state.newPlayer("player", null);
+        intersection = state.getGrid().getIntersections().values().iterator().next();
+    }
+
+    @Test
+    public void testInitialSnapshotCapturedOnce() {
+        final GameSnapshot initial = state.getGrid().getSnapshot();
+
+        intersection.placeVillage(player, true);
+
+        assertSame(initial, state.getGrid().getSnapshot());
+        assertEquals(0, initial.version());
+        assertTrue(initial.players().isEmpty());
+        assertNull(initial.board().getSettlement(intersection));
+    }
+
+    @Test
+    public void testCaptureIsNotChangedByLaterChanges() {
+        final GameSnapshot snapshot = GameSnapshot.capture(1, state);
+
+        intersection.placeVillage(player, true);
+        player.addResource(ResourceType.WOOD, 2);
+
+        assertNull(snapshot.board().getSettlement(intersection));
+        assertEquals(0, (int) snapshot.getPlayer(player).resources().getOrDefault(ResourceType.WOOD, 0));
+        assertNotEquals(snapshot.hash(), state.getZobristHash());
+    }
+
+    @Test
+    public void testPublishReplacesSnapshotAndNotifies() {
+        final List<SnapshotPublishedEvent> events = new ArrayList<>();
+        state.getEventBus().subscribe(SnapshotPublishedEvent.class, events::add);
+        final GameController gameController = new GameController(state);
+
+        final GameSnapshot first = gameController.publishSnapshot();
+        intersection.placeVillage(player, true);
+        final GameSnapshot second = gameController.publishSnapshot();
+
+        assertSame(second, state.getGrid().getSnapshot());
+        assertTrue(second.version() > first.version());
+        assertEquals(player, second.board().getSettlement(intersection).owner());
+        assertEquals(state.getZobristHash(), second.hash());
+        assertEquals(2, events.size());
+        assertSame(first, events.get(1).previous());
+        assertSame(second, events.get(1).snapshot());
+    }
+}
@@ -0,0 +1,87 @@
+package projekt.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the trade ratios of {@link PlayerImpl}.
+ */
+public class PlayerTradeRatioTest {
+
+    private HexGridImpl hexGrid;
+    private Player player;
+
+    @BeforeEach
+    public void setUp() {
+        hexGrid = new HexGridImpl(3);
+        player = new PlayerImpl.Builder(0).build(hexGrid);
+    }
+
+    @Test
+    public void testWithoutPorts() {
+        assertArrayEquals(new int[] {4, 4, 4, 4, 4}, player.getTradeRatios());
+    }
+
+    @Test
+    public void testPortSettlementPlacedAfterFirstQuery() {
+        final Intersection intersection = findPortIntersection(true);
+        final ResourceType portType = intersection.getPort().resourceType();
+        final ResourceType otherType = portType == ResourceType.ORE ? ResourceType.WOOD : ResourceType.ORE;
+        assertEquals(4, player.getTradeRatio(portType));
+
+        assertTrue(intersection.placeVillage(player, true));
+
+        assertEquals(intersection.getPort().ratio(), player.getTradeRatio(portType));
+        assertEquals(4, player.getTradeRatio(otherType));
+    }
+
+    @Test
+    public void testGenericPortSettlementUpgradedAndRemoved() {
+        final Intersection intersection = findPortIntersection(false);
+        final int ratio = intersection.getPort().ratio();
+        assertTrue(intersection.placeVillage(player, true));
+        assertArrayEquals(new int[] {ratio, ratio, ratio, ratio, ratio}, player.getTradeRatios());
+
+        assertTrue(intersection.upgradeSettlement(player));
+        assertEquals(ratio, player.getTradeRatio(ResourceType.GRAIN));
+
+        ((IntersectionImpl) intersection).restoreSettlement(null);
+        assertArrayEquals(new int[] {4, 4, 4, 4, 4}, player.getTradeRatios());
+    }
+
+    @Test
+    public void testOtherPlayersSettlementsAreIgnored() {
+        final Player other = new PlayerImpl.Builder(1).build(hexGrid);
+
+        assertTrue(findPortIntersection(false).placeVillage(other, true));
+
+        assertArrayEquals(new int[] {4, 4, 4, 4, 4}, player.getTradeRatios());
+    }
+
+    @Test
+    public void testReturnedRatiosAreCopies() {
+        player.getTradeRatios()[ResourceType.WOOD.ordinal()] = 2;
+
+        assertEquals(4, player.getTradeRatio(ResourceType.WOOD));
+    }
+
+    /**
+     * Returns an intersection of the grid with a specialised or generic port.
+     *
+     * @param specialised whether the port only accepts one resource type
+     * @return the intersection
+     */
+    private Intersection findPortIntersection(final boolean specialised) {
+        return hexGrid.getIntersections()
+            .values()
+            .stream()
+            .filter(intersection -> intersection.getPort() != null)
+            .filter(intersection -> (intersection.getPort().resourceType() != null) == specialised)
+            .findFirst()
+            .orElseThrow();
+    }
+}
@@ -0,0 +1,94 @@
+package projekt.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the key packing and hash table of {@link PositionSetMap}.
+ */
+public class PositionSetMapTest {
+
+    private static final TilePosition A = TilePosition.of(0, 0);
+    private static final TilePosition B = TilePosition.of(1, -1);
+    private static final TilePosition C = TilePosition.of(-3, 2);
+
+    @Test
+    public void testKeysIndependentOfOrder() {
+        assertEquals(PositionSetMap.key(A, B), PositionSetMap.key(B, A));
+        final long key = PositionSetMap.key(A, B, C);
+        assertEquals(key, PositionSetMap.key(A, C, B));
+        assertEquals(key, PositionSetMap.key(B, A, C));
+        assertEquals(key, PositionSetMap.key(B, C, A));
+        assertEquals(key, PositionSetMap.key(C, A, B));
+        assertEquals(key, PositionSetMap.key(C, B, A));
+    }
+
+    @Test
+    public void testKeysDistinct() {
+        final Set<Long> keys = new HashSet<>();
+        for (int q = -4; q <= 4; q++) {
+            for (int r = -4; r <= 4; r++) {
+                final TilePosition position = TilePosition.of(q, r);
+                assertTrue(keys.add(PositionSetMap.key(position, TilePosition.of(q + 1, r))));
+                assertTrue(keys.add(PositionSetMap.key(position, TilePosition.of(q, r + 1))));
+                assertTrue(keys.add(PositionSetMap.key(position, TilePosition.of(q + 1, r), TilePosition.of(q, r + 1))));
+            }
+        }
+        assertNotEquals(PositionSetMap.key(A, B), PositionSetMap.key(A, B, C));
+    }
+
+    @Test
+    public void testKeysOutOfRange() {
+        final TilePosition far = TilePosition.of(512, 0);
+
+        assertTrue(PositionSetMap.key(A, far) < 0);
+        assertTrue(PositionSetMap.key(A, B, far) < 0);
+        assertTrue(PositionSetMap.key(TilePosition.of(-512, 511), TilePosition.of(511, -512)) >= 0);
+    }
+
+    @Test
+    public void testBehavesLikeHashMap() {
+        final PositionSetMap<Integer> map = new PositionSetMap<>();
+        final Map<Set<TilePosition>, Integer> expected = new HashMap<>();
+        int value = 0;
+        for (int q = -6; q <= 6; q++) {
+            for (int r = -6; r <= 6; r++) {
+                final Set<TilePosition> edge = Set.of(TilePosition.of(q, r), TilePosition.of(q + 1, r));
+                assertEquals(expected.put(edge, value), map.put(edge, value));
+                value++;
+            }
+        }
+        for (int q = -6; q <= 6; q += 2) {
+            final Set<TilePosition> edge = Set.of(TilePosition.of(q, 0), TilePosition.of(q + 1, 0));
+            assertEquals(expected.remove(edge), map.remove(edge));
+        }
+
+        assertEquals(expected, map);
+        assertEquals(expected.size(), map.size());
+        expected.forEach((edge, edgeValue) -> {
+            final TilePosition[] positions = edge.toArray(TilePosition[]::new);
+            assertEquals(edgeValue, map.get(PositionSetMap.key(positions[0], positions[1])));
+        });
+    }
+
+    @Test
+    public void testRejectsOtherKeys() {
+        final PositionSetMap<String> map = new PositionSetMap<>();
+
+        assertThrows(IllegalArgumentException.class, () -> map.put(Set.of(A), "a"));
+        assertNull(map.get("not a set"));
+        assertFalse(map.containsKey(Set.of(A, B, C, TilePosition.of(5, 5))));
+        assertNull(map.remove(Set.of(A, B)));
+    }
+}
@@ -0,0 +1,74 @@
+package projekt.model;
+
+import org.junit.jupiter.api.Test;
+import projekt.Config;
+
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests for interning {@link TilePosition}s and their neighbours.
+ */
+public class TilePositionTest {
+
+    @Test
+    public void testPositionsOnBoardAreInterned() {
+        for (int q = -Config.GRID_RADIUS; q <= Config.GRID_RADIUS; q++) {
+            for (int r = -Config.GRID_RADIUS; r <= Config.GRID_RADIUS; r++) {
+                assertSame(TilePosition.of(q, r), TilePosition.of(q, r));
+                assertSame(TilePosition.of(q, r), TilePosition.add(TilePosition.of(q, 0), TilePosition.of(0, r)));
+            }
+        }
+    }
+
+    @Test
+    public void testPositionsFarAwayAreEqualButNotInterned() {
+        final TilePosition far = TilePosition.of(1000, -1000);
+
+        assertEquals(new TilePosition(1000, -1000), far);
+        assertNotSame(far, TilePosition.of(1000, -1000));
+    }
+
+    @Test
+    public void testLargerGridsAreInterned() {
+        final int radius = Config.GRID_RADIUS + 10;
+        final TilePosition before = TilePosition.of(1, -1);
+        new BoardGenerator(radius, new Random(0)).generate().createGrid();
+
+        assertSame(before, TilePosition.of(1, -1));
+        assertSame(TilePosition.of(radius + 1, -radius), TilePosition.of(radius + 1, -radius));
+        assertSame(
+            TilePosition.neighbours(TilePosition.of(radius, 0)),
+            TilePosition.neighbours(new TilePosition(radius, 0))
+        );
+    }
+
+    @Test
+    public void testNeighboursAreShared() {
+        final TilePosition position = TilePosition.of(1, -1);
+
+        assertSame(TilePosition.neighbours(position), TilePosition.neighbours(TilePosition.of(1, -1)));
+        assertSame(TilePosition.neighbours(position), TilePosition.neighbours(new TilePosition(1, -1)));
+    }
+
+    @Test
+    public void testNeighbours() {
+        final Set<TilePosition> expected = Set.of(
+            TilePosition.of(1, 0), TilePosition.of(1, -1), TilePosition.of(0, -1),
+            TilePosition.of(-1, 0), TilePosition.of(-1, 1), TilePosition.of(0, 1)
+        );
+
+        assertEquals(expected, TilePosition.neighbours(TilePosition.of(0, 0)));
+        assertEquals(
+            Set.of(
+                TilePosition.of(1001, 0), TilePosition.of(1001, -1), TilePosition.of(1000, -1),
+                TilePosition.of(999, 0), TilePosition.of(999, 1), TilePosition.of(1000, 1)
+            ),
+            TilePosition.neighbours(TilePosition.of(1000, 0))
+        );
+    }
+}
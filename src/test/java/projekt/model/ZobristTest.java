@@ -0,0 +1,111 @@
+package projekt.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import projekt.model.buildings.Edge;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the incrementally updated {@link Zobrist} hashes equal the hashes computed from scratch.
+ */
+public class ZobristTest {
+
+    private GameState state;
+    private HexGrid grid;
+    private Player first;
+    private Player second;
+    private Intersection intersection;
+
+    @BeforeEach
+    public void setUp() {
+        state = new GameState(new HexGridImpl(2), new ArrayList<>());
+        grid = state.getGrid();
+        first = state.newPlayer("first", null);
+        second = state.newPlayer("second", null);
+        intersection = grid.getIntersections().values().iterator().next();
+    }
+
+    @Test
+    public void testBoardChanges() {
+        final long initial = state.getZobristHash();
+        final TilePosition robberPosition = grid.getRobberPosition();
+        assertHashesMatch();
+
+        assertTrue(intersection.placeVillage(first, true));
+        assertHashesMatch();
+        assertTrue(intersection.upgradeSettlement(first));
+        assertHashesMatch();
+        final Edge edge = intersection.getConnectedEdges().iterator().next();
+        assertTrue(grid.addRoad(edge.getPosition1(), edge.getPosition2(), first, true));
+        assertHashesMatch();
+        grid.setRobberPosition(TilePosition.of(1, 0));
+        assertHashesMatch();
+        assertNotEquals(initial, state.getZobristHash());
+
+        grid.setRobberPosition(robberPosition);
+        grid.removeRoad(edge);
+        ((IntersectionImpl) intersection).restoreSettlement(null);
+        assertHashesMatch();
+        assertEquals(initial, state.getZobristHash());
+    }
+
+    @Test
+    public void testPlayerChanges() {
+        final long initial = state.getZobristHash();
+
+        second.addResource(ResourceType.WOOD, 3);
+        second.removeResource(ResourceType.WOOD, 1);
+        assertHashesMatch();
+        second.addDevelopmentCard(DevelopmentCardType.KNIGHT);
+        second.addDevelopmentCard(DevelopmentCardType.KNIGHT);
+        second.removeDevelopmentCard(DevelopmentCardType.KNIGHT);
+        assertHashesMatch();
+
+        second.removeResource(ResourceType.WOOD, 2);
+        assertHashesMatch();
+        assertNotEquals(initial, state.getZobristHash());
+    }
+
+    @Test
+    public void testPlayersAreDistinguished() {
+        first.addResource(ResourceType.ORE, 1);
+        final long firstHasOre = state.getZobristHash();
+        first.removeResource(ResourceType.ORE, 1);
+        second.addResource(ResourceType.ORE, 1);
+
+        assertNotEquals(firstHasOre, state.getZobristHash());
+    }
+
+    @Test
+    public void testEqualStatesHaveEqualHashes() {
+        final List<Intersection> intersections = new ArrayList<>(grid.getIntersections().values());
+        final Intersection other = intersections.get(intersections.size() - 1);
+
+        assertTrue(intersection.placeVillage(first, true));
+        assertTrue(other.placeVillage(second, true));
+        final long hash = state.getZobristHash();
+        ((IntersectionImpl) other).restoreSettlement(null);
+        ((IntersectionImpl) intersection).restoreSettlement(null);
+        assertTrue(other.placeVillage(second, true));
+        assertTrue(intersection.placeVillage(first, true));
+
+        assertEquals(hash, state.getZobristHash());
+    }
+
+    /**
+     * Asserts that the incrementally updated hash of the game equals the hash computed from scratch.
+     */
+    private void assertHashesMatch() {
+        long computed = Zobrist.computeBoardHash(grid);
+        for (final Player player : state.getPlayers()) {
+            computed ^= Zobrist.computePlayerHash(player);
+        }
+        assertEquals(computed, state.getZobristHash());
+    }
+}
@@ -0,0 +1,146 @@
+package projekt.model.compact;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import projekt.Config;
+import projekt.model.DevelopmentCardType;
+import projekt.model.HexGridImpl;
+import projekt.model.Intersection;
+import projekt.model.Player;
+import projekt.model.PlayerImpl;
+import projekt.model.ResourceType;
+import projekt.model.TilePosition;
+import projekt.model.buildings.Edge;
+import projekt.model.buildings.Settlement;
+import projekt.model.tiles.Tile;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for copying a full grid and its players into a {@link CompactGame}.
+ */
+public class CompactGameTest {
+
+    private HexGridImpl grid;
+    private List<Player> players;
+
+    @BeforeEach
+    public void setUp() {
+        grid = new HexGridImpl(Config.GRID_RADIUS);
+        players = new ArrayList<>();
+        for (int id = 0; id < 3; id++) {
+            players.add(new PlayerImpl.Builder(id).build(grid));
+        }
+        final Iterator<Intersection> intersections = grid.getIntersections().values().iterator();
+        final Intersection city = intersections.next();
+        assertTrue(city.placeVillage(players.get(0), true));
+        assertTrue(city.upgradeSettlement(players.get(0)));
+        Intersection village = intersections.next();
+        while (village.getAdjacentIntersections().stream().anyMatch(Intersection::hasSettlement)) {
+            village = intersections.next();
+        }
+        assertTrue(village.placeVillage(players.get(1), true));
+        final Edge road = village.getConnectedEdges().iterator().next();
+        assertTrue(grid.addRoad(road.getPosition1(), road.getPosition2(), players.get(1), true));
+
+        players.get(0).addResource(ResourceType.ORE, 3);
+        players.get(1).addResource(ResourceType.WOOD, 1);
+        players.get(2).addDevelopmentCard(DevelopmentCardType.VICTORY_POINTS);
+        players.get(2).addDevelopmentCard(DevelopmentCardType.KNIGHT);
+        grid.setRobberPosition(TilePosition.of(1, 0));
+    }
+
+    @Test
+    public void testTopologyMatchesGrid() {
+        final CompactGame game = CompactGame.of(grid, Config.GRID_RADIUS, players);
+
+        assertSame(BoardTopology.forRadius(Config.GRID_RADIUS), game.getTopology());
+        assertEquals(players.size(), game.getPlayerCount());
+        assertEquals(grid.getTiles().size(), game.getTopology().getTileCount());
+        assertEquals(grid.getEdges().size(), game.getTopology().getEdgeCount());
+        assertEquals(grid.getIntersections().size(), game.getTopology().getIntersectionCount());
+    }
+
+    @Test
+    public void testRadiusIsTakenFromGrid() {
+        assertSame(BoardTopology.forRadius(Config.GRID_RADIUS), CompactGame.of(grid, players).getTopology());
+        assertSame(BoardTopology.forRadius(2), CompactGame.of(new HexGridImpl(2), List.of()).getTopology());
+    }
+
+    @Test
+    public void testTilesAndRobber() {
+        final CompactGame game = CompactGame.of(grid, Config.GRID_RADIUS, players);
+        final BoardTopology topology = game.getTopology();
+
+        for (final Map.Entry<TilePosition, Tile> entry : grid.getTiles().entrySet()) {
+            final int tile = topology.getTile(entry.getKey());
+            assertEquals(entry.getKey(), topology.getTilePosition(tile));
+            assertEquals(entry.getValue().getType(), game.getTileType(tile));
+            assertEquals(entry.getValue().getRollNumber(), game.getRollNumber(tile));
+        }
+        assertEquals(topology.getTile(TilePosition.of(1, 0)), game.getRobberTile());
+    }
+
+    @Test
+    public void testRoadsAndPorts() {
+        final CompactGame game = CompactGame.of(grid, Config.GRID_RADIUS, players);
+        final BoardTopology topology = game.getTopology();
+
+        for (final Map.Entry<Set<TilePosition>, Edge> entry : grid.getEdges().entrySet()) {
+            final int edge = topology.getEdge(entry.getKey());
+            assertEquals(entry.getKey(), topology.getEdgePositions(edge));
+            assertEquals(entry.getValue().getPort(), game.getPort(edge));
+            assertEquals(
+                entry.getValue().hasRoad() ? players.indexOf(entry.getValue().getRoadOwner()) : -1,
+                game.getRoadOwner(edge)
+            );
+        }
+    }
+
+    @Test
+    public void testSettlements() {
+        final CompactGame game = CompactGame.of(grid, Config.GRID_RADIUS, players);
+        final BoardTopology topology = game.getTopology();
+
+        for (final Map.Entry<Set<TilePosition>, Intersection> entry : grid.getIntersections().entrySet()) {
+            final int intersection = topology.getIntersection(entry.getKey());
+            assertEquals(entry.getKey(), topology.getIntersectionPositions(intersection));
+            final Settlement settlement = entry.getValue().getSettlement();
+            if (settlement == null) {
+                assertEquals(-1, game.getSettlementOwner(intersection));
+                assertNull(game.getSettlementType(intersection));
+            } else {
+                assertEquals(players.indexOf(settlement.owner()), game.getSettlementOwner(intersection));
+                assertEquals(settlement.type(), game.getSettlementType(intersection));
+            }
+        }
+    }
+
+    @Test
+    public void testPlayers() {
+        final CompactGame game = CompactGame.of(grid, Config.GRID_RADIUS, players);
+
+        for (int player = 0; player < players.size(); player++) {
+            final Player gridPlayer = players.get(player);
+            for (final ResourceType type : ResourceType.values()) {
+                assertEquals((int) gridPlayer.getResources().getOrDefault(type, 0), game.getResource(player, type));
+            }
+            for (final DevelopmentCardType type : DevelopmentCardType.values()) {
+                assertEquals(
+                    (int) gridPlayer.getDevelopmentCards().getOrDefault(type, 0),
+                    game.getDevelopmentCards(player, type)
+                );
+            }
+            assertEquals(gridPlayer.getVictoryPoints(), game.getVictoryPoints(player));
+        }
+    }
+}
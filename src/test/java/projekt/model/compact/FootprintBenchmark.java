@@ -0,0 +1,75 @@
+package projekt.model.compact;
+
+import projekt.Config;
+import projekt.logging.Logger;
+import projekt.logging.Logging;
+import projekt.model.HexGridImpl;
+import projekt.model.Player;
+import projekt.model.PlayerImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures how much heap a table needs with the full model and with {@link CompactGame}s.
+ * Run {@link #main(String[])} with the amount of tables as the only argument; the default is {@code 1000}.
+ * The numbers are estimates taken from the used heap after garbage collection.
+ */
+public final class FootprintBenchmark {
+    private static final Logger LOGGER = Logging.getLogger(FootprintBenchmark.class);
+    private static final int PLAYERS = 4;
+
+    private FootprintBenchmark() {
+    }
+
+    /**
+     * Creates the given amount of tables with each representation and logs the heap used per table.
+     *
+     * @param args the amount of tables, optional
+     */
+    public static void main(final String[] args) {
+        final int tables = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        // create the shared topology up front so that it is not attributed to the first compact table
+        BoardTopology.forRadius(Config.GRID_RADIUS);
+
+        long baseline = usedHeap();
+        final List<Object> fullTables = new ArrayList<>(tables);
+        for (int i = 0; i < tables; i++) {
+            final HexGridImpl grid = new HexGridImpl(Config.GRID_RADIUS);
+            final List<Player> players = new ArrayList<>(PLAYERS);
+            for (int id = 0; id < PLAYERS; id++) {
+                players.add(new PlayerImpl.Builder(id).build(grid));
+            }
+            fullTables.add(new Object[] {grid, players});
+        }
+        final long fullBytes = (usedHeap() - baseline) / tables;
+        fullTables.clear();
+
+        baseline = usedHeap();
+        final List<CompactGame> compactTables = new ArrayList<>(tables);
+        for (int i = 0; i < tables; i++) {
+            compactTables.add(new CompactGame(BoardTopology.forRadius(Config.GRID_RADIUS), PLAYERS));
+        }
+        final long compactBytes = (usedHeap() - baseline) / tables;
+
+        LOGGER.info("Tables: {}", tables);
+        LOGGER.info("Full model: {} bytes per table", fullBytes);
+        LOGGER.info("Compact model: {} bytes per table", compactBytes);
+        Logging.flush();
+        // keep the compact tables reachable until they have been measured
+        compactTables.clear();
+    }
+
+    /**
+     * Returns the used heap after requesting a garbage collection.
+     *
+     * @return the used heap in bytes
+     */
+    private static long usedHeap() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,107 @@
+package projekt.model.events;
+
+import org.junit.jupiter.api.Test;
+import projekt.model.GameState;
+import projekt.model.HexGridImpl;
+import projekt.model.Player;
+import projekt.model.PlayerImpl;
+import projekt.model.ResourceType;
+import projekt.model.TilePosition;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link GameEventBus}.
+ */
+public class GameEventBusTest {
+
+    private static final RobberMovedEvent ROBBER_MOVED = new RobberMovedEvent(
+        TilePosition.of(0, 0),
+        TilePosition.of(1, 0)
+    );
+
+    @Test
+    public void testDeliversEventsInPublishOrder() {
+        final GameEventBus bus = new GameEventBus();
+        final List<String> received = new ArrayList<>();
+        bus.subscribe(event -> received.add("first:" + event.getClass().getSimpleName()));
+        bus.subscribe(event -> received.add("second:" + event.getClass().getSimpleName()));
+
+        bus.publish(ROBBER_MOVED);
+
+        assertEquals(List.of("first:RobberMovedEvent", "second:RobberMovedEvent"), received);
+    }
+
+    @Test
+    public void testFiltersByEventType() {
+        final GameEventBus bus = new GameEventBus();
+        final List<GameEvent> robberEvents = new ArrayList<>();
+        final List<GameEvent> roadEvents = new ArrayList<>();
+        bus.subscribe(RobberMovedEvent.class, robberEvents::add);
+        bus.subscribe(RoadBuiltEvent.class, roadEvents::add);
+
+        bus.publish(ROBBER_MOVED);
+
+        assertEquals(List.of(ROBBER_MOVED), robberEvents);
+        assertTrue(roadEvents.isEmpty());
+    }
+
+    @Test
+    public void testUnsubscribe() {
+        final GameEventBus bus = new GameEventBus();
+        final List<GameEvent> received = new ArrayList<>();
+        final Subscription subscription = bus.subscribe(RobberMovedEvent.class, received::add);
+
+        subscription.unsubscribe();
+        bus.publish(ROBBER_MOVED);
+
+        assertTrue(received.isEmpty());
+        assertFalse(bus.hasSubscribers(RobberMovedEvent.class));
+    }
+
+    @Test
+    public void testHasSubscribers() {
+        final GameEventBus bus = new GameEventBus();
+        assertFalse(bus.hasSubscribers(RobberMovedEvent.class));
+
+        bus.subscribe(GameEvent.class, event -> {});
+
+        assertTrue(bus.hasSubscribers(RobberMovedEvent.class));
+        assertTrue(bus.hasSubscribers(RoadBuiltEvent.class));
+    }
+
+    @Test
+    public void testUnsubscribeByClosing() {
+        final GameEventBus bus = new GameEventBus();
+        final List<GameEvent> received = new ArrayList<>();
+
+        try (Subscription subscription = bus.subscribe(received::add)) {
+            bus.publish(ROBBER_MOVED);
+        }
+        bus.publish(ROBBER_MOVED);
+
+        assertEquals(List.of(ROBBER_MOVED), received);
+    }
+
+    @Test
+    public void testStatePublishesChangesOfGridAndPlayers() {
+        final HexGridImpl grid = new HexGridImpl(1);
+        final Player builtBefore = new PlayerImpl.Builder(1).build(grid);
+        final GameState state = new GameState(grid, new ArrayList<>(List.of(builtBefore)));
+        final Player builtAfter = state.newPlayer("after", null);
+        final List<GameEvent> received = new ArrayList<>();
+        state.getEventBus().subscribe(ResourceChangedEvent.class, received::add);
+
+        builtBefore.addResource(ResourceType.WOOD, 1);
+        builtAfter.addResource(ResourceType.WOOD, 1);
+
+        assertEquals(2, received.size());
+        assertSame(state.getEventBus(), state.getEventBus());
+    }
+}
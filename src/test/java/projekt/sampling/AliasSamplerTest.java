@@ -0,0 +1,60 @@
+package projekt.sampling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link AliasSampler}.
+ */
+public class AliasSamplerTest {
+
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    public void testFrequenciesProportionalToWeights() {
+        final Map<String, Integer> weights = Map.of("a", 1, "b", 2, "c", 7);
+        final AliasSampler<String> sampler = new AliasSampler<>(weights, new Random(1));
+
+        final Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < SAMPLES; i++) {
+            counts.merge(sampler.get(), 1, Integer::sum);
+        }
+
+        weights.forEach((value, weight) -> {
+            final double expected = weight / 10.0;
+            final double actual = counts.getOrDefault(value, 0) / (double) SAMPLES;
+            assertTrue(Math.abs(expected - actual) < 0.01, "%s: expected %s, was %s".formatted(value, expected, actual));
+        });
+    }
+
+    @Test
+    public void testZeroWeightNeverSampled() {
+        final AliasSampler<String> sampler = new AliasSampler<>(Map.of("a", 0, "b", 3), new Random(1));
+
+        for (int i = 0; i < 1000; i++) {
+            assertNotEquals("a", sampler.get());
+        }
+    }
+
+    @Test
+    public void testSingleValue() {
+        final AliasSampler<String> sampler = new AliasSampler<>(Map.of("a", 5), new Random(1));
+
+        assertEquals("a", sampler.get());
+    }
+
+    @Test
+    public void testInvalidWeights() {
+        assertThrows(IllegalArgumentException.class, () -> new AliasSampler<>(Map.of("a", -1), new Random()));
+        assertThrows(IllegalArgumentException.class, () -> new AliasSampler<>(Map.of("a", 0), new Random()));
+        assertThrows(IllegalArgumentException.class, () -> new AliasSampler<>(Map.of(), new Random()));
+    }
+}
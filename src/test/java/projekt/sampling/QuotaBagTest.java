@@ -0,0 +1,47 @@
+package projekt.sampling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link QuotaBag}.
+ */
+public class QuotaBagTest {
+
+    private static final Map<String, Integer> QUOTAS = Map.of("a", 1, "b", 4, "c", 0, "d", 2);
+
+    @Test
+    public void testEveryRoundMatchesQuotas() {
+        final QuotaBag<String> bag = new QuotaBag<>(QUOTAS, new Random(1));
+
+        for (int round = 0; round < 10; round++) {
+            final Map<String, Integer> counts = new HashMap<>();
+            for (int i = 0; i < 7; i++) {
+                counts.merge(bag.get(), 1, Integer::sum);
+            }
+            assertEquals(Map.of("a", 1, "b", 4, "d", 2), counts);
+        }
+    }
+
+    @Test
+    public void testSameSeedSameOrder() {
+        final QuotaBag<String> first = new QuotaBag<>(QUOTAS, new Random(3));
+        final QuotaBag<String> second = new QuotaBag<>(QUOTAS, new Random(3));
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals(first.get(), second.get());
+        }
+    }
+
+    @Test
+    public void testInvalidQuotas() {
+        assertThrows(IllegalArgumentException.class, () -> new QuotaBag<>(Map.of("a", -1), new Random()));
+        assertThrows(IllegalArgumentException.class, () -> new QuotaBag<>(Map.of("a", 0), new Random()));
+    }
+}
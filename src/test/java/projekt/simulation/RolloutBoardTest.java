@@ -0,0 +1,92 @@
+package projekt.simulation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import projekt.Config;
+import projekt.model.BoardGenerator;
+import projekt.model.HexGridImpl;
+import projekt.model.Intersection;
+import projekt.model.TilePosition;
+import projekt.model.buildings.Edge;
+import projekt.model.tiles.Tile;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests that a {@link RolloutBoard} built on the shared topology matches the grid it was created from.
+ */
+public class RolloutBoardTest {
+
+    private HexGridImpl grid;
+    private RolloutBoard board;
+
+    @BeforeEach
+    public void setUp() {
+        grid = new HexGridImpl(Config.GRID_RADIUS);
+        board = RolloutBoard.of(grid);
+    }
+
+    @Test
+    public void testIntersectionsAndNeighbours() {
+        assertEquals(grid.getIntersections().size(), board.size());
+        for (final Intersection intersection : grid.getIntersections().values()) {
+            final int index = board.indexOf(intersection.getAdjacentTilePositions());
+            assertEquals(intersection.getAdjacentTilePositions(), board.intersectionPositions(index));
+
+            final Set<Set<TilePosition>> neighbours = new HashSet<>();
+            for (int i = 0; i < board.neighbourCount(index); i++) {
+                neighbours.add(board.intersectionPositions(board.neighbour(index, i)));
+            }
+            assertEquals(
+                intersection.getAdjacentIntersections().stream()
+                    .map(Intersection::getAdjacentTilePositions)
+                    .collect(Collectors.toSet()),
+                neighbours
+            );
+        }
+    }
+
+    @Test
+    public void testEdges() {
+        assertEquals(grid.getEdges().size(), board.edgeCount());
+        for (int edge = 0; edge < board.edgeCount(); edge++) {
+            final Edge gridEdge = grid.getEdges().get(board.edgePositions(edge));
+            assertEquals(
+                gridEdge.getIntersections().stream()
+                    .map(Intersection::getAdjacentTilePositions)
+                    .collect(Collectors.toSet()),
+                Set.of(
+                    board.intersectionPositions(board.edgeIntersection(edge, 0)),
+                    board.intersectionPositions(board.edgeIntersection(edge, 1))
+                )
+            );
+        }
+    }
+
+    @Test
+    public void testProduction() {
+        for (final Intersection intersection : grid.getIntersections().values()) {
+            final int index = board.indexOf(intersection.getAdjacentTilePositions());
+            final Set<Tile> producing = intersection.getAdjacentTiles().stream()
+                .filter(tile -> tile.getType().resourceType != null && tile.getRollNumber() > 0)
+                .collect(Collectors.toSet());
+            assertEquals(
+                producing.stream().map(Tile::getPosition).collect(Collectors.toSet()),
+                Set.of(board.tilePositions(index))
+            );
+            for (int tile = 0; tile < board.tilePositions(index).length; tile++) {
+                final Tile gridTile = grid.getTileAt(board.tilePositions(index)[tile]);
+                assertEquals(gridTile.getRollNumber(), board.tileRolls(index)[tile]);
+                assertEquals(gridTile.getType().resourceType.ordinal(), board.tileResources(index)[tile]);
+            }
+            assertEquals(
+                producing.stream().mapToInt(tile -> BoardGenerator.pips(tile.getRollNumber())).sum(),
+                board.pips(index)
+            );
+        }
+    }
+}
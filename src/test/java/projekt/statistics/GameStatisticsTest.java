@@ -0,0 +1,96 @@
+package projekt.statistics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import projekt.model.GameDelta;
+import projekt.model.GameState;
+import projekt.model.HexGridImpl;
+import projekt.model.Intersection;
+import projekt.model.Player;
+import projekt.model.PlayerImpl;
+import projekt.model.ResourceType;
+import projekt.model.buildings.Edge;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for reverting undone and rolled back changes in {@link GameStatistics}.
+ */
+public class GameStatisticsTest {
+
+    private GameState state;
+    private Player player;
+    private GameStatistics statistics;
+    private Intersection intersection;
+    private Edge edge;
+
+    @BeforeEach
+    public void setUp() {
+        final HexGridImpl grid = new HexGridImpl(1);
+        player = new PlayerImpl.Builder(0).build(grid);
+        player.addResource(ResourceType.WOOD, 1);
+        player.addResource(ResourceType.ORE, 3);
+        state = new GameState(grid, new ArrayList<>(List.of(player)));
+        statistics = GameStatistics.attach(state.getEventBus(), state.getPlayers());
+        intersection = grid.getIntersections().values().iterator().next();
+        edge = intersection.getConnectedEdges().iterator().next();
+    }
+
+    @Test
+    public void testUndoneBuildIsReverted() {
+        statistics.setSource(ResourceSource.BUILD);
+        final GameDelta delta = build();
+        assertEquals(2, statistics.getBuilds());
+        assertEquals(1, statistics.getLost(0, ResourceSource.BUILD, ResourceType.WOOD));
+
+        statistics.setReverting(true);
+        delta.undo();
+        statistics.setReverting(false);
+
+        assertEquals(0, statistics.getBuilds());
+        assertEquals(0, statistics.getLost(0, ResourceSource.BUILD, ResourceType.WOOD));
+        assertEquals(0, statistics.getProduced(0, ResourceSource.BUILD, ResourceType.WOOD));
+        assertEquals(0, statistics.getProduced(0, ResourceSource.OTHER, ResourceType.WOOD));
+
+        delta.redo();
+
+        assertEquals(2, statistics.getBuilds());
+        assertEquals(1, statistics.getLost(0, ResourceSource.BUILD, ResourceType.WOOD));
+    }
+
+    @Test
+    public void testUndoneUpgradeOnlyRevertsCity() {
+        statistics.setSource(ResourceSource.BUILD);
+        assertTrue(intersection.placeVillage(player, true));
+        final GameDelta.Recorder recorder = GameDelta.record(state);
+        assertTrue(intersection.upgradeSettlement(player));
+        player.removeResource(ResourceType.ORE, 3);
+        final GameDelta delta = recorder.stop();
+        assertEquals(2, statistics.getBuilds());
+
+        statistics.setReverting(true);
+        delta.undo();
+        statistics.setReverting(false);
+
+        assertEquals(1, statistics.getBuilds());
+        assertEquals("VILLAGE", statistics.getBuildType(0));
+        assertEquals(0, statistics.getLost(0, ResourceSource.BUILD, ResourceType.ORE));
+    }
+
+    /**
+     * Builds a village and a road and pays one wood for them.
+     *
+     * @return the changes
+     */
+    private GameDelta build() {
+        final GameDelta.Recorder recorder = GameDelta.record(state);
+        assertTrue(intersection.placeVillage(player, true));
+        assertTrue(state.getGrid().addRoad(edge.getPosition1(), edge.getPosition2(), player, true));
+        player.removeResource(ResourceType.WOOD, 1);
+        return recorder.stop();
+    }
+}
@@ -0,0 +1,120 @@
+package projekt.statistics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import projekt.model.GameState;
+import projekt.model.HexGridImpl;
+import projekt.model.Intersection;
+import projekt.model.Player;
+import projekt.model.PlayerImpl;
+import projekt.model.ResourceType;
+import projekt.model.buildings.Edge;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for recording {@link GameStatistics} and exporting them with {@link StatisticsExporter}.
+ */
+public class StatisticsExporterTest {
+
+    private Path directory;
+    private GameStatistics statistics;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("statistics");
+        final HexGridImpl grid = new HexGridImpl(1);
+        final Player first = new PlayerImpl.Builder(0).build(grid);
+        final Player second = new PlayerImpl.Builder(1).build(grid);
+        final GameState state = new GameState(grid, new ArrayList<>(List.of(first, second)));
+        statistics = GameStatistics.attach(state.getEventBus(), state.getPlayers());
+
+        statistics.turnStarted(first);
+        final Intersection intersection = grid.getIntersections().values().iterator().next();
+        intersection.placeVillage(first, true);
+        final Edge edge = intersection.getConnectedEdges().iterator().next();
+        grid.addRoad(edge.getPosition1(), edge.getPosition2(), first, true);
+        statistics.turnEnded();
+        statistics.roundEnded();
+
+        statistics.turnStarted(second);
+        statistics.recordDiceRoll(8);
+        statistics.setSource(ResourceSource.DICE);
+        second.addResource(ResourceType.ORE, 2);
+        statistics.setSource(ResourceSource.OTHER);
+        second.removeResource(ResourceType.ORE, 1);
+        statistics.turnEnded();
+        statistics.roundEnded();
+        statistics.gameEnded(second);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (final Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void testWritesOneTablePerFile() throws IOException {
+        try (StatisticsExporter exporter = new StatisticsExporter(directory)) {
+            exporter.write(statistics);
+        }
+
+        assertEquals(List.of("game,players,rounds,winner", "2,2,1"), rows("games.csv"));
+        assertEquals(List.of("game,roll,count", "8,1"), rows("dice.csv"));
+        assertEquals(
+            List.of("game,player,source,resource,produced,lost", "1,DICE,ORE,2,0", "1,OTHER,ORE,0,1"),
+            rows("resources.csv")
+        );
+        assertEquals(List.of("game,round,player,type", "0,0,VILLAGE", "0,0,ROAD"), rows("builds.csv"));
+        assertEquals(List.of("game,round,largest_army", "0,-1", "1,-1"), rows("holders.csv"));
+        final List<String> turns = rows("turns.csv");
+        assertEquals(3, turns.size());
+        assertTrue(turns.get(1).startsWith("0,0,"));
+        assertTrue(turns.get(2).startsWith("1,1,"));
+    }
+
+    @Test
+    public void testAppendsWithoutRepeatingHeaders() throws IOException {
+        try (StatisticsExporter exporter = new StatisticsExporter(directory)) {
+            exporter.write(statistics);
+            exporter.write(statistics);
+        }
+        try (StatisticsExporter exporter = new StatisticsExporter(directory)) {
+            exporter.write(statistics);
+        }
+
+        final List<String> lines = Files.readAllLines(directory.resolve("games.csv"));
+        assertEquals(4, lines.size());
+        assertEquals("game,players,rounds,winner", lines.get(0));
+        assertEquals(3, lines.stream().skip(1).map(line -> line.substring(0, line.indexOf(','))).distinct().count());
+    }
+
+    /**
+     * Reads the given file and removes the game id from all rows but the header.
+     *
+     * @param name the name of the file
+     * @return the header and the rows without game id
+     * @throws IOException if the file cannot be read
+     */
+    private List<String> rows(final String name) throws IOException {
+        final List<String> lines = Files.readAllLines(directory.resolve(name));
+        return Stream.concat(
+            Stream.of(lines.get(0)),
+            lines.stream().skip(1).map(line -> line.substring(line.indexOf(',') + 1))
+        ).toList();
+    }
+}